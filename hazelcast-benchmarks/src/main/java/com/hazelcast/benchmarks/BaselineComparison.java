@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.json.JsonValue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares two JMH results files in the JSON format. A benchmark is
+ * identified by its name, mode and parameters; benchmarks missing from the
+ * baseline are reported, but not compared. The comparison fails if the
+ * baseline contains none of the benchmarks of the current run, so that an
+ * empty or stale baseline isn't mistaken for a run without regressions.
+ * <p>
+ * Both the primary score and the normalized allocation rate reported by
+ * the GC profiler are compared. Throughput regresses when it decreases,
+ * all the other modes and the allocation rate regress when they increase.
+ */
+final class BaselineComparison {
+
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final double PERCENT = 100;
+
+    private BaselineComparison() {
+    }
+
+    /**
+     * Returns a human-readable description of each regression larger than
+     * {@code thresholdPercent}, or an empty list if there is none.
+     *
+     * @throws IllegalStateException if no benchmark of the current run is in
+     *      the baseline
+     */
+    static List<String> compare(Path baselineFile, Path currentFile, double thresholdPercent) throws IOException {
+        Map<String, JsonObject> baseline = read(baselineFile);
+        Map<String, JsonObject> current = read(currentFile);
+        List<String> regressions = new ArrayList<>();
+        int compared = 0;
+        for (Map.Entry<String, JsonObject> entry : current.entrySet()) {
+            JsonObject before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.err.println("Not in the baseline, not compared: " + entry.getKey());
+                continue;
+            }
+            compared++;
+            JsonObject after = entry.getValue();
+            boolean higherIsBetter = THROUGHPUT_MODE.equals(after.getString("mode", null));
+            check(regressions, entry.getKey(), "score", score(before.get("primaryMetric")),
+                    score(after.get("primaryMetric")), higherIsBetter, thresholdPercent);
+            check(regressions, entry.getKey(), ALLOCATION_METRIC, allocation(before), allocation(after),
+                    false, thresholdPercent);
+        }
+        if (compared == 0 && !current.isEmpty()) {
+            throw new IllegalStateException("None of the " + current.size() + " benchmarks is in the baseline "
+                    + baselineFile + " (" + baseline.size() + " results). Record the baseline on the reference"
+                    + " machine first, see README.md");
+        }
+        return regressions;
+    }
+
+    private static void check(List<String> regressions, String benchmark, String metric, double before,
+                              double after, boolean higherIsBetter, double thresholdPercent) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0) {
+            return;
+        }
+        double changePercent = (after - before) / before * PERCENT;
+        if (higherIsBetter ? changePercent < -thresholdPercent : changePercent > thresholdPercent) {
+            regressions.add(String.format("%s %s: %.3f -> %.3f (%+.1f%%)", benchmark, metric, before, after,
+                    changePercent));
+        }
+    }
+
+    private static double allocation(JsonObject result) {
+        JsonValue secondary = result.get("secondaryMetrics");
+        return secondary != null && secondary.isObject()
+                ? score(secondary.asObject().get(ALLOCATION_METRIC))
+                : Double.NaN;
+    }
+
+    private static double score(JsonValue metric) {
+        if (metric == null || !metric.isObject()) {
+            return Double.NaN;
+        }
+        JsonValue score = metric.asObject().get("score");
+        // JMH writes "NaN" as a string
+        return score != null && score.isNumber() ? score.asDouble() : Double.NaN;
+    }
+
+    private static Map<String, JsonObject> read(Path file) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            for (JsonValue value : Json.parse(reader).asArray()) {
+                JsonObject result = value.asObject();
+                results.put(key(result), result);
+            }
+        }
+        return results;
+    }
+
+    private static String key(JsonObject result) {
+        StringBuilder key = new StringBuilder(result.getString("benchmark", ""))
+                .append(" [").append(result.getString("mode", "")).append(']');
+        JsonValue params = result.get("params");
+        if (params != null && params.isObject()) {
+            for (JsonObject.Member param : params.asObject()) {
+                key.append(' ').append(param.getName()).append('=').append(param.getValue().asString());
+            }
+        }
+        return key.toString();
+    }
+}
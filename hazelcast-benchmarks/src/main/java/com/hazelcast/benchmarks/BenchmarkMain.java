@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line
+ * options and additionally:
+ * <ul>
+ *     <li>always enables the GC profiler, so every result carries the
+ *     normalized allocation rate,
+ *     <li>writes the results as JSON to {@value #DEFAULT_RESULT_FILE}
+ *     unless {@code -rff} is given,
+ *     <li>if the {@code hazelcast.benchmarks.baseline} system property
+ *     points to a results file of a previous run, compares the results
+ *     with it and exits with a non-zero status on a regression larger
+ *     than {@code hazelcast.benchmarks.threshold} percent (10 by default).
+ * </ul>
+ */
+public final class BenchmarkMain {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    private static final String BASELINE_PROPERTY = "hazelcast.benchmarks.baseline";
+    private static final String THRESHOLD_PROPERTY = "hazelcast.benchmarks.threshold";
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Path resultFile = Paths.get(commandLine.getResult().orElse(DEFAULT_RESULT_FILE));
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .build();
+        new Runner(options).run();
+
+        String baseline = System.getProperty(BASELINE_PROPERTY);
+        if (baseline == null) {
+            return;
+        }
+        Path baselineFile = Paths.get(baseline);
+        if (!Files.exists(baselineFile)) {
+            throw new IllegalArgumentException("baseline file does not exist: " + baselineFile);
+        }
+        double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY,
+                String.valueOf(DEFAULT_THRESHOLD_PERCENT)));
+        List<String> regressions = BaselineComparison.compare(baselineFile, resultFile, threshold);
+        regressions.forEach(System.err::println);
+        if (!regressions.isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.NetworkConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.UuidUtil.newUnsecureUUID;
+
+/**
+ * Starts embedded clusters for the benchmarks. The members bind to the
+ * loopback interface and discover each other over TCP/IP, so the
+ * benchmarks measure the real networking stack but are not affected by
+ * other clusters on the network.
+ */
+final class Clusters {
+
+    private static final long CLUSTER_SAFE_POLL_MILLIS = 10;
+
+    private Clusters() {
+    }
+
+    /**
+     * Starts a cluster of the given size and waits until it is safe, that
+     * is all partitions are assigned and there are no ongoing migrations.
+     * The first member in the returned list is the oldest one.
+     */
+    static List<HazelcastInstance> start(int memberCount) {
+        return start(memberCount, config -> { });
+    }
+
+    /**
+     * Same as {@link #start(int)}, but lets the caller adjust the
+     * configuration of each member, e.g. to register serializers.
+     */
+    static List<HazelcastInstance> start(int memberCount, Consumer<Config> configurer) {
+        checkPositive("memberCount", memberCount);
+        String clusterName = "benchmark-" + newUnsecureUUID();
+        List<HazelcastInstance> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; ++i) {
+            Config config = config(clusterName);
+            configurer.accept(config);
+            members.add(Hazelcast.newHazelcastInstance(config));
+        }
+        HazelcastInstance oldest = members.get(0);
+        // triggers the initial partition assignment
+        oldest.getPartitionService().getPartition(0).getOwner();
+        while (!oldest.getPartitionService().isClusterSafe()) {
+            try {
+                Thread.sleep(CLUSTER_SAFE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for the cluster", e);
+            }
+        }
+        return members;
+    }
+
+    static void shutdown(List<HazelcastInstance> members) {
+        for (int i = members.size() - 1; i >= 0; --i) {
+            members.get(i).shutdown();
+        }
+    }
+
+    /**
+     * Returns {@code count} distinct integer keys owned by the given member.
+     */
+    static Integer[] keysOwnedBy(HazelcastInstance instance, Member owner, int count) {
+        Integer[] keys = new Integer[count];
+        int found = 0;
+        for (int key = 0; found < count; ++key) {
+            if (owner.equals(instance.getPartitionService().getPartition(key).getOwner())) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+
+    private static Config config(String clusterName) {
+        Config config = new Config().setClusterName(clusterName);
+        config.setProperty(ClusterProperty.PHONE_HOME_ENABLED.getName(), "false");
+        config.setProperty(ClusterProperty.LOGGING_TYPE.getName(), "none");
+
+        NetworkConfig network = config.getNetworkConfig();
+        network.getInterfaces().setEnabled(true).addInterface("127.0.0.1");
+        JoinConfig join = network.getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+
+/**
+ * Measures {@code CompactStreamSerializer} through the member's
+ * serialization service, both with an explicitly registered serializer
+ * and with the reflective zero-config serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactSerializationBenchmark {
+
+    @Param({"explicit", "reflective"})
+    String serializer;
+
+    private List<HazelcastInstance> members;
+    private InternalSerializationService serializationService;
+    private Object object;
+    private Data data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = Clusters.start(1, config -> config.getSerializationConfig().getCompactSerializationConfig()
+                .addSerializer(new EmployeeSerializer()));
+        serializationService = getSerializationService(members.get(0));
+        object = "explicit".equals(serializer)
+                ? new Employee(42, 31, "John Doe", 2500.5)
+                : new ReflectiveEmployee(42, 31, "John Doe", 2500.5);
+        data = serializationService.toData(object);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Clusters.shutdown(members);
+    }
+
+    @Benchmark
+    public Data toData() {
+        return serializationService.toData(object);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return serializationService.toObject(data);
+    }
+
+    public static class Employee {
+        final long id;
+        final int age;
+        final String name;
+        final double salary;
+
+        Employee(long id, int age, String name, double salary) {
+            this.id = id;
+            this.age = age;
+            this.name = name;
+            this.salary = salary;
+        }
+    }
+
+    /**
+     * Has the same fields as {@link Employee}, but is not registered, so
+     * it is serialized by the reflective serializer.
+     */
+    public static class ReflectiveEmployee {
+        long id;
+        int age;
+        String name;
+        double salary;
+
+        public ReflectiveEmployee() {
+        }
+
+        ReflectiveEmployee(long id, int age, String name, double salary) {
+            this.id = id;
+            this.age = age;
+            this.name = name;
+            this.salary = salary;
+        }
+    }
+
+    private static class EmployeeSerializer implements CompactSerializer<Employee> {
+
+        @Nonnull
+        @Override
+        public Employee read(@Nonnull CompactReader reader) {
+            return new Employee(reader.readInt64("id"), reader.readInt32("age"),
+                    reader.readString("name"), reader.readFloat64("salary"));
+        }
+
+        @Override
+        public void write(@Nonnull CompactWriter writer, @Nonnull Employee object) {
+            writer.writeInt64("id", object.id);
+            writer.writeInt32("age", object.age);
+            writer.writeString("name", object.name);
+            writer.writeFloat64("salary", object.salary);
+        }
+
+        @Nonnull
+        @Override
+        public String getTypeName() {
+            return "employee";
+        }
+
+        @Nonnull
+        @Override
+        public Class<Employee> getCompactClass() {
+            return Employee.class;
+        }
+    }
+}
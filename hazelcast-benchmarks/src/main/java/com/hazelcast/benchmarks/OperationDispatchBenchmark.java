@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+
+/**
+ * Measures the overhead of invoking a partition operation which does no
+ * work: the invocation registration, the handover to the partition thread,
+ * {@code OperationRunnerImpl} dispatch and the response. With two members
+ * half of the partitions are remote, adding the networking round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationDispatchBenchmark {
+
+    @Param({"1", "2"})
+    int memberCount;
+
+    private List<HazelcastInstance> members;
+    private OperationService operationService;
+    private int partitionCount;
+    private int partitionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = Clusters.start(memberCount);
+        HazelcastInstance instance = members.get(0);
+        operationService = getNodeEngine(instance).getOperationService();
+        partitionCount = instance.getPartitionService().getPartitions().size();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Clusters.shutdown(members);
+    }
+
+    @Benchmark
+    public Object invokeOnPartition() {
+        Operation operation = new NoOpOperation();
+        operation.setPartitionId(partitionId);
+        partitionId = partitionId + 1 == partitionCount ? 0 : partitionId + 1;
+        return operationService.invokeOnPartition(operation).join();
+    }
+
+    /**
+     * An operation which only returns a response. It must be public with
+     * a public no-arg constructor to be deserializable on the remote member.
+     */
+    public static class NoOpOperation extends Operation {
+
+        public NoOpOperation() {
+        }
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public Object getResponse() {
+            return Boolean.TRUE;
+        }
+    }
+}
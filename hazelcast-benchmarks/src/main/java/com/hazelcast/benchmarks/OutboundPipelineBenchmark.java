@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the member-to-member write path, {@code NioOutboundPipeline}
+ * in particular, on a two-member cluster over loopback.
+ * <p>
+ * All keys are owned by the second member and the operations are sent by
+ * the first one, so each operation and its response crosses the
+ * connection. {@link #setAsync()} keeps a window of {@code inFlight}
+ * operations outstanding, which lets the outbound pipeline batch multiple
+ * packets into a single write; {@link #set()} sends one packet at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboundPipelineBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+    private static final int IN_FLIGHT = 128;
+
+    @Param({"16", "1024"})
+    int valueSize;
+
+    private List<HazelcastInstance> members;
+    private IMap<Integer, byte[]> map;
+    private Integer[] keys;
+    private byte[] value;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = Clusters.start(2);
+        HazelcastInstance local = members.get(0);
+        HazelcastInstance remote = members.get(1);
+        map = local.getMap("benchmark");
+        keys = Clusters.keysOwnedBy(local, remote.getCluster().getLocalMember(), KEY_COUNT);
+        value = new byte[valueSize];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Clusters.shutdown(members);
+    }
+
+    @Benchmark
+    public void set() {
+        map.set(nextKey(), value);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public void setAsync() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[IN_FLIGHT];
+        for (int i = 0; i < IN_FLIGHT; ++i) {
+            futures[i] = map.setAsync(nextKey(), value).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private Integer nextKey() {
+        Integer key = keys[index];
+        index = index + 1 == keys.length ? 0 : index + 1;
+        return key;
+    }
+}
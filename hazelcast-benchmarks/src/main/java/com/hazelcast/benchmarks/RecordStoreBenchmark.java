@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+
+/**
+ * Measures {@code DefaultRecordStore.put} and {@code get} on a single
+ * member, bypassing the operation and invocation layers.
+ * <p>
+ * The record store is accessed from the benchmark thread instead of the
+ * partition thread. That is safe only because nothing else touches the
+ * benchmarked map, hence the benchmark is pinned to a single thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class RecordStoreBenchmark {
+
+    private static final long UNSET = -1L;
+
+    @Param({"1024", "65536"})
+    int entryCount;
+
+    @Param({"16", "1024"})
+    int valueSize;
+
+    private List<HazelcastInstance> members;
+    private RecordStore<?> recordStore;
+    private Data[] keys;
+    private Data value;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = Clusters.start(1);
+        NodeEngineImpl nodeEngine = getNodeEngine(members.get(0));
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        recordStore = mapService.getMapServiceContext().getRecordStore(0, "benchmark");
+
+        InternalSerializationService serializationService = getSerializationService(members.get(0));
+        keys = new Data[entryCount];
+        for (int i = 0; i < entryCount; ++i) {
+            keys[i] = serializationService.toData(i);
+            recordStore.put(keys[i], serializationService.toData(new byte[valueSize]), UNSET, UNSET);
+        }
+        value = serializationService.toData(new byte[valueSize]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Clusters.shutdown(members);
+    }
+
+    @Benchmark
+    public Object put() {
+        return recordStore.put(nextKey(), value, UNSET, UNSET);
+    }
+
+    @Benchmark
+    public Object get() {
+        return recordStore.get(nextKey(), false, null, true);
+    }
+
+    private Data nextKey() {
+        Data key = keys[index];
+        index = index + 1 == keys.length ? 0 : index + 1;
+        return key;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+
+/**
+ * Measures {@code SerializationServiceV1.toData} and {@code toObject} of
+ * the member's serialization service for the common built-in types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final int MAP_SIZE = 16;
+    private static final int ARRAY_SIZE = 1024;
+
+    @Param({"long", "string", "byteArray", "hashMap"})
+    String type;
+
+    private List<HazelcastInstance> members;
+    private InternalSerializationService serializationService;
+    private Object object;
+    private Data data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = Clusters.start(1);
+        serializationService = getSerializationService(members.get(0));
+        object = createObject(type);
+        data = serializationService.toData(object);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Clusters.shutdown(members);
+    }
+
+    @Benchmark
+    public Data toData() {
+        return serializationService.toData(object);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return serializationService.toObject(data);
+    }
+
+    private static Object createObject(String type) {
+        switch (type) {
+            case "long":
+                return 42L;
+            case "string":
+                return "The quick brown fox jumps over the lazy dog";
+            case "byteArray":
+                return new byte[ARRAY_SIZE];
+            case "hashMap":
+                Map<String, Integer> map = new HashMap<>();
+                for (int i = 0; i < MAP_SIZE; ++i) {
+                    map.put("key-" + i, i);
+                }
+                return map;
+            default:
+                throw new IllegalArgumentException("unknown type: " + type);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bit sets backing bitmap indexes: {@link RoaringBitSet}
+ * against {@link SparseBitSet} combined by {@link BitmapAlgorithms}.
+ * <p>
+ * Lives in the bitmap package since both bit sets are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitSetBenchmark {
+
+    private static final int BIT_SET_COUNT = 4;
+    private static final int UNIVERSE = 1 << 20;
+
+    /**
+     * The probability of a member being present in a bit set, in percent:
+     * low values produce array containers, high ones bitmap containers.
+     */
+    @Param({"1", "50"})
+    int density;
+
+    private RoaringBitSet[] roaring;
+    private SparseBitSet[] sparse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        roaring = new RoaringBitSet[BIT_SET_COUNT];
+        sparse = new SparseBitSet[BIT_SET_COUNT];
+        for (int i = 0; i < BIT_SET_COUNT; ++i) {
+            roaring[i] = new RoaringBitSet();
+            sparse[i] = new SparseBitSet();
+            for (long member = 0; member < UNIVERSE; ++member) {
+                if (random.nextInt(100) < density) {
+                    roaring[i].add(member);
+                    sparse[i].add(member);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long roaringAnd() {
+        return drain(RoaringBitSet.and(roaring).iterator());
+    }
+
+    @Benchmark
+    public long sparseAnd() {
+        return drain(BitmapAlgorithms.and(iterators()));
+    }
+
+    @Benchmark
+    public long roaringOr() {
+        return drain(RoaringBitSet.or(roaring).iterator());
+    }
+
+    @Benchmark
+    public long sparseOr() {
+        return drain(BitmapAlgorithms.or(iterators()));
+    }
+
+    private AscendingLongIterator[] iterators() {
+        AscendingLongIterator[] iterators = new AscendingLongIterator[BIT_SET_COUNT];
+        for (int i = 0; i < BIT_SET_COUNT; ++i) {
+            iterators[i] = sparse[i].iterator();
+        }
+        return iterators;
+    }
+
+    private static long drain(AscendingLongIterator iterator) {
+        long sum = 0;
+        for (long member = iterator.advance(); member != AscendingLongIterator.END; member = iterator.advance()) {
+            sum += member;
+        }
+        return sum;
+    }
+}
@@ -129,6 +129,7 @@ import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.isTopologyException;
 import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
 import static com.hazelcast.jet.sql.impl.SqlPlanImpl.CreateDataConnectionPlan;
+import static com.hazelcast.jet.sql.impl.parse.SqlCreateIndex.INCLUDED_ATTRIBUTES;
 import static com.hazelcast.jet.sql.impl.parse.SqlCreateIndex.UNIQUE_KEY;
 import static com.hazelcast.jet.sql.impl.parse.SqlCreateIndex.UNIQUE_KEY_TRANSFORMATION;
 import static com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeUtils.toHazelcastType;
@@ -266,6 +267,13 @@ public class PlanExecutor {
             bitmapIndexOptions.setUniqueKeyTransformation(UniqueKeyTransformation.fromName(uniqueKeyTransform));
 
             indexConfig.setBitmapIndexOptions(bitmapIndexOptions);
+        } else {
+            String includedAttributes = plan.options().get(INCLUDED_ATTRIBUTES);
+            if (includedAttributes != null) {
+                for (String attribute : includedAttributes.split(",")) {
+                    indexConfig.addIncludedAttribute(attribute.trim());
+                }
+            }
         }
 
         // The `addIndex()` call does nothing, if an index with the same name already exists.
@@ -19,10 +19,13 @@ package com.hazelcast.jet.sql.impl.connector.keyvalue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
@@ -33,8 +36,11 @@ import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
@@ -51,12 +57,16 @@ public class KvRowProjector implements Row {
 
     private final QueryTarget keyTarget;
     private final QueryTarget valueTarget;
+    private final QueryDataType[] types;
     private final QueryExtractor[] extractors;
 
     private final Expression<Boolean> predicate;
     private final List<Expression<?>> projections;
     private final ExpressionEvalContext evalContext;
 
+    private final BitSet predicateColumns = new BitSet();
+    private final BitSet projectionOnlyColumns = new BitSet();
+
     @SuppressWarnings("unchecked")
     KvRowProjector(
             QueryPath[] paths,
@@ -70,12 +80,19 @@ public class KvRowProjector implements Row {
         checkTrue(paths.length == types.length, "paths.length != types.length");
         this.keyTarget = keyTarget;
         this.valueTarget = valueTarget;
+        this.types = types;
         this.extractors = createExtractors(paths, types, keyTarget, valueTarget);
 
         this.predicate = predicate != null ? predicate
                 : (Expression<Boolean>) ConstantExpression.create(true, QueryDataType.BOOLEAN);
         this.projections = projections;
         this.evalContext = evalContext;
+
+        this.predicate.collectColumns(predicateColumns);
+        for (Expression<?> projection : projections) {
+            projection.collectColumns(projectionOnlyColumns);
+        }
+        projectionOnlyColumns.andNot(predicateColumns);
     }
 
     private static QueryExtractor[] createExtractors(
@@ -111,6 +128,86 @@ public class KvRowProjector implements Row {
         return ExpressionUtil.projection(predicate, projections, this, evalContext);
     }
 
+    /**
+     * Returns {@code true} if the entries can be projected in batches using
+     * {@link #project(List)}. That's the case if all the referenced columns
+     * are of a primitive-like or a simple object type, i.e. if no column
+     * needs lazy deserialization.
+     */
+    public boolean supportsBatches() {
+        return isCooperative()
+                && referencesOnlySimpleTypes(predicateColumns)
+                && referencesOnlySimpleTypes(projectionOnlyColumns);
+    }
+
+    private boolean referencesOnlySimpleTypes(BitSet columns) {
+        for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+            if (types[i].getTypeFamily() == QueryDataTypeFamily.OBJECT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Projects a batch of entries. First the columns referenced by the
+     * predicate are extracted from all the entries and the predicate is
+     * evaluated over the whole batch, then the remaining columns are extracted
+     * only from the matching entries and the projections are evaluated.
+     * <p>
+     * Must be used only if {@link #supportsBatches()} returns {@code true}.
+     *
+     * @return the projected rows of the entries matching the predicate
+     */
+    public List<JetSqlRow> project(List<? extends LazyMapEntry<?, ?>> entries) {
+        ColumnVector[] columns = new ColumnVector[extractors.length];
+        ColumnBatch batch = new ColumnBatch(columns, entries.size());
+        extract(entries, predicateColumns, batch, columns);
+        ColumnBatch selected = batch.selectTrue(predicate.evalBatch(batch, evalContext));
+        if (selected.selectedCount() == 0) {
+            return new ArrayList<>(0);
+        }
+        extract(entries, projectionOnlyColumns, selected, columns);
+
+        ColumnVector[] results = new ColumnVector[projections.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = projections.get(i).evalBatch(selected, evalContext);
+        }
+        List<JetSqlRow> rows = new ArrayList<>(selected.selectedCount());
+        for (int i = 0; i < selected.selectedCount(); i++) {
+            int position = selected.selected(i);
+            Object[] values = new Object[results.length];
+            for (int j = 0; j < results.length; j++) {
+                values[j] = results[j].get(position);
+            }
+            rows.add(new JetSqlRow(evalContext.getSerializationService(), values));
+        }
+        return rows;
+    }
+
+    private void extract(
+            List<? extends LazyMapEntry<?, ?>> entries,
+            BitSet columnIndexes,
+            ColumnBatch batch,
+            ColumnVector[] columns
+    ) {
+        if (columnIndexes.isEmpty()) {
+            return;
+        }
+        for (int c = columnIndexes.nextSetBit(0); c >= 0; c = columnIndexes.nextSetBit(c + 1)) {
+            columns[c] = new ColumnVector(types[c], batch.size());
+        }
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            int position = batch.selected(i);
+            LazyMapEntry<?, ?> entry = entries.get(position);
+            keyTarget.setTarget(null, entry.getKeyData());
+            valueTarget.setTarget(null, entry.getValueData());
+            for (int c = columnIndexes.nextSetBit(0); c >= 0; c = columnIndexes.nextSetBit(c + 1)) {
+                columns[c].set(position, extractors[c].get());
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(int index) {
@@ -27,6 +27,7 @@ import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.StringUtil;
+import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.core.DefaultPartitionStrategy;
 import com.hazelcast.jet.core.Edge;
 import com.hazelcast.jet.core.EventTimePolicy;
@@ -84,7 +85,6 @@ import static com.hazelcast.jet.core.processor.SourceProcessors.readMapP;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
 import static com.hazelcast.jet.impl.JobRepository.INTERNAL_JET_OBJECTS_PREFIX;
 import static com.hazelcast.jet.sql.impl.connector.map.MapIndexScanP.readMapIndexSupplier;
-import static com.hazelcast.jet.sql.impl.connector.map.RowProjectorProcessorSupplier.rowProjector;
 import static com.hazelcast.jet.sql.impl.connector.map.SpecificPartitionsImapReaderPms.mapReader;
 import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
 import static com.hazelcast.spi.properties.ClusterProperty.SQL_TSTORE_ENABLED;
@@ -251,7 +251,25 @@ public class IMapSqlConnector implements SqlConnector {
         if (eventTimePolicyProvider != null) {
             throw QueryException.error("Ordering functions are not supported on top of " + TYPE_NAME + " mappings");
         }
+        return fullScanReader(context, filter, projection, partitionPruningCandidates, null, null);
+    }
 
+    /**
+     * Creates a full scan reader which, if {@code aggrOp} is not {@code
+     * null}, also groups the projected rows by the {@code groupKeyFn} and
+     * accumulates them, emitting {@code Entry<key, accumulator>} for the
+     * combining stage instead of the rows. This way only the partial
+     * aggregation results leave the scan vertex.
+     */
+    @Nonnull
+    public Vertex fullScanReader(
+            @Nonnull DagBuildContext context,
+            @Nullable HazelcastRexNode filter,
+            @Nonnull List<HazelcastRexNode> projection,
+            @Nullable List<Map<String, Expression<?>>> partitionPruningCandidates,
+            @Nullable FunctionEx<JetSqlRow, ?> groupKeyFn,
+            @Nullable AggregateOperation<?, JetSqlRow> aggrOp
+    ) {
         PartitionedMapTable table = context.getTable();
 
         if (partitionPruningCandidates == null && !table.partitioningAttributes().isEmpty()) {
@@ -280,17 +298,19 @@ public class IMapSqlConnector implements SqlConnector {
                     : readMapP(table.getMapName())
         );
 
-        Vertex vEnd = context.getDag().newUniqueVertex(
-                "Project(" + toString(table) + ")",
-                rowProjector(
-                        table.paths(),
-                        table.types(),
-                        table.getKeyDescriptor(),
-                        table.getValueDescriptor(),
-                        context.convertFilter(filter),
-                        context.convertProjection(projection)
-                )
+        KvRowProjector.Supplier projectorSupplier = KvRowProjector.supplier(
+                table.paths(),
+                table.types(),
+                table.getKeyDescriptor(),
+                table.getValueDescriptor(),
+                context.convertFilter(filter),
+                context.convertProjection(projection)
         );
+        Vertex vEnd = aggrOp == null
+                ? context.getDag().newUniqueVertex("Project(" + toString(table) + ")",
+                        new RowProjectorProcessorSupplier(projectorSupplier))
+                : context.getDag().newUniqueVertex("ProjectAndAccumulateByKey(" + toString(table) + ")",
+                        new RowProjectorProcessorSupplier(projectorSupplier, groupKeyFn, aggrOp));
 
         context.getDag().edge(Edge.from(vStart).to(vEnd).isolated());
         return vEnd;
@@ -38,6 +38,9 @@ import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.impl.CoveringQueryEntry;
+import com.hazelcast.query.impl.IndexUtils;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.security.permission.MapPermission;
@@ -48,15 +51,22 @@ import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.QueryUtils;
+import com.hazelcast.sql.impl.exec.scan.CoveringIndexRow;
 import com.hazelcast.sql.impl.exec.scan.MapIndexScanMetadata;
 import com.hazelcast.sql.impl.exec.scan.MapScanRow;
+import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
+import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.security.Permission;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -110,6 +120,7 @@ public final class MapIndexScanP extends AbstractProcessor {
 
     private final ArrayList<Split> splits = new ArrayList<>();
     private MapScanRow row;
+    private CoveringIndexRow coveringRow;
     private JetSqlRow pendingItem;
     private boolean isIndexSorted;
 
@@ -124,8 +135,9 @@ public final class MapIndexScanP extends AbstractProcessor {
         reader = new LocalMapIndexReader(hazelcastInstance, evalContext.getSerializationService(), metadata);
 
         MapContainer mapContainer = QueryUtils.getMapContainer(hazelcastInstance.getMap(metadata.getMapName()));
-        boolean compositeIndex = MapFetchIndexOperation.getInternalIndex(mapContainer,
-                        metadata.getMapName(), metadata.getIndexName()).isComposite();
+        InternalIndex index = MapFetchIndexOperation.getInternalIndex(mapContainer,
+                metadata.getMapName(), metadata.getIndexName());
+        boolean compositeIndex = index.isComposite();
 
         int[] memberPartitions = context.processorPartitions();
         IndexIterationPointer[] pointers = indexFilterToPointers(metadata.getFilter(), compositeIndex,
@@ -146,9 +158,58 @@ public final class MapIndexScanP extends AbstractProcessor {
                         .build(),
                 evalContext.getSerializationService()
         );
+        coveringRow = createCoveringRow(IndexUtils.getCoveredAttributes(index.getConfig()));
         isIndexSorted = metadata.getComparator() != null;
     }
 
+    /**
+     * Returns a row reading the fields directly from the covered attributes
+     * of the index entries, or {@code null} if the index has no covered
+     * attributes or if some field read by the filter or the projection
+     * isn't among them.
+     * <p>
+     * Only plain Java objects are supported, for other formats the field
+     * values produced by the SQL extractors might differ from the attribute
+     * values extracted by the index.
+     */
+    private CoveringIndexRow createCoveringRow(String[] coveredAttributes) {
+        if (coveredAttributes == null
+                || !(metadata.getKeyDescriptor() instanceof GenericQueryTargetDescriptor)
+                || !(metadata.getValueDescriptor() instanceof GenericQueryTargetDescriptor)) {
+            return null;
+        }
+
+        BitSet usedFields = new BitSet();
+        if (metadata.getRemainingFilter() != null) {
+            metadata.getRemainingFilter().collectColumns(usedFields);
+        }
+        for (Expression<?> projection : metadata.getProjection()) {
+            projection.collectColumns(usedFields);
+        }
+
+        List<QueryPath> coveredPaths = new ArrayList<>(coveredAttributes.length);
+        for (String attribute : coveredAttributes) {
+            coveredPaths.add(QueryPath.create(attribute));
+        }
+
+        int fieldCount = metadata.getFieldPaths().size();
+        String[] paths = new String[fieldCount];
+        int[] positions = new int[fieldCount];
+        QueryDataType[] types = new QueryDataType[fieldCount];
+        for (int i = usedFields.nextSetBit(0); i >= 0; i = usedFields.nextSetBit(i + 1)) {
+            QueryPath path = metadata.getFieldPaths().get(i);
+            QueryDataType type = metadata.getFieldTypes().get(i);
+            int position = coveredPaths.indexOf(path);
+            if (position < 0 || type.getTypeFamily() == QueryDataTypeFamily.OBJECT) {
+                return null;
+            }
+            paths[i] = path.toString();
+            positions[i] = position;
+            types[i] = type;
+        }
+        return new CoveringIndexRow(paths, positions, types);
+    }
+
     @Override
     public boolean complete() {
         return isIndexSorted ? runSortedIndex() : runHashIndex();
@@ -391,6 +452,11 @@ public final class MapIndexScanP extends AbstractProcessor {
         }
 
         private JetSqlRow projectAndFilter(@Nonnull QueryableEntry<?, ?> entry) {
+            if (coveringRow != null && entry instanceof CoveringQueryEntry<?, ?> coveringEntry) {
+                coveringRow.setEntry(coveringEntry);
+                return ExpressionUtil.projection(metadata.getRemainingFilter(), metadata.getProjection(),
+                        coveringRow, evalContext);
+            }
             row.setKeyValue(
                     entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
                     entry.getValueIfPresent(), entry.getValueDataIfPresent()
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.jet.impl.processor.GroupP;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.map.impl.LazyMapEntry;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Projects the IMap entries to rows and accumulates them by a group key,
+ * emitting {@code Entry<key, accumulator>} in the {@code complete} phase.
+ * It's a fusion of the {@link RowProjectorProcessorSupplier row projector}
+ * with the {@link com.hazelcast.jet.core.processor.Processors#accumulateByKeyP
+ * accumulating} stage of a two-stage aggregation: the projected rows are
+ * never emitted, only the partial aggregation results are.
+ */
+final class RowProjectorAccumulateByKeyP<K, A> extends GroupP<K, A, A, Entry<K, A>> {
+
+    private final KvRowProjector projector;
+    private final boolean batched;
+
+    private List<JetSqlRow> pendingRows;
+    private int pendingRowIndex;
+    private int pendingEntryCount;
+
+    @SuppressWarnings("unchecked")
+    RowProjectorAccumulateByKeyP(
+            KvRowProjector projector,
+            FunctionEx<JetSqlRow, ?> groupKeyFn,
+            AggregateOperation<?, JetSqlRow> aggrOp
+    ) {
+        super(
+                singletonList((FunctionEx<?, ? extends K>) groupKeyFn),
+                ((AggregateOperation<A, JetSqlRow>) aggrOp).withIdentityFinish(),
+                Util::entry
+        );
+        this.projector = projector;
+        this.batched = projector.supportsBatches();
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return projector.isCooperative() && super.isCooperative();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        if (!batched) {
+            super.process(ordinal, inbox);
+            return;
+        }
+        if (pendingRows == null) {
+            // the entries stay in the inbox until all their rows are accepted
+            List<LazyMapEntry<Object, Object>> entries = new ArrayList<>(inbox.size());
+            for (Object item : inbox) {
+                entries.add((LazyMapEntry<Object, Object>) item);
+            }
+            pendingRows = projector.project(entries);
+            pendingEntryCount = entries.size();
+            pendingRowIndex = 0;
+        }
+        for (; pendingRowIndex < pendingRows.size(); pendingRowIndex++) {
+            if (!super.tryProcess(ordinal, pendingRows.get(pendingRowIndex))) {
+                return;
+            }
+        }
+        for (int i = 0; i < pendingEntryCount; i++) {
+            inbox.remove();
+        }
+        pendingRows = null;
+    }
+
+    @Override
+    protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+        LazyMapEntry<?, ?> entry = (LazyMapEntry<?, ?>) item;
+        JetSqlRow row = projector.project(entry.getKeyData(), entry.getValueData());
+        return row == null || super.tryProcess(ordinal, row);
+    }
+}
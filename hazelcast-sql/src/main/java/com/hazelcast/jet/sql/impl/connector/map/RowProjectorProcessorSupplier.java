@@ -16,9 +16,12 @@
 
 package com.hazelcast.jet.sql.impl.connector.map;
 
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.ResettableSingletonTraverser;
+import com.hazelcast.jet.impl.processor.TransformBatchedP;
 import com.hazelcast.jet.impl.processor.TransformP;
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
@@ -27,12 +30,8 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.query.impl.getters.Extractors;
-import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
-import com.hazelcast.sql.impl.extract.QueryPath;
-import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
 import com.hazelcast.sql.impl.row.JetSqlRow;
-import com.hazelcast.sql.impl.type.QueryDataType;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
@@ -40,12 +39,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static com.hazelcast.jet.Traversers.traverseIterable;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_BATCH_EVALUATION_ENABLED;
+
 public final class RowProjectorProcessorSupplier implements ProcessorSupplier, IdentifiedDataSerializable {
 
     private KvRowProjector.Supplier projectorSupplier;
+    private FunctionEx<JetSqlRow, ?> groupKeyFn;
+    private AggregateOperation<?, JetSqlRow> aggrOp;
 
     private transient ExpressionEvalContext evalContext;
     private transient Extractors extractors;
+    private transient boolean batchEvaluationEnabled;
 
     @SuppressWarnings("unused")
     public RowProjectorProcessorSupplier() {
@@ -55,10 +61,28 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
         this.projectorSupplier = projectorSupplier;
     }
 
+    /**
+     * Creates a supplier of processors which, instead of emitting the
+     * projected rows, group them by the {@code groupKeyFn} and accumulate them
+     * using the {@code aggrOp}, i.e. the first stage of a two-stage
+     * aggregation is done right in the scan.
+     */
+    public RowProjectorProcessorSupplier(
+            KvRowProjector.Supplier projectorSupplier,
+            FunctionEx<JetSqlRow, ?> groupKeyFn,
+            AggregateOperation<?, JetSqlRow> aggrOp
+    ) {
+        this.projectorSupplier = projectorSupplier;
+        this.groupKeyFn = groupKeyFn;
+        this.aggrOp = aggrOp;
+    }
+
     @Override
     public void init(@Nonnull Context context) {
         evalContext = ExpressionEvalContext.from(context);
         extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+        batchEvaluationEnabled = getNodeEngine(context.hazelcastInstance()).getProperties()
+                .getBoolean(SQL_BATCH_EVALUATION_ENABLED);
     }
 
     @Nonnull
@@ -66,8 +90,21 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
     public Collection<? extends Processor> get(int count) {
         List<Processor> processors = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            ResettableSingletonTraverser<JetSqlRow> traverser = new ResettableSingletonTraverser<>();
             KvRowProjector projector = projectorSupplier.get(evalContext, extractors);
+            if (aggrOp != null) {
+                processors.add(new RowProjectorAccumulateByKeyP<>(projector, groupKeyFn, aggrOp));
+                continue;
+            }
+            if (batchEvaluationEnabled && projector.supportsBatches()) {
+                // evaluate the predicate and projections over the whole inbox at once
+                processors.add(new TransformBatchedP<LazyMapEntry<Object, Object>, JetSqlRow>(entries -> {
+                    List<LazyMapEntry<Object, Object>> batch = new ArrayList<>();
+                    entries.forEach(batch::add);
+                    return traverseIterable(projector.project(batch));
+                }));
+                continue;
+            }
+            ResettableSingletonTraverser<JetSqlRow> traverser = new ResettableSingletonTraverser<>();
             TransformP<LazyMapEntry<Object, Object>, JetSqlRow> processor = new TransformP<>(entry -> {
                 traverser.accept(projector.project(entry.getKeyData(), entry.getValueData()));
                 return traverser;
@@ -81,11 +118,15 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeObject(projectorSupplier);
+        out.writeObject(groupKeyFn);
+        out.writeObject(aggrOp);
     }
 
     @Override
     public void readData(ObjectDataInput in) throws IOException {
         projectorSupplier = in.readObject();
+        groupKeyFn = in.readObject();
+        aggrOp = in.readObject();
     }
 
     @Override
@@ -97,16 +138,4 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
     public int getClassId() {
         return JetSqlSerializerHook.ROW_PROJECTOR_PROCESSOR_SUPPLIER;
     }
-
-    public static ProcessorSupplier rowProjector(
-            QueryPath[] paths,
-            QueryDataType[] types,
-            QueryTargetDescriptor keyDescriptor,
-            QueryTargetDescriptor valueDescriptor,
-            Expression<Boolean> predicate,
-            List<Expression<?>> projection
-    ) {
-        return new RowProjectorProcessorSupplier(
-                KvRowProjector.supplier(paths, types, keyDescriptor, valueDescriptor, predicate, projection));
-    }
 }
@@ -23,6 +23,7 @@ import com.hazelcast.function.ConsumerEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.SupplierEx;
 import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.util.MutableByte;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.aggregate.AggregateOperation;
@@ -37,6 +38,7 @@ import com.hazelcast.jet.core.TimestampKind;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.impl.processor.SortP;
 import com.hazelcast.jet.pipeline.ServiceFactories;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.HazelcastPhysicalScan;
@@ -64,6 +66,7 @@ import com.hazelcast.sql.impl.expression.MockExpressionEvalContext;
 import com.hazelcast.sql.impl.optimizer.PlanObjectKey;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.SingleRel;
@@ -86,11 +89,13 @@ import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.flatMapUsingServiceP;
 import static com.hazelcast.jet.core.processor.Processors.mapP;
 import static com.hazelcast.jet.core.processor.Processors.mapUsingServiceP;
-import static com.hazelcast.jet.core.processor.Processors.sortP;
 import static com.hazelcast.jet.core.processor.SourceProcessors.convenientSourceP;
+import static com.hazelcast.jet.impl.processor.KeyedStateSpillingSupplier.keyedStateSpilling;
 import static com.hazelcast.jet.sql.impl.connector.HazelcastRexNode.wrap;
 import static com.hazelcast.jet.sql.impl.connector.SqlConnectorUtil.getJetSqlConnector;
 import static com.hazelcast.jet.sql.impl.processors.RootResultConsumerSink.rootResultConsumerSink;
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_HASH_JOIN_MAX_ROWS_IN_MEMORY;
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_HASH_JOIN_SPILL_ENABLED;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
@@ -215,9 +220,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
     @Override
     public Vertex onFullScan(FullScanPhysicalRel rel) {
-        HazelcastTable hazelcastTable = rel.getTable().unwrap(HazelcastTable.class);
-        Table table = hazelcastTable.getTarget();
-        collectObjectKeys(table);
+        Table table = prepareFullScan(rel);
 
         BiFunctionEx<ExpressionEvalContext, Byte, EventTimePolicy<JetSqlRow>> policyProvider =
                 rel.eventTimePolicyProvider(
@@ -234,25 +237,57 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
             wmKey = null;
         }
 
-        dagBuildContext.setTable(table);
-        dagBuildContext.setRel(rel);
-
-        List<Map<String, Expression<?>>> partitionStrategyCandidate = null;
-        if (partitionStrategyCandidates != null) {
-            partitionStrategyCandidate = partitionStrategyCandidates.get(table.getSqlName());
-        }
-
         SqlConnector sqlConnector = getJetSqlConnector(table);
         return sqlConnector.fullScanReader(
                 dagBuildContext,
                 wrap(rel.filter()),
                 wrap(rel.projection()),
-                partitionStrategyCandidate,
+                partitionStrategyCandidate(table),
                 policyProvider != null
                         ? context -> policyProvider.apply(context, wmKey)
                         : null);
     }
 
+    private static boolean isMapScan(FullScanPhysicalRel rel) {
+        return rel.getTable().unwrap(HazelcastTable.class).getTarget() instanceof PartitionedMapTable
+                && rel.watermarkedColumnIndex() < 0;
+    }
+
+    private Vertex onMapFullScanAccumulatingByKey(
+            FullScanPhysicalRel rel,
+            FunctionEx<JetSqlRow, ?> groupKeyFn,
+            AggregateOperation<?, JetSqlRow> aggregateOperation
+    ) {
+        Table table = prepareFullScan(rel);
+        return SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table)
+                .fullScanReader(
+                        dagBuildContext,
+                        wrap(rel.filter()),
+                        wrap(rel.projection()),
+                        partitionStrategyCandidate(table),
+                        groupKeyFn,
+                        aggregateOperation
+                );
+    }
+
+    /**
+     * Collects the object keys of the scanned table and sets it to the
+     * {@link #dagBuildContext}.
+     */
+    private Table prepareFullScan(FullScanPhysicalRel rel) {
+        Table table = rel.getTable().unwrap(HazelcastTable.class).getTarget();
+        collectObjectKeys(table);
+
+        dagBuildContext.setTable(table);
+        dagBuildContext.setRel(rel);
+        return table;
+    }
+
+    @Nullable
+    private List<Map<String, Expression<?>>> partitionStrategyCandidate(Table table) {
+        return partitionStrategyCandidates != null ? partitionStrategyCandidates.get(table.getSqlName()) : null;
+    }
+
     @Override
     public Vertex onMapIndexScan(IndexScanMapPhysicalRel rel) {
         Table table = rel.getTable().unwrap(HazelcastTable.class).getTarget();
@@ -310,7 +345,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         // Use 2-Phase sort for maximum parallelism
         // First, construct processors for local sorting
         Vertex sortVertex = dag.newUniqueVertex("Sort",
-                ProcessorMetaSupplier.of(sortP(comparator)));
+                ProcessorMetaSupplier.of(SortP.supplier(comparator)));
         connectInput(rel.getInput(), sortVertex, null);
 
         // Then, combine the locally sorted inputs while preserving the ordering
@@ -380,7 +415,8 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
         Vertex vertex = dag.newUniqueVertex(
                 "AggregateByKey",
-                Processors.aggregateByKeyP(singletonList(groupKeyFn), aggregateOperation, (key, value) -> value)
+                keyedStateSpilling(
+                        Processors.aggregateByKeyP(singletonList(groupKeyFn), aggregateOperation, (key, value) -> value))
         );
         connectInput(rel.getInput(), vertex, edge -> edge.distributed().partitioned(groupKeyFn));
         return vertex;
@@ -391,9 +427,14 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         FunctionEx<JetSqlRow, ?> groupKeyFn = rel.groupKeyFn();
         AggregateOperation<?, JetSqlRow> aggregateOperation = rel.aggrOp();
 
+        if (rel.getInput() instanceof FullScanPhysicalRel scan && isMapScan(scan)) {
+            // accumulate right in the scan vertex, only partial results leave it
+            return onMapFullScanAccumulatingByKey(scan, groupKeyFn, aggregateOperation);
+        }
+
         Vertex vertex = dag.newUniqueVertex(
                 "AccumulateByKey",
-                Processors.accumulateByKeyP(singletonList(groupKeyFn), aggregateOperation)
+                keyedStateSpilling(Processors.accumulateByKeyP(singletonList(groupKeyFn), aggregateOperation))
         );
         connectInput(rel.getInput(), vertex, edge -> edge.partitioned(groupKeyFn));
         return vertex;
@@ -530,11 +571,19 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
     public Vertex onHashJoin(JoinHashPhysicalRel rel) {
         JetJoinInfo joinInfo = rel.joinInfo(dagBuildContext.getParameterMetadata());
 
+        // use a grace hash join if the build side is estimated not to fit in memory
+        long maxRowsInMemory = nodeEngine.getProperties().getLong(SQL_HASH_JOIN_MAX_ROWS_IN_MEMORY);
+        // members before 6.0 can't spill and don't receive the row limit
+        boolean spill = nodeEngine.getProperties().getBoolean(SQL_HASH_JOIN_SPILL_ENABLED)
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V6_0)
+                && rel.buildSideExceeds(maxRowsInMemory);
+
         Vertex joinVertex = dag.newUniqueVertex(
                 "Hash Join",
                 SqlHashJoinP.supplier(
                         joinInfo,
-                        rel.getRight().getRowType().getFieldCount()
+                        rel.getRight().getRowType().getFieldCount(),
+                        spill ? maxRowsInMemory : 0
                 )
         );
         connectJoinInput(joinInfo, rel.getLeft(), rel.getRight(), joinVertex);
@@ -58,6 +58,20 @@ public class JoinHashPhysicalRel extends JoinPhysicalRel {
         return new JoinHashPhysicalRel(getCluster(), traitSet, left, right, conditionExpr, joinType);
     }
 
+    /**
+     * Returns {@code true} if this is an equi-join and the estimated row
+     * count of its build (right) side exceeds the given row count, in which case
+     * the join should spill to disk.
+     */
+    public boolean buildSideExceeds(long maxRowsInMemory) {
+        if (analyzeCondition().rightKeys.isEmpty()) {
+            // without equi-join keys all the rows fall into the same bucket
+            return false;
+        }
+        Double rowCount = getCluster().getMetadataQuery().getRowCount(getRight());
+        return rowCount != null && rowCount > maxRowsInMemory;
+    }
+
     @Override
     @Nullable
     public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
@@ -53,6 +53,7 @@ import static java.util.Objects.requireNonNull;
 public class SqlCreateIndex extends SqlCreate {
     public static final String UNIQUE_KEY = "unique_key";
     public static final String UNIQUE_KEY_TRANSFORMATION = "unique_key_transformation";
+    public static final String INCLUDED_ATTRIBUTES = "included_attributes";
 
     private static final SqlSpecialOperator OPERATOR =
             new SqlSpecialOperator("CREATE INDEX", SqlKind.CREATE_INDEX);
@@ -170,15 +171,14 @@ public class SqlCreateIndex extends SqlCreate {
         }
 
         IndexType indexType = getIndexType();
-        if (indexType != IndexType.BITMAP && !options.getList().isEmpty()) {
-            throw validator.newValidationError(options, RESOURCE.unsupportedIndexType(indexType.name(),
-                    options().keySet().iterator().next()));
-        }
-
         Set<String> optionNames = new HashSet<>();
 
         for (SqlNode option : options.getList()) {
             String name = ((SqlOption) option).keyString();
+            // included attributes are the only option of non-bitmap indexes and are not supported by bitmap ones
+            if (indexType == IndexType.BITMAP ? INCLUDED_ATTRIBUTES.equals(name) : !INCLUDED_ATTRIBUTES.equals(name)) {
+                throw validator.newValidationError(option, RESOURCE.unsupportedIndexType(indexType.name(), name));
+            }
             if (!optionNames.add(name)) {
                 throw validator.newValidationError(option, RESOURCE.duplicateOption(name));
             }
@@ -18,43 +18,111 @@ package com.hazelcast.jet.sql.impl.processors;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
 import com.hazelcast.jet.sql.impl.ObjectArrayKey;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_HASH_JOIN_SPILL_DIRECTORY;
+
+/**
+ * Joins the left input with the right input, which is collected into a
+ * hash table first.
+ * <p>
+ * If constructed with a spill directory, the processor performs a grace
+ * hash join when the right (build) side has more rows than it may keep in
+ * memory: the rows are hashed into {@link #BUCKET_COUNT} buckets and whole buckets
+ * are spilled to files until the rest fits. Left rows belonging to a spilled
+ * bucket are spilled too, the other ones are joined right away. In the
+ * {@code complete} phase the spilled buckets are joined one by one.
+ */
 public class SqlHashJoinP extends AbstractProcessor {
 
+    static final int BUCKET_COUNT = 64;
+
+    @Probe(name = "spilledBytes")
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = "spilledBuckets")
+    private final Counter spilledBuckets = SwCounter.newSwCounter();
+
     private final JetJoinInfo joinInfo;
     private final int rightInputColumnCount;
+    private final Path spillParentDirectory;
+    private final long maxRowsInMemory;
 
     private ExpressionEvalContext evalContext;
     private Multimap<ObjectArrayKey, JetSqlRow> hashMap;
     private FlatMapper<JetSqlRow, JetSqlRow> flatMapper;
     private long maxItemsInHashTable;
 
+    private InternalSerializationService serializationService;
+    private Path spillDirectory;
+    // the files are null for buckets kept in memory
+    private SpillFile[] buildFiles;
+    private SpillFile[] probeFiles;
+    private int nextBucketToSpill = BUCKET_COUNT - 1;
+    private Traverser<JetSqlRow> spilledBucketsTraverser;
+
     public SqlHashJoinP(JetJoinInfo joinInfo, int rightInputColumnCount) {
+        this(joinInfo, rightInputColumnCount, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param spillParentDirectory the directory in which the processor creates
+     *                             its spill directory or {@code null} to keep
+     *                             the whole right side in memory
+     * @param maxRowsInMemory      the maximum number of right side rows kept
+     *                             in memory, ignored if not spilling
+     */
+    public SqlHashJoinP(
+            JetJoinInfo joinInfo,
+            int rightInputColumnCount,
+            @Nullable Path spillParentDirectory,
+            long maxRowsInMemory
+    ) {
         this.joinInfo = joinInfo;
         this.rightInputColumnCount = rightInputColumnCount;
+        this.spillParentDirectory = spillParentDirectory;
+        this.maxRowsInMemory = maxRowsInMemory;
     }
 
     @Override
@@ -63,6 +131,9 @@ public class SqlHashJoinP extends AbstractProcessor {
         this.hashMap = LinkedListMultimap.create();
         this.flatMapper = flatMapper(this::join);
         this.maxItemsInHashTable = context.maxProcessorAccumulatedRecords();
+        if (spillParentDirectory != null) {
+            this.serializationService = ((InternalProcSupplierCtx) context).serializationService();
+        }
     }
 
     private Traverser<JetSqlRow> join(JetSqlRow leftRow) {
@@ -85,12 +156,20 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     protected boolean tryProcess0(@Nonnull Object item) {
-        return flatMapper.tryProcess((JetSqlRow) item);
+        JetSqlRow leftRow = (JetSqlRow) item;
+        if (probeFiles != null) {
+            int bucket = bucket(ObjectArrayKey.project(leftRow, joinInfo.leftEquiJoinIndices()));
+            if (probeFiles[bucket] != null) {
+                spilledBytes.inc(probeFiles[bucket].write(leftRow));
+                return true;
+            }
+        }
+        return flatMapper.tryProcess(leftRow);
     }
 
     @Override
     protected boolean tryProcess1(@Nonnull Object item) {
-        if (hashMap.size() == maxItemsInHashTable) {
+        if (spillParentDirectory == null && hashMap.size() == maxItemsInHashTable) {
             throw new AccumulationLimitExceededException();
         }
         JetSqlRow rightRow = (JetSqlRow) item;
@@ -99,6 +178,16 @@ public class SqlHashJoinP extends AbstractProcessor {
         if (joinKeys.containsNull()) {
             return true;
         }
+        if (spillParentDirectory != null) {
+            int bucket = bucket(joinKeys);
+            while (!isSpilled(bucket) && hashMap.size() >= Math.min(maxRowsInMemory, maxItemsInHashTable)) {
+                spillNextBucket();
+            }
+            if (isSpilled(bucket)) {
+                spilledBytes.inc(buildFiles[bucket].write(rightRow));
+                return true;
+            }
+        }
         hashMap.put(joinKeys, rightRow);
         return true;
     }
@@ -108,26 +197,121 @@ public class SqlHashJoinP extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public boolean complete() {
+        if (buildFiles == null) {
+            return true;
+        }
+        if (spilledBucketsTraverser == null) {
+            spilledBucketsTraverser = Traversers.traverseStream(IntStream.range(0, BUCKET_COUNT).boxed())
+                    .filter(this::isSpilled)
+                    .flatMap(this::joinSpilledBucket);
+        }
+        return emitFromTraverser(spilledBucketsTraverser);
+    }
+
     @Override
     public boolean isCooperative() {
-        return joinInfo.isCooperative();
+        // spilling to and reading from files is blocking
+        return joinInfo.isCooperative() && spillParentDirectory == null;
+    }
+
+    private boolean isSpilled(int bucket) {
+        return buildFiles != null && buildFiles[bucket] != null;
+    }
+
+    private static int bucket(ObjectArrayKey joinKeys) {
+        // the input is partitioned by the same keys, mix the hash to spread
+        // the keys of a single processor evenly among the buckets
+        return fastIntMix(joinKeys.hashCode()) & (BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Moves the right rows of the next bucket from memory to a file. The
+     * buckets are spilled from the highest index, so that the left rows of
+     * the low buckets can still be joined without spilling.
+     */
+    private void spillNextBucket() {
+        if (buildFiles == null) {
+            buildFiles = new SpillFile[BUCKET_COUNT];
+            probeFiles = new SpillFile[BUCKET_COUNT];
+        }
+        int bucket = nextBucketToSpill--;
+        SpillFile buildFile = newSpillFile();
+        for (Iterator<Entry<ObjectArrayKey, JetSqlRow>> it = hashMap.entries().iterator(); it.hasNext(); ) {
+            Entry<ObjectArrayKey, JetSqlRow> entry = it.next();
+            if (bucket(entry.getKey()) == bucket) {
+                spilledBytes.inc(buildFile.write(entry.getValue()));
+                it.remove();
+            }
+        }
+        buildFiles[bucket] = buildFile;
+        probeFiles[bucket] = newSpillFile();
+        spilledBuckets.inc();
+    }
+
+    private Traverser<JetSqlRow> joinSpilledBucket(int bucket) {
+        hashMap.clear();
+        Traverser<JetSqlRow> rightRows = buildFiles[bucket].traverser();
+        for (JetSqlRow rightRow; (rightRow = rightRows.next()) != null; ) {
+            if (hashMap.size() == maxItemsInHashTable) {
+                throw new AccumulationLimitExceededException();
+            }
+            hashMap.put(ObjectArrayKey.project(rightRow, joinInfo.rightEquiJoinIndices()), rightRow);
+        }
+        return probeFiles[bucket].<JetSqlRow>traverser().flatMap(this::join);
+    }
+
+    private SpillFile newSpillFile() {
+        try {
+            if (spillDirectory == null) {
+                Files.createDirectories(spillParentDirectory);
+                spillDirectory = Files.createTempDirectory(spillParentDirectory, "hz-sql-join-");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return SpillFile.create(spillDirectory, serializationService);
+    }
+
+    /**
+     * Returns a supplier of hash join processors. If {@code maxRowsInMemory} is
+     * positive and the join is an equi-join, the processors perform a grace
+     * hash join, keeping at most {@code maxRowsInMemory} right rows in memory.
+     */
+    public static HashJoinProcessorSupplier supplier(JetJoinInfo joinInfo, int rightInputColumnCount, long maxRowsInMemory) {
+        return new HashJoinProcessorSupplier(joinInfo, rightInputColumnCount, maxRowsInMemory);
     }
 
     public static HashJoinProcessorSupplier supplier(JetJoinInfo joinInfo, int rightInputColumnCount) {
-        return new HashJoinProcessorSupplier(joinInfo, rightInputColumnCount);
+        return supplier(joinInfo, rightInputColumnCount, 0);
     }
 
-    private static final class HashJoinProcessorSupplier implements ProcessorSupplier, DataSerializable {
+    private static final class HashJoinProcessorSupplier implements ProcessorSupplier, DataSerializable, Versioned {
         private JetJoinInfo joinInfo;
         private int rightInputColumnCount;
+        private long maxRowsInMemory;
+
+        private transient Path spillDirectory;
 
         @SuppressWarnings("unused") // for deserialization
         private HashJoinProcessorSupplier() {
         }
 
-        private HashJoinProcessorSupplier(JetJoinInfo joinInfo, int rightInputColumnCount) {
+        private HashJoinProcessorSupplier(JetJoinInfo joinInfo, int rightInputColumnCount, long maxRowsInMemory) {
             this.joinInfo = joinInfo;
             this.rightInputColumnCount = rightInputColumnCount;
+            this.maxRowsInMemory = maxRowsInMemory;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            // the spill directory is a property of the member the join runs on
+            if (maxRowsInMemory > 0 && joinInfo.isEquiJoin()) {
+                HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+                String directory = properties.getString(SQL_HASH_JOIN_SPILL_DIRECTORY);
+                spillDirectory = Paths.get(directory != null ? directory : System.getProperty("java.io.tmpdir"));
+            }
         }
 
         @Nonnull
@@ -135,7 +319,7 @@ public class SqlHashJoinP extends AbstractProcessor {
         public Collection<? extends Processor> get(int count) {
             List<SqlHashJoinP> processors = new ArrayList<>(count);
             for (int i = 0; i < count; i++) {
-                processors.add(new SqlHashJoinP(joinInfo, rightInputColumnCount));
+                processors.add(new SqlHashJoinP(joinInfo, rightInputColumnCount, spillDirectory, maxRowsInMemory));
             }
             return processors;
         }
@@ -144,17 +328,39 @@ public class SqlHashJoinP extends AbstractProcessor {
         public void writeData(ObjectDataOutput out) throws IOException {
             out.writeObject(joinInfo);
             out.writeInt(rightInputColumnCount);
+            // members before 6.0 don't spill, the planner doesn't choose a spilling join for them
+            if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+                out.writeLong(maxRowsInMemory);
+            }
         }
 
         @Override
         public void readData(ObjectDataInput in) throws IOException {
             joinInfo = in.readObject();
             rightInputColumnCount = in.readInt();
+            if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+                maxRowsInMemory = in.readLong();
+            }
         }
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        return spillParentDirectory == null;
+    }
+
+    @Override
+    public void close() {
+        if (buildFiles != null) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (buildFiles[i] != null) {
+                    buildFiles[i].delete();
+                    probeFiles[i].delete();
+                }
+            }
+        }
+        if (spillDirectory != null) {
+            deleteQuietly(spillDirectory.toFile());
+        }
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.exec.scan;
+
+import com.hazelcast.query.impl.CoveringQueryEntry;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeMismatchException;
+
+/**
+ * Row that reads the fields of an index scan directly from the attribute
+ * values stored in a covering index entry, without touching the map
+ * record. The row is mutable and is not used by parent operators.
+ * <p>
+ * Fields not read by the filter or the projection are not mapped and
+ * must not be accessed.
+ */
+public final class CoveringIndexRow implements Row {
+
+    private final String[] paths;
+    private final int[] positions;
+    private final QueryDataType[] types;
+
+    private CoveringQueryEntry<?, ?> entry;
+
+    /**
+     * @param paths     the field paths, used in error messages
+     * @param positions for each field, its position among the covered
+     *                  attributes of the index
+     * @param types     the field types
+     */
+    public CoveringIndexRow(String[] paths, int[] positions, QueryDataType[] types) {
+        assert paths.length == positions.length && positions.length == types.length;
+
+        this.paths = paths;
+        this.positions = positions;
+        this.types = types;
+    }
+
+    public void setEntry(CoveringQueryEntry<?, ?> entry) {
+        this.entry = entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(int idx) {
+        try {
+            return (T) types[idx].normalize(entry.getCoveredValue(positions[idx]));
+        } catch (QueryDataTypeMismatchException e) {
+            throw QueryException.dataException("Failed to extract map entry field \"" + paths[idx]
+                + "\" because of type mismatch [expectedClass=" + e.getExpectedClass().getName()
+                + ", actualClass=" + e.getActualClass().getName() + ']');
+        }
+    }
+
+    @Override
+    public <T> T get(int idx, boolean useLazyDeserialization) {
+        return get(idx);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return positions.length;
+    }
+}
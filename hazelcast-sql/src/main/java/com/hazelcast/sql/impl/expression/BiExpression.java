@@ -20,6 +20,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -76,6 +77,16 @@ public abstract class BiExpression<T> implements Expression<T> {
         return getClass().getSimpleName() + "{operand1=" + operand1 + ", operand2=" + operand2 + '}';
     }
 
+    @Override
+    public void collectColumns(BitSet columns) {
+        if (operand1 != null) {
+            operand1.collectColumns(columns);
+        }
+        if (operand2 != null) {
+            operand2.collectColumns(columns);
+        }
+    }
+
     @Override
     public boolean isCooperative() {
         return (operand1 == null || operand1.isCooperative())
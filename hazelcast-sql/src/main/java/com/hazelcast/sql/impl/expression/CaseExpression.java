@@ -28,6 +28,7 @@ import com.hazelcast.sql.impl.type.QueryDataType;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Objects;
 
 public class CaseExpression<T> implements Expression<T> {
@@ -129,6 +130,34 @@ public class CaseExpression<T> implements Expression<T> {
         return (T) elseExpression.eval(row, context);
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        ColumnVector result = new ColumnVector(getType(), batch.size());
+        // the rows for which none of the conditions held so far
+        ColumnBatch remaining = batch;
+        for (int i = 0; i < whenExpressions.length && remaining.selectedCount() > 0; i++) {
+            ColumnVector conditionHolds = whenExpressions[i].evalBatch(remaining, context);
+            ColumnBatch matching = remaining.selectTrue(conditionHolds);
+            if (matching.selectedCount() > 0) {
+                result.copySelected(matching, thenExpressions[i].evalBatch(matching, context));
+            }
+            remaining = remaining.selectNotTrue(conditionHolds);
+        }
+        if (remaining.selectedCount() > 0) {
+            result.copySelected(remaining, elseExpression.evalBatch(remaining, context));
+        }
+        return result;
+    }
+
+    @Override
+    public void collectColumns(BitSet columns) {
+        for (int i = 0; i < whenExpressions.length; i++) {
+            whenExpressions[i].collectColumns(columns);
+            thenExpressions[i].collectColumns(columns);
+        }
+        elseExpression.collectColumns(columns);
+    }
+
     @Override
     public QueryDataType getType() {
         return elseExpression.getType();
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression;
+
+import com.hazelcast.sql.impl.row.Row;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A batch of rows stored column by column, see {@link
+ * Expression#evalBatch(ColumnBatch, ExpressionEvalContext)}.
+ * <p>
+ * Expressions are evaluated only at the selected positions of the batch.
+ * Narrowing the selection creates a new batch sharing the column vectors,
+ * this way filters and conditional expressions avoid evaluating their
+ * operands for rows where the row-at-a-time evaluation wouldn't evaluate
+ * them either.
+ */
+public final class ColumnBatch {
+
+    private final ColumnVector[] columns;
+    private final int size;
+    private final int[] selection;
+    private final int selectedCount;
+
+    private PositionRow row;
+
+    /**
+     * @param columns the vectors of the columns by column index, {@code null}
+     *                for columns not read by the evaluated expressions
+     * @param size    the number of rows in the batch, all of them are selected
+     */
+    public ColumnBatch(ColumnVector[] columns, int size) {
+        this(columns, size, identity(size), size);
+    }
+
+    private ColumnBatch(ColumnVector[] columns, int size, int[] selection, int selectedCount) {
+        this.columns = columns;
+        this.size = size;
+        this.selection = selection;
+        this.selectedCount = selectedCount;
+    }
+
+    private static int[] identity(int size) {
+        int[] selection = new int[size];
+        for (int i = 0; i < size; i++) {
+            selection[i] = i;
+        }
+        return selection;
+    }
+
+    /**
+     * Returns the number of rows in the batch, including the ones not
+     * selected.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int selectedCount() {
+        return selectedCount;
+    }
+
+    /**
+     * Returns the position of the {@code i}-th selected row.
+     */
+    public int selected(int i) {
+        return selection[i];
+    }
+
+    public ColumnVector column(int index) {
+        ColumnVector column = columns[index];
+        assert column != null : "column " + index + " not loaded";
+        return column;
+    }
+
+    /**
+     * Returns a batch with the selected positions at which the given
+     * condition is {@code TRUE}.
+     */
+    public ColumnBatch selectTrue(ColumnVector condition) {
+        return select(position -> !condition.isNull(position) && condition.getBoolean(position));
+    }
+
+    /**
+     * Returns a batch with the selected positions at which the given
+     * condition is {@code TRUE} or {@code NULL}.
+     */
+    public ColumnBatch selectNotFalse(ColumnVector condition) {
+        return select(position -> condition.isNull(position) || condition.getBoolean(position));
+    }
+
+    /**
+     * Returns a batch with the selected positions at which the given
+     * condition is {@code FALSE} or {@code NULL}.
+     */
+    public ColumnBatch selectNotTrue(ColumnVector condition) {
+        return select(position -> condition.isNull(position) || !condition.getBoolean(position));
+    }
+
+    /**
+     * Returns a batch with the selected positions at which the given vector
+     * isn't {@code NULL}.
+     */
+    public ColumnBatch selectNotNull(ColumnVector vector) {
+        return select(position -> !vector.isNull(position));
+    }
+
+    private ColumnBatch select(IntPredicate predicate) {
+        int[] newSelection = new int[selectedCount];
+        int newCount = 0;
+        for (int i = 0; i < selectedCount; i++) {
+            int position = selection[i];
+            if (predicate.test(position)) {
+                newSelection[newCount++] = position;
+            }
+        }
+        return newCount == selectedCount ? this : new ColumnBatch(columns, size, newSelection, newCount);
+    }
+
+    /**
+     * Evaluates the given expression one selected row at a time.
+     */
+    public ColumnVector evalRowByRow(Expression<?> expression, ExpressionEvalContext context) {
+        ColumnVector result = new ColumnVector(expression.getType(), size);
+        if (row == null) {
+            row = new PositionRow();
+        }
+        for (int i = 0; i < selectedCount; i++) {
+            row.position = selection[i];
+            result.set(row.position, expression.eval(row, context));
+        }
+        return result;
+    }
+
+    /**
+     * A view of the row at the given position of the batch.
+     */
+    private final class PositionRow implements Row {
+
+        private int position;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(int index) {
+            return (T) column(index).get(position);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns.length;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
 import com.hazelcast.sql.impl.type.QueryDataTypeUtils;
 
 import java.io.IOException;
+import java.util.BitSet;
 
 /**
  * Column access expression.
@@ -92,6 +93,16 @@ public final class ColumnExpression<T> implements Expression<T> {
         return (T) res;
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        return batch.column(index);
+    }
+
+    @Override
+    public void collectColumns(BitSet columns) {
+        columns.set(index);
+    }
+
     @Override
     public QueryDataType getType() {
         return type;
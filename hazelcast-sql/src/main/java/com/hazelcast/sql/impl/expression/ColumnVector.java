@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression;
+
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+/**
+ * The values of a column or of an expression for all the positions of a
+ * {@link ColumnBatch}.
+ * <p>
+ * Values of {@code BOOLEAN} and integer types are stored in a {@code long[]},
+ * values of {@code REAL} and {@code DOUBLE} types in a {@code double[]} and
+ * values of the other types as objects. {@code null} values are tracked
+ * separately.
+ */
+public final class ColumnVector {
+
+    private final QueryDataType type;
+    private final long[] longs;
+    private final double[] doubles;
+    private final Object[] objects;
+    private final boolean[] nulls;
+
+    public ColumnVector(QueryDataType type, int size) {
+        this.type = type;
+        QueryDataTypeFamily family = type.getTypeFamily();
+        this.longs = isLongFamily(family) ? new long[size] : null;
+        this.doubles = isDoubleFamily(family) ? new double[size] : null;
+        this.objects = longs == null && doubles == null ? new Object[size] : null;
+        this.nulls = new boolean[size];
+    }
+
+    /**
+     * Returns {@code true} if the values of the given family are stored in a
+     * {@code long[]}.
+     */
+    public static boolean isLongFamily(QueryDataTypeFamily family) {
+        switch (family) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the values of the given family are stored in a
+     * {@code double[]}.
+     */
+    public static boolean isDoubleFamily(QueryDataTypeFamily family) {
+        return family == QueryDataTypeFamily.REAL || family == QueryDataTypeFamily.DOUBLE;
+    }
+
+    public QueryDataType getType() {
+        return type;
+    }
+
+    public boolean hasLongs() {
+        return longs != null;
+    }
+
+    public boolean hasDoubles() {
+        return doubles != null;
+    }
+
+    public boolean isNull(int position) {
+        return nulls[position];
+    }
+
+    public long getLong(int position) {
+        return longs[position];
+    }
+
+    /**
+     * Returns the value at the given position widened to {@code double}, the
+     * vector must store either longs or doubles.
+     */
+    public double getDouble(int position) {
+        return doubles != null ? doubles[position] : longs[position];
+    }
+
+    public boolean getBoolean(int position) {
+        return longs[position] != 0;
+    }
+
+    /**
+     * Returns the value at the given position as an instance of the class
+     * normalized for the type of this vector.
+     */
+    public Object get(int position) {
+        if (nulls[position]) {
+            return null;
+        }
+        switch (type.getTypeFamily()) {
+            case BOOLEAN:
+                return longs[position] != 0;
+            case TINYINT:
+                return (byte) longs[position];
+            case SMALLINT:
+                return (short) longs[position];
+            case INTEGER:
+                return (int) longs[position];
+            case BIGINT:
+                return longs[position];
+            case REAL:
+                return (float) doubles[position];
+            case DOUBLE:
+                return doubles[position];
+            default:
+                return objects[position];
+        }
+    }
+
+    public void set(int position, Object value) {
+        if (value == null) {
+            setNull(position);
+        } else if (longs != null) {
+            setLong(position, value instanceof Boolean bool ? (bool ? 1 : 0) : ((Number) value).longValue());
+        } else if (doubles != null) {
+            setDouble(position, ((Number) value).doubleValue());
+        } else {
+            objects[position] = value;
+            nulls[position] = false;
+        }
+    }
+
+    public void setLong(int position, long value) {
+        longs[position] = value;
+        nulls[position] = false;
+    }
+
+    public void setDouble(int position, double value) {
+        doubles[position] = value;
+        nulls[position] = false;
+    }
+
+    public void setBoolean(int position, boolean value) {
+        setLong(position, value ? 1 : 0);
+    }
+
+    public void setNull(int position) {
+        nulls[position] = true;
+    }
+
+    /**
+     * Copies the value at the given position from the given vector.
+     */
+    public void copy(int position, ColumnVector source) {
+        if (source.nulls[position]) {
+            setNull(position);
+        } else if (longs != null && source.longs != null) {
+            setLong(position, source.longs[position]);
+        } else if (doubles != null && source.doubles != null) {
+            setDouble(position, source.doubles[position]);
+        } else {
+            set(position, source.get(position));
+        }
+    }
+
+    /**
+     * Copies the values at the selected positions of the given batch from the
+     * given vector.
+     */
+    public void copySelected(ColumnBatch batch, ColumnVector source) {
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            copy(batch.selected(i), source);
+        }
+    }
+}
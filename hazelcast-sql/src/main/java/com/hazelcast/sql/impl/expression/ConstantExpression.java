@@ -77,6 +77,15 @@ public final class ConstantExpression<T> implements Expression<T> {
         return value;
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        ColumnVector result = new ColumnVector(type, batch.size());
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            result.set(batch.selected(i), value);
+        }
+        return result;
+    }
+
     @Override
     public QueryDataType getType() {
         return type;
@@ -24,6 +24,7 @@ import com.hazelcast.sql.impl.type.QueryDataType;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.io.Serializable;
+import java.util.BitSet;
 
 /**
  * Defines expression contract for SQL.
@@ -70,6 +71,31 @@ public interface Expression<T> extends IdentifiedDataSerializable, Serializable
         return eval(row, context);
     }
 
+    /**
+     * Evaluates this expression for the selected rows of the given batch.
+     * <p>
+     * The default implementation evaluates the rows one at a time, the
+     * expressions common in filters and projections override it to evaluate
+     * the whole batch in loops over primitive arrays. The returned vector must
+     * not be modified, it can be a column vector of the batch.
+     *
+     * @param batch   the batch to evaluate this expression on
+     * @param context the expression evaluation context
+     * @return the vector with the results at the selected positions
+     */
+    default ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        return batch.evalRowByRow(this, context);
+    }
+
+    /**
+     * Adds the indexes of the columns read by this expression to the given set.
+     * Expressions with operands must add the columns of their operands.
+     *
+     * @param columns the set to add the column indexes to
+     */
+    default void collectColumns(BitSet columns) {
+    }
+
     /**
      * @return the return query data type of this expression.
      */
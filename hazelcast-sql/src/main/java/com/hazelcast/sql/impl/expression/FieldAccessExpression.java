@@ -29,6 +29,7 @@ import com.hazelcast.sql.impl.type.QueryDataType;
 import org.apache.avro.generic.GenericRecord;
 
 import java.io.IOException;
+import java.util.BitSet;
 
 /**
  * An expression backing the DOT operator for extracting field from a struct type.
@@ -129,6 +130,11 @@ public class FieldAccessExpression<T> implements Expression<T> {
         ref = in.readObject();
     }
 
+    @Override
+    public void collectColumns(BitSet columns) {
+        ref.collectColumns(columns);
+    }
+
     @Override
     public QueryDataType getType() {
         return type;
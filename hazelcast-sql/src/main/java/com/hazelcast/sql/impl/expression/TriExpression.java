@@ -20,6 +20,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -80,6 +81,19 @@ public abstract class TriExpression<T> implements Expression<T> {
         return result;
     }
 
+    @Override
+    public void collectColumns(BitSet columns) {
+        if (operand1 != null) {
+            operand1.collectColumns(columns);
+        }
+        if (operand2 != null) {
+            operand2.collectColumns(columns);
+        }
+        if (operand3 != null) {
+            operand3.collectColumns(columns);
+        }
+    }
+
     @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     @Override
     public boolean isCooperative() {
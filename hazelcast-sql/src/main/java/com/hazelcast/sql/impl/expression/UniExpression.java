@@ -20,6 +20,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 
 import java.io.IOException;
+import java.util.BitSet;
 
 /**
  * Expression with one operand.
@@ -75,6 +76,13 @@ public abstract class UniExpression<T> implements Expression<T> {
         return getClass().getSimpleName() + "{operand=" + operand + '}';
     }
 
+    @Override
+    public void collectColumns(BitSet columns) {
+        if (operand != null) {
+            operand.collectColumns(columns);
+        }
+    }
+
     @Override
     public boolean isCooperative() {
         return operand == null || operand.isCooperative();
@@ -22,6 +22,7 @@ import com.hazelcast.nio.ObjectDataOutput;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Base class for expressions acting on variable number of operands.
@@ -85,6 +86,13 @@ public abstract class VariExpression<T> implements Expression<T> {
         return getClass().getSimpleName() + "{operands=" + Arrays.toString(operands) + '}';
     }
 
+    @Override
+    public void collectColumns(BitSet columns) {
+        for (Expression<?> operand : operands) {
+            operand.collectColumns(columns);
+        }
+    }
+
     @Override
     public boolean isCooperative() {
         for (Expression<?> operand : operands) {
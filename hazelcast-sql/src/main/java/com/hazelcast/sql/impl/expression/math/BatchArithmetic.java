@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.math;
+
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.SqlErrorCode;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import static com.hazelcast.sql.impl.expression.ColumnVector.isDoubleFamily;
+import static com.hazelcast.sql.impl.expression.ColumnVector.isLongFamily;
+
+/**
+ * Evaluates the {@code +}, {@code -} and {@code *} operators on batches of
+ * integer and floating point values. The results are the same as the ones of
+ * the row-at-a-time evaluation in {@link PlusFunction}, {@link MinusFunction}
+ * and {@link MultiplyFunction}.
+ */
+final class BatchArithmetic {
+
+    enum Operator {
+        PLUS('+') {
+            @Override
+            long apply(long left, long right) {
+                return left + right;
+            }
+
+            @Override
+            long applyExact(long left, long right) {
+                return Math.addExact(left, right);
+            }
+
+            @Override
+            float apply(float left, float right) {
+                return left + right;
+            }
+
+            @Override
+            double apply(double left, double right) {
+                return left + right;
+            }
+        },
+
+        MINUS('-') {
+            @Override
+            long apply(long left, long right) {
+                return left - right;
+            }
+
+            @Override
+            long applyExact(long left, long right) {
+                return Math.subtractExact(left, right);
+            }
+
+            @Override
+            float apply(float left, float right) {
+                return left - right;
+            }
+
+            @Override
+            double apply(double left, double right) {
+                return left - right;
+            }
+        },
+
+        MULTIPLY('*') {
+            @Override
+            long apply(long left, long right) {
+                return left * right;
+            }
+
+            @Override
+            long applyExact(long left, long right) {
+                return Math.multiplyExact(left, right);
+            }
+
+            @Override
+            float apply(float left, float right) {
+                return left * right;
+            }
+
+            @Override
+            double apply(double left, double right) {
+                return left * right;
+            }
+        };
+
+        private final char symbol;
+
+        Operator(char symbol) {
+            this.symbol = symbol;
+        }
+
+        abstract long apply(long left, long right);
+
+        abstract long applyExact(long left, long right);
+
+        abstract float apply(float left, float right);
+
+        abstract double apply(double left, double right);
+    }
+
+    private BatchArithmetic() {
+    }
+
+    /**
+     * Returns {@code true} if the result type and the operand types allow
+     * evaluating the operator on primitive values. An integer result requires
+     * integer operands, the row-at-a-time evaluation truncates floating point
+     * operands first.
+     */
+    static boolean supports(Expression<?> operand1, Expression<?> operand2, QueryDataType resultType) {
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+        if (family == QueryDataTypeFamily.BOOLEAN) {
+            return false;
+        }
+        if (isLongFamily(family)) {
+            return isInteger(operand1.getType().getTypeFamily()) && isInteger(operand2.getType().getTypeFamily());
+        }
+        return isDoubleFamily(family)
+                && isNumeric(operand1.getType().getTypeFamily())
+                && isNumeric(operand2.getType().getTypeFamily());
+    }
+
+    private static boolean isInteger(QueryDataTypeFamily family) {
+        return family != QueryDataTypeFamily.BOOLEAN && isLongFamily(family);
+    }
+
+    private static boolean isNumeric(QueryDataTypeFamily family) {
+        return isInteger(family) || isDoubleFamily(family);
+    }
+
+    static ColumnVector evalBatch(
+            Operator operator,
+            Expression<?> operand1,
+            Expression<?> operand2,
+            QueryDataType resultType,
+            ColumnBatch batch,
+            ExpressionEvalContext context
+    ) {
+        ColumnVector left = operand1.evalBatch(batch, context);
+        // like in eval(), the right operand isn't evaluated if the left one is NULL
+        ColumnVector right = operand2.evalBatch(batch.selectNotNull(left), context);
+        ColumnVector result = new ColumnVector(resultType, batch.size());
+
+        QueryDataTypeFamily family = resultType.getTypeFamily();
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            int position = batch.selected(i);
+            if (left.isNull(position) || right.isNull(position)) {
+                result.setNull(position);
+                continue;
+            }
+            switch (family) {
+                case TINYINT:
+                    result.setLong(position, (byte) operator.apply(left.getLong(position), right.getLong(position)));
+                    break;
+                case SMALLINT:
+                    result.setLong(position, (short) operator.apply(left.getLong(position), right.getLong(position)));
+                    break;
+                case INTEGER:
+                    result.setLong(position, (int) operator.apply(left.getLong(position), right.getLong(position)));
+                    break;
+                case BIGINT:
+                    result.setLong(position, applyExact(operator, left.getLong(position), right.getLong(position)));
+                    break;
+                case REAL:
+                    result.setDouble(position, operator.apply(floatValue(left, position), floatValue(right, position)));
+                    break;
+                default:
+                    result.setDouble(position, operator.apply(left.getDouble(position), right.getDouble(position)));
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private static long applyExact(Operator operator, long left, long right) {
+        try {
+            return operator.applyExact(left, right);
+        } catch (ArithmeticException e) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                    "BIGINT overflow in '" + operator.symbol + "' operator (consider adding explicit CAST to DECIMAL)");
+        }
+    }
+
+    private static float floatValue(ColumnVector vector, int position) {
+        // converting a long to float through double could round twice
+        return vector.hasLongs() ? (float) vector.getLong(position) : (float) vector.getDouble(position);
+    }
+}
@@ -20,6 +20,8 @@ import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.SqlErrorCode;
 import com.hazelcast.sql.impl.expression.BiExpressionWithType;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
@@ -84,6 +86,14 @@ public final class MinusFunction<T> extends BiExpressionWithType<T> {
         return (T) evalNumeric((Number) left, (Number) right, family);
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        if (!BatchArithmetic.supports(operand1, operand2, resultType)) {
+            return batch.evalRowByRow(this, context);
+        }
+        return BatchArithmetic.evalBatch(BatchArithmetic.Operator.MINUS, operand1, operand2, resultType, batch, context);
+    }
+
     private static Object evalNumeric(Number left, Number right, QueryDataTypeFamily family) {
         switch (family) {
             case TINYINT:
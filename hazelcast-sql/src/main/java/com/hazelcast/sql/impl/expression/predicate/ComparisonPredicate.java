@@ -22,6 +22,8 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.impl.Comparables;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.expression.BiExpression;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
@@ -96,6 +98,37 @@ public final class ComparisonPredicate extends BiExpression<Boolean> {
 
         int order = Comparables.compare(leftComparable, rightComparable);
 
+        return holds(order);
+    }
+
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        QueryDataTypeFamily leftFamily = operand1.getType().getTypeFamily();
+        QueryDataTypeFamily rightFamily = operand2.getType().getTypeFamily();
+        boolean longs = ColumnVector.isLongFamily(leftFamily) && ColumnVector.isLongFamily(rightFamily);
+        if (!longs && !(ColumnVector.isDoubleFamily(leftFamily) && ColumnVector.isDoubleFamily(rightFamily))) {
+            return batch.evalRowByRow(this, context);
+        }
+
+        ColumnVector left = operand1.evalBatch(batch, context);
+        // like in eval(), the right operand isn't evaluated if the left one is NULL
+        ColumnVector right = operand2.evalBatch(batch.selectNotNull(left), context);
+        ColumnVector result = new ColumnVector(QueryDataType.BOOLEAN, batch.size());
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            int position = batch.selected(i);
+            if (left.isNull(position) || right.isNull(position)) {
+                result.setNull(position);
+                continue;
+            }
+            int order = longs
+                    ? Long.compare(left.getLong(position), right.getLong(position))
+                    : Double.compare(left.getDouble(position), right.getDouble(position));
+            result.setBoolean(position, holds(order));
+        }
+        return result;
+    }
+
+    private boolean holds(int order) {
         switch (mode) {
             case EQUALS:
                 return order == 0;
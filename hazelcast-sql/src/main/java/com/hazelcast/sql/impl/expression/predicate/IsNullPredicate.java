@@ -17,6 +17,8 @@
 package com.hazelcast.sql.impl.expression.predicate;
 
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.UniExpression;
@@ -45,6 +47,17 @@ public final class IsNullPredicate extends UniExpression<Boolean> {
         return TernaryLogic.isNull(operand.eval(row, context));
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        ColumnVector value = operand.evalBatch(batch, context);
+        ColumnVector result = new ColumnVector(QueryDataType.BOOLEAN, batch.size());
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            int position = batch.selected(i);
+            result.setBoolean(position, value.isNull(position));
+        }
+        return result;
+    }
+
     @Override
     public QueryDataType getType() {
         return QueryDataType.BOOLEAN;
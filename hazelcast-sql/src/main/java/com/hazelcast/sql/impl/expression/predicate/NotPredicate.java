@@ -17,6 +17,8 @@
 package com.hazelcast.sql.impl.expression.predicate;
 
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.UniExpression;
@@ -50,6 +52,21 @@ public final class NotPredicate extends UniExpression<Boolean> {
         return TernaryLogic.not((Boolean) operand.eval(row, context));
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        ColumnVector value = operand.evalBatch(batch, context);
+        ColumnVector result = new ColumnVector(QueryDataType.BOOLEAN, batch.size());
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            int position = batch.selected(i);
+            if (value.isNull(position)) {
+                result.setNull(position);
+            } else {
+                result.setBoolean(position, !value.getBoolean(position));
+            }
+        }
+        return result;
+    }
+
     @Override
     public QueryDataType getType() {
         return QueryDataType.BOOLEAN;
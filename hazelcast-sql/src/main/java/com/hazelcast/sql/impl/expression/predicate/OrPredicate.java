@@ -17,6 +17,8 @@
 package com.hazelcast.sql.impl.expression.predicate;
 
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.VariExpression;
@@ -50,6 +52,11 @@ public final class OrPredicate extends VariExpression<Boolean> {
         return TernaryLogic.or(row, context, operands);
     }
 
+    @Override
+    public ColumnVector evalBatch(ColumnBatch batch, ExpressionEvalContext context) {
+        return TernaryLogic.or(batch, context, operands);
+    }
+
     @Override
     public QueryDataType getType() {
         return QueryDataType.BOOLEAN;
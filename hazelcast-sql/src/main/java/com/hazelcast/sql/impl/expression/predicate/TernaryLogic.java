@@ -16,9 +16,12 @@
 
 package com.hazelcast.sql.impl.expression.predicate;
 
+import com.hazelcast.sql.impl.expression.ColumnBatch;
+import com.hazelcast.sql.impl.expression.ColumnVector;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
 
 /**
  * Implements ternary boolean logic according to SQL standard.
@@ -98,6 +101,72 @@ public final class TernaryLogic {
         return seenUnknown ? null : Boolean.FALSE;
     }
 
+    /**
+     * Performs AND for the given operands acting on the selected rows of the
+     * given batch, with the same short-circuiting as {@link #and(Row,
+     * ExpressionEvalContext, Expression[])}: an operand is evaluated only for
+     * the rows for which none of the previous operands was {@code false}.
+     *
+     * @param batch    the batch to evaluate the operands on.
+     * @param context  the context to evaluate the operands in.
+     * @param operands the boolean operands to evaluate.
+     * @return the vector with the results at the selected positions.
+     */
+    public static ColumnVector and(ColumnBatch batch, ExpressionEvalContext context, Expression<?>... operands) {
+        ColumnVector result = new ColumnVector(QueryDataType.BOOLEAN, batch.size());
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            result.setBoolean(batch.selected(i), true);
+        }
+
+        ColumnBatch remaining = batch;
+        for (int j = 0; j < operands.length && remaining.selectedCount() > 0; j++) {
+            ColumnVector operandResult = operands[j].evalBatch(remaining, context);
+            for (int i = 0; i < remaining.selectedCount(); i++) {
+                int position = remaining.selected(i);
+                if (operandResult.isNull(position)) {
+                    result.setNull(position);
+                } else if (!operandResult.getBoolean(position)) {
+                    result.setBoolean(position, false);
+                }
+            }
+            remaining = remaining.selectNotFalse(operandResult);
+        }
+        return result;
+    }
+
+    /**
+     * Performs OR for the given operands acting on the selected rows of the
+     * given batch, with the same short-circuiting as {@link #or(Row,
+     * ExpressionEvalContext, Expression[])}: an operand is evaluated only for
+     * the rows for which none of the previous operands was {@code true}.
+     *
+     * @param batch    the batch to evaluate the operands on.
+     * @param context  the context to evaluate the operands in.
+     * @param operands the boolean operands to evaluate.
+     * @return the vector with the results at the selected positions.
+     */
+    public static ColumnVector or(ColumnBatch batch, ExpressionEvalContext context, Expression<?>... operands) {
+        ColumnVector result = new ColumnVector(QueryDataType.BOOLEAN, batch.size());
+        for (int i = 0; i < batch.selectedCount(); i++) {
+            result.setBoolean(batch.selected(i), false);
+        }
+
+        ColumnBatch remaining = batch;
+        for (int j = 0; j < operands.length && remaining.selectedCount() > 0; j++) {
+            ColumnVector operandResult = operands[j].evalBatch(remaining, context);
+            for (int i = 0; i < remaining.selectedCount(); i++) {
+                int position = remaining.selected(i);
+                if (operandResult.isNull(position)) {
+                    result.setNull(position);
+                } else if (operandResult.getBoolean(position)) {
+                    result.setBoolean(position, true);
+                }
+            }
+            remaining = remaining.selectNotTrue(operandResult);
+        }
+        return result;
+    }
+
     /**
      * Negates the given boolean value.
      *
@@ -193,6 +193,29 @@ public class SqlCreateIndexTest extends OptimizerTestSupport {
                 .hasMessageContaining("Unknown option for SORTED index: a");
     }
 
+    @Test
+    public void when_indexCreatedWithIncludedAttributes_then_queryReadsThem() {
+        createMapping(MAP_NAME, Integer.class, Integer.class);
+
+        String indexName = SqlTestSupport.randomName();
+        String sql = "CREATE INDEX " + indexName + " ON " + MAP_NAME + " (__key) TYPE SORTED "
+                + "OPTIONS ('included_attributes' = 'this')";
+        instance().getSql().execute(sql);
+
+        IndexConfig indexConfig = mapContainer(map).getGlobalIndexRegistry().getIndex(indexName).getConfig();
+        assertThat(indexConfig.getIncludedAttributes()).containsExactly("this");
+        assertRowsOrdered("SELECT __key, this FROM " + MAP_NAME + " WHERE __key >= 497 ORDER BY __key",
+                asList(new Row(497, 497), new Row(498, 498), new Row(499, 499)));
+    }
+
+    @Test
+    public void when_bitmapIndexCreatedWithIncludedAttributes_then_throws() {
+        String sql = "CREATE INDEX IF NOT EXISTS idx ON " + MAP_NAME + " (__key) TYPE BITMAP "
+                + "OPTIONS ('included_attributes' = 'this')";
+        assertThatThrownBy(() -> instance().getSql().execute(sql))
+                .hasMessageContaining("Unknown option for BITMAP index: included_attributes");
+    }
+
     private void checkPlan(boolean withIndex, boolean sorted, String sql) {
         checkPlan(withIndex, sorted, sql, MAP_NAME);
     }
@@ -30,6 +30,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.hazelcast.sql.impl.type.QueryDataTypeFamily.INTEGER;
 import static com.hazelcast.sql.impl.type.QueryDataTypeFamily.TIMESTAMP_WITH_TIME_ZONE;
@@ -1005,6 +1007,27 @@ public class SqlAggregateTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_groupByOverIMap() {
+        String name = randomName();
+        createMapping(name, Integer.class, Integer.class);
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put(i, i % 3);
+        }
+        instance().getMap(name).putAll(entries);
+
+        // the partial aggregation is done in the IMap scan
+        assertRowsAnyOrder(
+                "SELECT this, COUNT(*), SUM(__key) FROM " + name + " WHERE __key >= 100 GROUP BY this",
+                asList(
+                        new Row(0, 300L, 165150L),
+                        new Row(1, 300L, 164550L),
+                        new Row(2, 300L, 164850L)
+                )
+        );
+    }
+
     @Test
     public void test_aggregatingNonOrderedStreamingSource() {
         String name = randomName();
@@ -20,12 +20,18 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.sql.impl.expression.ColumnExpression;
 import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.math.DivideFunction;
 import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
 import com.hazelcast.sql.impl.extract.GenericQueryTarget;
 import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
@@ -40,9 +46,13 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.hazelcast.jet.sql.SqlTestSupport.jetRow;
 import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
 import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.OBJECT;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,6 +122,62 @@ public class KvRowProjectorTest {
         assertThat(row).isNull();
     }
 
+    @Test
+    public void test_projectBatch() {
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+        KvRowProjector projector = new KvRowProjector(
+                new QueryPath[]{QueryPath.KEY_PATH, QueryPath.VALUE_PATH},
+                new QueryDataType[]{INT, INT},
+                new GenericQueryTarget(serializationService, null, true),
+                new GenericQueryTarget(serializationService, null, false),
+                OrPredicate.create(
+                        ComparisonPredicate.create(ColumnExpression.create(0, INT), ConstantExpression.create(5, INT),
+                                ComparisonMode.GREATER_THAN),
+                        IsNullPredicate.create(ColumnExpression.create(1, INT))
+                ),
+                asList(
+                        ColumnExpression.create(0, INT),
+                        PlusFunction.create(ColumnExpression.create(0, INT), ColumnExpression.create(1, INT), INT),
+                        MultiplyFunction.create(ColumnExpression.create(1, INT), ConstantExpression.create(2, INT), INT)
+                ),
+                SqlTestSupport.createExpressionEvalContext()
+        );
+        assertThat(projector.supportsBatches()).isTrue();
+
+        List<LazyMapEntry<Object, Object>> entries = new ArrayList<>();
+        List<JetSqlRow> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Data key = serializationService.toData(i);
+            Data value = serializationService.toData(i % 3 == 0 ? null : i * 10);
+            entries.add(new LazyMapEntry<>(key, value, serializationService));
+            JetSqlRow row = projector.project(key, value);
+            if (row != null) {
+                expected.add(row);
+            }
+        }
+
+        List<JetSqlRow> rows = projector.project(entries);
+
+        assertThat(rows).containsExactlyElementsOf(expected);
+        assertThat(rows).hasSize(6);
+    }
+
+    @Test
+    public void when_objectColumnReferenced_then_batchesNotSupported() {
+        KvRowProjector projector = new KvRowProjector(
+                new QueryPath[]{QueryPath.KEY_PATH, QueryPath.VALUE_PATH},
+                new QueryDataType[]{INT, OBJECT},
+                new IdentityTarget(),
+                new IdentityTarget(),
+                null,
+                asList(ColumnExpression.create(0, INT), ColumnExpression.create(1, OBJECT)),
+                mock(ExpressionEvalContext.class)
+        );
+
+        assertThat(projector.supportsBatches()).isFalse();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void test_supplierSerialization() {
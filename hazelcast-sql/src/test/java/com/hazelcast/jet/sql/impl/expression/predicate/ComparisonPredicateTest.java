@@ -17,6 +17,7 @@
 package com.hazelcast.jet.sql.impl.expression.predicate;
 
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
 import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
 import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
@@ -32,11 +33,16 @@ import org.junit.runner.RunWith;
 import static com.hazelcast.jet.sql.SqlTestSupport.checkEquals;
 import static com.hazelcast.jet.sql.SqlTestSupport.createExpressionEvalContext;
 import static com.hazelcast.jet.sql.SqlTestSupport.serializeAndCheck;
+import static com.hazelcast.sql.impl.expression.BatchEvaluationTestSupport.assertBatchEvaluationMatchesRowByRow;
 import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.EQUALS;
 import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.GREATER_THAN;
 import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.LESS_THAN;
 import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
 import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.REAL;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -69,6 +75,31 @@ public class ComparisonPredicateTest {
         checkEquals(original, restored, true);
     }
 
+    @Test
+    public void testEvalBatch() {
+        for (ComparisonMode mode : ComparisonMode.values()) {
+            checkBatch(mode, INT, 1, 1, 1, 2, 2, 1, null, 1, 1, null, null, null, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            checkBatch(mode, BIGINT, 1L, 2L, Long.MIN_VALUE, Long.MAX_VALUE, -1L, -1L, null, 0L, 0L, null);
+            checkBatch(mode, DOUBLE, 1.5d, 1.5d, -0.0d, 0.0d, Double.NaN, Double.NaN, Double.NaN, 1d, null, 1d);
+            checkBatch(mode, REAL, 1.5f, 2.5f, Float.NaN, 0f, null, null, -1f, -1f);
+            checkBatch(mode, BOOLEAN, true, false, false, true, true, true, null, false);
+            checkBatch(mode, VARCHAR, "a", "b", "b", "b", null, "a", "b", null);
+        }
+    }
+
+    /**
+     * Compares the columns 0 and 1 of rows given as pairs of values.
+     */
+    private static void checkBatch(ComparisonMode mode, QueryDataType type, Object... pairs) {
+        Object[][] rows = new Object[pairs.length / 2][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{pairs[2 * i], pairs[2 * i + 1]};
+        }
+        ComparisonPredicate predicate = ComparisonPredicate.create(
+                ColumnExpression.create(0, type), ColumnExpression.create(1, type), mode);
+        assertBatchEvaluationMatchesRowByRow(predicate, createExpressionEvalContext(), new QueryDataType[]{type, type}, rows);
+    }
+
     private static com.hazelcast.sql.impl.row.Row heapRow(Object... values) {
         assertNotNull(values);
         assertTrue(values.length > 0);
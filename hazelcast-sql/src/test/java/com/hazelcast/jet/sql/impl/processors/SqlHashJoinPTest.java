@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.sql.impl.processors;
 
+import com.google.common.collect.HashMultiset;
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.test.TestSupport;
@@ -31,6 +32,7 @@ import org.apache.calcite.rel.core.JoinRelType;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
@@ -139,6 +141,51 @@ public class SqlHashJoinPTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_innerEquiJoin_spilling() {
+        runSpillingTest(INNER);
+    }
+
+    @Test
+    public void test_leftEquiJoin_spilling() {
+        runSpillingTest(LEFT);
+    }
+
+    private void runSpillingTest(JoinRelType joinType) {
+        List<JetSqlRow> leftInput = new ArrayList<>();
+        List<JetSqlRow> rightInput = new ArrayList<>();
+        List<JetSqlRow> output = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            leftInput.add(jetRow(i, "left-" + i));
+            if (i % 2 == 0) {
+                rightInput.add(jetRow(i, "right-" + i));
+                rightInput.add(jetRow(i, "right-" + i + "-bis"));
+                output.add(jetRow(i, "left-" + i, i, "right-" + i));
+                output.add(jetRow(i, "left-" + i, i, "right-" + i + "-bis"));
+            } else if (joinType == LEFT) {
+                output.add(jetRow(i, "left-" + i, null, null));
+            }
+        }
+
+        // the right side doesn't fit into the budget, most buckets are spilled
+        ProcessorSupplier processor = SqlHashJoinP.supplier(
+                new JetJoinInfo(joinType, new int[]{0}, new int[]{0}, TRUE_PREDICATE, null),
+                2,
+                100
+        );
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(processor))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .inputs(asList(leftInput, rightInput), new int[]{LOW_PRIORITY, HIGH_PRIORITY})
+                .hazelcastInstance(instance())
+                // the rows of the spilled buckets are emitted last
+                .outputChecker((expected, actual) -> HashMultiset.create(expected).equals(HashMultiset.create(actual)))
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .expectOutput(output);
+    }
+
     private void runTest(
             JoinRelType joinType,
             Expression<Boolean> nonEquiCondition,
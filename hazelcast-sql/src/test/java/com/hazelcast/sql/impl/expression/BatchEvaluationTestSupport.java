@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression;
+
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.type.QueryDataType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Checks that {@link Expression#evalBatch} gives the same results as
+ * {@link Expression#eval} evaluated row by row.
+ */
+public final class BatchEvaluationTestSupport {
+
+    private BatchEvaluationTestSupport() {
+    }
+
+    /**
+     * Evaluates the expression over the given rows one at a time and as a
+     * single batch and checks that the results are equal. If the evaluation
+     * of a row fails, checks that the batch evaluation fails with the same
+     * error.
+     *
+     * @param columnTypes the types of the columns of the rows
+     * @param rows        the values of the rows, {@code null} for SQL NULL
+     */
+    public static void assertBatchEvaluationMatchesRowByRow(
+            Expression<?> expression,
+            ExpressionEvalContext context,
+            QueryDataType[] columnTypes,
+            Object[]... rows
+    ) {
+        ColumnVector[] columns = new ColumnVector[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columns[i] = new ColumnVector(columnTypes[i], rows.length);
+            for (int j = 0; j < rows.length; j++) {
+                columns[i].set(j, rows[j][i]);
+            }
+        }
+        ColumnBatch batch = new ColumnBatch(columns, rows.length);
+
+        Object[] expected = new Object[rows.length];
+        QueryException expectedError = null;
+        for (int j = 0; j < rows.length && expectedError == null; j++) {
+            try {
+                expected[j] = expression.eval(new HeapRow(rows[j]), context);
+            } catch (QueryException e) {
+                expectedError = e;
+            }
+        }
+
+        if (expectedError != null) {
+            QueryException error = assertThrows(QueryException.class, () -> expression.evalBatch(batch, context));
+            assertEquals(expectedError.getCode(), error.getCode());
+            assertEquals(expectedError.getMessage(), error.getMessage());
+            return;
+        }
+
+        ColumnVector result = expression.evalBatch(batch, context);
+        for (int j = 0; j < rows.length; j++) {
+            assertEquals("row " + j, expected[j], result.get(j));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.sql.impl.expression;
+
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.sql.impl.expression.BatchEvaluationTestSupport.assertBatchEvaluationMatchesRowByRow;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CaseExpressionTest {
+
+    private static final ExpressionEvalContext CONTEXT = mock(ExpressionEvalContext.class);
+
+    private static final QueryDataType[] TYPES = {BOOLEAN, INT, BOOLEAN, INT, INT};
+
+    // WHEN c0 THEN c1 WHEN c2 THEN c3 ELSE c4
+    private static final Object[][] ROWS = {
+            {true, 1, true, 2, 3},
+            {true, null, true, 2, 3},
+            {false, 1, true, 2, 3},
+            {null, 1, true, null, 3},
+            {false, 1, false, 2, 3},
+            {null, 1, null, 2, null},
+            {false, 1, null, 2, 3},
+            {null, null, null, null, null},
+    };
+
+    @Test
+    public void testEvalBatch() {
+        CaseExpression<Integer> expression = CaseExpression.create(new Expression[]{
+                column(0, BOOLEAN), column(1, INT), column(2, BOOLEAN), column(3, INT), column(4, INT)});
+
+        assertBatchEvaluationMatchesRowByRow(expression, CONTEXT, TYPES, ROWS);
+    }
+
+    @Test
+    public void testEvalBatch_nullBranches() {
+        Expression<?> nullInt = ConstantExpression.create(null, INT);
+        CaseExpression<Integer> nullThen = CaseExpression.create(new Expression[]{
+                column(0, BOOLEAN), nullInt, column(2, BOOLEAN), column(3, INT), column(4, INT)});
+        CaseExpression<Integer> nullElse = CaseExpression.create(new Expression[]{
+                column(0, BOOLEAN), column(1, INT), column(2, BOOLEAN), column(3, INT), nullInt});
+        CaseExpression<Integer> nullWhen = CaseExpression.create(new Expression[]{
+                ConstantExpression.NULL, column(1, INT), column(2, BOOLEAN), column(3, INT), column(4, INT)});
+
+        assertBatchEvaluationMatchesRowByRow(nullThen, CONTEXT, TYPES, ROWS);
+        assertBatchEvaluationMatchesRowByRow(nullElse, CONTEXT, TYPES, ROWS);
+        assertBatchEvaluationMatchesRowByRow(nullWhen, CONTEXT, TYPES, ROWS);
+    }
+
+    @Test
+    public void testEvalBatch_coalesce() {
+        CaseExpression<Integer> expression = CaseExpression.coalesce(column(1, INT), column(3, INT), column(4, INT));
+
+        assertBatchEvaluationMatchesRowByRow(expression, CONTEXT, TYPES, ROWS);
+    }
+
+    @Test
+    public void testEvalBatch_branchNotEvaluatedForOtherRows() {
+        // the overflowing THEN branch must not be evaluated for the rows the condition doesn't hold for
+        CaseExpression<Long> expression = CaseExpression.create(new Expression[]{
+                column(0, BOOLEAN),
+                MultiplyFunction.create(column(1, BIGINT), ConstantExpression.create(2L, BIGINT), BIGINT),
+                column(1, BIGINT)});
+
+        assertBatchEvaluationMatchesRowByRow(expression, CONTEXT, new QueryDataType[]{BOOLEAN, BIGINT},
+                new Object[]{true, 1L},
+                new Object[]{false, Long.MAX_VALUE},
+                new Object[]{null, Long.MAX_VALUE},
+                new Object[]{true, null});
+        assertBatchEvaluationMatchesRowByRow(expression, CONTEXT, new QueryDataType[]{BOOLEAN, BIGINT},
+                new Object[]{true, 1L},
+                new Object[]{true, Long.MAX_VALUE});
+    }
+
+    private static Expression<?> column(int index, QueryDataType type) {
+        return ColumnExpression.create(index, type);
+    }
+}
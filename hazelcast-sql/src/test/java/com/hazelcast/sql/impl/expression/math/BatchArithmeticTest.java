@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.sql.impl.expression.math;
+
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.sql.impl.expression.BatchEvaluationTestSupport.assertBatchEvaluationMatchesRowByRow;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.REAL;
+import static com.hazelcast.sql.impl.type.QueryDataType.SMALLINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.TINYINT;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchArithmeticTest {
+
+    private static final ExpressionEvalContext CONTEXT = mock(ExpressionEvalContext.class);
+
+    @Test
+    public void testPlus() {
+        checkAllTypes(PlusFunction::create);
+    }
+
+    @Test
+    public void testMinus() {
+        checkAllTypes(MinusFunction::create);
+    }
+
+    @Test
+    public void testMultiply() {
+        checkAllTypes(MultiplyFunction::create);
+    }
+
+    @Test
+    public void testPlusOverflow() {
+        check(PlusFunction::create, BIGINT, BIGINT, BIGINT,
+                row(1L, 2L), row(null, Long.MAX_VALUE), row(Long.MAX_VALUE, 1L), row(3L, 4L));
+        check(PlusFunction::create, BIGINT, BIGINT, BIGINT,
+                row(Long.MIN_VALUE, -1L));
+    }
+
+    @Test
+    public void testMinusOverflow() {
+        check(MinusFunction::create, BIGINT, BIGINT, BIGINT,
+                row(1L, 2L), row(Long.MIN_VALUE, null), row(Long.MIN_VALUE, 1L), row(3L, 4L));
+        check(MinusFunction::create, BIGINT, BIGINT, BIGINT,
+                row(Long.MAX_VALUE, -1L));
+    }
+
+    @Test
+    public void testMultiplyOverflow() {
+        check(MultiplyFunction::create, BIGINT, BIGINT, BIGINT,
+                row(1L, 2L), row(null, null), row(Long.MAX_VALUE, 2L), row(3L, 4L));
+        check(MultiplyFunction::create, BIGINT, BIGINT, BIGINT,
+                row(Long.MIN_VALUE, -1L));
+    }
+
+    @Test
+    public void testSupports() {
+        assertTrue(BatchArithmetic.supports(column(0, INT), column(1, INT), BIGINT));
+        assertTrue(BatchArithmetic.supports(column(0, INT), column(1, DOUBLE), DOUBLE));
+        assertFalse(BatchArithmetic.supports(column(0, INT), column(1, DOUBLE), INT));
+        assertFalse(BatchArithmetic.supports(column(0, INT), column(1, INT), QueryDataType.DECIMAL));
+    }
+
+    private static void checkAllTypes(ArithmeticFactory factory) {
+        check(factory, TINYINT, TINYINT, TINYINT,
+                row((byte) 1, (byte) 2), row((byte) 100, (byte) 100), row(Byte.MIN_VALUE, (byte) -1),
+                row(null, (byte) 1), row((byte) 1, null), row(null, null));
+        check(factory, SMALLINT, SMALLINT, SMALLINT,
+                row((short) 1, (short) 2), row(Short.MAX_VALUE, Short.MAX_VALUE), row(null, (short) 1));
+        check(factory, INT, INT, INT,
+                row(1, 2), row(Integer.MAX_VALUE, 1), row(Integer.MIN_VALUE, Integer.MAX_VALUE), row(1, null));
+        check(factory, BIGINT, BIGINT, BIGINT,
+                row(1L, 2L), row(-5L, 3L), row(null, 1L));
+        check(factory, INT, BIGINT, BIGINT,
+                row(1, 2L), row(Integer.MAX_VALUE, Long.MAX_VALUE / 4), row(null, 1L));
+        check(factory, REAL, REAL, REAL,
+                row(1.5f, 2.25f), row(Float.MAX_VALUE, Float.MAX_VALUE), row(Float.NaN, 1f), row(null, 1f));
+        check(factory, INT, BIGINT, REAL,
+                row(16777217, 1L), row(1, Long.MAX_VALUE));
+        check(factory, DOUBLE, DOUBLE, DOUBLE,
+                row(1.5d, 2.25d), row(-0.0d, 0.0d), row(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY),
+                row(null, 1d));
+        check(factory, INT, DOUBLE, DOUBLE,
+                row(3, 0.5d), row(Integer.MIN_VALUE, -1d), row(1, null));
+        // not evaluated on primitive values, the batch falls back to row-at-a-time evaluation
+        check(factory, INT, DOUBLE, INT,
+                row(3, 0.5d), row(1, null));
+    }
+
+    private static void check(
+            ArithmeticFactory factory,
+            QueryDataType type1,
+            QueryDataType type2,
+            QueryDataType resultType,
+            Object[]... rows
+    ) {
+        Expression<?> expression = factory.apply(column(0, type1), column(1, type2), resultType);
+        assertBatchEvaluationMatchesRowByRow(expression, CONTEXT, new QueryDataType[]{type1, type2}, rows);
+    }
+
+    private static Expression<?> column(int index, QueryDataType type) {
+        return ColumnExpression.create(index, type);
+    }
+
+    private static Object[] row(Object value1, Object value2) {
+        return new Object[]{value1, value2};
+    }
+
+    @FunctionalInterface
+    private interface ArithmeticFactory {
+        Expression<?> apply(Expression<?> operand1, Expression<?> operand2, QueryDataType resultType);
+    }
+}
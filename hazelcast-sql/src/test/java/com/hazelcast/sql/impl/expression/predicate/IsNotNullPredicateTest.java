@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.sql.impl.expression.predicate;
+
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.sql.impl.expression.BatchEvaluationTestSupport.assertBatchEvaluationMatchesRowByRow;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IsNotNullPredicateTest {
+
+    private static final ExpressionEvalContext CONTEXT = mock(ExpressionEvalContext.class);
+
+    private static final QueryDataType[] TYPES = {INT, VARCHAR, BOOLEAN, DOUBLE};
+
+    private static final Object[][] ROWS = {
+            {1, "a", true, 1.5d},
+            {null, null, null, null},
+            {0, null, false, Double.NaN},
+            {null, "b", null, 0d},
+    };
+
+    @Test
+    public void testEvalBatch() {
+        for (int i = 0; i < TYPES.length; i++) {
+            assertBatchEvaluationMatchesRowByRow(IsNotNullPredicate.create(ColumnExpression.create(i, TYPES[i])),
+                    CONTEXT, TYPES, ROWS);
+        }
+    }
+
+    @Test
+    public void testEvalBatch_nullExpression() {
+        // c0 + c0
+        Expression<?> sum = PlusFunction.create(ColumnExpression.create(0, INT), ColumnExpression.create(0, INT), INT);
+        assertBatchEvaluationMatchesRowByRow(IsNotNullPredicate.create(sum), CONTEXT, TYPES, ROWS);
+        assertBatchEvaluationMatchesRowByRow(IsNotNullPredicate.create(ConstantExpression.create(null, INT)),
+                CONTEXT, TYPES, ROWS);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.sql.impl.expression.predicate;
+
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.sql.impl.expression.BatchEvaluationTestSupport.assertBatchEvaluationMatchesRowByRow;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NotPredicateTest {
+
+    private static final ExpressionEvalContext CONTEXT = mock(ExpressionEvalContext.class);
+
+    private static final QueryDataType[] TYPES = {BOOLEAN, INT};
+
+    private static final Object[][] ROWS = {
+            {true, 1},
+            {false, 0},
+            {null, null},
+            {null, 1},
+            {true, null},
+    };
+
+    @Test
+    public void testEvalBatch() {
+        assertBatchEvaluationMatchesRowByRow(NotPredicate.create(ColumnExpression.create(0, BOOLEAN)), CONTEXT, TYPES, ROWS);
+        assertBatchEvaluationMatchesRowByRow(NotPredicate.create(ConstantExpression.NULL), CONTEXT, TYPES, ROWS);
+    }
+
+    @Test
+    public void testEvalBatch_nestedNullLogic() {
+        // NOT (c1 > 0), NOT (c0 AND c1 IS NULL), NOT NOT c0
+        assertBatchEvaluationMatchesRowByRow(NotPredicate.create(ComparisonPredicate.create(
+                ColumnExpression.create(1, INT), ConstantExpression.create(0, INT), ComparisonMode.GREATER_THAN)),
+                CONTEXT, TYPES, ROWS);
+        assertBatchEvaluationMatchesRowByRow(NotPredicate.create(AndPredicate.create(
+                ColumnExpression.create(0, BOOLEAN), IsNullPredicate.create(ColumnExpression.create(1, INT)))),
+                CONTEXT, TYPES, ROWS);
+        assertBatchEvaluationMatchesRowByRow(NotPredicate.create(NotPredicate.create(ColumnExpression.create(0, BOOLEAN))),
+                CONTEXT, TYPES, ROWS);
+    }
+}
@@ -16,8 +16,11 @@
 
 package com.hazelcast.sql.impl.expression.predicate;
 
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -25,9 +28,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.sql.impl.expression.BatchEvaluationTestSupport.assertBatchEvaluationMatchesRowByRow;
 import static com.hazelcast.sql.impl.expression.ConstantExpression.FALSE;
 import static com.hazelcast.sql.impl.expression.ConstantExpression.NULL;
 import static com.hazelcast.sql.impl.expression.ConstantExpression.TRUE;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 
@@ -38,6 +43,8 @@ public class TernaryLogicTest {
     private static final Row ROW = new MockRow();
     private static final ExpressionEvalContext CONTEXT = mock(ExpressionEvalContext.class);
 
+    private static final Boolean[] VALUES = {true, false, null};
+
     @SuppressWarnings("SimplifiableJUnitAssertion")
     @Test
     public void testAnd() {
@@ -76,6 +83,26 @@ public class TernaryLogicTest {
         assertEquals(null, TernaryLogic.or(ROW, CONTEXT, NULL, NULL));
     }
 
+    @Test
+    public void testAndBatch() {
+        assertBatchEvaluationMatchesRowByRow(AndPredicate.create(column(0), column(1)), CONTEXT,
+                new QueryDataType[]{BOOLEAN, BOOLEAN}, allRows(2));
+        assertBatchEvaluationMatchesRowByRow(AndPredicate.create(column(0), column(1), column(2)), CONTEXT,
+                new QueryDataType[]{BOOLEAN, BOOLEAN, BOOLEAN}, allRows(3));
+        assertBatchEvaluationMatchesRowByRow(AndPredicate.create(column(0), NULL), CONTEXT,
+                new QueryDataType[]{BOOLEAN}, allRows(1));
+    }
+
+    @Test
+    public void testOrBatch() {
+        assertBatchEvaluationMatchesRowByRow(OrPredicate.create(column(0), column(1)), CONTEXT,
+                new QueryDataType[]{BOOLEAN, BOOLEAN}, allRows(2));
+        assertBatchEvaluationMatchesRowByRow(OrPredicate.create(column(0), column(1), column(2)), CONTEXT,
+                new QueryDataType[]{BOOLEAN, BOOLEAN, BOOLEAN}, allRows(3));
+        assertBatchEvaluationMatchesRowByRow(OrPredicate.create(column(0), NULL), CONTEXT,
+                new QueryDataType[]{BOOLEAN}, allRows(1));
+    }
+
     @SuppressWarnings({"ConstantConditions", "SimplifiableJUnitAssertion"})
     @Test
     public void testNot() {
@@ -134,6 +161,26 @@ public class TernaryLogicTest {
         assertEquals(true, TernaryLogic.isNotFalse(null));
     }
 
+    @SuppressWarnings("unchecked")
+    private static Expression<Boolean> column(int index) {
+        return (Expression<Boolean>) ColumnExpression.create(index, BOOLEAN);
+    }
+
+    /**
+     * Returns all the combinations of TRUE, FALSE and NULL of the given
+     * number of columns.
+     */
+    private static Object[][] allRows(int columnCount) {
+        int rowCount = (int) Math.pow(VALUES.length, columnCount);
+        Object[][] rows = new Object[rowCount][columnCount];
+        for (int i = 0; i < rowCount; i++) {
+            for (int j = 0, rest = i; j < columnCount; j++, rest /= VALUES.length) {
+                rows[i][j] = VALUES[rest % VALUES.length];
+            }
+        }
+        return rows;
+    }
+
     private static class MockRow implements Row {
 
         @Override
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.readNullableList;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.writeNullableList;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
@@ -42,6 +43,12 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
  * for low cardinality attributes at the cost of reduced query performance.
  * <p>
  * Index could be created on one or more attributes.
+ * <p>
+ * Sorted and hash indexes may additionally store values of
+ * {@linkplain #setIncludedAttributes(List) included attributes}. Together
+ * with the indexed attributes they are covered by the index: queries
+ * referencing only the covered attributes are answered from the index
+ * without deserializing the map values.
  *
  * @see com.hazelcast.config.IndexType
  * @see com.hazelcast.config.MapConfig#setIndexConfigs(List)
@@ -59,6 +66,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     /** Indexed attributes. */
     private List<String> attributes;
 
+    /** Attributes stored in the index, but not indexed. */
+    private List<String> includedAttributes;
+
     private BitmapIndexOptions bitmapIndexOptions;
 
     private BTreeIndexConfig bTreeIndexConfig = new BTreeIndexConfig();
@@ -97,6 +107,7 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         this.type = other.type;
         this.bitmapIndexOptions = other.bitmapIndexOptions == null ? null : new BitmapIndexOptions(other.bitmapIndexOptions);
         this.bTreeIndexConfig = other.bTreeIndexConfig == null ? null : new BTreeIndexConfig(other.bTreeIndexConfig);
+        this.includedAttributes = other.includedAttributes == null ? null : new ArrayList<>(other.includedAttributes);
 
         for (String attribute : other.getAttributes()) {
             addAttributeInternal(attribute);
@@ -202,6 +213,62 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         return this;
     }
 
+    /**
+     * Gets the included attributes, i.e. the attributes whose values are
+     * stored in the index in addition to the indexed ones.
+     *
+     * @return Included attributes.
+     * @since 6.0
+     */
+    public List<String> getIncludedAttributes() {
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        return includedAttributes;
+    }
+
+    /**
+     * Adds an included attribute. The attribute is not indexed, but its
+     * value is stored in the index, so queries projecting it can be
+     * answered from the index alone. Not supported by bitmap indexes.
+     *
+     * @param attribute Attribute name.
+     * @return This instance for chaining.
+     * @since 6.0
+     */
+    public IndexConfig addIncludedAttribute(String attribute) {
+        IndexUtils.validateAttribute(attribute);
+
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        includedAttributes.add(attribute);
+
+        return this;
+    }
+
+    /**
+     * Sets the included attributes.
+     *
+     * @param includedAttributes Included attributes.
+     * @return This instance for chaining.
+     * @see #addIncludedAttribute(String)
+     * @since 6.0
+     */
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        checkNotNull(includedAttributes, "Included attributes cannot be null.");
+
+        this.includedAttributes = new ArrayList<>(includedAttributes.size());
+
+        for (String attribute : includedAttributes) {
+            addIncludedAttribute(attribute);
+        }
+
+        return this;
+    }
+
     /**
      * Provides access to index options specific to bitmap indexes.
      *
@@ -260,6 +327,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         writeNullableList(attributes, out);
         out.writeObject(bitmapIndexOptions);
         out.writeObject(bTreeIndexConfig);
+        // RU_COMPAT_5_5
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            writeNullableList(includedAttributes, out);
+        }
     }
 
     @Override
@@ -269,6 +340,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         attributes = readNullableList(in);
         bitmapIndexOptions = in.readObject();
         bTreeIndexConfig = in.readObject();
+        // RU_COMPAT_5_5
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            includedAttributes = readNullableList(in);
+        }
     }
 
     @Override
@@ -299,6 +374,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
             return false;
         }
 
+        if (!getIncludedAttributes().equals(that.getIncludedAttributes())) {
+            return false;
+        }
+
         return getAttributes().equals(that.getAttributes());
     }
 
@@ -308,6 +387,7 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
 
         result = 31 * result + (type != null ? type.hashCode() : 0);
         result = 31 * result + getAttributes().hashCode();
+        result = 31 * result + getIncludedAttributes().hashCode();
         result = 31 * result + getBitmapIndexOptions().hashCode();
         result = 31 * result + getBTreeIndexConfig().hashCode();
 
@@ -317,6 +397,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     @Override
     public String toString() {
         String string = "IndexConfig{name=" + name + ", type=" + type + ", attributes=" + getAttributes();
+        if (includedAttributes != null && !includedAttributes.isEmpty()) {
+            string += ", includedAttributes=" + includedAttributes;
+        }
         if (bitmapIndexOptions != null && !bitmapIndexOptions.areDefault()) {
             string += ", bitmapIndexOptions=" + bitmapIndexOptions;
         }
@@ -96,8 +96,10 @@ import com.hazelcast.internal.serialization.impl.compact.schema.MemberSchemaServ
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.tcp.ChannelInitializerFunction;
+import com.hazelcast.internal.server.tcp.PacketCompression;
 import com.hazelcast.internal.server.tcp.PacketDecoder;
 import com.hazelcast.internal.server.tcp.PacketEncoder;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
 import com.hazelcast.internal.tpc.TpcServerBootstrap;
 import com.hazelcast.internal.tpc.TpcServerBootstrapImpl;
 import com.hazelcast.internal.util.ConstructorFunction;
@@ -466,14 +468,19 @@ public class DefaultNodeExtension implements NodeExtension {
     public InboundHandler[] createInboundHandlers(EndpointQualifier qualifier,
                                                   ServerConnection connection, ServerContext serverContext) {
         NodeEngineImpl nodeEngine = node.nodeEngine;
-        PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher());
+        PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher(),
+                getPacketCompression(connection), nodeEngine.getPacketPayloadPool());
         return new InboundHandler[]{decoder};
     }
 
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
-        return new OutboundHandler[]{new PacketEncoder()};
+        return new OutboundHandler[]{new PacketEncoder(getPacketCompression(connection))};
+    }
+
+    private static PacketCompression getPacketCompression(ServerConnection connection) {
+        return connection instanceof TcpServerConnection tcpConnection ? tcpConnection.getPacketCompression() : null;
     }
 
     @Override
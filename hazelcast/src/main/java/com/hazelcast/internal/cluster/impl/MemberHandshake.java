@@ -60,6 +60,12 @@ public class MemberHandshake
 
     public static final String OPTION_PLANE_COUNT = "planeCount";
     public static final String OPTION_PLANE_INDEX = "planeIndex";
+    /**
+     * Whether the member accepts compressed packets on the connection.
+     *
+     * @since 6.0
+     */
+    public static final String OPTION_COMPRESSION = "compression";
 
     private byte schemaVersion;
     private Map<ProtocolType, Collection<Address>> localAddresses;
@@ -93,6 +99,11 @@ public class MemberHandshake
         return value == null ? defaultValue : Integer.parseInt(value);
     }
 
+    public boolean getBooleanOption(String key, boolean defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
     public int getPlaneCount() {
         return getIntOption(OPTION_PLANE_COUNT, 1);
     }
@@ -101,6 +112,10 @@ public class MemberHandshake
         return getIntOption(OPTION_PLANE_INDEX, 0);
     }
 
+    public boolean isCompressionSupported() {
+        return getBooleanOption(OPTION_COMPRESSION, false);
+    }
+
     byte getSchemaVersion() {
         return schemaVersion;
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+
+/**
+ * {@link MemoryAllocator} which allocates native memory through
+ * {@link sun.misc.Unsafe#allocateMemory(long)}. Allocated blocks are
+ * zeroed to satisfy the {@link MemoryAllocator} contract.
+ * <p>
+ * This allocator keeps no free lists of its own, every call goes to the
+ * underlying system allocator. It only tracks the number of bytes which
+ * are currently allocated through it.
+ */
+public final class UnsafeMallocAllocator implements MemoryAllocator {
+
+    private final AtomicLong usedMemory = new AtomicLong();
+
+    public UnsafeMallocAllocator() {
+        if (!UnsafeUtil.UNSAFE_AVAILABLE) {
+            throw new IllegalStateException("sun.misc.Unsafe is not available, cannot allocate native memory");
+        }
+    }
+
+    @Override
+    public long allocate(long size) {
+        long address;
+        try {
+            address = UNSAFE.allocateMemory(size);
+        } catch (OutOfMemoryError e) {
+            throw new NativeOutOfMemoryError("Not enough contiguous memory available!"
+                    + " Cannot allocate " + size + " bytes", e);
+        }
+        UNSAFE.setMemory(address, size, (byte) 0);
+        usedMemory.addAndGet(size);
+        return address;
+    }
+
+    @Override
+    public long reallocate(long address, long currentSize, long newSize) {
+        long newAddress;
+        try {
+            newAddress = UNSAFE.reallocateMemory(address, newSize);
+        } catch (OutOfMemoryError e) {
+            throw new NativeOutOfMemoryError("Not enough contiguous memory available!"
+                    + " Cannot reallocate " + currentSize + " bytes to " + newSize + " bytes", e);
+        }
+        if (newSize > currentSize) {
+            UNSAFE.setMemory(newAddress + currentSize, newSize - currentSize, (byte) 0);
+        }
+        usedMemory.addAndGet(newSize - currentSize);
+        return newAddress;
+    }
+
+    @Override
+    public void free(long address, long size) {
+        UNSAFE.freeMemory(address);
+        usedMemory.addAndGet(-size);
+    }
+
+    /**
+     * @return the number of bytes currently allocated through this allocator
+     */
+    public long getUsedMemory() {
+        return usedMemory.get();
+    }
+
+    @Override
+    public void dispose() {
+        // NOP, blocks are owned and freed by the callers
+    }
+}
@@ -338,6 +338,8 @@ public final class MetricDescriptorConstants {
             "priorityWriteQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COPY_AVOIDED_FRAMES = "copyAvoidedFrames";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COPY_AVOIDED_BYTES = "copyAvoidedBytes";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
@@ -399,6 +401,11 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_ERROR_COUNT = "responses.errorCount";
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSES_MISSING_COUNT = "responses.missingCount";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_BACKUP_TIMEOUTS = "backupTimeouts";
+    public static final String OPERATION_METRIC_BACKUP_HANDLER_BATCH_COUNT = "backupBatches.count";
+    public static final String OPERATION_METRIC_BACKUP_HANDLER_BATCHED_BACKUP_COUNT = "backupBatches.backupCount";
+    public static final String OPERATION_METRIC_BACKUP_HANDLER_BATCHED_BYTES = "backupBatches.bytes";
+    public static final String OPERATION_METRIC_BACKUP_HANDLER_SIZE_FLUSH_COUNT = "backupBatches.sizeFlushCount";
+    public static final String OPERATION_METRIC_BACKUP_HANDLER_WINDOW_FLUSH_COUNT = "backupBatches.windowFlushCount";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_NORMAL_TIMEOUTS = "normalTimeouts";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_HEARTBEAT_PACKETS_RECEIVED = "heartbeatPacketsReceived";
     public static final String OPERATION_METRIC_INVOCATION_MONITOR_HEARTBEAT_PACKETS_SENT = "heartbeatPacketsSent";
@@ -540,10 +547,12 @@ public final class MetricDescriptorConstants {
     public static final String TCP_PREFIX_ACCEPTOR = "tcp.acceptor";
     public static final String TCP_PREFIX_BALANCER = "tcp.balancer";
     public static final String TCP_PREFIX_CONNECTION = "tcp.connection";
+    public static final String TCP_PREFIX_CONNECTION_COMPRESSION = "tcp.connection.compression";
     public static final String TCP_PREFIX_CONNECTION_IN = "tcp.connection.in";
     public static final String TCP_PREFIX_CONNECTION_OUT = "tcp.connection.out";
     public static final String TCP_PREFIX_INPUTTHREAD = "tcp.inputThread";
     public static final String TCP_PREFIX_OUTPUTTHREAD = "tcp.outputThread";
+    public static final String TCP_PREFIX_PACKET_POOL = "tcp.packetPool";
     public static final String TCP_DISCRIMINATOR_BINDADDRESS = "bindAddress";
     public static final String TCP_DISCRIMINATOR_ENDPOINT = "endpoint";
     public static final String TCP_DISCRIMINATOR_PIPELINEID = "pipelineId";
@@ -554,6 +563,18 @@ public final class MetricDescriptorConstants {
     public static final String TCP_METRIC_ACCEPTOR_SELECTOR_RECREATE_COUNT = "selectorRecreateCount";
     public static final String TCP_METRIC_ACCEPTOR_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String TCP_METRIC_CONNECTION_CONNECTION_TYPE = "connectionType";
+    public static final String TCP_METRIC_COMPRESSION_COMPRESSED_PACKETS = "compressedPackets";
+    public static final String TCP_METRIC_COMPRESSION_UNCOMPRESSED_BYTES = "uncompressedBytes";
+    public static final String TCP_METRIC_COMPRESSION_COMPRESSED_BYTES = "compressedBytes";
+    public static final String TCP_METRIC_COMPRESSION_RATIO = "compressionRatio";
+    public static final String TCP_METRIC_COMPRESSION_TIME_NANOS = "compressionTimeNanos";
+    public static final String TCP_METRIC_COMPRESSION_DECOMPRESSED_PACKETS = "decompressedPackets";
+    public static final String TCP_METRIC_COMPRESSION_DECOMPRESSION_TIME_NANOS = "decompressionTimeNanos";
+    public static final String TCP_METRIC_PACKET_POOL_ALLOCATED = "allocated";
+    public static final String TCP_METRIC_PACKET_POOL_REUSED = "reused";
+    public static final String TCP_METRIC_PACKET_POOL_RELEASED = "released";
+    public static final String TCP_METRIC_PACKET_POOL_LEAKED = "leaked";
+    public static final String TCP_METRIC_PACKET_POOL_POOLED_BYTES = "pooledBytes";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_IN_PROGRESS_COUNT = "inProgressCount";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_COUNT = "count";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_ACTIVE_COUNT = "activeCount";
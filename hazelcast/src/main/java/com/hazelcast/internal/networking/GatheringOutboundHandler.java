@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link OutboundHandler} which can hand large payloads over to the
+ * {@link OutboundPipeline} instead of copying them into its dst buffer. The
+ * pipeline writes the dst buffer and the payload to the socket using a single
+ * gathering write, the payload is written directly from its backing array.
+ * <p>
+ * The handing over is enabled only while the handler is the last handler of
+ * the pipeline, i.e. when its dst buffer is the buffer written to the socket.
+ * Once the handler returns a payload, it must not write anything to its dst
+ * buffer until the pipeline calls {@link #payloadWritten()}, the bytes in the
+ * dst buffer precede the payload.
+ */
+public interface GatheringOutboundHandler {
+
+    /**
+     * Enables or disables the handing over of payloads. Called by the
+     * pipeline when the handler becomes or stops being its last handler.
+     */
+    void setGatheringEnabled(boolean enabled);
+
+    /**
+     * Returns the payload to be written to the socket right after the bytes
+     * in the dst buffer or {@code null} if there is none. The position of the
+     * returned buffer is advanced by the pipeline as the payload is written.
+     */
+    ByteBuffer payload();
+
+    /**
+     * Called by the pipeline once the dst buffer and the payload have been
+     * fully written to the socket.
+     */
+    void payloadWritten();
+}
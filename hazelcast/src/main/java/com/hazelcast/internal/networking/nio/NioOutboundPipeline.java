@@ -19,6 +19,7 @@ package com.hazelcast.internal.networking.nio;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelHandler;
+import com.hazelcast.internal.networking.GatheringOutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.networking.OutboundHandler;
@@ -39,6 +40,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COPY_AVOIDED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COPY_AVOIDED_FRAMES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_NORMAL_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN;
@@ -59,6 +62,7 @@ import static com.hazelcast.internal.util.collection.ArrayUtils.append;
 import static com.hazelcast.internal.util.collection.ArrayUtils.replaceFirst;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.System.currentTimeMillis;
 import static java.lang.Thread.currentThread;
 import static java.nio.channels.SelectionKey.OP_WRITE;
@@ -116,6 +120,8 @@ public final class NioOutboundPipeline
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
     private ByteBuffer sendBuffer;
+    private GatheringOutboundHandler gatheringHandler;
+    private final ByteBuffer[] gatheringBuffers = new ByteBuffer[2];
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -124,6 +130,10 @@ public final class NioOutboundPipeline
     private final SwCounter normalFramesWritten = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN, level = DEBUG)
     private final SwCounter priorityFramesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COPY_AVOIDED_FRAMES, level = DEBUG)
+    private final SwCounter copyAvoidedFrames = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COPY_AVOIDED_BYTES, unit = BYTES, level = DEBUG)
+    private final SwCounter copyAvoidedBytes = newSwCounter();
 
     private volatile long lastWriteTime;
 
@@ -322,7 +332,14 @@ public final class NioOutboundPipeline
             }
         }
 
-        flushToSocket();
+        ByteBuffer payload = gatheringHandler == null ? null : gatheringHandler.payload();
+        if (payload == null) {
+            flushToSocket();
+        } else {
+            flushToSocket(payload);
+            // the handler may have more to write once the payload is written
+            pipelineStatus = DIRTY;
+        }
 
         if (migrationRequested()) {
             startMigration();
@@ -442,6 +459,37 @@ public final class NioOutboundPipeline
         //System.out.println(channel + " bytes written:" + written);
     }
 
+    /**
+     * Writes the send buffer followed by the payload handed over by the last
+     * handler using a gathering write, so the payload is not copied into the
+     * send buffer.
+     */
+    private void flushToSocket(ByteBuffer payload) throws IOException {
+        lastWriteTime = currentTimeMillis();
+        // For heap buffers the JDK copies the bytes to a temporary direct buffer
+        // of the same size, so the payload is written at most a send buffer at a time.
+        int payloadLimit = payload.limit();
+        int payloadPosition = payload.position();
+        payload.limit(min(payloadLimit, payloadPosition + sendBuffer.capacity()));
+        gatheringBuffers[0] = sendBuffer;
+        gatheringBuffers[1] = payload;
+        long written;
+        try {
+            written = socketChannel.write(gatheringBuffers);
+        } finally {
+            payload.limit(payloadLimit);
+            gatheringBuffers[0] = null;
+            gatheringBuffers[1] = null;
+        }
+        bytesWritten.inc(written);
+        copyAvoidedBytes.inc(payload.position() - payloadPosition);
+
+        if (!sendBuffer.hasRemaining() && !payload.hasRemaining()) {
+            copyAvoidedFrames.inc();
+            gatheringHandler.payloadWritten();
+        }
+    }
+
     void drainWriteQueues() {
         writeQueue.clear();
         priorityWriteQueue.clear();
@@ -514,6 +562,17 @@ public final class NioOutboundPipeline
     private void updatePipeline(OutboundHandler[] newHandlers) {
         this.handlers = newHandlers;
         this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
+        this.gatheringHandler = null;
+        for (int k = 0; k < newHandlers.length; k++) {
+            if (newHandlers[k] instanceof GatheringOutboundHandler handler) {
+                // only the last handler writes directly to the socket
+                boolean last = k == newHandlers.length - 1;
+                handler.setGatheringEnabled(last);
+                if (last) {
+                    gatheringHandler = handler;
+                }
+            }
+        }
 
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
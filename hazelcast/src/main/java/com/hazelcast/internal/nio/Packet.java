@@ -45,6 +45,8 @@ public final class Packet extends HeapData implements OutboundFrame {
     // 2. Packet type (bits 0, 2, 5)
     // 3. Flags specific to a given packet type (bits 1, 6)
     // 4. 4.x flag (bit 7)
+    // 5. COMPRESSED flag (bit 8)
+    // 6. BATCH flag (bit 9)
 
     // 1. URGENT flag
 
@@ -101,6 +103,20 @@ public final class Packet extends HeapData implements OutboundFrame {
      */
     public static final int FLAG_4_0 = 1 << 7;
 
+    // 5. Compression flag
+
+    /**
+     * Marks a packet whose payload is compressed by the sending member
+     */
+    public static final int FLAG_COMPRESSED = 1 << 8;
+
+    // 6. Batch flag
+
+    /**
+     * Marks a packet whose payload is a sequence of packets, see {@link PacketBatch}
+     */
+    public static final int FLAG_BATCH = 1 << 9;
+
     //            END OF HEADER FLAG SECTION
 
 
@@ -109,6 +125,9 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     private int partitionId;
     private transient ServerConnection conn;
+    // set if the payload is borrowed from a pool
+    private transient PacketPayloadPool payloadPool;
+    private transient PacketPayloadPool.LeakTracker leakTracker;
 
     public Packet() {
         raiseFlags(FLAG_4_0);
@@ -147,6 +166,48 @@ public final class Packet extends HeapData implements OutboundFrame {
         return this;
     }
 
+    /**
+     * Marks the payload of this packet as borrowed from the given pool.
+     */
+    void setPooledPayload(PacketPayloadPool payloadPool) {
+        this.payloadPool = payloadPool;
+        this.leakTracker = payloadPool.track(this);
+    }
+
+    /**
+     * Returns the payload of this packet to the pool it was borrowed from, if
+     * any. Must be called only by the consumer of the packet once it is done
+     * with the payload; the packet has no payload afterwards.
+     */
+    public void releasePayload() {
+        PacketPayloadPool pool = payloadPool;
+        if (pool == null) {
+            return;
+        }
+
+        byte[] pooledPayload = payload;
+        payloadPool = null;
+        payload = null;
+        if (leakTracker != null) {
+            leakTracker.released = true;
+            leakTracker = null;
+        }
+        pool.release(pooledPayload);
+    }
+
+    /**
+     * Stops tracking the pooled payload of this packet without returning it
+     * to the pool, for when the consumer of the packet may keep referencing
+     * it. The packet keeps its payload.
+     */
+    public void detachPayload() {
+        payloadPool = null;
+        if (leakTracker != null) {
+            leakTracker.released = true;
+            leakTracker = null;
+        }
+    }
+
     public Type getPacketType() {
         return Type.fromFlags(flags);
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_BATCH;
+
+/**
+ * Packs multiple {@link Packet packets} sent to the same member into a single
+ * one and unpacks them on the receiving side.
+ * <p>
+ * The payload of the batch packet is the sequence of the packets in their
+ * wire format, see {@link PacketIOHelper}. The batch packet carries the
+ * partition ID of its first packet so that it is sent over the same plane of
+ * the connection as that packet would be if sent alone. The receiver unpacks
+ * the packets on the IO thread and handles them in the order in which they
+ * were packed.
+ * <p>
+ * A batch packet can be sent only to members which know the {@link
+ * Packet#FLAG_BATCH} flag, that is to members of version 6.0 or newer.
+ */
+public final class PacketBatch {
+
+    private PacketBatch() {
+    }
+
+    /**
+     * Packs the given packets into a single batch packet.
+     *
+     * @param packets the packets to pack, must not be empty
+     * @return the batch packet
+     */
+    public static Packet pack(List<Packet> packets) {
+        assert !packets.isEmpty();
+        int size = 0;
+        for (Packet packet : packets) {
+            size += packet.getFrameLength();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        PacketIOHelper writer = new PacketIOHelper();
+        for (Packet packet : packets) {
+            boolean written = writer.writeTo(packet, buffer);
+            assert written;
+        }
+        return new Packet(buffer.array(), packets.get(0).getPartitionId())
+                .raiseFlags(FLAG_BATCH);
+    }
+
+    /**
+     * Unpacks the packets of the given batch packet.
+     *
+     * @param batch the batch packet
+     * @return the packets in the order in which they were packed
+     * @throws IllegalArgumentException if the batch packet is malformed
+     */
+    public static List<Packet> unpack(Packet batch) {
+        assert batch.isFlagRaised(FLAG_BATCH);
+        ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+        PacketIOHelper reader = new PacketIOHelper();
+        List<Packet> packets = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            Packet packet = reader.readFrom(buffer);
+            if (packet == null) {
+                throw new IllegalArgumentException("Truncated packet in a batch: " + batch);
+            }
+            packets.add(packet);
+        }
+        return packets;
+    }
+}
@@ -21,6 +21,10 @@ import java.nio.ByteBuffer;
 import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Packet.FLAG_BATCH;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_CONTROL;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
 import static com.hazelcast.internal.nio.Packet.VERSION;
 
 /**
@@ -44,6 +48,20 @@ public class PacketIOHelper {
     private char flags;
     private int partitionId;
     private byte[] payload;
+    private boolean payloadPooled;
+    private final PacketPayloadPool payloadPool;
+
+    public PacketIOHelper() {
+        this(null);
+    }
+
+    /**
+     * @param payloadPool the pool of the payloads of the read operation
+     *                    packets or {@code null} to not pool them
+     */
+    public PacketIOHelper(PacketPayloadPool payloadPool) {
+        this.payloadPool = payloadPool;
+    }
 
     /**
      * Writes the packet data to the supplied {@code ByteBuffer}, up to the buffer's limit. If it returns {@code false},
@@ -54,15 +72,10 @@ public class PacketIOHelper {
      */
     public boolean writeTo(Packet packet, ByteBuffer dst) {
         if (!headerComplete) {
-            if (dst.remaining() < HEADER_SIZE) {
+            if (!writeHeaderTo(packet, dst)) {
                 return false;
             }
-
-            dst.put(VERSION);
-            dst.putChar(packet.getFlags());
-            dst.putInt(packet.getPartitionId());
             size = packet.totalSize();
-            dst.putInt(size);
             headerComplete = true;
         }
 
@@ -74,6 +87,28 @@ public class PacketIOHelper {
         }
     }
 
+    /**
+     * Writes only the header of the packet to the supplied {@code ByteBuffer},
+     * the caller is responsible for writing the payload right after it. Must
+     * not be called while another packet is being written by {@link #writeTo}.
+     *
+     * @param dst the destination byte buffer
+     * @return {@code true} if the header is written; {@code false} if there
+     * is not enough space in the buffer.
+     */
+    public boolean writeHeaderTo(Packet packet, ByteBuffer dst) {
+        assert !headerComplete;
+        if (dst.remaining() < HEADER_SIZE) {
+            return false;
+        }
+
+        dst.put(VERSION);
+        dst.putChar(packet.getFlags());
+        dst.putInt(packet.getPartitionId());
+        dst.putInt(packet.totalSize());
+        return true;
+    }
+
     private boolean writeValue(Packet packet, ByteBuffer dst) {
         if (size > 0) {
             // the number of bytes that can be written to the bb.
@@ -132,6 +167,9 @@ public class PacketIOHelper {
 
         if (readValue(src)) {
             Packet packet = new Packet(payload, partitionId).resetFlagsTo(flags);
+            if (payloadPooled) {
+                packet.setPooledPayload(payloadPool);
+            }
             reset();
             return packet;
         } else {
@@ -142,12 +180,14 @@ public class PacketIOHelper {
     private void reset() {
         headerComplete = false;
         payload = null;
+        payloadPooled = false;
         valueOffset = 0;
     }
 
     private boolean readValue(ByteBuffer src) {
         if (payload == null) {
-            payload = new byte[size];
+            payloadPooled = isPayloadPooled();
+            payload = payloadPooled ? payloadPool.allocate(size) : new byte[size];
         }
 
         if (size > 0) {
@@ -177,4 +217,17 @@ public class PacketIOHelper {
         return true;
     }
 
+    /**
+     * Only the payloads of the operations run by the operation executor are
+     * pooled. Their packets are released right after the operation is
+     * deserialized, or detached from the pool if the operation may reference
+     * the payload, see {@link PacketPayloadPool#isReleasedAfterDeserialization(Object)}.
+     * The payload of a compressed packet is replaced when decompressed.
+     */
+    private boolean isPayloadPooled() {
+        return payloadPool != null
+                && payloadPool.isPooled(size)
+                && Packet.Type.fromFlags(flags) == Packet.Type.OPERATION
+                && (flags & (FLAG_OP_RESPONSE | FLAG_OP_CONTROL | FLAG_COMPRESSED | FLAG_BATCH)) == 0;
+    }
 }
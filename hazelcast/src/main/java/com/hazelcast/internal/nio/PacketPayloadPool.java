@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_POOL_ALLOCATED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_POOL_LEAKED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_POOL_POOLED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_POOL_RELEASED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_PACKET_POOL_REUSED;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * A pool of the byte arrays backing the payloads of the inbound
+ * {@link Packet packets}.
+ * <p>
+ * A Packet is a {@link HeapData} and the length of its payload array is the
+ * size of the payload, so an array can only be reused for a payload of
+ * exactly the same size. The pool keeps a bounded queue of free arrays for
+ * each size up to {@code maxPayloadSize}. The payloads of the operations sent
+ * between members repeat a few sizes, e.g. the operations on a map with fixed
+ * size keys and values, so most of them are served from the pool. The total
+ * size of the pooled arrays is bounded as well.
+ * <p>
+ * The arrays are allocated by the IO threads and released by the threads
+ * consuming the packets, so the pool is thread-safe. A payload has a single
+ * owner: the consumer of its packet releases it using
+ * {@link Packet#releasePayload()} once it is done with it.
+ * <p>
+ * A payload must only be returned to the pool when nothing references it
+ * any more. The operations deserialized by Hazelcast's own
+ * {@link IdentifiedDataSerializable} factories read their {@code Data}
+ * fields with {@code readData()}, which copies them out of the input, so
+ * their payloads are released right after deserialization. The payloads of
+ * all the other operations, e.g. the ones of user factories whose
+ * serialization may keep a view of the input, are not reused, see
+ * {@link #isReleasedAfterDeserialization(Object)}.
+ * <p>
+ * With leak detection enabled, a warning is logged when a packet holding a
+ * pooled payload is garbage collected without releasing it. It is enabled
+ * by default when assertions are enabled.
+ */
+public final class PacketPayloadPool {
+
+    /**
+     * The upper bound of the maximum pooled payload size. The pool keeps a
+     * slot for each size, so the maximum must stay small.
+     */
+    public static final int MAX_PAYLOAD_SIZE_LIMIT = 64 * 1024;
+
+    static final int QUEUE_CAPACITY = 128;
+    static final long MAX_POOLED_BYTES = 64L * 1024 * 1024;
+
+    @Probe(name = TCP_METRIC_PACKET_POOL_ALLOCATED, level = DEBUG)
+    private final Counter allocated = newMwCounter();
+    @Probe(name = TCP_METRIC_PACKET_POOL_REUSED, level = DEBUG)
+    private final Counter reused = newMwCounter();
+    @Probe(name = TCP_METRIC_PACKET_POOL_RELEASED, level = DEBUG)
+    private final Counter released = newMwCounter();
+    @Probe(name = TCP_METRIC_PACKET_POOL_LEAKED, level = DEBUG)
+    private final Counter leaked = newMwCounter();
+    @Probe(name = TCP_METRIC_PACKET_POOL_POOLED_BYTES, unit = BYTES, level = DEBUG)
+    private final AtomicLong pooledBytes = new AtomicLong();
+
+    private final int maxPayloadSize;
+    private final AtomicReferenceArray<ArrayBlockingQueue<byte[]>> queues;
+    private final Cleaner cleaner;
+    private final ILogger logger = Logger.getLogger(PacketPayloadPool.class);
+
+    public PacketPayloadPool(int maxPayloadSize) {
+        this(maxPayloadSize, PacketPayloadPool.class.desiredAssertionStatus());
+    }
+
+    public PacketPayloadPool(int maxPayloadSize, boolean leakDetection) {
+        this.maxPayloadSize = checkPositive("maxPayloadSize", maxPayloadSize);
+        checkTrue(maxPayloadSize <= MAX_PAYLOAD_SIZE_LIMIT,
+                "maxPayloadSize must not be greater than " + MAX_PAYLOAD_SIZE_LIMIT + ", was " + maxPayloadSize);
+        this.queues = new AtomicReferenceArray<>(maxPayloadSize + 1);
+        this.cleaner = leakDetection ? Cleaner.create() : null;
+    }
+
+    /**
+     * Checks if the payload an operation was deserialized from can be
+     * returned to the pool right after deserialization, i.e. the operation is
+     * known not to reference it. This is the case for the operations of
+     * Hazelcast's own {@link IdentifiedDataSerializable} factories, which
+     * have negative factory IDs.
+     */
+    public static boolean isReleasedAfterDeserialization(Object operation) {
+        return operation instanceof IdentifiedDataSerializable serializable
+                && serializable.getFactoryId() < 0;
+    }
+
+    /**
+     * Checks if a payload of the given size is pooled.
+     */
+    public boolean isPooled(int size) {
+        return size > 0 && size <= maxPayloadSize;
+    }
+
+    /**
+     * Returns an array for a payload of the given size, a pooled one if
+     * available. The content of the array is undefined.
+     *
+     * @throws IllegalArgumentException if a payload of the given size is not
+     *                                  pooled
+     * @see #isPooled(int)
+     */
+    public byte[] allocate(int size) {
+        if (!isPooled(size)) {
+            throw new IllegalArgumentException("Payload of size " + size + " is not pooled");
+        }
+
+        allocated.inc();
+        ArrayBlockingQueue<byte[]> queue = queues.get(size);
+        byte[] payload = queue == null ? null : queue.poll();
+        if (payload == null) {
+            return new byte[size];
+        }
+        pooledBytes.addAndGet(-size);
+        reused.inc();
+        return payload;
+    }
+
+    /**
+     * Returns the payload to the pool. It is dropped if the pool is full.
+     */
+    void release(byte[] payload) {
+        released.inc();
+        int size = payload.length;
+        if (pooledBytes.get() + size > MAX_POOLED_BYTES) {
+            return;
+        }
+
+        ArrayBlockingQueue<byte[]> queue = queues.get(size);
+        if (queue == null) {
+            queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            if (!queues.compareAndSet(size, null, queue)) {
+                queue = queues.get(size);
+            }
+        }
+        if (queue.offer(payload)) {
+            pooledBytes.addAndGet(size);
+        }
+    }
+
+    /**
+     * Starts tracking the pooled payload of the packet if leak detection is
+     * enabled.
+     *
+     * @return the tracker to mark as released when the payload is released or
+     * {@code null} if leak detection is disabled
+     */
+    LeakTracker track(Packet packet) {
+        if (cleaner == null) {
+            return null;
+        }
+
+        // the tracker must not reference the packet, otherwise it is never collected
+        LeakTracker tracker = new LeakTracker(packet.toString());
+        cleaner.register(packet, tracker);
+        return tracker;
+    }
+
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    public long leaked() {
+        return leaked.get();
+    }
+
+    final class LeakTracker implements Runnable {
+
+        volatile boolean released;
+        private final String packet;
+
+        private LeakTracker(String packet) {
+            this.packet = packet;
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                leaked.inc();
+                logger.warning("The pooled payload of " + packet + " was not released");
+            }
+        }
+    }
+}
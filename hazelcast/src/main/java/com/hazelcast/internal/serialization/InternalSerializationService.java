@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.Disposable;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactPrimitiveField;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.impl.ExplodeSnapshotP;
@@ -30,6 +31,7 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.partition.PartitioningStrategy;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.nio.ByteOrder;
 
@@ -136,6 +138,19 @@ public interface InternalSerializationService extends SerializationService, Disp
      */
     Schema extractSchemaFromData(@Nonnull Data data) throws IOException;
 
+    /**
+     * Used to read a fixed-size primitive field of Compact data in place for
+     * query purposes, without deserializing the data.
+     *
+     * @param data      the Compact data
+     * @param fieldName the name of the top level field
+     * @return the reader of the field, or {@code null} if the schema of the
+     * data has no fixed-size primitive field with the given name
+     * @throws IllegalArgumentException if given data is not in the Compact format
+     */
+    @Nullable
+    CompactPrimitiveField getCompactPrimitiveField(@Nonnull Data data, @Nonnull String fieldName);
+
     /**
      * @param object to extract the schema from
      * @return schema of the given Compact Data
@@ -20,6 +20,7 @@ import com.hazelcast.core.HazelcastJsonValue;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.DataType;
+import com.hazelcast.internal.serialization.impl.compact.CompactPrimitiveField;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.defaultserializers.ArrayBlockingQueueStreamSerializer;
 import com.hazelcast.internal.serialization.impl.defaultserializers.ArrayDequeStreamSerializer;
@@ -228,6 +229,14 @@ public class SerializationServiceV1 extends AbstractSerializationService {
         return compactStreamSerializer.extractSchema(createObjectDataInput(data));
     }
 
+    @Override
+    public CompactPrimitiveField getCompactPrimitiveField(@Nonnull Data data, @Nonnull String fieldName) {
+        if (!data.isCompact()) {
+            throw new IllegalArgumentException("Can not read a field of given data type " + data.getType());
+        }
+        return compactStreamSerializer.getPrimitiveField(data, fieldName);
+    }
+
     @Override
     public Schema extractSchemaFromObject(@Nonnull Object object) {
         if (!isCompactSerializable(object)) {
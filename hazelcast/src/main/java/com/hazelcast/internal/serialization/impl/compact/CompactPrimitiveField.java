@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+
+/**
+ * Reads a fixed-size primitive field of Compact serialized data in place,
+ * straight from the bytes of the {@link Data}, without creating a record or
+ * an input over the data and without boxing the value.
+ * <p>
+ * The position of such a field in the data only depends on the schema, so
+ * the fields of a schema are created once and cached by the
+ * {@link CompactStreamSerializer}.
+ */
+public final class CompactPrimitiveField {
+
+    private final FieldKind kind;
+    private final int position;
+    private final int bitOffset;
+    private final boolean bigEndian;
+
+    private CompactPrimitiveField(FieldKind kind, int position, int bitOffset, boolean bigEndian) {
+        this.kind = kind;
+        this.position = position;
+        this.bitOffset = bitOffset;
+        this.bigEndian = bigEndian;
+    }
+
+    /**
+     * Creates the fields of the given schema which can be read in place,
+     * mapped by their names.
+     */
+    static Map<String, CompactPrimitiveField> fieldsOf(Schema schema, boolean bigEndian) {
+        // the schema id, followed by the length of the data if there are
+        // variable-size fields, precedes the fixed-size fields
+        int dataStartPosition = DATA_OFFSET + LONG_SIZE_IN_BYTES
+                + (schema.getNumberOfVariableSizeFields() != 0 ? INT_SIZE_IN_BYTES : 0);
+        Map<String, CompactPrimitiveField> fields = new HashMap<>();
+        for (FieldDescriptor fd : schema.getFields()) {
+            if (isPrimitive(fd.getKind())) {
+                fields.put(fd.getFieldName(), new CompactPrimitiveField(fd.getKind(),
+                        dataStartPosition + fd.getOffset(), fd.getBitOffset(), bigEndian));
+            }
+        }
+        return fields;
+    }
+
+    private static boolean isPrimitive(FieldKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT32:
+            case FLOAT64:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Nonnull
+    public FieldKind getKind() {
+        return kind;
+    }
+
+    public boolean readBoolean(Data data) {
+        return ((data.toByteArray()[position] >>> bitOffset) & 1) != 0;
+    }
+
+    public byte readInt8(Data data) {
+        return data.toByteArray()[position];
+    }
+
+    public short readInt16(Data data) {
+        return Bits.readShort(data.toByteArray(), position, bigEndian);
+    }
+
+    public int readInt32(Data data) {
+        return Bits.readInt(data.toByteArray(), position, bigEndian);
+    }
+
+    public long readInt64(Data data) {
+        return Bits.readLong(data.toByteArray(), position, bigEndian);
+    }
+
+    public float readFloat32(Data data) {
+        return Float.intBitsToFloat(readInt32(data));
+    }
+
+    public double readFloat64(Data data) {
+        return Double.longBitsToDouble(readInt64(data));
+    }
+
+    /**
+     * Reads the value of the field boxed, for the callers which expect an
+     * object, like the query getters.
+     */
+    @Nonnull
+    public Object read(Data data) {
+        switch (kind) {
+            case BOOLEAN:
+                return readBoolean(data);
+            case INT8:
+                return readInt8(data);
+            case INT16:
+                return readInt16(data);
+            case INT32:
+                return readInt32(data);
+            case INT64:
+                return readInt64(data);
+            case FLOAT32:
+                return readFloat32(data);
+            case FLOAT64:
+                return readFloat64(data);
+            default:
+                throw new IllegalStateException("Unexpected field kind: " + kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompactPrimitiveField{"
+                + "kind=" + kind
+                + ", position=" + position
+                + '}';
+    }
+}
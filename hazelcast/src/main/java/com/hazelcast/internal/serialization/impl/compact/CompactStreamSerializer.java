@@ -20,9 +20,11 @@ import com.hazelcast.config.CompactSerializationConfig;
 import com.hazelcast.config.CompactSerializationConfigAccessor;
 import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.core.ManagedContext;
+import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.AbstractSerializationService;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.record.JavaRecordSerializer;
@@ -36,13 +38,16 @@ import com.hazelcast.nio.serialization.compact.CompactSerializer;
 import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.nio.ByteOrder;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.hazelcast.internal.serialization.impl.FieldOperations.fieldOperations;
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
 import static com.hazelcast.internal.serialization.impl.SerializationConstants.TYPE_COMPACT;
 
 /**
@@ -59,6 +64,7 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
     private final Map<Class, CompactSerializableRegistration> classToRegistrationMap = new ConcurrentHashMap<>();
     private final Map<String, CompactSerializableRegistration> typeNameToRegistrationMap = new ConcurrentHashMap<>();
     private final Map<Class, Schema> classToSchemaMap = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, CompactPrimitiveField>> schemaIdToPrimitiveFieldsMap = new ConcurrentHashMap<>();
     private final ReflectiveCompactSerializer reflectiveSerializer = new ReflectiveCompactSerializer(this);
     private final JavaRecordSerializer javaRecordSerializer = new JavaRecordSerializer(this);
     private final SchemaService schemaService;
@@ -285,6 +291,27 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
         return new CompactInternalGenericRecord(this, input, schema, null, false);
     }
 
+    /**
+     * Returns the in place reader of the given fixed-size primitive field of
+     * the Compact data, or {@code null} if the schema of the data is not known
+     * or has no such field.
+     */
+    @Nullable
+    public CompactPrimitiveField getPrimitiveField(Data data, String fieldName) {
+        boolean bigEndian = serializationService.getByteOrder() == ByteOrder.BIG_ENDIAN;
+        long schemaId = Bits.readLong(data.toByteArray(), DATA_OFFSET, bigEndian);
+        Map<String, CompactPrimitiveField> fields = schemaIdToPrimitiveFieldsMap.get(schemaId);
+        if (fields == null) {
+            Schema schema = schemaService.get(schemaId);
+            if (schema == null) {
+                return null;
+            }
+            fields = schemaIdToPrimitiveFieldsMap.computeIfAbsent(schemaId,
+                    id -> CompactPrimitiveField.fieldsOf(schema, bigEndian));
+        }
+        return fields.get(fieldName);
+    }
+
     private void registerSerializers(CompactSerializationConfig compactSerializationConfig) {
         Map<String, TriTuple<Class, String, CompactSerializer>> registrations
                 = CompactSerializationConfigAccessor.getRegistrations(compactSerializationConfig);
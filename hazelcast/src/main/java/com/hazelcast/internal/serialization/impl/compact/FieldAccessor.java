@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+
+/**
+ * Reads and writes a field of the objects serialized by the
+ * {@link ReflectiveCompactSerializer}.
+ * <p>
+ * The field is accessed at its offset in the object, which compiles into a
+ * plain load or store without the access and type checks of {@link Field}
+ * reflection on every call. The caller must only pass instances of the class
+ * declaring the field or its subclasses.
+ * <p>
+ * Falls back to reflection if the offset of the field is not available, i.e.
+ * for records and hidden classes or if the memory accessor is not available,
+ * and for volatile fields, whose accesses must keep their memory semantics.
+ */
+public final class FieldAccessor {
+
+    private static final long NO_OFFSET = -1;
+
+    private final Field field;
+    private final Class<?> type;
+    private final long offset;
+
+    private FieldAccessor(Field field, long offset) {
+        this.field = field;
+        this.type = field.getType();
+        this.offset = offset;
+    }
+
+    /**
+     * Creates the accessor of the given field, makes it accessible.
+     */
+    public static FieldAccessor of(Field field) {
+        field.setAccessible(true);
+        return new FieldAccessor(field, offsetOf(field));
+    }
+
+    private static long offsetOf(Field field) {
+        if (!MEM_AVAILABLE || Modifier.isVolatile(field.getModifiers())) {
+            return NO_OFFSET;
+        }
+
+        try {
+            return MEM.objectFieldOffset(field);
+        } catch (UnsupportedOperationException e) {
+            // records and hidden classes
+            return NO_OFFSET;
+        }
+    }
+
+    /**
+     * Checks if the field is accessed at its offset rather than reflectively.
+     */
+    public boolean isDirect() {
+        return offset != NO_OFFSET;
+    }
+
+    public boolean getBoolean(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getBoolean(o, offset) : field.getBoolean(o);
+    }
+
+    public void setBoolean(Object o, boolean value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putBoolean(o, offset, value);
+        } else {
+            field.setBoolean(o, value);
+        }
+    }
+
+    public byte getByte(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getByte(o, offset) : field.getByte(o);
+    }
+
+    public void setByte(Object o, byte value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putByte(o, offset, value);
+        } else {
+            field.setByte(o, value);
+        }
+    }
+
+    public char getChar(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getChar(o, offset) : field.getChar(o);
+    }
+
+    public void setChar(Object o, char value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putChar(o, offset, value);
+        } else {
+            field.setChar(o, value);
+        }
+    }
+
+    public short getShort(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getShort(o, offset) : field.getShort(o);
+    }
+
+    public void setShort(Object o, short value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putShort(o, offset, value);
+        } else {
+            field.setShort(o, value);
+        }
+    }
+
+    public int getInt(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getInt(o, offset) : field.getInt(o);
+    }
+
+    public void setInt(Object o, int value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putInt(o, offset, value);
+        } else {
+            field.setInt(o, value);
+        }
+    }
+
+    public long getLong(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getLong(o, offset) : field.getLong(o);
+    }
+
+    public void setLong(Object o, long value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putLong(o, offset, value);
+        } else {
+            field.setLong(o, value);
+        }
+    }
+
+    public float getFloat(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getFloat(o, offset) : field.getFloat(o);
+    }
+
+    public void setFloat(Object o, float value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putFloat(o, offset, value);
+        } else {
+            field.setFloat(o, value);
+        }
+    }
+
+    public double getDouble(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getDouble(o, offset) : field.getDouble(o);
+    }
+
+    public void setDouble(Object o, double value) throws IllegalAccessException {
+        if (offset != NO_OFFSET) {
+            MEM.putDouble(o, offset, value);
+        } else {
+            field.setDouble(o, value);
+        }
+    }
+
+    public Object get(Object o) throws IllegalAccessException {
+        return offset != NO_OFFSET ? MEM.getObject(o, offset) : field.get(o);
+    }
+
+    public void set(Object o, Object value) throws IllegalAccessException {
+        // a value of the wrong type must not be stored unchecked, leave it to
+        // reflection to reject it
+        if (offset != NO_OFFSET && (value == null || type.isInstance(value))) {
+            MEM.putObject(o, offset, value);
+        } else {
+            field.set(o, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FieldAccessor{field=" + field + ", direct=" + isDirect() + '}';
+    }
+}
@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.compact;
 
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
+import com.hazelcast.nio.serialization.FieldKind;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.compact.CompactReader;
 import com.hazelcast.nio.serialization.compact.CompactSerializer;
@@ -66,7 +67,7 @@ import static java.util.stream.Collectors.toList;
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
-    private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, ClassReaderWriters> readerWritersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -96,11 +97,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean writeFast(Class clazz, CompactWriter compactWriter, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readerWriters) {
             try {
                 readerWriter.write(compactWriter, object);
             } catch (Exception e) {
@@ -111,13 +112,13 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
 
         Schema schema = compactReader.getSchema();
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readersFor(schema)) {
             try {
                 readerWriter.read(compactReader, schema, object);
             } catch (Exception e) {
@@ -176,122 +177,106 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
         int index = 0;
         for (Field field : allFields) {
-            field.setAccessible(true);
+            FieldAccessor accessor = FieldAccessor.of(field);
             Class<?> type = field.getType();
             String name = field.getName();
 
 
             // Use normal reader-writers for the primitive types to avoid boxing-unboxing
             if (Byte.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT8, NULLABLE_INT8) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT8, NULLABLE_INT8)) {
-                            field.setByte(o, reader.readInt8(name));
-                        }
+                        accessor.setByte(o, reader.readInt8(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt8(name, field.getByte(o));
+                        writer.writeInt8(name, accessor.getByte(o));
                     }
                 };
             } else if (Character.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT16, NULLABLE_INT16) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setChar(o, (char) reader.readInt16(name));
-                        }
+                        accessor.setChar(o, (char) reader.readInt16(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt16(name, (short) field.getChar(o));
+                        writer.writeInt16(name, (short) accessor.getChar(o));
                     }
                 };
             } else if (Short.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT16, NULLABLE_INT16) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setShort(o, reader.readInt16(name));
-                        }
+                        accessor.setShort(o, reader.readInt16(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt16(name, field.getShort(o));
+                        writer.writeInt16(name, accessor.getShort(o));
                     }
                 };
             } else if (Integer.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT32, NULLABLE_INT32) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT32, NULLABLE_INT32)) {
-                            field.setInt(o, reader.readInt32(name));
-                        }
+                        accessor.setInt(o, reader.readInt32(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt32(name, field.getInt(o));
+                        writer.writeInt32(name, accessor.getInt(o));
                     }
                 };
             } else if (Long.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT64, NULLABLE_INT64) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT64, NULLABLE_INT64)) {
-                            field.setLong(o, reader.readInt64(name));
-                        }
+                        accessor.setLong(o, reader.readInt64(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt64(name, field.getLong(o));
+                        writer.writeInt64(name, accessor.getLong(o));
                     }
                 };
             } else if (Float.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, FLOAT32, NULLABLE_FLOAT32) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32)) {
-                            field.setFloat(o, reader.readFloat32(name));
-                        }
+                        accessor.setFloat(o, reader.readFloat32(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeFloat32(name, field.getFloat(o));
+                        writer.writeFloat32(name, accessor.getFloat(o));
                     }
                 };
             } else if (Double.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, FLOAT64, NULLABLE_FLOAT64) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64)) {
-                            field.setDouble(o, reader.readFloat64(name));
-                        }
+                        accessor.setDouble(o, reader.readFloat64(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeFloat64(name, field.getDouble(o));
+                        writer.writeFloat64(name, accessor.getDouble(o));
                     }
                 };
             } else if (Boolean.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, BOOLEAN, NULLABLE_BOOLEAN) {
                     @Override
                     public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN)) {
-                            field.setBoolean(o, reader.readBoolean(name));
-                        }
+                        accessor.setBoolean(o, reader.readBoolean(name));
                     }
 
                     @Override
                     public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeBoolean(name, field.getBoolean(o));
+                        writer.writeBoolean(name, accessor.getBoolean(o));
                     }
                 };
             } else {
@@ -299,39 +284,98 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                 readerWriters[index] = new ReaderWriterAdapter(
                         ValueReaderWriters.readerWriterFor(compactStreamSerializer, clazz, type,
                                 field.getGenericType(), name),
-                        field
+                        accessor
                 );
             }
 
             index++;
         }
 
-        readerWritersCache.put(clazz, readerWriters);
+        readerWritersCache.put(clazz, new ClassReaderWriters(readerWriters));
+    }
+
+    /**
+     * The reader-writers of the fields of a class. The readers of the fields
+     * present in a schema are bound to it once, so that reading an object
+     * doesn't check the schema for every field.
+     */
+    private static final class ClassReaderWriters {
+
+        private final ReaderWriter[] readerWriters;
+        private final Map<Schema, ReaderWriter[]> readersBySchema = new ConcurrentHashMap<>();
+
+        ClassReaderWriters(ReaderWriter[] readerWriters) {
+            this.readerWriters = readerWriters;
+        }
+
+        ReaderWriter[] readersFor(Schema schema) {
+            ReaderWriter[] readers = readersBySchema.get(schema);
+            if (readers == null) {
+                readers = Arrays.stream(readerWriters)
+                        .filter(readerWriter -> readerWriter.isReadable(schema))
+                        .toArray(ReaderWriter[]::new);
+                readersBySchema.putIfAbsent(schema, readers);
+            }
+            return readers;
+        }
     }
 
     private static final class ReaderWriterAdapter implements ReaderWriter {
 
         private final ValueReaderWriter readerWriter;
-        private final Field field;
+        private final FieldAccessor accessor;
 
 
-        ReaderWriterAdapter(ValueReaderWriter readerWriter, Field field) {
+        ReaderWriterAdapter(ValueReaderWriter readerWriter, FieldAccessor accessor) {
             this.readerWriter = readerWriter;
-            this.field = field;
+            this.accessor = accessor;
+        }
+
+        @Override
+        public boolean isReadable(Schema schema) {
+            // the value reader-writers check the schema by themselves
+            return true;
         }
 
         @Override
         public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-            field.set(o, readerWriter.read(reader, schema));
+            accessor.set(o, readerWriter.read(reader, schema));
         }
 
         @Override
         public void write(CompactWriter writer, Object o) throws Exception {
-            readerWriter.write(writer, field.get(o));
+            readerWriter.write(writer, accessor.get(o));
+        }
+    }
+
+    private abstract static class PrimitiveReaderWriter implements ReaderWriter {
+
+        final String name;
+        private final FieldKind kind;
+        private final FieldKind nullableKind;
+
+        PrimitiveReaderWriter(String name, FieldKind kind, FieldKind nullableKind) {
+            this.name = name;
+            this.kind = kind;
+            this.nullableKind = nullableKind;
+        }
+
+        @Override
+        public boolean isReadable(Schema schema) {
+            return isFieldExist(schema, name, kind, nullableKind);
         }
     }
 
     private interface ReaderWriter {
+        /**
+         * Checks if the field is read from the data of the given schema. If
+         * not, the field keeps its default value.
+         */
+        boolean isReadable(Schema schema);
+
+        /**
+         * Reads the field, called only if {@link #isReadable} for the schema.
+         */
         void read(CompactReader reader, Schema schema, Object o) throws Exception;
 
         void write(CompactWriter writer, Object o) throws Exception;
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.Counter;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_COMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_COMPRESSED_PACKETS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_DECOMPRESSED_PACKETS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_DECOMPRESSION_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_UNCOMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * Compresses the payloads of the {@link Packet packets} sent over a member
+ * connection and decompresses the payloads of the received ones.
+ * <p>
+ * Each direction of the connection uses a single deflate stream which is
+ * flushed after every compressed packet. The packets are decompressed in the
+ * order in which they were compressed, so every packet is compressed against
+ * the preceding ones: the class names, schemas and other headers repeated
+ * across packets are encoded as references to their previous occurrences,
+ * the stream acts as a dictionary trained on the traffic of the connection.
+ * Packets with a payload smaller than the threshold are sent uncompressed and
+ * are not part of the stream.
+ * <p>
+ * The outbound compression is enabled once the remote member announces in its
+ * {@link com.hazelcast.internal.cluster.impl.MemberHandshake MemberHandshake}
+ * that it supports compression. The outbound methods are called by the
+ * outbound pipeline only and the inbound methods by the inbound pipeline only.
+ *
+ * @see PacketEncoder
+ * @see PacketDecoder
+ */
+public final class PacketCompression {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    @Probe(name = TCP_METRIC_COMPRESSION_COMPRESSED_PACKETS, level = DEBUG)
+    private final Counter compressedPackets = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_UNCOMPRESSED_BYTES, unit = BYTES, level = DEBUG)
+    private final Counter uncompressedBytes = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_COMPRESSED_BYTES, unit = BYTES, level = DEBUG)
+    private final Counter compressedBytes = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_TIME_NANOS, unit = NS, level = DEBUG)
+    private final Counter compressionTimeNanos = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_DECOMPRESSED_PACKETS, level = DEBUG)
+    private final Counter decompressedPackets = newSwCounter();
+    @Probe(name = TCP_METRIC_COMPRESSION_DECOMPRESSION_TIME_NANOS, unit = NS, level = DEBUG)
+    private final Counter decompressionTimeNanos = newSwCounter();
+
+    private final int threshold;
+    private final byte[] scratch = new byte[1];
+
+    private volatile boolean outboundEnabled;
+    // volatile so that close() sees the streams created by the pipelines
+    private volatile Deflater deflater;
+    private byte[] buffer;
+    private volatile Inflater inflater;
+
+    public PacketCompression(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Enables the compression of the outbound packets, called when the remote
+     * member announces that it supports compression.
+     */
+    public void enableOutbound() {
+        outboundEnabled = true;
+    }
+
+    public boolean isOutboundEnabled() {
+        return outboundEnabled;
+    }
+
+    /**
+     * The ratio of the compressed size to the uncompressed size of the
+     * compressed packets.
+     */
+    @Probe(name = TCP_METRIC_COMPRESSION_RATIO, unit = PERCENT, level = DEBUG)
+    public double compressionRatio() {
+        long uncompressed = uncompressedBytes.get();
+        return uncompressed == 0 ? 1 : (double) compressedBytes.get() / uncompressed;
+    }
+
+    /**
+     * Returns the packet to send in place of the given one: a copy with a
+     * compressed payload or the given packet itself if it is not to be
+     * compressed. The given packet is left unchanged since it may be shared
+     * by multiple connections.
+     */
+    public Packet compress(Packet packet) {
+        if (!outboundEnabled
+                || packet.totalSize() < threshold
+                || packet.getPacketType() == Packet.Type.SERVER_CONTROL) {
+            return packet;
+        }
+
+        long startNanos = System.nanoTime();
+        Deflater deflater = this.deflater;
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_SPEED);
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+            this.deflater = deflater;
+        }
+        byte[] payload = packet.toByteArray();
+        deflater.setInput(payload);
+        writeIntB(buffer, 0, payload.length);
+        int length = INT_SIZE_IN_BYTES;
+        for (; ; ) {
+            length += deflater.deflate(buffer, length, buffer.length - length, Deflater.SYNC_FLUSH);
+            if (length < buffer.length) {
+                // the flush completed, otherwise the buffer would be full
+                break;
+            }
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        Packet compressed = new Packet(Arrays.copyOf(buffer, length), packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() | FLAG_COMPRESSED);
+
+        compressedPackets.inc();
+        uncompressedBytes.inc(payload.length);
+        compressedBytes.inc(length);
+        compressionTimeNanos.inc(System.nanoTime() - startNanos);
+        return compressed;
+    }
+
+    /**
+     * Returns a copy of the given compressed packet with the original payload.
+     *
+     * @throws DataFormatException if the payload is corrupted
+     */
+    public Packet decompress(Packet packet) throws DataFormatException {
+        long startNanos = System.nanoTime();
+        Inflater inflater = this.inflater;
+        if (inflater == null) {
+            inflater = new Inflater();
+            this.inflater = inflater;
+        }
+        byte[] payload = packet.toByteArray();
+        byte[] uncompressed = new byte[readIntB(payload, 0)];
+        inflater.setInput(payload, INT_SIZE_IN_BYTES, payload.length - INT_SIZE_IN_BYTES);
+        int length = 0;
+        while (length < uncompressed.length) {
+            int inflated = inflater.inflate(uncompressed, length, uncompressed.length - length);
+            if (inflated == 0 && inflater.needsInput()) {
+                throw new DataFormatException("Compressed packet payload is truncated");
+            }
+            length += inflated;
+        }
+        // consume the flush marker, the remaining input would be lost with the next packet
+        while (inflater.getRemaining() > 0) {
+            int remaining = inflater.getRemaining();
+            if (inflater.inflate(scratch) > 0 || inflater.getRemaining() == remaining) {
+                throw new DataFormatException("Compressed packet payload is longer than announced");
+            }
+        }
+        Packet decompressed = new Packet(uncompressed, packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() & ~FLAG_COMPRESSED);
+
+        decompressedPackets.inc();
+        decompressionTimeNanos.inc(System.nanoTime() - startNanos);
+        return decompressed;
+    }
+
+    /**
+     * Releases the native memory held by the deflate streams. Called when the
+     * connection is closed; a packet compressed or decompressed concurrently
+     * fails, which is ignored by the closed connection.
+     */
+    public void close() {
+        Deflater deflater = this.deflater;
+        if (deflater != null) {
+            deflater.end();
+        }
+        Inflater inflater = this.inflater;
+        if (inflater != null) {
+            inflater.end();
+        }
+    }
+}
@@ -20,14 +20,19 @@ import com.hazelcast.internal.networking.InboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.nio.InboundHandlerWithCounters;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketBatch;
 import com.hazelcast.internal.nio.PacketIOHelper;
+import com.hazelcast.internal.nio.PacketPayloadPool;
 import com.hazelcast.internal.server.ServerConnection;
 
 import java.nio.ByteBuffer;
 import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
 
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.Packet.FLAG_BATCH;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
 import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 
 /**
@@ -42,11 +47,33 @@ import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consumer<Packet>> {
 
     protected final ServerConnection connection;
-    private final PacketIOHelper packetReader = new PacketIOHelper();
+    private final PacketIOHelper packetReader;
+    private final PacketCompression compression;
 
     public PacketDecoder(ServerConnection connection, Consumer<Packet> dst) {
+        this(connection, dst, null);
+    }
+
+    /**
+     * @param compression the compression of the packets received over the
+     *                    connection or {@code null} if disabled
+     */
+    public PacketDecoder(ServerConnection connection, Consumer<Packet> dst, PacketCompression compression) {
+        this(connection, dst, compression, null);
+    }
+
+    /**
+     * @param compression the compression of the packets received over the
+     *                    connection or {@code null} if disabled
+     * @param payloadPool the pool of the payloads of the received operations
+     *                    or {@code null} if disabled
+     */
+    public PacketDecoder(ServerConnection connection, Consumer<Packet> dst, PacketCompression compression,
+                         PacketPayloadPool payloadPool) {
         this.connection = connection;
         this.dst = dst;
+        this.compression = compression;
+        this.packetReader = new PacketIOHelper(payloadPool);
     }
 
     @Override
@@ -63,7 +90,18 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
                 if (packet == null) {
                     break;
                 }
-                onPacketComplete(packet);
+                if (packet.isFlagRaised(FLAG_COMPRESSED)) {
+                    packet = decompress(packet);
+                }
+                if (packet.isFlagRaised(FLAG_BATCH)) {
+                    // handled on the IO thread to keep the order of the packed
+                    // packets relative to the packets sent alone
+                    for (Packet packed : PacketBatch.unpack(packet)) {
+                        onPacketComplete(packed);
+                    }
+                } else {
+                    onPacketComplete(packet);
+                }
             }
 
             return CLEAN;
@@ -72,6 +110,13 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
         }
     }
 
+    private Packet decompress(Packet packet) throws DataFormatException {
+        if (compression == null) {
+            throw new DataFormatException("Received a compressed packet but compression is not enabled");
+        }
+        return compression.decompress(packet);
+    }
+
     protected void onPacketComplete(Packet packet) {
         if (packet.isFlagRaised(FLAG_URGENT)) {
             priorityPacketsRead.inc();
@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.server.tcp;
 
+import com.hazelcast.internal.networking.GatheringOutboundHandler;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.nio.Packet;
@@ -36,14 +37,35 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * When it is the last handler of the pipeline, the payloads of the packets
+ * which don't fit into the {@link ByteBuffer} are not copied into it, they are
+ * handed over to the pipeline which writes them directly to the socket.
  *
  * @see PacketDecoder
  */
-public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
+public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
+        implements GatheringOutboundHandler {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final PacketCompression compression;
 
     private Packet packet;
+    private boolean gatheringEnabled;
+    private boolean gatherPacket;
+    private ByteBuffer payload;
+
+    public PacketEncoder() {
+        this(null);
+    }
+
+    /**
+     * @param compression the compression of the packets sent over the
+     *                    connection or {@code null} if disabled
+     */
+    public PacketEncoder(PacketCompression compression) {
+        this.compression = compression;
+    }
 
     @Override
     public void handlerAdded() {
@@ -55,6 +77,11 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
         compactOrClear(dst);
         try {
             for (; ; ) {
+                if (payload != null) {
+                    // the pipeline is still writing the payload of the previous packet
+                    return DIRTY;
+                }
+
                 if (packet == null) {
                     packet = src.get();
 
@@ -62,6 +89,20 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                         // everything is processed, so we are done
                         return CLEAN;
                     }
+                    if (compression != null) {
+                        packet = compression.compress(packet);
+                    }
+                    gatherPacket = gatheringEnabled && packet.totalSize() >= dst.capacity();
+                }
+
+                if (gatherPacket) {
+                    if (!packetWriter.writeHeaderTo(packet, dst)) {
+                        return DIRTY;
+                    }
+                    // the pipeline writes the payload right after the header
+                    payload = ByteBuffer.wrap(packet.toByteArray());
+                    packet = null;
+                    return DIRTY;
                 }
 
                 if (packetWriter.writeTo(packet, dst)) {
@@ -76,4 +117,19 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
             dst.flip();
         }
     }
+
+    @Override
+    public void setGatheringEnabled(boolean enabled) {
+        this.gatheringEnabled = enabled;
+    }
+
+    @Override
+    public ByteBuffer payload() {
+        return payload;
+    }
+
+    @Override
+    public void payloadWritten() {
+        payload = null;
+    }
 }
@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Map;
 
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_COMPRESSION;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PLANE_COUNT;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PLANE_INDEX;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.SCHEMA_VERSION_2;
@@ -74,7 +75,8 @@ public class SendMemberHandshakeTask implements Runnable {
                 reply,
                 serverContext.getThisUuid())
                 .addOption(OPTION_PLANE_COUNT, planeCount)
-                .addOption(OPTION_PLANE_INDEX, planeIndex);
+                .addOption(OPTION_PLANE_INDEX, planeIndex)
+                .addOption(OPTION_COMPRESSION, connection.getPacketCompression() != null);
         byte[] bytes = serverContext.getSerializationService().toBytes(memberHandshake);
         Packet packet = new Packet(bytes).setPacketType(Packet.Type.SERVER_CONTROL);
         connection.write(packet);
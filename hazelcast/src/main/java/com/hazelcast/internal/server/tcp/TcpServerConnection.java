@@ -29,6 +29,7 @@ import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.tpcengine.net.AsyncSocket;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.security.auth.login.LoginContext;
 import javax.security.auth.login.LoginException;
@@ -47,6 +48,8 @@ import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.metrics.ProbeUnit.ENUM;
 import static com.hazelcast.internal.nio.ConnectionType.MEMBER;
 import static com.hazelcast.internal.nio.ConnectionType.NONE;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_COMPRESSION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_COMPRESSION_THRESHOLD_BYTES;
 
 /**
  * The Tcp/Ip implementation of the {@link Connection}.
@@ -83,6 +86,8 @@ public class TcpServerConnection implements ServerConnection {
 
     private final ServerContext serverContext;
 
+    private final PacketCompression packetCompression;
+
     private Address remoteAddress;
 
     private UUID remoteUuid;
@@ -113,6 +118,10 @@ public class TcpServerConnection implements ServerConnection {
         this.acceptorSide = acceptorSide;
         this.attributeMap = channel.attributeMap();
         attributeMap.put(ServerConnection.class, this);
+        HazelcastProperties properties = serverContext.properties();
+        this.packetCompression = properties.getBoolean(NETWORK_COMPRESSION_ENABLED)
+                ? new PacketCompression(properties.getInteger(NETWORK_COMPRESSION_THRESHOLD_BYTES))
+                : null;
     }
 
     public AsyncSocket[] getSockets() {
@@ -132,6 +141,14 @@ public class TcpServerConnection implements ServerConnection {
         return channel;
     }
 
+    /**
+     * Returns the compression of the packets sent and received over this
+     * connection or {@code null} if compression is disabled on this member.
+     */
+    public PacketCompression getPacketCompression() {
+        return packetCompression;
+    }
+
     public int getPlaneIndex() {
         return planeIndex;
     }
@@ -298,6 +315,9 @@ public class TcpServerConnection implements ServerConnection {
         } catch (Exception e) {
             logger.warning(e);
         }
+        if (packetCompression != null) {
+            packetCompression.close();
+        }
 
         lifecycleListener.onConnectionClose(this, cause, false);
         serverContext.onDisconnect(remoteAddress, cause);
@@ -79,6 +79,11 @@ public final class TcpServerControl {
         // before we register the connection on the plane, we make sure the plane index is set on the connection
         // so that we can safely remove the connection from the plane.
         connection.setPlaneIndex(handshake.getPlaneIndex());
+        // the packets are compressed only if both members enable compression
+        PacketCompression compression = connection.getPacketCompression();
+        if (compression != null && handshake.isCompressionSupported()) {
+            compression.enableOutbound();
+        }
         process(connection, handshake);
     }
 
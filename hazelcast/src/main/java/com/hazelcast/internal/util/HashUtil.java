@@ -266,6 +266,79 @@ public final class HashUtil {
         return h1 + h2;
     }
 
+    /**
+     * Returns the standard 128-bit {@code MurmurHash3_x64_128} hash of a block
+     * inside a byte array, computed with the seed 0. The first 64 bits of the
+     * hash are at index 0 of the returned array, the last 64 bits at index 1.
+     */
+    public static long[] MurmurHash3_x64_128(byte[] data, int offset, int len) {
+        final int tailStart = offset + (len & ~(MURMUR64_BLOCK_SIZE - 1));
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+
+        long h1 = 0;
+        long h2 = 0;
+        long k1;
+        long k2;
+
+        for (int blockAddr = offset; blockAddr < tailStart; blockAddr += MURMUR64_BLOCK_SIZE) {
+            k1 = BYTE_ARRAY_LOADER.getLong(data, blockAddr);
+            k2 = BYTE_ARRAY_LOADER.getLong(data, blockAddr + 8);
+
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        k1 = 0;
+        k2 = 0;
+        int tailLen = len & 15;
+        for (int i = tailLen - 1; i >= 8; i--) {
+            k2 ^= (data[tailStart + i] & 0xffL) << ((i - 8) * 8);
+        }
+        for (int i = Math.min(tailLen, 8) - 1; i >= 0; i--) {
+            k1 ^= (data[tailStart + i] & 0xffL) << (i * 8);
+        }
+        if (tailLen > 8) {
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+        }
+        if (tailLen > 0) {
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+        }
+
+        h1 ^= len;
+        h2 ^= len;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = MurmurHash3_fmix(h1);
+        h2 = MurmurHash3_fmix(h2);
+
+        h1 += h2;
+        h2 += h1;
+
+        return new long[] {h1, h2};
+    }
+
     public static int MurmurHash3_fmix(int k) {
         k ^= k >>> 16;
         k *= 0x85ebca6b;
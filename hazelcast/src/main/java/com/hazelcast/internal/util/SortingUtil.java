@@ -18,7 +18,6 @@ package com.hazelcast.internal.util;
 
 import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.query.PagingPredicate;
-import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 
@@ -191,7 +190,7 @@ public final class SortingUtil {
         }
         List result = new ArrayList(end - begin);
         for (int i = begin; i < end; ++i) {
-            CachedQueryEntry entry = (CachedQueryEntry) list.get(i);
+            QueryableEntry entry = list.get(i);
             switch (iterationType) {
                 case KEY:
                     result.add(entry.getKeyData());
@@ -119,6 +119,17 @@ public final class MetricNames {
      */
     public static final String LAST_FORWARDED_WM_LATENCY = "lastForwardedWmLatency";
 
+    /**
+     * Number of pipeline stages fused into a particular {@link Vertex}. Only
+     * reported for vertices with more than one stage. The {@link Vertex} and
+     * the {@link Processor} can be identified based on the
+     * {@link MetricTags#VERTEX} & {@link MetricTags#PROCESSOR} tags of the
+     * metric.
+     *
+     * @since 6.0
+     */
+    public static final String FUSED_STAGES = "fusedStages";
+
     /**
      * Tracks the total number of bytes written in the last snapshot
      * by a particular {@link Vertex}. The name of the vertex can be found
@@ -220,6 +220,11 @@ public final class TestOutbox implements OutboxInternal {
         outbox.unblock();
     }
 
+    @Override
+    public void flush() {
+        outbox.flush();
+    }
+
     @Override
     public long lastForwardedWm(byte key) {
         return outbox.lastForwardedWm(key);
@@ -24,23 +24,58 @@ import com.hazelcast.jet.core.BroadcastKey;
 import com.hazelcast.jet.impl.execution.BroadcastEntry;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
+import com.hazelcast.query.Predicate;
 
 import javax.annotation.Nonnull;
+import java.io.Serial;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 
+/**
+ * Reads the snapshot data chunks and emits the entries they contain to the
+ * ordinal of the vertex which saved them.
+ * <p>
+ * When restoring from a delta snapshot, the chunks of the full snapshot it's
+ * based on and of all the deltas up to it are read, newest snapshot first.
+ * Each key is emitted the first time it's seen, that is with its latest
+ * value, unless that value is a tombstone; older values of a seen key are
+ * skipped. Only the keys are held, not the values. All the entries of a key
+ * are in the same partition of the snapshot map, so they are all read by the
+ * same processor.
+ */
 public class ExplodeSnapshotP extends AbstractProcessor {
 
     private final Map<String, FlatMapper<byte[], Object>> vertexToFlatMapper = new HashMap<>();
+    private final long fullSnapshotId;
     private final long expectedSnapshotId;
+    private final Map<String, Set<Object>> seenKeysByVertex = new HashMap<>();
     private InternalSerializationService serializationService;
 
+    private long chunkSnapshotId;
+    private Set<Object> chunkSeenKeys;
+
     ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long expectedSnapshotId) {
+        this(vertexToOrdinal, expectedSnapshotId, expectedSnapshotId);
+    }
+
+    /**
+     * @param fullSnapshotId the ID of the full snapshot the expected snapshot
+     *                       is based on, equal to {@code expectedSnapshotId}
+     *                       if it's not a delta snapshot. When they differ,
+     *                       the chunks must be received newest snapshot first
+     */
+    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long fullSnapshotId, long expectedSnapshotId) {
+        assert fullSnapshotId <= expectedSnapshotId
+                : "fullSnapshotId=" + fullSnapshotId + ", expectedSnapshotId=" + expectedSnapshotId;
+        this.fullSnapshotId = fullSnapshotId;
         this.expectedSnapshotId = expectedSnapshotId;
         for (Entry<String, Integer> en : vertexToOrdinal.entrySet()) {
             Object oldValue = vertexToFlatMapper.put(en.getKey(), flatMapper(en.getValue(), this::traverser));
@@ -60,16 +95,27 @@ public class ExplodeSnapshotP extends AbstractProcessor {
     @SuppressWarnings("squid:S2095")
     private Traverser<Object> traverser(byte[] data) {
         BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+        long snapshotId = chunkSnapshotId;
+        Set<Object> seenKeys = chunkSeenKeys;
 
         return () -> uncheckCall(() -> {
-            Object key = serializationService.readObject(in, true);
-            if (key == SnapshotDataValueTerminator.INSTANCE) {
-                return null;
+            for (;;) {
+                Object key = serializationService.readObject(in, true);
+                if (key == SnapshotDataValueTerminator.INSTANCE) {
+                    return null;
+                }
+                Object value = serializationService.readObject(in, true);
+                if (key instanceof BroadcastKey) {
+                    // broadcast state is written in full to every snapshot, only the expected one is used
+                    if (seenKeys == null || snapshotId == expectedSnapshotId) {
+                        return new BroadcastEntry<>(key, value);
+                    }
+                } else if (seenKeys == null) {
+                    return entry(key, value);
+                } else if (seenKeys.add(key) && value != SnapshotDataTombstone.INSTANCE) {
+                    return entry(key, value);
+                }
             }
-            Object value = serializationService.readObject(in, true);
-            return key instanceof BroadcastKey
-                    ? new BroadcastEntry<>(key, value)
-                    : entry(key, value);
         });
     }
 
@@ -91,11 +137,16 @@ public class ExplodeSnapshotP extends AbstractProcessor {
             return true;
         }
         long snapshotId = castItem.getKey().snapshotId();
-        if (snapshotId != expectedSnapshotId) {
+        if (snapshotId < fullSnapshotId || snapshotId > expectedSnapshotId) {
             getLogger().warning("Data for unexpected snapshot ID encountered, ignoring. Expected="
-                    + expectedSnapshotId + ", found=" + snapshotId);
+                    + (fullSnapshotId == expectedSnapshotId ? "" : fullSnapshotId + "..") + expectedSnapshotId
+                    + ", found=" + snapshotId);
             return true;
         }
+        if (fullSnapshotId != expectedSnapshotId) {
+            chunkSnapshotId = snapshotId;
+            chunkSeenKeys = seenKeysByVertex.computeIfAbsent(vertexName, name -> new HashSet<>());
+        }
         return flatMapper.tryProcess(castItem.getValue());
     }
 
@@ -103,4 +154,28 @@ public class ExplodeSnapshotP extends AbstractProcessor {
     public boolean closeIsCooperative() {
         return true;
     }
+
+    /**
+     * Returns a predicate selecting the data chunks of the given snapshot from
+     * the snapshot map, used to read the snapshots of a delta chain one by one.
+     */
+    static Predicate<Object, Object> snapshotIdPredicate(long snapshotId) {
+        return new SnapshotIdPredicate(snapshotId);
+    }
+
+    private static final class SnapshotIdPredicate implements Predicate<Object, Object> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long snapshotId;
+
+        SnapshotIdPredicate(long snapshotId) {
+            this.snapshotId = snapshotId;
+        }
+
+        @Override
+        public boolean apply(Entry<Object, Object> entry) {
+            return entry.getKey() instanceof SnapshotDataKey key && key.snapshotId() == snapshotId;
+        }
+    }
 }
@@ -16,12 +16,14 @@
 
 package com.hazelcast.jet.impl;
 
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.jet.core.JobSuspensionCause;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import javax.annotation.Nullable;
@@ -40,7 +42,7 @@ import static com.hazelcast.jet.impl.util.Util.toLocalTime;
  * It should be updated only through MasterContext class, where multiple
  * updates are synchronized.
  */
-public class JobExecutionRecord implements IdentifiedDataSerializable {
+public class JobExecutionRecord implements IdentifiedDataSerializable, Versioned {
 
     public static final int NO_SNAPSHOT = -1;
     /**
@@ -82,6 +84,20 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
     private transient volatile String ongoingExportedSnapshotName;
 
     private volatile String exportedSnapshotName;
+
+    /**
+     * ID of the full snapshot the last successful snapshot is based on. It's
+     * equal to {@link #snapshotId} unless the last successful snapshot is a
+     * delta snapshot, in which case the data of all snapshots from this one
+     * up to {@link #snapshotId} are in the same data map.
+     */
+    private volatile long fullSnapshotId = NO_SNAPSHOT;
+
+    /**
+     * True if the current snapshot is a delta snapshot. Like {@link
+     * #ongoingExportedSnapshotName}, it's not needed after coordinator restart.
+     */
+    private transient volatile boolean ongoingSnapshotDelta;
     @Nullable
     private volatile String lastSnapshotFailure;
     @Nullable
@@ -151,13 +167,19 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         executed = true;
     }
 
+    public void startNewSnapshot(String exportedSnapshotName) {
+        startNewSnapshot(exportedSnapshotName, false);
+    }
+
     @SuppressWarnings({"NonAtomicOperationOnVolatileField", "squid:S3078"})
     @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
             justification = "all updates to ongoingSnapshotId are synchronized")
-    public void startNewSnapshot(String exportedSnapshotName) {
+    public void startNewSnapshot(String exportedSnapshotName, boolean isDelta) {
+        assert !isDelta || exportedSnapshotName == null : "an exported snapshot can't be a delta";
         ongoingSnapshotId++;
         ongoingSnapshotStartTime = Clock.currentTimeMillis();
         this.ongoingExportedSnapshotName = exportedSnapshotName;
+        this.ongoingSnapshotDelta = isDelta;
     }
 
     public SnapshotStats ongoingSnapshotDone(
@@ -172,8 +194,9 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
             boolean isExport = ongoingExportedSnapshotName != null;
             boolean isExportOnly = isExport && !isTerminal;
 
-            if (!isExport) {
-                // switch dataMapIndex only if the snapshot was successful, and it wasn't an exported one
+            if (!isExport && !ongoingSnapshotDelta) {
+                // switch dataMapIndex only if the snapshot was successful, and it wasn't an exported one.
+                // A delta snapshot is written to the map of the previous snapshot.
                 dataMapIndex = ongoingDataMapIndex();
             }
 
@@ -183,9 +206,13 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
                 exportedSnapshotName = ongoingExportedSnapshotName;
                 snapshotId = ongoingSnapshotId;
                 snapshotStats = res;
+                if (!ongoingSnapshotDelta) {
+                    fullSnapshotId = ongoingSnapshotId;
+                }
             }
         }
         ongoingExportedSnapshotName = null;
+        ongoingSnapshotDelta = false;
         ongoingSnapshotStartTime = Long.MIN_VALUE;
         return res;
     }
@@ -198,6 +225,15 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         return snapshotId;
     }
 
+    /**
+     * The ID of the full snapshot the current successful snapshot is based on.
+     * It's lower than {@link #snapshotId()} if the current successful snapshot
+     * is a delta snapshot, otherwise it's equal to it.
+     */
+    public long fullSnapshotId() {
+        return fullSnapshotId;
+    }
+
     /**
      * The data map index of current successful snapshot (0 or 1) or -1, if
      * there's no successful snapshot.
@@ -316,6 +352,9 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         out.writeObject(suspensionCause);
         out.writeBoolean(executed);
         out.writeLong(timestamp.get());
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeLong(fullSnapshotId);
+        }
     }
 
     @Override
@@ -332,6 +371,12 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
         suspensionCause = in.readObject();
         executed = in.readBoolean();
         timestamp.set(in.readLong());
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            fullSnapshotId = in.readLong();
+        } else {
+            // a delta snapshot can't be restored without its chain
+            fullSnapshotId = snapshotId;
+        }
     }
 
     @Override
@@ -344,6 +389,7 @@ public class JobExecutionRecord implements IdentifiedDataSerializable {
                 ", executed=" + executed +
                 ", dataMapIndex=" + dataMapIndex +
                 ", snapshotId=" + snapshotId +
+                ", fullSnapshotId=" + fullSnapshotId +
                 ", ongoingSnapshotId=" + ongoingSnapshotId +
                 ", ongoingSnapshotStartTime=" + toLocalTime(ongoingSnapshotStartTime) +
                 ", snapshotStats=" + snapshotStats +
@@ -59,6 +59,7 @@ import com.hazelcast.jet.impl.util.NonCompletableFuture;
 import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.version.Version;
@@ -95,6 +96,7 @@ import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.config.ProcessingGuarantee.NONE;
 import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.jet.core.Edge.from;
 import static com.hazelcast.jet.core.JobStatus.COMPLETED;
 import static com.hazelcast.jet.core.JobStatus.FAILED;
 import static com.hazelcast.jet.core.JobStatus.NOT_RUNNING;
@@ -104,7 +106,9 @@ import static com.hazelcast.jet.core.JobStatus.SUSPENDED;
 import static com.hazelcast.jet.core.JobStatus.SUSPENDED_EXPORTING_SNAPSHOT;
 import static com.hazelcast.jet.core.processor.SourceProcessors.readMapP;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
+import static com.hazelcast.jet.impl.ExplodeSnapshotP.snapshotIdPredicate;
 import static com.hazelcast.jet.impl.JobClassLoaderService.JobPhase.COORDINATOR;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 import static com.hazelcast.jet.impl.JobRepository.exportedSnapshotMapName;
 import static com.hazelcast.jet.impl.SnapshotValidator.validateSnapshot;
 import static com.hazelcast.jet.impl.TerminationMode.ActionAfterTerminate.RESTART;
@@ -281,6 +285,7 @@ public class MasterJobContext {
                   // we ensured that JobExecutionRecord is safe in resolveDag
 
                   final long snapshotId = jobExecRec.snapshotId();
+                  final long fullSnapshotId;
                   // name without internal prefix
                   final String snapshotName;
                   final String snapshotMapName;
@@ -296,16 +301,18 @@ public class MasterJobContext {
                       // its own snapshots.
                       snapshotName = jobExecRec.exportedSnapshotName();
                       snapshotMapName = jobExecRec.successfulSnapshotDataMapName();
+                      fullSnapshotId = snapshotName == null ? jobExecRec.fullSnapshotId() : snapshotId;
                   } else {
                       // there was no snapshot performed before restart or this is a new job
                       snapshotName = mc.jobConfig().getInitialSnapshotName();
                       snapshotMapName = snapshotName != null
                               ? exportedSnapshotMapName(snapshotName)
                               : null;
+                      fullSnapshotId = snapshotId;
                   }
 
                   if (snapshotMapName != null) {
-                      rewriteDagWithSnapshotRestore(dag, snapshotId, snapshotMapName, snapshotName);
+                      rewriteDagWithSnapshotRestore(dag, snapshotId, fullSnapshotId, snapshotMapName, snapshotName);
                   } else {
                       logger.info("Didn't find any snapshot to restore for " + mc.jobIdString());
                   }
@@ -525,23 +532,46 @@ public class MasterJobContext {
         return result;
     }
 
-    private void rewriteDagWithSnapshotRestore(DAG dag, long snapshotId, String mapName, String snapshotName) {
+    private void rewriteDagWithSnapshotRestore(
+            DAG dag, long snapshotId, long fullSnapshotId, String mapName, String snapshotName
+    ) {
         // snapshot map is not updated here, so it does not need to be
         // configured with failOnIndeterminateOperationState
         IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
         long resolvedSnapshotId = validateSnapshot(
-                snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
-        logger.info(String.format(
-                "About to restore the state of %s from snapshot %d, mapName = %s",
-                mc.jobIdString(), resolvedSnapshotId, mapName));
+                snapshotId, fullSnapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+        long resolvedFullSnapshotId = fullSnapshotId != NO_SNAPSHOT ? fullSnapshotId : resolvedSnapshotId;
+        if (resolvedFullSnapshotId != resolvedSnapshotId) {
+            logger.info(String.format(
+                    "About to restore the state of %s from full snapshot %d and delta snapshots up to %d, mapName = %s",
+                    mc.jobIdString(), resolvedFullSnapshotId, resolvedSnapshotId, mapName));
+        } else {
+            logger.info(String.format(
+                    "About to restore the state of %s from snapshot %d, mapName = %s",
+                    mc.jobIdString(), resolvedSnapshotId, mapName));
+        }
         List<Vertex> originalVertices = new ArrayList<>();
         dag.iterator().forEachRemaining(originalVertices::add);
 
         Map<String, Integer> vertexToOrdinal = new HashMap<>();
-        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
         Vertex explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
-                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
-        dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedFullSnapshotId, resolvedSnapshotId));
+        if (resolvedFullSnapshotId == resolvedSnapshotId) {
+            Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
+            dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+        } else {
+            // Read the snapshots of the chain newest first, each through its own
+            // prioritized edge, so that the explode processor can emit the latest
+            // value of a key when it first sees it. The readers of the same
+            // member split the local partitions the same way, so all the chunks
+            // of a partition still reach the same explode processor.
+            for (long id = resolvedSnapshotId; id >= resolvedFullSnapshotId; id--) {
+                int ordinal = (int) (resolvedSnapshotId - id);
+                Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read-" + id,
+                        readMapP(mapName, snapshotIdPredicate(id), Projections.identity()));
+                dag.edge(from(readSnapshotVertex).to(explodeVertex, ordinal).isolated().priority(ordinal));
+            }
+        }
 
         int index = 0;
         // add the edges
@@ -18,6 +18,7 @@ package com.hazelcast.jet.impl;
 
 import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.internal.cluster.MemberInfo;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.impl.JobExecutionRecord.SnapshotStats;
 import com.hazelcast.jet.impl.exception.ExecutionNotFoundException;
@@ -29,6 +30,7 @@ import com.hazelcast.jet.impl.operation.SnapshotPhase2Operation;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -51,6 +53,8 @@ import static com.hazelcast.jet.impl.JobRepository.safeImap;
 import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.jobNameAndExecutionId;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_DELTA_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_DELTA_MAX_COUNT;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
@@ -75,6 +79,14 @@ class MasterSnapshotContext {
     @Nonnull
     private volatile CompletableFuture<Void> terminalSnapshotFuture = completedFuture(null);
 
+    /**
+     * ID of the execution in which the last successful automatic snapshot was
+     * taken. The members remember the keys written to a snapshot only for the
+     * lifetime of the execution, so a delta snapshot can only follow a
+     * snapshot taken in the same execution.
+     */
+    private long lastSnapshotExecutionId = Long.MIN_VALUE;
+
     private class SnapshotRequest {
         /**
          * User-specified name of the snapshot or null, if no name is specified
@@ -91,6 +103,12 @@ class MasterSnapshotContext {
          * be null.
          */
         final CompletableFuture<Void> future;
+        /**
+         * If true, only the changes since the previous snapshot are written,
+         * see {@link SnapshotFlags#isDelta(int)}. Decided when the snapshot
+         * begins.
+         */
+        boolean isDelta;
 
         SnapshotRequest(@Nullable String snapshotName, boolean isTerminal, @Nullable CompletableFuture<Void> future) {
             this.snapshotName = snapshotName;
@@ -110,12 +128,17 @@ class MasterSnapshotContext {
         }
 
         public int snapshotFlags() {
-            return SnapshotFlags.create(isTerminal, isExport());
+            return SnapshotFlags.create(isTerminal, isExport(), isDelta);
         }
 
         public String mapName() {
-            return isExport() ? exportedSnapshotMapName(snapshotName)
-                    : snapshotDataMapName(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+            if (isExport()) {
+                return exportedSnapshotMapName(snapshotName);
+            }
+            // a delta snapshot is written to the map of the snapshot it's based on
+            JobExecutionRecord jobExecutionRecord = mc.jobExecutionRecord();
+            return snapshotDataMapName(mc.jobId(),
+                    isDelta ? jobExecutionRecord.dataMapIndex() : jobExecutionRecord.ongoingDataMapIndex());
         }
 
         /**
@@ -200,7 +223,8 @@ class MasterSnapshotContext {
                     return;
                 }
                 snapshotInProgress = true;
-                mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName);
+                requestedSnapshot.isDelta = canTakeDeltaSnapshot(requestedSnapshot);
+                mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName, requestedSnapshot.isDelta);
                 localExecutionId = mc.executionId();
             } finally {
                 mc.unlock();
@@ -212,7 +236,9 @@ class MasterSnapshotContext {
 
             try {
                 mc.writeJobExecutionRecordSafe(false);
-                mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                if (!requestedSnapshot.isDelta) {
+                    mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                }
             } catch (Exception e) {
                 logger.warning(String.format("Failed to start snapshot %d for %s",
                         newSnapshotId, jobNameAndExecutionId(mc.jobName(), localExecutionId)),
@@ -237,6 +263,29 @@ class MasterSnapshotContext {
         });
     }
 
+    /**
+     * Returns true if the requested snapshot can be a delta snapshot. It's
+     * possible if the previous snapshot attempt was a successful automatic
+     * snapshot taken in the current execution, so that the members know what
+     * they wrote to it, and the number of deltas since the last full snapshot
+     * didn't reach the {@link com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_DELTA_MAX_COUNT
+     * limit}. Members of a cluster version older than 6.0 don't know the
+     * chain of delta snapshots, so only full snapshots are taken there.
+     */
+    private boolean canTakeDeltaSnapshot(SnapshotRequest requestedSnapshot) {
+        HazelcastProperties properties = mc.nodeEngine().getProperties();
+        if (requestedSnapshot.isExport() || !properties.getBoolean(JET_SNAPSHOT_DELTA_ENABLED)
+                || !mc.nodeEngine().getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V6_0)) {
+            return false;
+        }
+        JobExecutionRecord jobExecutionRecord = mc.jobExecutionRecord();
+        return lastSnapshotExecutionId == mc.executionId()
+                && jobExecutionRecord.snapshotId() == jobExecutionRecord.ongoingSnapshotId()
+                && jobExecutionRecord.exportedSnapshotName() == null
+                && jobExecutionRecord.snapshotId() - jobExecutionRecord.fullSnapshotId()
+                        < properties.getInteger(JET_SNAPSHOT_DELTA_MAX_COUNT);
+    }
+
     /**
      * @param responses collected responses from the members
      */
@@ -327,38 +376,54 @@ class MasterSnapshotContext {
                 // Snapshot IMap proxy instance may be shared, but we always want it
                 // to have failOnIndeterminateOperationState enabled.
                 IMap<Object, Object> snapshotMap = safeImap(mc.nodeEngine().getHazelcastInstance().getMap(mapName));
-                try {
-                    SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
-                            mergedResult.getNumChunks(), mergedResult.getNumBytes(),
-                            mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
-                            mc.jobRecord().getDagJson());
-
-                    // The decision moment for _exported_ snapshots: after this the snapshot is valid to be restored
-                    // from, however it will be not listed by JetInstance.getJobStateSnapshots unless the validation
-                    // record is inserted into the cache below.
-                    //
-                    // Error during update for JobExecutionRecord does not invalidate the _exported_ snapshot.
-                    // JobExecutionRecord data in IMap becomes stale (indicates that the exported snapshot is in progress)
-                    // but it should not cause problems. They may be overwritten later (in-memory values will be correct)
-                    // or ignored when JobExecutionRecord is loaded from IMap.
-                    //
-                    // Terminal exported snapshot is formally valid from this point on, but it is safe to use it
-                    // to restore from only after and only if the job was cleanly terminated due to _this_ snapshot request.
-                    // On API level, using this snapshot is not safe if cancelAndExportSnapshot throws exception
-                    // and the job will not be cancelled but restarted.
-                    Object oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
-
-                    if (requestedSnapshot.isExport()) {
-                        assert requestedSnapshot.snapshotName != null;
-                        // update also for failed snapshots because the map may have contained different snapshot before
-                        mc.jobRepository().cacheValidationRecord(requestedSnapshot.snapshotName, validationRecord);
-                    }
-                    if (oldValue != null) {
-                        logger.severe("SnapshotValidationRecord overwritten after writing to '" + mapName
-                                + "' for " + mc.jobIdString() + ": snapshot data might be corrupted");
+                // A failed delta snapshot keeps the record of the snapshot it's based on, which is still valid
+                if (!requestedSnapshot.isDelta || mergedResult.getError() == null) {
+                    try {
+                        long numChunks = mergedResult.getNumChunks();
+                        long numBytes = mergedResult.getNumBytes();
+                        if (requestedSnapshot.isDelta) {
+                            // the record of a delta snapshot covers also the snapshots it's based on
+                            SnapshotValidationRecord previousRecord =
+                                    (SnapshotValidationRecord) snapshotMap.get(SnapshotValidationRecord.KEY);
+                            if (previousRecord == null) {
+                                throw new JetException("SnapshotValidationRecord of the previous snapshot not found in '"
+                                        + mapName + "' for " + mc.jobIdString());
+                            }
+                            numChunks += previousRecord.numChunks();
+                            numBytes += previousRecord.numBytes();
+                        }
+                        SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
+                                numChunks, numBytes,
+                                mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
+                                mc.jobRecord().getDagJson());
+
+                        // The decision moment for _exported_ snapshots: after this the snapshot is valid to be restored
+                        // from, however it will be not listed by JetInstance.getJobStateSnapshots unless the validation
+                        // record is inserted into the cache below.
+                        //
+                        // Error during update for JobExecutionRecord does not invalidate the _exported_ snapshot.
+                        // JobExecutionRecord data in IMap becomes stale (indicates that the exported snapshot is in progress)
+                        // but it should not cause problems. They may be overwritten later (in-memory values will be correct)
+                        // or ignored when JobExecutionRecord is loaded from IMap.
+                        //
+                        // Terminal exported snapshot is formally valid from this point on, but it is safe to use it
+                        // to restore from only after and only if the job was cleanly terminated due to _this_ snapshot request.
+                        // On API level, using this snapshot is not safe if cancelAndExportSnapshot throws exception
+                        // and the job will not be cancelled but restarted.
+                        Object oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
+
+                        if (requestedSnapshot.isExport()) {
+                            assert requestedSnapshot.snapshotName != null;
+                            // update also for failed snapshots because the map may have contained different snapshot before
+                            mc.jobRepository().cacheValidationRecord(requestedSnapshot.snapshotName, validationRecord);
+                        }
+                        if (oldValue != null && !requestedSnapshot.isDelta) {
+                            logger.severe("SnapshotValidationRecord overwritten after writing to '" + mapName
+                                    + "' for " + mc.jobIdString() + ": snapshot data might be corrupted");
+                        }
+                    } catch (Exception e) {
+                        mergedResult.merge(new SnapshotPhase1Result(0, 0, 0, e));
                     }
-                } catch (Exception e) {
-                    mergedResult.merge(new SnapshotPhase1Result(0, 0, 0, e));
                 }
 
                 isSuccess = mergedResult.getError() == null;
@@ -408,7 +473,12 @@ class MasterSnapshotContext {
                             (skipPhase2 ? ", skipping " : ", proceeding to ") + "phase 2"));
                 }
 
-                if (!isSuccess) {
+                if (!isSuccess && requestedSnapshot.isDelta) {
+                    // The map also contains the snapshots the delta is based on. The data of the failed
+                    // delta are ignored when restoring and removed when the next full snapshot succeeds.
+                    logger.warning(mc.jobIdString() + " delta snapshot " + snapshotId + " phase 1 failed on some " +
+                            "member(s), one of the failures: " + mergedResult.getError());
+                } else if (!isSuccess) {
                     logger.warning(mc.jobIdString() + " snapshot " + snapshotId + " phase 1 failed on some " +
                             "member(s), one of the failures: " + mergedResult.getError());
                     try {
@@ -425,8 +495,11 @@ class MasterSnapshotContext {
                 // Do not clear snapshot data when JobExecutionRecord update was indeterminate.
                 // It may turn out that this will be a correct snapshot after all.
                 if (isSuccess && !skipPhase2 && !requestedSnapshot.isExport()) {
-                    // clear IMap for next automatic snapshot early to decrease memory usage
-                    mc.jobRepository().clearSnapshotData(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+                    if (!requestedSnapshot.isDelta) {
+                        // clear IMap for next automatic snapshot early to decrease memory usage
+                        mc.jobRepository().clearSnapshotData(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+                    }
+                    lastSnapshotExecutionId = executionId;
                 }
             } finally {
                 mc.unlock();
@@ -33,6 +33,10 @@ final class SnapshotValidator {
      *
      * @param snapshotId snapshot ID or {@link JobExecutionRecord#NO_SNAPSHOT}
      *                   if snapshot ID is not known
+     * @param fullSnapshotId ID of the full snapshot a delta snapshot is based
+     *                   on, equal to {@code snapshotId} if it's not a delta
+     *                   snapshot, or {@link JobExecutionRecord#NO_SNAPSHOT}
+     *                   if not known
      * @param snapshotMap snapshot map to validate
      * @param jobIdString name and ID of the job, for debug output
      * @param snapshotName user-supplied snapshot name for debug output,
@@ -40,7 +44,8 @@ final class SnapshotValidator {
      * @return the snapshot ID of the snapshot being validated
      */
     static long validateSnapshot(
-            long snapshotId, IMap<Object, Object> snapshotMap, String jobIdString, String snapshotName
+            long snapshotId, long fullSnapshotId, IMap<Object, Object> snapshotMap, String jobIdString,
+            String snapshotName
     ) {
         SnapshotValidationRecord validationRecord =
                 (SnapshotValidationRecord) snapshotMap.get(SnapshotValidationRecord.KEY);
@@ -50,22 +55,32 @@ final class SnapshotValidator {
                     "snapshot %s in IMap %s (%d entries) is damaged. Unable to restore the state for %s.",
                     nameOrId, snapshotMap.getName(), snapshotMap.size(), jobIdString));
         }
+        long expectedSnapshotId = snapshotId;
+        if (snapshotName == null && fullSnapshotId != NO_SNAPSHOT && validationRecord.snapshotId() > snapshotId) {
+            // A delta snapshot, which is written to the same map, completed, but the update of the
+            // JobExecutionRecord after it was indeterminate. Its data is complete, so we use it.
+            expectedSnapshotId = validationRecord.snapshotId();
+        }
+        long toSnapshotId = expectedSnapshotId;
         if (validationRecord.numChunks() != snapshotMap.size() - 1) {
-            // fallback validation that counts using aggregate(), ignoring different snapshot IDs
+            // fallback validation that counts using aggregate(), ignoring different snapshot IDs.
+            // The chunks of a delta snapshot are counted together with those of the snapshots it's based on.
+            long fromSnapshotId = fullSnapshotId != NO_SNAPSHOT ? fullSnapshotId : snapshotId;
             long filteredCount = snapshotMap.aggregate(
                     Aggregators.count(),
                     e -> e.getKey() instanceof SnapshotDataKey snapshotDataKey
-                            && snapshotDataKey.snapshotId() == snapshotId);
+                            && snapshotDataKey.snapshotId() >= fromSnapshotId
+                            && snapshotDataKey.snapshotId() <= toSnapshotId);
             if (validationRecord.numChunks() != filteredCount) {
                 throw new JetException(String.format(
                         "State for %s in IMap '%s' is corrupted: it should have %,d entries, but has %,d",
                         jobIdString, snapshotMap.getName(), validationRecord.numChunks(), snapshotMap.size() - 1));
             }
         }
-        if (snapshotId != NO_SNAPSHOT && snapshotId != validationRecord.snapshotId()) {
+        if (expectedSnapshotId != NO_SNAPSHOT && expectedSnapshotId != validationRecord.snapshotId()) {
             throw new JetException(String.format(
                     "%s: IMap '%s' was supposed to contain snapshotId %d, but it contains snapshotId %d",
-                    jobIdString, snapshotMap.getName(), snapshotId, validationRecord.snapshotId()));
+                    jobIdString, snapshotMap.getName(), expectedSnapshotId, validationRecord.snapshotId()));
         }
         return validationRecord.snapshotId();
     }
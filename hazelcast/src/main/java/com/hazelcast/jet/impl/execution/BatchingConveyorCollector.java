@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
+import com.hazelcast.jet.impl.util.ProgressState;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+
+/**
+ * A collector to a local conveyor queue which buffers the items and
+ * publishes them as a single {@link ItemBatch} once it has {@code batchSize}
+ * of them. That replaces a queue operation per item with one per batch.
+ * The buffered items are published before each {@link BroadcastItem} and
+ * when the tasklet {@linkplain #flush() flushes} its outbox, so they are
+ * never overtaken by a watermark or a snapshot barrier and never stay
+ * buffered while the producer is idle.
+ * <p>
+ * The batches can only be consumed by the {@link ConcurrentInboundEdgeStream}
+ * of an unordered edge.
+ */
+public class BatchingConveyorCollector extends ConveyorCollector {
+
+    private final int batchSize;
+
+    private Object[] batch;
+    private int batchCount;
+    // the batch or a single item being published, retained if the queue was full
+    private Object pending;
+
+    public BatchingConveyorCollector(
+            @Nonnull ConcurrentConveyor<Object> conveyor, int queueIndex, @Nullable int[] partitions, int batchSize
+    ) {
+        super(conveyor, queueIndex, partitions);
+        checkTrue(batchSize > 1, "batchSize must be greater than 1");
+        this.batchSize = batchSize;
+        this.batch = new Object[batchSize];
+    }
+
+    @Override
+    public ProgressState offer(Object item) {
+        if ((batchCount == batchSize || pending != null) && !publish()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        batch[batchCount++] = item;
+        if (batchCount == batchSize) {
+            // if the queue is full, we'll retry with the next item or flush
+            publish();
+        }
+        return ProgressState.DONE;
+    }
+
+    @Override
+    public ProgressState offerBroadcast(BroadcastItem item) {
+        if (!publish()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        return super.offerBroadcast(item);
+    }
+
+    @Override
+    public boolean flush() {
+        return publish();
+    }
+
+    private boolean publish() {
+        if (batchCount == 0) {
+            return true;
+        }
+        if (pending == null) {
+            // a single item is published as is, to avoid the allocation
+            pending = batchCount == 1 ? batch[0] : new ItemBatch(batch, batchCount);
+        }
+        if (offerToConveyor(pending) != ProgressState.DONE) {
+            return false;
+        }
+        if (pending instanceof ItemBatch) {
+            // the published array now belongs to the consumer
+            batch = new Object[batchSize];
+        } else {
+            batch[0] = null;
+        }
+        batchCount = 0;
+        pending = null;
+        return true;
+    }
+}
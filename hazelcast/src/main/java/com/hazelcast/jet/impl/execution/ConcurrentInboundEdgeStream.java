@@ -46,7 +46,8 @@ import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
  * This non-instantiable class contains implementations of {@link
  * InboundEdgeStream} in terms of a {@link ConcurrentConveyor}. The
  * conveyor has as many 1-to-1 concurrent queues as there are upstream
- * tasklets contributing to it.
+ * tasklets contributing to it. The queues of unordered edges can contain
+ * {@link ItemBatch}es, which are unpacked to the destination.
  */
 public final class ConcurrentInboundEdgeStream {
 
@@ -289,6 +290,10 @@ public final class ConcurrentInboundEdgeStream {
                 if (o instanceof SpecialBroadcastItem broadcastItem) {
                     item = broadcastItem;
                     return false;
+                } else if (o instanceof ItemBatch batch) {
+                    normalItemObserved = true;
+                    batch.forEach(dest);
+                    return true;
                 } else {
                     normalItemObserved = true;
                     dest.accept(o);
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import java.util.function.Consumer;
+
+/**
+ * A batch of items published to a local conveyor queue as a single queue
+ * element, see {@link BatchingConveyorCollector}. Contains only normal
+ * items, never a {@link BroadcastItem}.
+ */
+final class ItemBatch {
+
+    private final Object[] items;
+    private final int size;
+
+    ItemBatch(Object[] items, int size) {
+        this.items = items;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(Consumer<Object> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(items[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ItemBatch{size=" + size + '}';
+    }
+}
@@ -48,6 +48,15 @@ public interface OutboundCollector {
         return offer(item);
     }
 
+    /**
+     * Publishes the items this collector buffered, if any. Returns {@code
+     * true} if no items remain buffered. If it returns {@code false}, the
+     * call must be retried later.
+     */
+    default boolean flush() {
+        return true;
+    }
+
     /**
      * Returns the list of partitions handled by this collector (only if edge is partitioned).
      */
@@ -110,6 +119,15 @@ public interface OutboundCollector {
             }
             return progTracker.toProgressState();
         }
+
+        @Override
+        public boolean flush() {
+            boolean flushed = true;
+            for (OutboundCollector collector : collectors) {
+                flushed &= collector.flush();
+            }
+            return flushed;
+        }
     }
 
     class RoundRobin extends Composite {
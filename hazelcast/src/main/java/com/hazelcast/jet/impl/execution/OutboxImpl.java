@@ -247,6 +247,13 @@ public class OutboxImpl implements OutboxInternal {
         numRemainingInBatch = batchSize;
     }
 
+    @Override
+    public void flush() {
+        for (OutboundCollector outstream : outstreams) {
+            outstream.flush();
+        }
+    }
+
     private ProgressState doOffer(OutboundCollector collector, Object item) {
         if (item instanceof BroadcastItem broadcastItem) {
             return collector.offerBroadcast(broadcastItem);
@@ -39,6 +39,13 @@ public interface OutboxInternal extends Outbox {
      */
     void unblock();
 
+    /**
+     * Publishes the items buffered by the outbound collectors, see {@link
+     * OutboundCollector#flush()}. The items remaining buffered are published
+     * by the next call.
+     */
+    void flush();
+
     /**
      * Returns the timestamp of the last forwarded watermark for the given key.
      * <p>
@@ -289,6 +289,7 @@ public class ProcessorTasklet implements Tasklet {
         progTracker.notDone();
         outbox.reset();
         stateMachineStep();
+        outbox.flush();
         return progTracker.toProgressState();
     }
 
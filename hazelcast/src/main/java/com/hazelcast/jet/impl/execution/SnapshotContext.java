@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.impl.execution;
 
+import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation;
@@ -43,6 +44,14 @@ public class SnapshotContext {
      */
     private volatile int snapshotFlags;
 
+    /**
+     * Set when a {@link StoreSnapshotTasklet} which wrote some keys to the
+     * previous snapshot completes. A delta snapshot can't remove those keys,
+     * so it fails and the master takes a full snapshot after it. Reset when a
+     * full snapshot begins.
+     */
+    private boolean deltaBaseLost;
+
     /**
      * Current number of {@link StoreSnapshotTasklet}s in the job. It's
      * decremented as the tasklets complete (this is when they receive
@@ -173,6 +182,14 @@ public class SnapshotContext {
         return SnapshotFlags.isExportOnly(snapshotFlags);
     }
 
+    /**
+     * Returns true if the current snapshot should contain only the changes
+     * since the previous snapshot.
+     */
+    boolean isDeltaSnapshot() {
+        return SnapshotFlags.isDelta(snapshotFlags);
+    }
+
     boolean isLastPhase1Successful() {
         return lastPhase1Successful;
     }
@@ -228,6 +245,11 @@ public class SnapshotContext {
 
         currentSnapshotId = snapshotId;
         currentMapName = mapName;
+        if (!SnapshotFlags.isDelta(flags)) {
+            deltaBaseLost = false;
+        } else if (deltaBaseLost) {
+            reportDeltaBaseLost();
+        }
 
         if (numPrioritySsTasklets == 0) {
             // if there are no higher priority tasklets, start the snapshot immediately
@@ -240,8 +262,9 @@ public class SnapshotContext {
                     + numPrioritySsTasklets + ')');
         }
         if (numSsTasklets == 0) {
-            // member is already done with the job and master didn't know it yet - we are immediately successful
-            return completedFuture(new SnapshotPhase1Result(0, 0, 0, null));
+            // member is already done with the job and master didn't know it yet - we are immediately successful,
+            // unless it's a delta snapshot which can't remove the keys of the completed tasklets
+            return completedFuture(new SnapshotPhase1Result(0, 0, 0, snapshotError.getAndSet(null)));
         }
         phase1Future = new CompletableFuture<>();
         return phase1Future;
@@ -329,6 +352,22 @@ public class SnapshotContext {
         }
     }
 
+    /**
+     * Called when a {@link StoreSnapshotTasklet} which wrote some keys to the
+     * previous snapshot completes, before {@link #storeSnapshotTaskletDone}.
+     */
+    synchronized void deltaBaseLost() {
+        deltaBaseLost = true;
+        if (phase1Future != null && isDeltaSnapshot()) {
+            reportDeltaBaseLost();
+        }
+    }
+
+    private void reportDeltaBaseLost() {
+        reportError(new JetException("Delta snapshot " + currentSnapshotId + " for " + jobNameAndExecutionId
+                + " isn't possible, a vertex which saved some state completed since the previous snapshot"));
+    }
+
     /**
      * This method is called when a processor tasklet completes.
      *
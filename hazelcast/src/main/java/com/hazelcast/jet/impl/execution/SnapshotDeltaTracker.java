@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.jet.impl.serialization.SerializerHookConstants;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_x64_128;
+import static com.hazelcast.jet.Util.entry;
+
+/**
+ * Tracks the keys a {@link StoreSnapshotTasklet} wrote to the previous
+ * snapshot, so that a delta snapshot contains only the changes.
+ * <p>
+ * For each key it keeps a fingerprint of the value written last, the 128-bit
+ * MurmurHash3 of its serialized form, so the memory it takes doesn't depend
+ * on the size of the state. An entry is written to a delta snapshot if its
+ * key is new or the fingerprint of its value differs. The keys written to
+ * the previous snapshot, but not offered to
+ * the current one, are written with a tombstone value. Broadcast keys aren't
+ * tracked: several processors can save the same broadcast key, therefore
+ * they are always written.
+ */
+public final class SnapshotDeltaTracker {
+
+    private final Data tombstone;
+
+    private Map<Data, long[]> previousFingerprints = new HashMap<>();
+    private Map<Data, long[]> currentFingerprints = new HashMap<>();
+    private Iterator<Data> previousKeys;
+
+    /**
+     * @param tombstone the serialized value written for the removed keys
+     */
+    public SnapshotDeltaTracker(Data tombstone) {
+        this.tombstone = tombstone;
+    }
+
+    /**
+     * Records the entry as a part of the current snapshot and returns whether
+     * it has to be written to it.
+     */
+    boolean shouldWrite(Entry<? extends Data, ? extends Data> entry, boolean isDelta) {
+        Data key = entry.getKey();
+        if (key.getType() == SerializerHookConstants.BROADCAST_KEY) {
+            return true;
+        }
+        long[] fingerprint = fingerprint(entry.getValue());
+        currentFingerprints.put(key, fingerprint);
+        if (!isDelta) {
+            return true;
+        }
+        return !Arrays.equals(fingerprint, previousFingerprints.get(key));
+    }
+
+    /**
+     * Returns a tombstone entry for the next key which was written to the
+     * previous snapshot, but wasn't offered to the current one, or {@code
+     * null}, if there are no more such keys.
+     */
+    @Nullable
+    Entry<Data, Data> nextTombstone() {
+        if (previousKeys == null) {
+            previousKeys = previousFingerprints.keySet().iterator();
+        }
+        while (previousKeys.hasNext()) {
+            Data key = previousKeys.next();
+            if (!currentFingerprints.containsKey(key)) {
+                return entry(key, tombstone);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Called when the tasklet is done with the current snapshot, it becomes
+     * the previous one.
+     */
+    void snapshotDone() {
+        Map<Data, long[]> oldFingerprints = previousFingerprints;
+        previousFingerprints = currentFingerprints;
+        oldFingerprints.clear();
+        currentFingerprints = oldFingerprints;
+        previousKeys = null;
+    }
+
+    /**
+     * Returns true, if some keys were written to the previous snapshot.
+     */
+    boolean hasPreviousKeys() {
+        return !previousFingerprints.isEmpty();
+    }
+
+    private static long[] fingerprint(Data value) {
+        // covers the type of the value too
+        byte[] bytes = value.toByteArray();
+        return MurmurHash3_x64_128(bytes, 0, bytes.length);
+    }
+}
@@ -32,6 +32,13 @@ public final class SnapshotFlags {
      */
     private static final int EXPORT = 2; // 0b10
 
+    /**
+     * If set, the snapshot contains only the entries changed since the
+     * previous snapshot, and tombstones for the removed keys. It's written to
+     * the same map as the previous snapshot. Never set for exports.
+     */
+    private static final int DELTA = 4; // 0b100
+
     private SnapshotFlags() { }
 
     public static boolean isTerminal(int flags) {
@@ -42,6 +49,10 @@ public final class SnapshotFlags {
         return (flags & EXPORT) != 0;
     }
 
+    public static boolean isDelta(int flags) {
+        return (flags & DELTA) != 0;
+    }
+
     /**
      * If set, the {@link Processor#snapshotCommitPrepare()} and {@link
      * Processor#snapshotCommitFinish(boolean)} methods won't be called, only
@@ -56,10 +67,16 @@ public final class SnapshotFlags {
 
     public static String toString(int flags) {
         return "terminal=" + (isTerminal(flags) ? "yes" : "no")
-                + ",export=" + (isExport(flags) ? "yes" : "no");
+                + ",export=" + (isExport(flags) ? "yes" : "no")
+                + ",delta=" + (isDelta(flags) ? "yes" : "no");
     }
 
     public static int create(boolean isTerminal, boolean isExport) {
-        return (isTerminal ? TERMINAL : 0) | (isExport ? EXPORT : 0);
+        return create(isTerminal, isExport, false);
+    }
+
+    public static int create(boolean isTerminal, boolean isExport, boolean isDelta) {
+        assert !(isExport && isDelta) : "an exported snapshot can't be a delta";
+        return (isTerminal ? TERMINAL : 0) | (isExport ? EXPORT : 0) | (isDelta ? DELTA : 0);
     }
 }
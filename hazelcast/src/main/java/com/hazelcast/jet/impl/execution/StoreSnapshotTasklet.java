@@ -30,6 +30,7 @@ import com.hazelcast.jet.impl.util.ProgressTracker;
 import com.hazelcast.logging.ILogger;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -52,11 +53,13 @@ public class StoreSnapshotTasklet implements Tasklet {
     private final boolean isHigherPrioritySource;
 
     private final AsyncSnapshotWriter ssWriter;
+    private final SnapshotDeltaTracker deltaTracker;
     private final ProgressTracker progTracker = new ProgressTracker();
     private final AtomicReference<LongLongAccumulator> metrics = new AtomicReference<>(new LongLongAccumulator());
     private State state = DRAIN;
     private boolean hasReachedBarrier;
     private Entry<Data, Data> pendingEntry;
+    private Entry<Data, Data> pendingTombstone;
     private Consumer<Object> addToInboxFunction;
 
     public StoreSnapshotTasklet(
@@ -66,6 +69,22 @@ public class StoreSnapshotTasklet implements Tasklet {
             ILogger logger,
             String vertexName,
             boolean isHigherPrioritySource
+    ) {
+        this(snapshotContext, inboundEdgeStream, ssWriter, null, logger, vertexName, isHigherPrioritySource);
+    }
+
+    /**
+     * @param deltaTracker the tracker of the written keys if delta snapshots
+     *                     are enabled, {@code null} otherwise
+     */
+    public StoreSnapshotTasklet(
+            SnapshotContext snapshotContext,
+            InboundEdgeStream inboundEdgeStream,
+            AsyncSnapshotWriter ssWriter,
+            @Nullable SnapshotDeltaTracker deltaTracker,
+            ILogger logger,
+            String vertexName,
+            boolean isHigherPrioritySource
     ) {
         this.snapshotContext = snapshotContext;
         this.inboundEdgeStream = inboundEdgeStream;
@@ -74,6 +93,7 @@ public class StoreSnapshotTasklet implements Tasklet {
         this.isHigherPrioritySource = isHigherPrioritySource;
 
         this.ssWriter = ssWriter;
+        this.deltaTracker = deltaTracker;
         this.pendingSnapshotId = snapshotContext.activeSnapshotIdPhase1() + 1;
         addToInboxFunction = this::addToInbox;
     }
@@ -90,7 +110,7 @@ public class StoreSnapshotTasklet implements Tasklet {
             case DRAIN:
                 progTracker.notDone();
                 if (pendingEntry != null) {
-                    if (!ssWriter.offer(pendingEntry)) {
+                    if (!offer(pendingEntry)) {
                         return;
                     }
                     progTracker.madeProgress();
@@ -99,6 +119,9 @@ public class StoreSnapshotTasklet implements Tasklet {
                 ProgressState result = inboundEdgeStream.drainTo(addToInboxFunction);
                 if (result.isDone()) {
                     assert ssWriter.isEmpty() : "input is done, but we had some entries and not the barrier";
+                    if (deltaTracker != null && deltaTracker.hasPreviousKeys()) {
+                        snapshotContext.deltaBaseLost();
+                    }
                     snapshotContext.storeSnapshotTaskletDone(pendingSnapshotId - 1, isHigherPrioritySource);
                     state = DONE;
                     progTracker.reset();
@@ -112,7 +135,7 @@ public class StoreSnapshotTasklet implements Tasklet {
 
             case FLUSH:
                 progTracker.notDone();
-                if (ssWriter.flushAndResetMap()) {
+                if (offerTombstones() && ssWriter.flushAndResetMap()) {
                     progTracker.madeProgress();
                     state = REACHED_BARRIER;
                 }
@@ -136,6 +159,9 @@ public class StoreSnapshotTasklet implements Tasklet {
                 snapshotContext.phase1DoneForTasklet(bytes, keys, chunks);
                 metrics.set(new LongLongAccumulator(bytes, keys));
                 ssWriter.resetStats();
+                if (deltaTracker != null) {
+                    deltaTracker.snapshotDone();
+                }
                 pendingSnapshotId++;
                 hasReachedBarrier = false;
                 state = DRAIN;
@@ -154,7 +180,7 @@ public class StoreSnapshotTasklet implements Tasklet {
                     pendingSnapshotId + ", but barrier was " + barrier.snapshotId() + ", this=" + this;
             hasReachedBarrier = true;
         } else {
-            if (!ssWriter.offer((Entry<Data, Data>) o)) {
+            if (!offer((Entry<Data, Data>) o)) {
                 pendingEntry = (Entry<Data, Data>) o;
                 return false;
             }
@@ -162,6 +188,37 @@ public class StoreSnapshotTasklet implements Tasklet {
         return true;
     }
 
+    private boolean offer(Entry<Data, Data> entry) {
+        if (deltaTracker != null && !deltaTracker.shouldWrite(entry, snapshotContext.isDeltaSnapshot())) {
+            // not changed since the previous snapshot, skipped in a delta snapshot
+            return true;
+        }
+        return ssWriter.offer(entry);
+    }
+
+    /**
+     * Offers the tombstones for the keys removed since the previous snapshot,
+     * if the current snapshot is a delta snapshot. Returns true when done.
+     */
+    private boolean offerTombstones() {
+        if (deltaTracker == null || !snapshotContext.isDeltaSnapshot()) {
+            return true;
+        }
+        for (;;) {
+            if (pendingTombstone == null) {
+                pendingTombstone = deltaTracker.nextTombstone();
+                if (pendingTombstone == null) {
+                    return true;
+                }
+            }
+            if (!ssWriter.offer(pendingTombstone)) {
+                return false;
+            }
+            pendingTombstone = null;
+            progTracker.madeProgress();
+        }
+    }
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
         descriptor = descriptor.withTag(MetricTags.VERTEX, vertexName);
@@ -59,6 +59,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static com.hazelcast.internal.util.executor.ExecutorType.CACHED;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
@@ -69,6 +71,8 @@ import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MIN_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WORK_STEALING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WORK_STEALING_INTERVAL_MILLIS;
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
@@ -80,6 +84,13 @@ public class TaskletExecutionService {
 
     public static final String TASKLET_INIT_CLOSE_EXECUTOR_NAME = "jet:tasklet_initClose";
 
+    /**
+     * The minimum difference of the utilization of two cooperative workers,
+     * in percent, for the less utilized one to steal a tasklet from the
+     * other one.
+     */
+    static final int MIN_IMBALANCE_PERCENT = 20;
+
     private final ExecutorService blockingTaskletExecutor = newCachedThreadPool(new BlockingTaskThreadFactory());
     private final ExecutionService hzExecutionService;
     private final CooperativeWorker[] cooperativeWorkers;
@@ -93,6 +104,8 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final boolean workStealing;
+    private final long utilizationIntervalNanos;
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
         hzExecutionService = nodeEngine.getExecutionService();
@@ -109,6 +122,8 @@ public class TaskletExecutionService {
         idlerNonCooperative = createIdler(
             properties, JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS, JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS
         );
+        workStealing = properties.getBoolean(JET_WORK_STEALING_ENABLED);
+        utilizationIntervalNanos = properties.getNanos(JET_WORK_STEALING_INTERVAL_MILLIS);
 
         Arrays.setAll(cooperativeWorkers, i -> new CooperativeWorker());
         Arrays.setAll(cooperativeThreadPool, i -> new CooperativeWorkerThread(cooperativeWorkers[i],
@@ -342,6 +357,21 @@ public class TaskletExecutionService {
         private final CopyOnWriteArrayList<TaskletTracker> trackers;
         @Probe(name = "iterationCount")
         private final Counter iterationCount = SwCounter.newSwCounter();
+        @Probe(name = "busyTime", unit = NS)
+        private final Counter busyTime = SwCounter.newSwCounter();
+        @Probe(name = "stolenTaskletCount")
+        private final Counter stolenTaskletCount = SwCounter.newSwCounter();
+
+        /**
+         * The worker which asked this worker for a tasklet, handed over at
+         * the end of the current iteration.
+         */
+        private final AtomicReference<CooperativeWorker> stealRequest = new AtomicReference<>();
+        private volatile int utilizationPercent;
+        private volatile boolean receivedTasklet;
+        private long intervalStart = System.nanoTime();
+        private long intervalBusyNanos;
+        private long lastIntervalNanos = utilizationIntervalNanos;
 
         private final ProgressTracker progressTracker = new ProgressTracker();
         // prevent lambda allocation on each iteration
@@ -368,9 +398,11 @@ public class TaskletExecutionService {
             while (!isShutdown) {
                 finestLogEnabled = logger.isFinestEnabled();
                 progressTracker.reset();
+                long iterationStart = System.nanoTime();
                 // garbage-free iteration -- relies on implementation in COWArrayList that doesn't use an Iterator
                 trackers.forEach(runTasklet);
                 iterationCount.inc();
+                endIteration(iterationStart);
                 if (!progressTracker.isMadeProgress() && newTaskletSemaphore.drainPermits() > 0) {
                     progressTracker.madeProgress();
                 }
@@ -381,7 +413,13 @@ public class TaskletExecutionService {
                         newTaskletSemaphore.drainPermits();
                         if (trackers.isEmpty() && !isShutdown) {
                             try {
-                                newTaskletSemaphore.acquire();
+                                if (workStealing) {
+                                    // wake up at the end of the interval to look for a tasklet to steal
+                                    newTaskletSemaphore.tryAcquire(utilizationIntervalNanos, NANOSECONDS);
+                                } else {
+                                    utilizationPercent = 0;
+                                    newTaskletSemaphore.acquire();
+                                }
                             } catch (InterruptedException e) {
                                 logger.severe("Cooperative worker interrupted", e);
                                 return;
@@ -392,13 +430,17 @@ public class TaskletExecutionService {
                     }
                 }
             }
-            trackers.forEach(t -> t.executionTracker.taskletDone());
-            trackers.clear();
+            // a tasklet might be handed over to this worker concurrently, see handOverTasklet()
+            for (TaskletTracker t : trackers) {
+                if (trackers.remove(t)) {
+                    t.executionTracker.taskletDone();
+                }
+            }
         }
 
         private void runTasklet(TaskletTracker t) {
             long start = 0;
-            if (finestLogEnabled) {
+            if (finestLogEnabled || workStealing) {
                 start = System.nanoTime();
             }
             try {
@@ -417,6 +459,9 @@ public class TaskletExecutionService {
             if (t.executionTracker.executionCompletedExceptionally()) {
                 dismissTasklet(t);
             }
+            if (workStealing) {
+                t.intervalBusyNanos += System.nanoTime() - start;
+            }
 
             if (finestLogEnabled) {
                 long elapsedMs = NANOSECONDS.toMillis((System.nanoTime() - start));
@@ -432,12 +477,123 @@ public class TaskletExecutionService {
             t.executionTracker.taskletDone();
             trackers.remove(t);
         }
+
+        /**
+         * Accounts the iteration's busy time and, at the end of each
+         * interval, publishes the utilization. An iteration is busy if some
+         * tasklet made progress.
+         */
+        private void endIteration(long iterationStart) {
+            long now = System.nanoTime();
+            if (progressTracker.isMadeProgress()) {
+                long iterationNanos = now - iterationStart;
+                intervalBusyNanos += iterationNanos;
+                busyTime.inc(iterationNanos);
+            }
+            if (now - intervalStart >= utilizationIntervalNanos) {
+                lastIntervalNanos = now - intervalStart;
+                utilizationPercent = (int) (intervalBusyNanos * 100 / lastIntervalNanos);
+                intervalStart = now;
+                intervalBusyNanos = 0;
+                if (workStealing) {
+                    for (TaskletTracker t : trackers) {
+                        t.lastIntervalBusyNanos = t.intervalBusyNanos;
+                        t.intervalBusyNanos = 0;
+                    }
+                    requestTasklet();
+                }
+            }
+            if (workStealing) {
+                CooperativeWorker thief = stealRequest.getAndSet(null);
+                if (thief != null) {
+                    handOverTasklet(thief);
+                }
+            }
+        }
+
+        /**
+         * Asks the most utilized worker for a tasklet, if it's utilized
+         * significantly more than this worker.
+         */
+        private void requestTasklet() {
+            if (receivedTasklet) {
+                // our utilization doesn't reflect the received tasklet yet
+                receivedTasklet = false;
+                return;
+            }
+            CooperativeWorker victim = null;
+            int maxUtilization = utilizationPercent + MIN_IMBALANCE_PERCENT;
+            for (CooperativeWorker worker : cooperativeWorkers) {
+                int utilization = worker.utilizationPercent;
+                if (worker != this && utilization > maxUtilization && worker.trackers.size() > 1) {
+                    victim = worker;
+                    maxUtilization = utilization;
+                }
+            }
+            if (victim != null) {
+                victim.stealRequest.compareAndSet(null, this);
+            }
+        }
+
+        /**
+         * Hands over to the thief the tasklet whose busy time in the last
+         * interval is the closest to the half of the difference of our
+         * busy times. Called between the iterations, so the tasklet isn't
+         * being called. The thief's {@code trackers} list publishes the
+         * tasklet's state to the thief's thread.
+         */
+        private void handOverTasklet(CooperativeWorker thief) {
+            if (isShutdown || trackers.size() < 2) {
+                return;
+            }
+            int utilizationDiff = utilizationPercent - thief.utilizationPercent;
+            long targetNanos = utilizationDiff * lastIntervalNanos / 200;
+            TaskletTracker best = null;
+            for (TaskletTracker t : trackers) {
+                long busyNanos = t.lastIntervalBusyNanos;
+                // moving a tasklet busier than 2 * targetNanos would make the imbalance worse
+                if (busyNanos > 0 && busyNanos < 2 * targetNanos
+                        && (best == null
+                            || Math.abs(busyNanos - targetNanos) < Math.abs(best.lastIntervalBusyNanos - targetNanos))) {
+                    best = t;
+                }
+            }
+            if (best == null) {
+                return;
+            }
+            trackers.remove(best);
+            utilizationPercent -= (int) (best.lastIntervalBusyNanos * 100 / lastIntervalNanos);
+            best.intervalBusyNanos = 0;
+            best.lastIntervalBusyNanos = 0;
+            thief.receivedTasklet = true;
+            thief.trackers.add(best);
+            if (isShutdown && thief.trackers.remove(best)) {
+                // the thief might have already exited
+                best.executionTracker.taskletDone();
+            }
+            stolenTaskletCount.inc();
+            logger.finest("Tasklet %s handed over to another worker", best.tasklet);
+            thief.newTaskletSemaphore.release();
+            LockSupport.unpark(thief.myThread);
+        }
+
+        /**
+         * The percentage of the last interval in which the worker's tasklets
+         * made progress.
+         */
+        @Probe(name = "utilization", unit = PERCENT)
+        private int utilization() {
+            return utilizationPercent;
+        }
     }
 
     private static final class TaskletTracker {
         final Tasklet tasklet;
         final ExecutionTracker executionTracker;
         final ClassLoader jobClassLoader;
+        // accessed only by the thread of the worker running the tasklet
+        long intervalBusyNanos;
+        long lastIntervalBusyNanos;
 
         TaskletTracker(Tasklet tasklet, ExecutionTracker executionTracker, ClassLoader jobClassLoader) {
             this.tasklet = tasklet;
@@ -37,6 +37,7 @@ import com.hazelcast.jet.core.TopologyChangedException;
 import com.hazelcast.jet.function.RunnableEx;
 import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.JobClassLoaderService;
+import com.hazelcast.jet.impl.execution.BatchingConveyorCollector;
 import com.hazelcast.jet.impl.execution.ConcurrentInboundEdgeStream;
 import com.hazelcast.jet.impl.execution.ConveyorCollector;
 import com.hazelcast.jet.impl.execution.ConveyorCollectorWithPartition;
@@ -47,11 +48,13 @@ import com.hazelcast.jet.impl.execution.ProcessorTasklet;
 import com.hazelcast.jet.impl.execution.ReceiverTasklet;
 import com.hazelcast.jet.impl.execution.SenderTasklet;
 import com.hazelcast.jet.impl.execution.SnapshotContext;
+import com.hazelcast.jet.impl.execution.SnapshotDeltaTracker;
 import com.hazelcast.jet.impl.execution.StoreSnapshotTasklet;
 import com.hazelcast.jet.impl.execution.Tasklet;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcSupplierCtx;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
 import com.hazelcast.jet.impl.util.ImdgUtil;
 import com.hazelcast.jet.impl.util.ObjectWithPartitionId;
 import com.hazelcast.logging.ILogger;
@@ -97,6 +100,8 @@ import static com.hazelcast.jet.impl.util.PrefixedLogger.prefixedLogger;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.memoize;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_LOCAL_EDGE_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_DELTA_ENABLED;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.unmodifiableList;
@@ -231,11 +236,14 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                     Arrays.setAll(snapshotQueues, i -> new OneToOneConcurrentArrayQueue<>(SNAPSHOT_QUEUE_SIZE));
                     ssConveyor = ConcurrentConveyor.concurrentConveyor(null, snapshotQueues);
                     ILogger storeSnapshotLogger = prefixedLogger(nodeEngine.getLogger(StoreSnapshotTasklet.class), jobPrefix);
+                    SnapshotDeltaTracker deltaTracker = nodeEngine.getProperties().getBoolean(JET_SNAPSHOT_DELTA_ENABLED)
+                            ? new SnapshotDeltaTracker(jobSerializationService.toData(SnapshotDataTombstone.INSTANCE))
+                            : null;
                     StoreSnapshotTasklet ssTasklet = new StoreSnapshotTasklet(snapshotContext,
                             ConcurrentInboundEdgeStream.create(ssConveyor, 0, 0, true, jobPrefix + "/ssFrom", null),
                             new AsyncSnapshotWriterImpl(nodeEngine, snapshotContext, vertex.name(), memberIndex, memberCount,
                                     jobSerializationService),
-                            storeSnapshotLogger, vertex.name(), higherPriorityVertices.contains(vertex.vertexId()));
+                            deltaTracker, storeSnapshotLogger, vertex.name(), higherPriorityVertices.contains(vertex.vertexId()));
                     tasklets.add(ssTasklet);
                 }
 
@@ -609,7 +617,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
         if (edge.routingPolicy() == RoutingPolicy.ISOLATED) {
             OutboundCollector[] localCollectors = IntStream.range(0, downstreamParallelism)
                     .filter(i -> i % upstreamParallelism == processorIndex % downstreamParallelism)
-                    .mapToObj(i -> new ConveyorCollector(localConveyors[i],
+                    .mapToObj(i -> newLocalConveyorCollector(edge, localConveyors[i],
                             processorIndex / downstreamParallelism, null))
                     .toArray(OutboundCollector[]::new);
             return compositeCollector(localCollectors, edge, totalPartitionCount, true, false);
@@ -617,12 +625,27 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
             OutboundCollector[] localCollectors = new OutboundCollector[downstreamParallelism];
             Arrays.setAll(
                     localCollectors,
-                    n -> new ConveyorCollector(localConveyors[n], processorIndex, partitionsPerProcessor[n])
+                    n -> newLocalConveyorCollector(edge, localConveyors[n], processorIndex, partitionsPerProcessor[n])
             );
             return compositeCollector(localCollectors, edge, totalPartitionCount, true, false);
         }
     }
 
+    /**
+     * Creates a collector to a local conveyor which publishes the items in
+     * batches, if enabled by {@link com.hazelcast.spi.properties.ClusterProperty#JET_LOCAL_EDGE_BATCH_SIZE}.
+     * The items of an ordered edge are never batched.
+     */
+    private ConveyorCollector newLocalConveyorCollector(
+            EdgeDef edge, ConcurrentConveyor<Object> conveyor, int queueIndex, int[] partitions
+    ) {
+        int batchSize = nodeEngine.getProperties().getInteger(JET_LOCAL_EDGE_BATCH_SIZE);
+        if (batchSize > 1 && edge.getOrderComparator() == null) {
+            return new BatchingConveyorCollector(conveyor, queueIndex, partitions, batchSize);
+        }
+        return new ConveyorCollector(conveyor, queueIndex, partitions);
+    }
+
     private OutboundCollector[] createRemoteOutboundCollectors(EdgeDef edge, int processorIndex) {
         // the distributed-to-one edge must be partitioned and the target member must be present
         if (!edge.getDistributedTo().equals(DISTRIBUTE_TO_ALL)) {
@@ -122,6 +122,7 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
     public static final int UPLOAD_JOB_METADATA_OP = 52;
     public static final int UPLOAD_JOB_MULTIPART_OP = 53;
     public static final int UPDATE_JOB_CONFIG_OP = 54;
+    public static final int ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE = 55;
 
     public static final int FACTORY_ID = FactoryIdHelper.getFactoryId(JET_IMPL_DS_FACTORY, JET_IMPL_DS_FACTORY_ID);
 
@@ -165,6 +166,8 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_KEY -> new AsyncSnapshotWriterImpl.SnapshotDataKey();
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_VALUE_TERMINATOR ->
                         AsyncSnapshotWriterImpl.SnapshotDataValueTerminator.INSTANCE;
+                case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE ->
+                        AsyncSnapshotWriterImpl.SnapshotDataTombstone.INSTANCE;
                 case SNAPSHOT_PHASE1_RESULT -> new SnapshotPhase1Result();
                 case RESUME_JOB_OP -> new ResumeJobOperation();
                 case NOTIFY_MEMBER_SHUTDOWN_OP -> new NotifyMemberShutdownOperation();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.Traverser;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+
+/**
+ * A temporary file to which a processor spills the items it can't keep in
+ * memory. The items are first written and then read back in the same
+ * order, each item is stored as its serialized form prefixed by its length.
+ * <p>
+ * Not thread-safe.
+ */
+public final class SpillFile {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final InternalSerializationService serializationService;
+
+    private DataOutputStream out;
+    private DataInputStream in;
+    private long bytesWritten;
+    private long itemCount;
+
+    private SpillFile(Path path, InternalSerializationService serializationService) {
+        this.path = path;
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * Creates a new empty spill file in the given directory.
+     */
+    @Nonnull
+    public static SpillFile create(@Nonnull Path directory, @Nonnull InternalSerializationService serializationService) {
+        try {
+            return new SpillFile(Files.createTempFile(directory, "spill-", ".bin"), serializationService);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the given item to the file.
+     *
+     * @return the number of bytes written
+     */
+    public int write(@Nonnull Object item) {
+        assert in == null : "the file is being read";
+        byte[] bytes = serializationService.toData(item).toByteArray();
+        try {
+            if (out == null) {
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+            }
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int size = INT_SIZE_IN_BYTES + bytes.length;
+        bytesWritten += size;
+        itemCount++;
+        return size;
+    }
+
+    /**
+     * Returns a traverser over the items written to the file. Once the
+     * traverser is exhausted, the file is deleted. No more items can be
+     * written once this method is called.
+     */
+    @Nonnull
+    public <T> Traverser<T> traverser() {
+        closeOutput();
+        return new Traverser<>() {
+            private long remaining = itemCount;
+
+            @Override
+            public T next() {
+                if (remaining == 0) {
+                    delete();
+                    return null;
+                }
+                remaining--;
+                return read();
+            }
+        };
+    }
+
+    /**
+     * Returns the total number of bytes written to the file.
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of items written to the file.
+     */
+    public long itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Closes the file and deletes it. It's safe to call this method multiple
+     * times.
+     */
+    public void delete() {
+        IOUtil.closeResource(out);
+        IOUtil.closeResource(in);
+        out = null;
+        in = null;
+        IOUtil.deleteQuietly(path.toFile());
+    }
+
+    private <T> T read() {
+        try {
+            if (in == null) {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+            }
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return serializationService.toObject(new HeapData(bytes));
+        } catch (EOFException e) {
+            throw new IllegalStateException("Spill file " + path + " is truncated", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeOutput() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            out = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpillFile{path=" + path + ", itemCount=" + itemCount + ", bytesWritten=" + bytesWritten + '}';
+    }
+}
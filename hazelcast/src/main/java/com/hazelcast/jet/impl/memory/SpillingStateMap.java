@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A map for the keyed state of a processor which keeps all its keys, but
+ * only a limited number of its values on the heap. When there are more
+ * values, the least recently used ones are serialized and appended to a
+ * log file in the given directory, an in-memory index keeps their position
+ * in the file. A spilled value is read back when it's accessed again, the
+ * space it took in the file becomes dead. Once the file contains more dead
+ * bytes than live ones, the live values are copied to a new file.
+ * <p>
+ * The values returned from {@link #get} are on the heap and stay there
+ * until other values push them out, so processors can mutate their state
+ * objects in place. The entries returned when iterating contain copies of
+ * the spilled values and don't bring them back to the heap. Use {@link
+ * #set} and {@link #delete} instead of {@code put} and {@code remove} when
+ * the previous value isn't needed, they don't read it from the file.
+ * <p>
+ * Not thread-safe.
+ */
+public final class SpillingStateMap<K, V> extends AbstractMap<K, V> implements Closeable {
+
+    /**
+     * The file isn't compacted until it contains at least this many dead
+     * bytes.
+     */
+    static final long MIN_COMPACTION_BYTES = 1 << 20;
+
+    /**
+     * When the number of values on the heap exceeds the limit, this
+     * fraction of them is spilled at once, to amortize the cost of the write.
+     */
+    private static final int EVICTION_BATCH_DIVISOR = 8;
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Path directory;
+    private final int maxInMemoryEntries;
+    private final InternalSerializationService serializationService;
+    private final Map<K, Slot<V>> slots;
+    private final Map<K, Slot<V>> inMemory = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    private Path file;
+    private FileChannel channel;
+    private long fileSize;
+    private long liveBytes;
+    private long spilledBytes;
+    private long compactions;
+
+    /**
+     * @param directory          the directory in which to create the file,
+     *                           created if it doesn't exist
+     * @param maxInMemoryEntries the maximum number of values kept on the heap
+     * @param accessOrder        if {@code true}, the map iterates in the order
+     *                           in which its keys were last accessed, like an
+     *                           access-ordered {@link LinkedHashMap}. Otherwise
+     *                           it iterates in insertion order
+     */
+    public SpillingStateMap(
+            @Nonnull Path directory,
+            int maxInMemoryEntries,
+            boolean accessOrder,
+            @Nonnull InternalSerializationService serializationService
+    ) {
+        this.directory = directory;
+        this.maxInMemoryEntries = checkPositive("maxInMemoryEntries", maxInMemoryEntries);
+        this.serializationService = serializationService;
+        this.slots = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, accessOrder);
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slots.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Slot<V> slot = slots.get(key);
+        return slot != null ? load((K) key, slot) : null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Slot<V> slot = slots.get(key);
+        V oldValue = slot != null ? peek(slot) : null;
+        set(key, value);
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(@Nonnull Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            set(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        Slot<V> slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        V oldValue = peek(slot);
+        delete(key);
+        return oldValue;
+    }
+
+    /**
+     * Like {@link #put}, but doesn't return the previous value, so a spilled
+     * previous value isn't read from the file.
+     */
+    public void set(K key, V value) {
+        checkNotNull(value, "value must not be null");
+        Slot<V> slot = slots.get(key);
+        if (slot == null) {
+            slot = new Slot<>();
+            slots.put(key, slot);
+        } else {
+            discard(slot);
+        }
+        slot.value = value;
+        inMemory.put(key, slot);
+        evictIfNeeded();
+    }
+
+    /**
+     * Like {@link #remove}, but doesn't return the previous value, so a
+     * spilled previous value isn't read from the file.
+     */
+    public void delete(Object key) {
+        Slot<V> slot = slots.remove(key);
+        if (slot != null) {
+            inMemory.remove(key);
+            discard(slot);
+        }
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        inMemory.clear();
+        closeFile();
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * Returns the number of values currently on the heap.
+     */
+    public int inMemorySize() {
+        return inMemory.size();
+    }
+
+    /**
+     * Returns the total number of bytes written to the file, including the
+     * bytes copied by compactions.
+     */
+    public long spilledBytes() {
+        return spilledBytes;
+    }
+
+    /**
+     * Returns the number of times the file was compacted.
+     */
+    public long compactions() {
+        return compactions;
+    }
+
+    /**
+     * Removes all the entries and deletes the file.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private V load(K key, Slot<V> slot) {
+        if (slot.value != null) {
+            // touch the entry to make it the most recently used one
+            inMemory.get(key);
+            return slot.value;
+        }
+        V value = read(slot);
+        discard(slot);
+        slot.value = value;
+        inMemory.put(key, slot);
+        evictIfNeeded();
+        return value;
+    }
+
+    /**
+     * Returns the value of the slot, or a copy read from the file if it was
+     * spilled.
+     */
+    private V peek(Slot<V> slot) {
+        return slot.value != null ? slot.value : read(slot);
+    }
+
+    /**
+     * Marks the space the value of the slot took in the file as dead, if it
+     * was spilled.
+     */
+    private void discard(Slot<?> slot) {
+        if (slot.value == null) {
+            liveBytes -= slot.length;
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (inMemory.size() <= maxInMemoryEntries) {
+            return;
+        }
+        int targetSize = maxInMemoryEntries - maxInMemoryEntries / EVICTION_BATCH_DIVISOR;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (Iterator<Slot<V>> it = inMemory.values().iterator(); inMemory.size() > targetSize; ) {
+            Slot<V> slot = it.next();
+            it.remove();
+            byte[] bytes = serializationService.toData(slot.value).toByteArray();
+            slot.value = null;
+            slot.offset = fileSize + buffer.size();
+            slot.length = bytes.length;
+            buffer.write(bytes, 0, bytes.length);
+        }
+        append(buffer);
+        liveBytes += buffer.size();
+        long deadBytes = fileSize - liveBytes;
+        if (deadBytes >= MIN_COMPACTION_BYTES && deadBytes > liveBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Copies the spilled values to a new file and deletes the old one.
+     */
+    private void compact() {
+        Path oldFile = file;
+        FileChannel oldChannel = channel;
+        file = null;
+        channel = null;
+        fileSize = 0;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (Slot<V> slot : slots.values()) {
+            if (slot.value != null) {
+                continue;
+            }
+            byte[] bytes = readBytes(oldChannel, slot);
+            slot.offset = fileSize + buffer.size();
+            buffer.write(bytes, 0, bytes.length);
+            if (buffer.size() >= COPY_BUFFER_SIZE) {
+                append(buffer);
+                buffer.reset();
+            }
+        }
+        append(buffer);
+        liveBytes = fileSize;
+        closeResource(oldChannel);
+        deleteQuietly(oldFile.toFile());
+        compactions++;
+    }
+
+    private void append(ByteArrayOutputStream buffer) {
+        if (buffer.size() == 0) {
+            return;
+        }
+        try {
+            if (channel == null) {
+                Files.createDirectories(directory);
+                file = Files.createTempFile(directory, "hz-jet-state-", ".log");
+                channel = FileChannel.open(file, READ, WRITE);
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            for (long position = fileSize; bytes.hasRemaining(); ) {
+                position += channel.write(bytes, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        fileSize += buffer.size();
+        spilledBytes += buffer.size();
+    }
+
+    private V read(Slot<V> slot) {
+        return serializationService.toObject(new HeapData(readBytes(channel, slot)));
+    }
+
+    private static byte[] readBytes(FileChannel channel, Slot<?> slot) {
+        ByteBuffer bytes = ByteBuffer.allocate(slot.length);
+        try {
+            for (long position = slot.offset; bytes.hasRemaining(); ) {
+                int read = channel.read(bytes, position);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of the keyed state file at " + position);
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.array();
+    }
+
+    private void closeFile() {
+        if (channel != null) {
+            closeResource(channel);
+            deleteQuietly(file.toFile());
+            channel = null;
+            file = null;
+        }
+        fileSize = 0;
+        liveBytes = 0;
+    }
+
+    /**
+     * The value of an entry if it's on the heap, otherwise the position of
+     * its serialized form in the file.
+     */
+    private static final class Slot<V> {
+        V value;
+        long offset;
+        int length;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return slots.size();
+        }
+
+        @Nonnull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<>() {
+                private final Iterator<Entry<K, Slot<V>>> it = slots.entrySet().iterator();
+                private Entry<K, Slot<V>> last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    last = it.next();
+                    return new SimpleImmutableEntry<>(last.getKey(), peek(last.getValue()));
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    inMemory.remove(last.getKey());
+                    discard(last.getValue());
+                }
+            };
+        }
+    }
+}
@@ -26,15 +26,19 @@ import com.hazelcast.jet.core.EventTimePolicy;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.ResettableSingletonTraverser;
 import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
 import com.hazelcast.jet.impl.pipeline.transform.FlatMapTransform;
 import com.hazelcast.jet.impl.pipeline.transform.MapTransform;
+import com.hazelcast.jet.impl.pipeline.transform.ProcessorTransform;
 import com.hazelcast.jet.impl.pipeline.transform.SinkTransform;
 import com.hazelcast.jet.impl.pipeline.transform.StreamSourceTransform;
 import com.hazelcast.jet.impl.pipeline.transform.TimestampTransform;
 import com.hazelcast.jet.impl.pipeline.transform.Transform;
 import com.hazelcast.jet.impl.util.Util;
+import com.hazelcast.jet.pipeline.ServiceFactory;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 
@@ -50,7 +54,11 @@ import java.util.stream.Collectors;
 
 import static com.hazelcast.jet.core.Edge.from;
 import static com.hazelcast.jet.core.EventTimePolicy.eventTimePolicy;
+import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.impl.TopologicalSorter.checkTopologicalSort;
+import static com.hazelcast.jet.impl.pipeline.transform.FusedTransform.fusedFlatMapTransform;
+import static com.hazelcast.jet.impl.pipeline.transform.FusedTransform.fusedMapTransform;
+import static com.hazelcast.jet.impl.pipeline.transform.FusedTransform.fusedServiceTransform;
 import static com.hazelcast.jet.impl.util.Util.toList;
 import static java.util.stream.Collectors.toList;
 
@@ -111,7 +119,8 @@ public class Planner {
             }
         }
 
-        // fuse subsequent map/filter/flatMap transforms into one
+        // fuse subsequent map/filter/flatMap transforms, including at most one
+        // transform using a service, into one
         Map<Transform, List<Transform>> originalParents = new HashMap<>();
         List<Transform> transforms = new ArrayList<>(adjacencyMap.keySet());
         for (int i = 0; i < transforms.size(); i++) {
@@ -122,11 +131,12 @@ public class Planner {
             }
             // remove transforms in the chain and replace the parent with a fused transform
             transforms.removeAll(chain.subList(1, chain.size()));
-            Transform fused = fuseFlatMapTransforms(chain);
+            Transform fused = fuseTransforms(chain);
             transforms.set(i, fused);
             Transform lastInChain = chain.get(chain.size() - 1);
             for (Transform downstream : adjacencyMap.get(lastInChain)) {
-                originalParents.put(downstream, new ArrayList<>(downstream.upstream()));
+                // keep the original parents if the downstream's other parent was already replaced
+                originalParents.putIfAbsent(downstream, new ArrayList<>(downstream.upstream()));
                 downstream.upstream().replaceAll(p -> p == lastInChain ? fused : p);
             }
         }
@@ -151,10 +161,14 @@ public class Planner {
             @Nonnull Map<Transform, List<Transform>> adjacencyMap
     ) {
         ArrayList<Transform> chain = new ArrayList<>();
+        boolean chainUsesService = false;
         for (;;) {
-            if (!(transform instanceof MapTransform || transform instanceof FlatMapTransform)) {
+            boolean usesService = isFusibleServiceTransform(transform);
+            if (!(transform instanceof MapTransform || transform instanceof FlatMapTransform || usesService)
+                    || usesService && chainUsesService) {
                 break;
             }
+            chainUsesService |= usesService;
             chain.add(transform);
             List<Transform> downstream = adjacencyMap.get(transform);
             if (downstream.size() != 1) {
@@ -171,11 +185,61 @@ public class Planner {
         return chain.size() > 1 ? chain : null;
     }
 
+    /**
+     * Returns true if the transform applies a service synchronously, item by
+     * item. A non-cooperative service isn't fused unless the local parallelism
+     * is set explicitly: its vertex has a lower default local parallelism,
+     * which would apply to the fused transforms too.
+     */
+    private static boolean isFusibleServiceTransform(@Nonnull Transform transform) {
+        return transform instanceof ProcessorTransform processorTransform
+                && processorTransform.serviceFactory() != null
+                && (processorTransform.serviceFactory().isCooperative()
+                        || transform.localParallelism() != LOCAL_PARALLELISM_USE_DEFAULT);
+    }
+
     @SuppressWarnings("rawtypes")
-    private static Transform fuseFlatMapTransforms(List<Transform> chain) {
+    private static Transform fuseTransforms(List<Transform> chain) {
         assert chain.size() > 1 : "chain.size()=" + chain.size();
         assert chain.get(0).upstream().size() == 1;
 
+        String name = chain.stream().map(Transform::name).collect(Collectors.joining(", ", "fused(", ")"));
+        Transform upstream = chain.get(0).upstream().get(0);
+        int serviceIndex = 0;
+        while (serviceIndex < chain.size() && !(chain.get(serviceIndex) instanceof ProcessorTransform)) {
+            serviceIndex++;
+        }
+        Transform fused;
+        if (serviceIndex < chain.size()) {
+            ProcessorTransform serviceTransform = (ProcessorTransform) chain.get(serviceIndex);
+            TriFunction serviceFlatMapFn = mergeServiceFunctions(
+                    chain.subList(0, serviceIndex),
+                    serviceTransform.serviceFlatMapFn(),
+                    chain.subList(serviceIndex + 1, chain.size()));
+            fused = fusedServiceTransform(name, upstream, chain.size(),
+                    (ServiceFactory) serviceTransform.serviceFactory(), serviceFlatMapFn);
+        } else {
+            FunctionEx flatMapFn = mergeFlatMapFunctions(chain);
+            fused = flatMapFn == null
+                    ? fusedMapTransform(name, upstream, chain.size(), mergeMapFunctions(chain))
+                    : fusedFlatMapTransform(name, upstream, chain.size(), flatMapFn);
+        }
+        fused.localParallelism(chain.get(0).localParallelism());
+        // If the first stage of the chain is rebalanced, then we set the rebalance flag
+        // of the created fused stage. Only consider the case when first element of the
+        // chain is rebalanced because there isn't any other case. If any stage in the
+        // middle includes rebalance, then those stages are not fused by findFusibleChain().
+        fused.setRebalanceInput(0, chain.get(0).shouldRebalanceInput(0));
+        fused.setPartitionKeyFnForInput(0, chain.get(0).partitionKeyFnForInput(0));
+        return fused;
+    }
+
+    /**
+     * Returns a function applying the given map/flatMap transforms or {@code
+     * null} if there's no flatMap transform among them.
+     */
+    @SuppressWarnings("rawtypes")
+    private static FunctionEx<Object, Traverser> mergeFlatMapFunctions(List<Transform> chain) {
         int lastFlatMap = 0;
         FunctionEx<Object, Traverser> flatMapFn = null;
         for (int i = 0; i < chain.size(); i++) {
@@ -197,25 +261,50 @@ public class Planner {
                 lastFlatMap = i + 1;
             }
         }
-
-        FunctionEx trailingMapFn = mergeMapFunctions(chain.subList(lastFlatMap, chain.size()));
-        String name = chain.stream().map(Transform::name).collect(Collectors.joining(", ", "fused(", ")"));
-        Transform fused;
         if (flatMapFn == null) {
-            fused = new MapTransform(name, chain.get(0).upstream().get(0), trailingMapFn);
+            return null;
+        }
+        FunctionEx trailingMapFn = mergeMapFunctions(chain.subList(lastFlatMap, chain.size()));
+        if (trailingMapFn != null) {
+            flatMapFn = flatMapFn.andThen(t -> t.map(trailingMapFn));
+        }
+        return flatMapFn;
+    }
+
+    /**
+     * Returns a function for {@link com.hazelcast.jet.impl.processor.TransformUsingServiceP}
+     * which applies the {@code head} transforms, then the {@code serviceFn}
+     * and then the {@code tail} transforms.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser> mergeServiceFunctions(
+            List<Transform> head,
+            TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser<Object>> serviceFn,
+            List<Transform> tail
+    ) {
+        TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser> headAndServiceFn;
+        FunctionEx<Object, Traverser> inputFlatMapFn = mergeFlatMapFunctions(head);
+        if (inputFlatMapFn != null) {
+            headAndServiceFn = (trav, service, t) ->
+                    inputFlatMapFn.apply(t).flatMap(mappedValue -> serviceFn.apply(trav, service, mappedValue));
+        } else if (!head.isEmpty()) {
+            FunctionEx<Object, Object> inputMapFn = mergeMapFunctions(head);
+            headAndServiceFn = (trav, service, t) -> {
+                Object mappedValue = inputMapFn.apply(t);
+                return mappedValue != null ? serviceFn.apply(trav, service, mappedValue) : Traversers.empty();
+            };
         } else {
-            if (trailingMapFn != null) {
-                flatMapFn = flatMapFn.andThen(t -> t.map(trailingMapFn));
-            }
-            fused = new FlatMapTransform(name, chain.get(0).upstream().get(0), flatMapFn);
+            headAndServiceFn = (TriFunction) serviceFn;
         }
-        fused.localParallelism(chain.get(0).localParallelism());
-        // If the first stage of the chain is rebalanced, then we set the rebalance flag
-        // of the created fused stage. Only consider the case when first element of the
-        // chain is rebalanced because there isn't any other case. If any stage in the
-        // middle includes rebalance, then those stages are not fused by findFusibleChain().
-        fused.setRebalanceInput(0, chain.get(0).shouldRebalanceInput(0));
-        return fused;
+
+        FunctionEx<Object, Traverser> outputFlatMapFn = mergeFlatMapFunctions(tail);
+        if (outputFlatMapFn != null) {
+            return (trav, service, t) -> headAndServiceFn.apply(trav, service, t).flatMap(outputFlatMapFn);
+        } else if (!tail.isEmpty()) {
+            FunctionEx<Object, Object> outputMapFn = mergeMapFunctions(tail);
+            return (trav, service, t) -> headAndServiceFn.apply(trav, service, t).map(outputMapFn);
+        }
+        return headAndServiceFn;
     }
 
     @SuppressWarnings("rawtypes")
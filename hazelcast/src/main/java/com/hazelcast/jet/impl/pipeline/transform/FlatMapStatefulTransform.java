@@ -31,6 +31,7 @@ import java.util.function.Supplier;
 
 import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.flatMapStatefulP;
+import static com.hazelcast.jet.impl.processor.KeyedStateSpillingSupplier.keyedStateSpilling;
 
 public class FlatMapStatefulTransform<T, K, S, R> extends StatefulKeyedTransformBase<T, K, S> {
 
@@ -58,7 +59,7 @@ public class FlatMapStatefulTransform<T, K, S, R> extends StatefulKeyedTransform
     public void addToDag(Planner p, Context context) {
         determineLocalParallelism(LOCAL_PARALLELISM_USE_DEFAULT, context, false);
         PlannerVertex pv = p.addVertex(this, name(), determinedLocalParallelism(),
-                flatMapStatefulP(ttl, keyFn, timestampFn, createFn, statefulFlatMapFn, onEvictFn));
+                keyedStateSpilling(flatMapStatefulP(ttl, keyFn, timestampFn, createFn, statefulFlatMapFn, onEvictFn)));
         p.addEdges(this, pv.v, edge -> edge.partitioned(keyFn).distributed());
     }
 }
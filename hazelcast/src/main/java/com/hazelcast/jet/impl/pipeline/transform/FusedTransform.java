@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.pipeline.transform;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.Edge;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.core.ResettableSingletonTraverser;
+import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
+import com.hazelcast.jet.impl.pipeline.Planner;
+import com.hazelcast.jet.impl.pipeline.Planner.PlannerVertex;
+import com.hazelcast.jet.impl.processor.TransformP;
+import com.hazelcast.jet.impl.processor.TransformUsingServiceP;
+import com.hazelcast.jet.pipeline.ServiceFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+
+/**
+ * A chain of stateless transforms which the {@link Planner} fused into one
+ * transform, backed by a single vertex. The fused function either uses the
+ * service of one of the fused transforms or no service at all.
+ */
+public final class FusedTransform extends AbstractTransform {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int fusedStageCount;
+    @Nullable
+    private final FunctionEx<Object, Object> mapFn;
+    @Nullable
+    private final FunctionEx<Object, ? extends Traverser<?>> flatMapFn;
+    @Nullable
+    private final ServiceFactory<?, Object> serviceFactory;
+    @Nullable
+    private final TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser<Object>> serviceFlatMapFn;
+
+    private FusedTransform(
+            @Nonnull String name,
+            @Nonnull Transform upstream,
+            int fusedStageCount,
+            @Nullable FunctionEx<Object, Object> mapFn,
+            @Nullable FunctionEx<Object, ? extends Traverser<?>> flatMapFn,
+            @Nullable ServiceFactory<?, Object> serviceFactory,
+            @Nullable TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser<Object>> serviceFlatMapFn
+    ) {
+        super(name, upstream);
+        this.fusedStageCount = fusedStageCount;
+        this.mapFn = mapFn;
+        this.flatMapFn = flatMapFn;
+        this.serviceFactory = serviceFactory;
+        this.serviceFlatMapFn = serviceFlatMapFn;
+    }
+
+    public static FusedTransform fusedMapTransform(
+            @Nonnull String name,
+            @Nonnull Transform upstream,
+            int fusedStageCount,
+            @Nonnull FunctionEx<Object, Object> mapFn
+    ) {
+        return new FusedTransform(name, upstream, fusedStageCount, mapFn, null, null, null);
+    }
+
+    public static FusedTransform fusedFlatMapTransform(
+            @Nonnull String name,
+            @Nonnull Transform upstream,
+            int fusedStageCount,
+            @Nonnull FunctionEx<Object, ? extends Traverser<?>> flatMapFn
+    ) {
+        return new FusedTransform(name, upstream, fusedStageCount, null, flatMapFn, null, null);
+    }
+
+    public static FusedTransform fusedServiceTransform(
+            @Nonnull String name,
+            @Nonnull Transform upstream,
+            int fusedStageCount,
+            @Nonnull ServiceFactory<?, Object> serviceFactory,
+            @Nonnull TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser<Object>> serviceFlatMapFn
+    ) {
+        return new FusedTransform(name, upstream, fusedStageCount, null, null, serviceFactory, serviceFlatMapFn);
+    }
+
+    @Override
+    public void addToDag(Planner p, Context context) {
+        ProcessorMetaSupplier metaSupplier = serviceFactory != null
+                ? ProcessorMetaSupplier.of(ProcessorTransform.getPreferredLP(serviceFactory), serviceFactory.permission(),
+                        TransformUsingServiceP.supplier(serviceFactory, serviceFlatMapFn, fusedStageCount))
+                : ProcessorMetaSupplier.of(transformP(mapFn, flatMapFn, fusedStageCount));
+        determineLocalParallelism(metaSupplier.preferredLocalParallelism(), context, p.isPreserveOrder());
+        PlannerVertex pv = p.addVertex(this, name(), determinedLocalParallelism(), metaSupplier);
+        if (p.isPreserveOrder()) {
+            p.addEdges(this, pv.v, Edge::isolated);
+        } else {
+            p.addEdges(this, pv.v);
+        }
+    }
+
+    private static SupplierEx<Processor> transformP(
+            @Nullable FunctionEx<Object, Object> mapFn,
+            @Nullable FunctionEx<Object, ? extends Traverser<?>> flatMapFn,
+            int fusedStageCount
+    ) {
+        return () -> {
+            TransformP<Object, Object> processor;
+            if (mapFn != null) {
+                ResettableSingletonTraverser<Object> trav = new ResettableSingletonTraverser<>();
+                processor = new TransformP<>(item -> {
+                    trav.accept(mapFn.apply(item));
+                    return trav;
+                });
+            } else {
+                processor = new TransformP<>(flatMapFn);
+            }
+            processor.setFusedStageCount(fusedStageCount);
+            return processor;
+        };
+    }
+}
@@ -30,6 +30,7 @@ import java.util.function.Supplier;
 
 import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.mapStatefulP;
+import static com.hazelcast.jet.impl.processor.KeyedStateSpillingSupplier.keyedStateSpilling;
 
 public class MapStatefulTransform<T, K, S, R> extends StatefulKeyedTransformBase<T, K, S> {
 
@@ -57,7 +58,7 @@ public class MapStatefulTransform<T, K, S, R> extends StatefulKeyedTransformBase
     public void addToDag(Planner p, Context context) {
         determineLocalParallelism(LOCAL_PARALLELISM_USE_DEFAULT, context, false);
         PlannerVertex pv = p.addVertex(this, name(), determinedLocalParallelism(),
-                mapStatefulP(ttl, keyFn, timestampFn, createFn, statefulMapFn, onEvictFn));
+                keyedStateSpilling(mapStatefulP(ttl, keyFn, timestampFn, createFn, statefulMapFn, onEvictFn)));
         p.addEdges(this, pv.v, edge -> edge.partitioned(keyFn).distributed());
     }
 }
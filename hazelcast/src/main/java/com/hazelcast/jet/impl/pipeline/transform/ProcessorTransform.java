@@ -23,23 +23,24 @@ import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.Edge;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.ResettableSingletonTraverser;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
 import com.hazelcast.jet.impl.pipeline.Planner;
 import com.hazelcast.jet.impl.pipeline.Planner.PlannerVertex;
 import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceBatchedP;
 import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceOrderedP;
 import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceUnorderedP;
+import com.hazelcast.jet.impl.processor.TransformUsingServiceP;
 import com.hazelcast.jet.pipeline.ServiceFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.Serial;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
-import static com.hazelcast.jet.core.processor.Processors.filterUsingServiceP;
-import static com.hazelcast.jet.core.processor.Processors.flatMapUsingServiceP;
-import static com.hazelcast.jet.core.processor.Processors.mapUsingServiceP;
 
 public class ProcessorTransform extends AbstractTransform {
     public static final int NON_COOPERATIVE_DEFAULT_LOCAL_PARALLELISM = 2;
@@ -49,6 +50,13 @@ public class ProcessorTransform extends AbstractTransform {
 
     final ProcessorMetaSupplier processorSupplier;
 
+    // set for the transforms backed by TransformUsingServiceP, so that the
+    // Planner can fuse them with the adjacent stateless transforms
+    @Nullable
+    private ServiceFactory<?, ?> serviceFactory;
+    @Nullable
+    private TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser<Object>> serviceFlatMapFn;
+
     ProcessorTransform(
             @Nonnull String name,
             @Nonnull Transform upstream,
@@ -58,6 +66,19 @@ public class ProcessorTransform extends AbstractTransform {
         this.processorSupplier = processorSupplier;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <S, T, R> ProcessorTransform(
+            @Nonnull String name,
+            @Nonnull Transform upstream,
+            @Nonnull ServiceFactory<?, S> serviceFactory,
+            @Nonnull TriFunction<ResettableSingletonTraverser<R>, S, T, Traverser<R>> flatMapFn
+    ) {
+        this(name, upstream, ProcessorMetaSupplier.of(getPreferredLP(serviceFactory), serviceFactory.permission(),
+                TransformUsingServiceP.supplier(serviceFactory, flatMapFn)));
+        this.serviceFactory = serviceFactory;
+        this.serviceFlatMapFn = (TriFunction) flatMapFn;
+    }
+
     public static ProcessorTransform customProcessorTransform(
             @Nonnull String name,
             @Nonnull Transform upstream,
@@ -71,9 +92,11 @@ public class ProcessorTransform extends AbstractTransform {
             @Nonnull ServiceFactory<?, S> serviceFactory,
             @Nonnull BiFunctionEx<? super S, ? super T, ? extends R> mapFn
     ) {
-        return new ProcessorTransform("mapUsingService", upstream,
-                ProcessorMetaSupplier.of(getPreferredLP(serviceFactory), serviceFactory.permission(),
-                        mapUsingServiceP(serviceFactory, mapFn)));
+        return new ProcessorTransform("mapUsingService", upstream, serviceFactory,
+                (ResettableSingletonTraverser<R> singletonTraverser, S service, T item) -> {
+                    singletonTraverser.accept(mapFn.apply(service, item));
+                    return singletonTraverser;
+                });
     }
 
     public static <S, T> ProcessorTransform filterUsingServiceTransform(
@@ -81,9 +104,11 @@ public class ProcessorTransform extends AbstractTransform {
             @Nonnull ServiceFactory<?, S> serviceFactory,
             @Nonnull BiPredicateEx<? super S, ? super T> filterFn
     ) {
-        return new ProcessorTransform("filterUsingService", upstream,
-                ProcessorMetaSupplier.of(getPreferredLP(serviceFactory), serviceFactory.permission(),
-                        filterUsingServiceP(serviceFactory, filterFn)));
+        return new ProcessorTransform("filterUsingService", upstream, serviceFactory,
+                (ResettableSingletonTraverser<T> singletonTraverser, S service, T item) -> {
+                    singletonTraverser.accept(filterFn.test(service, item) ? item : null);
+                    return singletonTraverser;
+                });
     }
 
     public static <S, T, R> ProcessorTransform flatMapUsingServiceTransform(
@@ -91,9 +116,8 @@ public class ProcessorTransform extends AbstractTransform {
             @Nonnull ServiceFactory<?, S> serviceFactory,
             @Nonnull BiFunctionEx<? super S, ? super T, ? extends Traverser<R>> flatMapFn
     ) {
-        return new ProcessorTransform("flatMapUsingService", upstream,
-                ProcessorMetaSupplier.of(getPreferredLP(serviceFactory), serviceFactory.permission(),
-                        flatMapUsingServiceP(serviceFactory, flatMapFn)));
+        return new ProcessorTransform("flatMapUsingService", upstream, serviceFactory,
+                (ResettableSingletonTraverser<R> singletonTraverser, S service, T item) -> flatMapFn.apply(service, item));
     }
 
     public static <S, T, R> ProcessorTransform flatMapUsingServiceAsyncTransform(
@@ -130,6 +154,25 @@ public class ProcessorTransform extends AbstractTransform {
         return new ProcessorTransform(name, upstream, metaSupplier);
     }
 
+    /**
+     * Returns the service factory if this transform applies a service
+     * synchronously, item by item, {@code null} otherwise.
+     */
+    @Nullable
+    public ServiceFactory<?, ?> serviceFactory() {
+        return serviceFactory;
+    }
+
+    /**
+     * Returns the function applied by this transform to each item if {@link
+     * #serviceFactory()} is not null. It's the function passed to {@link
+     * TransformUsingServiceP#supplier}.
+     */
+    @Nullable
+    public TriFunction<ResettableSingletonTraverser<Object>, Object, Object, Traverser<Object>> serviceFlatMapFn() {
+        return serviceFlatMapFn;
+    }
+
     static int getPreferredLP(@Nonnull ServiceFactory<?, ?> serviceFactory) {
         return serviceFactory.isCooperative()
                 ? LOCAL_PARALLELISM_USE_DEFAULT
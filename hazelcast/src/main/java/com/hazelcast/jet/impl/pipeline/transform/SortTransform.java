@@ -24,6 +24,7 @@ import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
 import com.hazelcast.jet.impl.pipeline.Planner;
 import com.hazelcast.jet.impl.pipeline.Planner.PlannerVertex;
+import com.hazelcast.jet.impl.processor.SortP;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -34,7 +35,6 @@ import static com.hazelcast.function.FunctionEx.identity;
 import static com.hazelcast.jet.core.Edge.between;
 import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.mapP;
-import static com.hazelcast.jet.core.processor.Processors.sortP;
 
 
 public class SortTransform<T> extends AbstractTransform {
@@ -59,7 +59,7 @@ public class SortTransform<T> extends AbstractTransform {
     public void addToDag(Planner p, Context context) {
         String vertexName = name();
         determineLocalParallelism(LOCAL_PARALLELISM_USE_DEFAULT, context, p.isPreserveOrder());
-        Vertex v1 = p.dag.newVertex(vertexName, sortP(comparator))
+        Vertex v1 = p.dag.newVertex(vertexName, SortP.supplier(comparator))
                          .localParallelism(determinedLocalParallelism());
         if (p.isPreserveOrder()) {
             p.addEdges(this, v1, Edge::isolated);
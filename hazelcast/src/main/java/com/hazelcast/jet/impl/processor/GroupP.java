@@ -22,9 +22,12 @@ import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillingStateMap;
 
 import javax.annotation.Nonnull;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -41,10 +44,13 @@ import static java.util.Collections.singletonList;
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * The accumulators are kept on the heap, unless the processor is told to
+ * {@linkplain SpillableKeyedState spill them} to local disk.
  */
-public class GroupP<K, A, R, OUT> extends AbstractProcessor {
+public class GroupP<K, A, R, OUT> extends AbstractProcessor implements SpillableKeyedState {
 
-    protected final Map<K, A> keyToAcc = new HashMap<>();
+    protected Map<K, A> keyToAcc = new HashMap<>();
 
     private final List<FunctionEx<?, ? extends K>> groupKeyFns;
     private final AggregateOperation<A, R> aggrOp;
@@ -52,6 +58,8 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
 
     private long maxEntries;
     private Traverser<OUT> resultTraverser;
+    private Path spillDirectory;
+    private int maxInMemoryEntries;
 
     public GroupP(
             @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
@@ -73,9 +81,27 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
         this(singletonList(groupKeyFn), aggrOp, mapToOutputFn);
     }
 
+    @Override
+    public void spillKeyedState(@Nonnull Path spillDirectory, int maxInMemoryEntries) {
+        this.spillDirectory = spillDirectory;
+        this.maxInMemoryEntries = maxInMemoryEntries;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return spillDirectory == null;
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (spillDirectory != null) {
+            Map<K, A> spillingMap = new SpillingStateMap<>(spillDirectory, maxInMemoryEntries, false,
+                    ((InternalProcSupplierCtx) context).serializationService());
+            // subclasses can add accumulators in the constructor
+            spillingMap.putAll(keyToAcc);
+            keyToAcc = spillingMap;
+        }
     }
 
     @Override
@@ -106,7 +132,14 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        return spillDirectory == null;
+    }
+
+    @Override
+    public void close() {
+        if (keyToAcc instanceof SpillingStateMap<K, A> spillingMap) {
+            spillingMap.close();
+        }
     }
 
     private class ResultTraverser implements Traverser<Entry<K, A>> {
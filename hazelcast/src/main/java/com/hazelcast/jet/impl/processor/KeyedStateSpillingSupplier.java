@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import javax.annotation.Nonnull;
+import java.io.Serial;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_KEYED_STATE_SPILL_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_KEYED_STATE_SPILL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_KEYED_STATE_SPILL_MAX_IN_MEMORY_ENTRIES;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A supplier of processors which keep their keyed state on local disk if
+ * enabled by {@link com.hazelcast.spi.properties.ClusterProperty#JET_KEYED_STATE_SPILL_ENABLED}.
+ * The processors not implementing {@link SpillableKeyedState} are returned
+ * unchanged.
+ */
+public final class KeyedStateSpillingSupplier implements ProcessorSupplier {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final SupplierEx<Processor> processorSupplier;
+
+    private transient Path spillDirectory;
+    private transient int maxInMemoryEntries;
+
+    private KeyedStateSpillingSupplier(@Nonnull SupplierEx<Processor> processorSupplier) {
+        this.processorSupplier = processorSupplier;
+    }
+
+    @Nonnull
+    public static ProcessorSupplier keyedStateSpilling(@Nonnull SupplierEx<Processor> processorSupplier) {
+        return new KeyedStateSpillingSupplier(processorSupplier);
+    }
+
+    @Override
+    public void init(@Nonnull Context context) {
+        HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+        if (properties.getBoolean(JET_KEYED_STATE_SPILL_ENABLED)) {
+            String directory = properties.getString(JET_KEYED_STATE_SPILL_DIRECTORY);
+            spillDirectory = Paths.get(directory != null ? directory : System.getProperty("java.io.tmpdir"));
+            maxInMemoryEntries = properties.getInteger(JET_KEYED_STATE_SPILL_MAX_IN_MEMORY_ENTRIES);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Collection<? extends Processor> get(int count) {
+        return Stream.generate(this::newProcessor)
+                .limit(count)
+                .collect(toList());
+    }
+
+    private Processor newProcessor() {
+        Processor processor = processorSupplier.get();
+        if (spillDirectory != null && processor instanceof SpillableKeyedState spillable) {
+            spillable.spillKeyedState(spillDirectory, maxInMemoryEntries);
+        }
+        return processor;
+    }
+}
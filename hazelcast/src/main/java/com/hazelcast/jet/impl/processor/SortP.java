@@ -16,51 +16,305 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.stream.Stream;
 
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_RUN_SIZE;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Sorts its input and emits it in the {@code complete} phase.
+ * <p>
+ * By default all the items are sorted in memory. When constructed with a
+ * spill directory, the processor performs an external merge sort: once it
+ * accumulates {@code runSize} items, it sorts them and spills them to a
+ * file as a sorted run. In the {@code complete} phase the runs are merged,
+ * at most {@link #MAX_MERGE_WIDTH} at a time.
+ */
 public class SortP<T> extends AbstractProcessor {
 
-    private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
+    /**
+     * The maximum number of runs merged at once, limits the number of open
+     * files.
+     */
+    static final int MAX_MERGE_WIDTH = 64;
+
+    @Probe(name = "spilledBytes")
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = "spilledRuns")
+    private final Counter spilledRuns = SwCounter.newSwCounter();
+    @Probe(name = "mergePasses")
+    private final Counter mergePasses = SwCounter.newSwCounter();
+
+    private final Comparator<T> comparator;
+    private final Path spillParentDirectory;
+    private final long runSize;
+
+    private PriorityQueue<T> priorityQueue;
+    private List<T> run;
+    private final List<SpillFile> spilledFiles = new ArrayList<>();
+    private Path spillDirectory;
+    private InternalSerializationService serializationService;
+    private Traverser<T> resultTraverser;
 
     private long maxItems;
 
     public SortP(@Nullable Comparator<T> comparator) {
-        this.priorityQueue = new PriorityQueue<>(comparator);
-        this.resultTraverser = priorityQueue::poll;
+        this(comparator, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param spillParentDirectory the directory in which the processor creates
+     *                             its spill directory or {@code null} to sort
+     *                             in memory only
+     * @param runSize              the maximum number of items in a sorted run,
+     *                             ignored if not spilling
+     */
+    @SuppressWarnings("unchecked")
+    public SortP(@Nullable Comparator<T> comparator, @Nullable Path spillParentDirectory, long runSize) {
+        this.comparator = comparator != null ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.spillParentDirectory = spillParentDirectory;
+        this.runSize = runSize;
+        if (spillParentDirectory == null) {
+            this.priorityQueue = new PriorityQueue<>(comparator);
+            this.resultTraverser = priorityQueue::poll;
+        } else {
+            this.run = new ArrayList<>();
+        }
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        if (spillParentDirectory != null) {
+            serializationService = ((InternalProcSupplierCtx) context).serializationService();
+        }
+    }
+
+    @Override
+    public boolean isCooperative() {
+        // spilling to and merging from files is blocking
+        return spillParentDirectory == null;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess0(@Nonnull Object item) {
-        if (priorityQueue.size() == maxItems) {
-            throw new AccumulationLimitExceededException();
+        if (priorityQueue != null) {
+            if (priorityQueue.size() == maxItems) {
+                throw new AccumulationLimitExceededException();
+            }
+            priorityQueue.add((T) item);
+            return true;
         }
 
-        priorityQueue.add((T) item);
+        // the accumulation limit applies to a single run when spilling
+        if (run.size() >= Math.min(runSize, maxItems)) {
+            spillRun();
+        }
+        run.add((T) item);
         return true;
     }
 
     @Override
     public boolean complete() {
+        if (resultTraverser == null) {
+            run.sort(comparator);
+            if (spilledFiles.isEmpty()) {
+                resultTraverser = Traversers.traverseIterable(run);
+            } else {
+                mergeUntilFitsWidth();
+                List<Traverser<T>> inputs = new ArrayList<>(spilledFiles.size() + 1);
+                for (SpillFile file : spilledFiles) {
+                    inputs.add(file.traverser());
+                }
+                inputs.add(Traversers.traverseIterable(run));
+                resultTraverser = new MergingTraverser<>(inputs, comparator);
+                mergePasses.inc();
+            }
+        }
         return emitFromTraverser(resultTraverser);
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        return spillParentDirectory == null;
+    }
+
+    @Override
+    public void close() {
+        for (SpillFile file : spilledFiles) {
+            file.delete();
+        }
+        spilledFiles.clear();
+        if (spillDirectory != null) {
+            deleteQuietly(spillDirectory.toFile());
+        }
+    }
+
+    private void spillRun() {
+        run.sort(comparator);
+        SpillFile file = newSpillFile();
+        for (T item : run) {
+            spilledBytes.inc(file.write(item));
+        }
+        spilledFiles.add(file);
+        spilledRuns.inc();
+        run.clear();
+    }
+
+    /**
+     * Merges the spilled runs until their number, together with the run
+     * still in memory, does not exceed {@link #MAX_MERGE_WIDTH}.
+     */
+    private void mergeUntilFitsWidth() {
+        while (spilledFiles.size() >= MAX_MERGE_WIDTH) {
+            List<SpillFile> merged = new ArrayList<>();
+            for (int from = 0; from < spilledFiles.size(); from += MAX_MERGE_WIDTH) {
+                List<SpillFile> group = spilledFiles.subList(from, Math.min(from + MAX_MERGE_WIDTH, spilledFiles.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                List<Traverser<T>> inputs = group.stream().<Traverser<T>>map(SpillFile::traverser).collect(toList());
+                Traverser<T> traverser = new MergingTraverser<>(inputs, comparator);
+                SpillFile file = newSpillFile();
+                for (T item; (item = traverser.next()) != null; ) {
+                    spilledBytes.inc(file.write(item));
+                }
+                merged.add(file);
+            }
+            spilledFiles.clear();
+            spilledFiles.addAll(merged);
+            mergePasses.inc();
+        }
+    }
+
+    private SpillFile newSpillFile() {
+        try {
+            if (spillDirectory == null) {
+                Files.createDirectories(spillParentDirectory);
+                spillDirectory = Files.createTempDirectory(spillParentDirectory, "hz-jet-sort-");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return SpillFile.create(spillDirectory, serializationService);
+    }
+
+    /**
+     * Returns a supplier of sorting processors which spill to disk if
+     * enabled by {@link com.hazelcast.spi.properties.ClusterProperty#JET_SORT_SPILL_ENABLED}.
+     */
+    @Nonnull
+    public static ProcessorSupplier supplier(@Nullable ComparatorEx<?> comparator) {
+        return new Supplier(comparator);
+    }
+
+    /**
+     * Merges sorted traversers into a single sorted one.
+     */
+    private static final class MergingTraverser<T> implements Traverser<T> {
+
+        private final PriorityQueue<Head<T>> heads;
+
+        MergingTraverser(List<Traverser<T>> inputs, Comparator<T> comparator) {
+            heads = new PriorityQueue<>(inputs.size(), (left, right) -> comparator.compare(left.item, right.item));
+            for (Traverser<T> input : inputs) {
+                T item = input.next();
+                if (item != null) {
+                    heads.add(new Head<>(input, item));
+                }
+            }
+        }
+
+        @Override
+        public T next() {
+            Head<T> head = heads.poll();
+            if (head == null) {
+                return null;
+            }
+            T result = head.item;
+            head.item = head.input.next();
+            if (head.item != null) {
+                heads.add(head);
+            }
+            return result;
+        }
+    }
+
+    private static final class Head<T> {
+        final Traverser<T> input;
+        T item;
+
+        Head(Traverser<T> input, T item) {
+            this.input = input;
+            this.item = item;
+        }
+    }
+
+    private static final class Supplier implements ProcessorSupplier {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final ComparatorEx<Object> comparator;
+
+        private transient Path spillDirectory;
+        private transient long runSize;
+
+        @SuppressWarnings("unchecked")
+        Supplier(@Nullable ComparatorEx<?> comparator) {
+            this.comparator = (ComparatorEx<Object>) comparator;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+            if (properties.getBoolean(JET_SORT_SPILL_ENABLED)) {
+                String directory = properties.getString(JET_SORT_SPILL_DIRECTORY);
+                spillDirectory = Paths.get(directory != null ? directory : System.getProperty("java.io.tmpdir"));
+                runSize = properties.getLong(JET_SORT_SPILL_RUN_SIZE);
+            }
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            return Stream.generate(() -> new SortP<>(comparator, spillDirectory, runSize))
+                    .limit(count)
+                    .collect(toList());
+        }
     }
 }
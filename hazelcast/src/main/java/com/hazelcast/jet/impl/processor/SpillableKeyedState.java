@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.impl.memory.SpillingStateMap;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+
+/**
+ * Implemented by processors which can keep their keyed state in a {@link
+ * SpillingStateMap} instead of on the heap. By default, they keep it on
+ * the heap.
+ */
+public interface SpillableKeyedState {
+
+    /**
+     * Makes the processor keep its keyed state in a {@link SpillingStateMap}.
+     * Called before the processor is initialized. The processor isn't
+     * cooperative afterwards.
+     *
+     * @param spillDirectory     the directory for the state file
+     * @param maxInMemoryEntries the maximum number of state objects kept on
+     *                           the heap
+     */
+    void spillKeyedState(@Nonnull Path spillDirectory, int maxInMemoryEntries);
+}
@@ -17,11 +17,18 @@
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 
 import javax.annotation.Nonnull;
 
+import static com.hazelcast.jet.core.metrics.MetricNames.FUSED_STAGES;
+
 /**
  * Processor which, for each received item, emits all the items from the
  * traverser returned by the given item-to-traverser function.
@@ -29,9 +36,10 @@ import javax.annotation.Nonnull;
  * @param <T> received item type
  * @param <R> emitted item type
  */
-public class TransformP<T, R> extends AbstractProcessor {
+public class TransformP<T, R> extends AbstractProcessor implements DynamicMetricsProvider {
     private final FlatMapper<T, R> flatMapper;
     private boolean isCooperative = true;
+    private int fusedStageCount = 1;
 
     /**
      * Constructs a processor with the given mapping function.
@@ -59,4 +67,20 @@ public class TransformP<T, R> extends AbstractProcessor {
     public void setCooperative(boolean cooperative) {
         isCooperative = cooperative;
     }
+
+    /**
+     * Sets the number of pipeline stages the mapping function was fused
+     * from, reported as the {@value com.hazelcast.jet.core.metrics.MetricNames#FUSED_STAGES}
+     * metric.
+     */
+    public void setFusedStageCount(int fusedStageCount) {
+        this.fusedStageCount = fusedStageCount;
+    }
+
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        if (fusedStageCount > 1) {
+            context.collect(descriptor, FUSED_STAGES, ProbeLevel.INFO, ProbeUnit.COUNT, fusedStageCount);
+        }
+    }
 }
@@ -28,11 +28,14 @@ import com.hazelcast.jet.core.ResettableSingletonTraverser;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.datamodel.TimestampedItem;
 import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillingStateMap;
 import com.hazelcast.jet.impl.util.Util;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -47,7 +50,7 @@ import static com.hazelcast.jet.impl.util.Util.logLateEvent;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
-public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
+public class TransformStatefulP<T, K, S, R> extends AbstractProcessor implements SpillableKeyedState {
     private static final int HASH_MAP_INITIAL_CAPACITY = 16;
     private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
     private static final Watermark FLUSHING_WATERMARK = new Watermark(Long.MAX_VALUE);
@@ -62,7 +65,7 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     private final TriFunction<? super S, ? super K, ? super T, ? extends Traverser<R>> statefulFlatMapFn;
     @Nullable
     private final TriFunction<? super S, ? super K, ? super Long, ? extends Traverser<R>> onEvictFn;
-    private final Map<K, TimestampedItem<S>> keyToState =
+    private Map<K, TimestampedItem<S>> keyToState =
             new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true);
     private final FlatMapper<T, R> flatMapper = flatMapper(this::flatMapEvent);
 
@@ -75,6 +78,8 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     private boolean inComplete;
 
     private long maxEntries;
+    private Path spillDirectory;
+    private int maxInMemoryEntries;
 
     public TransformStatefulP(
             long ttl,
@@ -92,9 +97,25 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
         this.onEvictFn = onEvictFn;
     }
 
+    @Override
+    public void spillKeyedState(@Nonnull Path spillDirectory, int maxInMemoryEntries) {
+        this.spillDirectory = spillDirectory;
+        this.maxInMemoryEntries = maxInMemoryEntries;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return spillDirectory == null;
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (spillDirectory != null) {
+            // access order is kept so that the eviction can stop at the first live entry
+            keyToState = new SpillingStateMap<>(spillDirectory, maxInMemoryEntries, true,
+                    ((InternalProcSupplierCtx) context).serializationService());
+        }
     }
 
     @Override
@@ -145,7 +166,14 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        return spillDirectory == null;
+    }
+
+    @Override
+    public void close() {
+        if (keyToState instanceof SpillingStateMap<K, TimestampedItem<S>> spillingMap) {
+            spillingMap.close();
+        }
     }
 
     private class EvictingTraverser implements Traverser<Traverser<?>> {
@@ -16,6 +16,11 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.ResettableSingletonTraverser;
@@ -24,6 +29,7 @@ import com.hazelcast.jet.pipeline.ServiceFactory;
 
 import javax.annotation.Nonnull;
 
+import static com.hazelcast.jet.core.metrics.MetricNames.FUSED_STAGES;
 import static com.hazelcast.jet.impl.processor.ProcessorSupplierWithService.supplierWithService;
 
 /**
@@ -34,10 +40,12 @@ import static com.hazelcast.jet.impl.processor.ProcessorSupplierWithService.supp
  * @param <T> received item type
  * @param <R> emitted item type
  */
-public final class TransformUsingServiceP<C, S, T, R> extends AbstractTransformUsingServiceP<C, S> {
+public final class TransformUsingServiceP<C, S, T, R> extends AbstractTransformUsingServiceP<C, S>
+        implements DynamicMetricsProvider {
 
     private final TriFunction<? super ResettableSingletonTraverser<R>, ? super S, ? super T, ? extends Traverser<R>>
             flatMapFn;
+    private final int fusedStageCount;
 
     private Traverser<? extends R> outputTraverser;
     private final ResettableSingletonTraverser<R> singletonTraverser = new ResettableSingletonTraverser<>();
@@ -49,13 +57,14 @@ public final class TransformUsingServiceP<C, S, T, R> extends AbstractTransformU
             @Nonnull ServiceFactory<C, S> serviceFactory,
             @Nonnull C context,
             @Nonnull TriFunction<? super ResettableSingletonTraverser<R>, ? super S, ? super T, ? extends Traverser<R>>
-                    flatMapFn
+                    flatMapFn,
+            int fusedStageCount
     ) {
         super(serviceFactory, context);
         this.flatMapFn = flatMapFn;
+        this.fusedStageCount = fusedStageCount;
     }
 
-
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
@@ -69,6 +78,13 @@ public final class TransformUsingServiceP<C, S, T, R> extends AbstractTransformU
         return false;
     }
 
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        if (fusedStageCount > 1) {
+            context.collect(descriptor, FUSED_STAGES, ProbeLevel.INFO, ProbeUnit.COUNT, fusedStageCount);
+        }
+    }
+
     /**
      * The {@link ResettableSingletonTraverser} is passed as a first argument to
      * {@code flatMapFn}, it can be used if needed.
@@ -77,9 +93,22 @@ public final class TransformUsingServiceP<C, S, T, R> extends AbstractTransformU
             @Nonnull ServiceFactory<C, S> serviceFactory,
             @Nonnull TriFunction<? super ResettableSingletonTraverser<R>, ? super S, ? super T, ? extends Traverser<R>>
                     flatMapFn
+    ) {
+        return supplier(serviceFactory, flatMapFn, 1);
+    }
+
+    /**
+     * Same as {@link #supplier(ServiceFactory, TriFunction)}, for a {@code
+     * flatMapFn} fused from {@code fusedStageCount} pipeline stages.
+     */
+    public static <C, S, T, R> ProcessorSupplier supplier(
+            @Nonnull ServiceFactory<C, S> serviceFactory,
+            @Nonnull TriFunction<? super ResettableSingletonTraverser<R>, ? super S, ? super T, ? extends Traverser<R>>
+                    flatMapFn,
+            int fusedStageCount
     ) {
         return supplierWithService(serviceFactory,
-                (serviceFn, context) -> new TransformUsingServiceP<C, S, T, R>(serviceFn, context, flatMapFn)
+                (serviceFn, context) -> new TransformUsingServiceP<C, S, T, R>(serviceFn, context, flatMapFn, fusedStageCount)
         );
     }
 }
@@ -24,6 +24,7 @@ import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.AbstractSerializationService;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.SerializerAdapter;
+import com.hazelcast.internal.serialization.impl.compact.CompactPrimitiveField;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.JetException;
@@ -121,6 +122,11 @@ public class DelegatingSerializationService extends AbstractSerializationService
         return delegate.extractSchemaFromData(data);
     }
 
+    @Override
+    public CompactPrimitiveField getCompactPrimitiveField(@Nonnull Data data, @Nonnull String fieldName) {
+        return delegate.getCompactPrimitiveField(data, fieldName);
+    }
+
     @Override
     public Schema extractSchemaFromObject(@Nonnull Object object) {
         return delegate.extractSchemaFromObject(object);
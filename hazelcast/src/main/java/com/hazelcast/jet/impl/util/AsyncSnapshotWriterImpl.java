@@ -449,6 +449,36 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * The value written for a key that was removed from the state since the
+     * previous snapshot, used only in delta snapshots.
+     */
+    public static final class SnapshotDataTombstone implements IdentifiedDataSerializable {
+
+        public static final IdentifiedDataSerializable INSTANCE = new SnapshotDataTombstone();
+
+        private SnapshotDataTombstone() {
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+        }
+    }
+
     /**
      * Non-synchronized variant of {@code java.io.ByteArrayOutputStream} with capacity limit.
      */
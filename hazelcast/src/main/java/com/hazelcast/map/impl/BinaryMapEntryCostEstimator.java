@@ -25,6 +25,9 @@ import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
 
 /**
  * Owned entry cost estimator for maps which have {@link InMemoryFormat#BINARY} memory-format.
+ * <p>
+ * The cost of a record comes from {@link Record#getCost()}, so the estimate
+ * reflects the heap saved by the records which keep small values inline.
  */
 class BinaryMapEntryCostEstimator
         implements EntryCostEstimator<Data, Record> {
@@ -16,7 +16,6 @@
 
 package com.hazelcast.map.impl;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataGenerator;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkSuppliers;
@@ -40,7 +39,7 @@ import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
-import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.exception.PartitionMigratingException;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.util.ArrayList;
@@ -48,7 +47,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
 import static com.hazelcast.internal.partition.MigrationEndpoint.DESTINATION;
 import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
@@ -331,30 +329,22 @@ class MapMigrationAwareService
                 continue;
             }
 
-            InternalIndex[] indexesSnapshot = indexRegistry.getIndexes();
-
-            IndexRegistry.beginPartitionUpdate(indexesSnapshot);
-
-            CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-            CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                    mapContainer.getExtractors()) : null;
+            PartitionIndexPopulator populator = new PartitionIndexPopulator(recordStore, event.getPartitionId(),
+                    indexRegistry.getIndexes(), Index.OperationSource.SYSTEM);
             recordStore.beforeOperation();
             try {
-                recordStore.forEach((key, record) -> {
-                    Object value = Records.getValueOrCachedValue(record, serializationService);
-                    if (value != null) {
-                        QueryableEntry queryEntry = mapContainer.newQueryEntry(key, value);
-                        queryEntry.setRecord(record);
-                        CachedQueryEntry<?, ?> newEntry =
-                                cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(key, value);
-                        indexRegistry.putEntry(newEntry, null, queryEntry, Index.OperationSource.SYSTEM);
-                    }
-                }, false);
+                if (targetIndexes == TargetIndexes.PARTITIONED) {
+                    // partitioned indexes are queried without checking whether
+                    // the partition is indexed, they must be populated at once
+                    populator.populateAll();
+                } else if (!populator.populateChunk()) {
+                    // global indexes are populated in chunks, the partition is
+                    // scanned by queries until all of its entries are indexed
+                    populator.setOnFailure(t -> logFailedPopulation(event, t)).populateRemaining();
+                }
             } finally {
                 recordStore.afterOperation();
             }
-
-            IndexRegistry.markPartitionAsIndexed(event.getPartitionId(), indexesSnapshot);
         }
 
         if (logger.isFinestEnabled()) {
@@ -362,6 +352,15 @@ class MapMigrationAwareService
         }
     }
 
+    private void logFailedPopulation(PartitionMigrationEvent event, Throwable t) {
+        if (t instanceof PartitionMigratingException) {
+            // the partition has been migrated away in the meantime
+            logger.finest("Abandoned population of indexes of partition " + event.getPartitionId(), t);
+        } else {
+            logger.warning("Failed to populate indexes of partition " + event.getPartitionId(), t);
+        }
+    }
+
     private void depopulateIndexes(PartitionMigrationEvent event, String stepName) {
         assert event.getMigrationEndpoint() == SOURCE;
         assert event.getNewReplicaIndex() != 0 : "Invalid migration event: " + event;
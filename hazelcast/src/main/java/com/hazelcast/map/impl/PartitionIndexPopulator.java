@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.Records;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.exception.PartitionMigratingException;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.hazelcast.config.CacheDeserializedValues.NEVER;
+import static com.hazelcast.internal.util.Clock.currentTimeMillis;
+import static com.hazelcast.spi.properties.ClusterProperty.INDEX_POPULATION_CHUNK_SIZE;
+
+/**
+ * Populates indexes with the entries of a single partition.
+ * <p>
+ * The population is incremental: every run on the partition thread indexes
+ * at most {@link com.hazelcast.spi.properties.ClusterProperty#INDEX_POPULATION_CHUNK_SIZE}
+ * entries and then the populator resubmits itself to the partition thread,
+ * so that other operations on the partition can interleave. Entries updated
+ * or removed between the runs are kept up to date by the regular index
+ * maintenance, indexing an entry again is idempotent. The iterator over the
+ * partition is weakly consistent, so every entry it returns is looked up
+ * again and indexed with its current record; entries removed in the meantime
+ * are skipped.
+ * <p>
+ * The partition is marked as indexed only once all its entries are indexed,
+ * queries scan it until then. If the partition is migrated away or its
+ * record store is destroyed between the runs, the population is abandoned
+ * and the partition stays unindexed.
+ */
+public final class PartitionIndexPopulator implements PartitionSpecificRunnable {
+
+    private final MapServiceContext mapServiceContext;
+    private final NodeEngine nodeEngine;
+    private final RecordStore<Record> recordStore;
+    private final MapContainer mapContainer;
+    private final int partitionId;
+    private final InternalIndex[] indexes;
+    private final Index.OperationSource operationSource;
+    private final int chunkSize;
+    private final SerializationService serializationService;
+    private final CachedQueryEntry<?, ?> cachedEntry;
+
+    private Iterator<Map.Entry<Data, Record>> iterator;
+    private Runnable onComplete = () -> { };
+    private Consumer<Throwable> onFailure = t -> { };
+
+    public PartitionIndexPopulator(RecordStore<Record> recordStore, int partitionId, InternalIndex[] indexes,
+                                   Index.OperationSource operationSource) {
+        this.mapContainer = recordStore.getMapContainer();
+        this.mapServiceContext = mapContainer.getMapServiceContext();
+        this.nodeEngine = mapServiceContext.getNodeEngine();
+        this.recordStore = recordStore;
+        this.partitionId = partitionId;
+        this.indexes = indexes;
+        this.operationSource = operationSource;
+        this.chunkSize = nodeEngine.getProperties().getInteger(INDEX_POPULATION_CHUNK_SIZE);
+        this.serializationService = nodeEngine.getSerializationService();
+
+        CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
+        this.cachedEntry = cacheDeserializedValues == NEVER
+                ? new CachedQueryEntry<>(serializationService, mapContainer.getExtractors()) : null;
+    }
+
+    /**
+     * Sets the callback invoked on the partition thread once the partition is
+     * marked as indexed by a run scheduled by {@link #populateRemaining()}.
+     */
+    public PartitionIndexPopulator setOnComplete(Runnable onComplete) {
+        this.onComplete = onComplete;
+        return this;
+    }
+
+    /**
+     * Sets the callback invoked if a run scheduled by {@link #populateRemaining()}
+     * fails or if the population is abandoned because the partition is no
+     * longer owned by this member.
+     */
+    public PartitionIndexPopulator setOnFailure(Consumer<Throwable> onFailure) {
+        this.onFailure = onFailure;
+        return this;
+    }
+
+    @Override
+    public int getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Indexes all the remaining entries of the partition and marks it as
+     * indexed. Must be called on the partition thread.
+     */
+    public void populateAll() {
+        populate(Integer.MAX_VALUE);
+        markPartitionAsIndexed();
+    }
+
+    /**
+     * Indexes the next chunk of entries of the partition and marks it as
+     * indexed if no entries remain. Must be called on the partition thread.
+     *
+     * @return {@code true} if the partition has been marked as indexed,
+     * {@code false} if there are entries remaining.
+     */
+    public boolean populateChunk() {
+        if (!populate(chunkSize > 0 ? chunkSize : Integer.MAX_VALUE)) {
+            return false;
+        }
+        markPartitionAsIndexed();
+        return true;
+    }
+
+    /**
+     * Schedules the population of the remaining entries in chunks on the
+     * partition thread.
+     */
+    public void populateRemaining() {
+        nodeEngine.getOperationService().execute(this);
+    }
+
+    @Override
+    public void run() {
+        if (!isPartitionStillLocal()) {
+            onFailure.accept(new PartitionMigratingException(nodeEngine.getThisAddress(), partitionId,
+                    getClass().getName(), MapService.SERVICE_NAME));
+            return;
+        }
+
+        String namespace = MapService.lookupNamespace(nodeEngine, mapContainer.getName());
+        NamespaceUtil.setupNamespace(nodeEngine, namespace);
+        int threadIndex = recordStore.beforeOperation();
+        try {
+            if (populateChunk()) {
+                onComplete.run();
+            } else {
+                populateRemaining();
+            }
+        } catch (Throwable t) {
+            onFailure.accept(t);
+        } finally {
+            recordStore.afterOperation(threadIndex);
+            NamespaceUtil.cleanupNamespace(nodeEngine, namespace);
+        }
+    }
+
+    /**
+     * @return {@code true} if the iteration over the partition is exhausted.
+     */
+    private boolean populate(int maxEntries) {
+        if (iterator == null) {
+            iterator = recordStore.iterator();
+        }
+
+        long now = currentTimeMillis();
+        int count = 0;
+        while (count < maxEntries && iterator.hasNext()) {
+            Data key = iterator.next().getKey();
+            Record record = recordStore.getRecord(key);
+            if (record == null || recordStore.isExpired(key, now, false)) {
+                continue;
+            }
+
+            Object value = Records.getValueOrCachedValue(record, serializationService);
+            if (value != null) {
+                QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(key, value);
+                queryEntry.setRecord(record);
+                CachedQueryEntry<?, ?> newEntry =
+                        cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(key, value);
+                for (InternalIndex index : indexes) {
+                    index.putEntry(newEntry, null, queryEntry, operationSource);
+                }
+            }
+            count++;
+        }
+        return !iterator.hasNext();
+    }
+
+    private void markPartitionAsIndexed() {
+        IndexRegistry.beginPartitionUpdate(indexes);
+        IndexRegistry.markPartitionAsIndexed(partitionId, indexes);
+    }
+
+    private boolean isPartitionStillLocal() {
+        return nodeEngine.getPartitionService().isPartitionOwner(partitionId)
+                && mapServiceContext.getPartitionContainer(partitionId).getExistingRecordStore(mapContainer.getName())
+                == recordStore;
+    }
+}
@@ -16,30 +16,28 @@
 
 package com.hazelcast.map.impl.operation;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.config.IndexConfig;
-import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
-import com.hazelcast.map.impl.record.Records;
+import com.hazelcast.map.impl.PartitionIndexPopulator;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
-import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.InternalIndex;
-import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.AllowedDuringPassiveState;
+import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
+import com.hazelcast.spi.impl.operationservice.CallStatus;
 import com.hazelcast.spi.impl.operationservice.MutatingOperation;
+import com.hazelcast.spi.impl.operationservice.Offload;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.impl.OperationRunnerImpl;
 
 import java.io.IOException;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
-
 public class AddIndexOperation extends MapOperation
         implements PartitionAwareOperation, MutatingOperation, BackupAwareOperation,
                     // AddIndexOperation is used when map proxy for IMap with indexes is initialized during passive state
@@ -50,6 +48,8 @@ public class AddIndexOperation extends MapOperation
      */
     private IndexConfig config;
 
+    private transient PartitionIndexPopulator remainingPopulator;
+
     public AddIndexOperation() {
         // No-op.
     }
@@ -100,30 +100,34 @@ public class AddIndexOperation extends MapOperation
             return;
         }
 
-        SerializationService serializationService = getNodeEngine().getSerializationService();
+        PartitionIndexPopulator populator = new PartitionIndexPopulator(recordStore, partitionId,
+                new InternalIndex[]{index}, Index.OperationSource.USER);
 
-        index.beginPartitionUpdate();
-
-        CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-        CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                mapContainer.getExtractors()) : null;
-        recordStore.forEach((dataKey, record) -> {
-            Object value = Records.getValueOrCachedValue(record, serializationService);
-            QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(dataKey, value);
-            queryEntry.setRecord(record);
-            CachedQueryEntry<?, ?> newEntry =
-                    cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(dataKey, value);
-            index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
-        }, false, false);
+        if (isMapStoreOffloadEnabled() || isTieredStoreOffloadEnabled()) {
+            // the offloaded operations are driven by steps, populate at once
+            populator.populateAll();
+        } else if (!populator.populateChunk()) {
+            // the rest of the partition is populated in chunks by the offload
+            remainingPopulator = populator;
+            return;
+        }
 
-        index.markPartitionAsIndexed(partitionId);
+        registerIndex();
+    }
 
+    private void registerIndex() {
         // Register index after we are done creating it and before sending response to the user.
         // It would be better to do once on each member instead of for each partition
         // but currently there is no appropriate operation for that as index must be registered on each member.
         mapServiceContext.registerIndex(name, config);
     }
 
+    @Override
+    public CallStatus call() throws Exception {
+        CallStatus callStatus = super.call();
+        return remainingPopulator == null ? callStatus : new PopulateIndexOffload();
+    }
+
     @Override
     public Object getResponse() {
         return Boolean.TRUE;
@@ -146,4 +150,25 @@ public class AddIndexOperation extends MapOperation
         return MapDataSerializerHook.ADD_INDEX;
     }
 
+    /**
+     * Populates the rest of the partition in chunks, so the partition thread
+     * is not blocked. The operation stays registered for heartbeats until the
+     * backups and the response are sent once the population is done.
+     */
+    private final class PopulateIndexOffload extends Offload {
+
+        private PopulateIndexOffload() {
+            super(AddIndexOperation.this);
+        }
+
+        @Override
+        public void start() {
+            remainingPopulator.setOnComplete(() -> {
+                registerIndex();
+                OperationRunner runner = operationService.getOperationExecutor()
+                        .getPartitionOperationRunners()[getPartitionId()];
+                ((OperationRunnerImpl) runner).sendBackupsAndResponse(AddIndexOperation.this);
+            }).setOnFailure(AddIndexOperation.this::sendResponse).populateRemaining();
+        }
+    }
 }
@@ -31,8 +31,10 @@ import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntriesSegment;
 import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.query.impl.predicates.QueryOptimizer;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.OperationService;
@@ -40,6 +42,7 @@ import com.hazelcast.spi.impl.operationservice.OperationService;
 import java.util.Collection;
 
 import static com.hazelcast.internal.util.SetUtil.singletonPartitionIdSet;
+import static com.hazelcast.query.impl.IndexRegistry.SKIP_PARTITIONS_COUNT_CHECK;
 
 /**
  * Runs query operations in the calling thread (thus blocking it)
@@ -160,7 +163,11 @@ public class QueryRunner {
 
         Result result;
         if (entries == null) {
-            result = runUsingPartitionScanSafely(query, predicate, actualPartitions, migrationStamp);
+            result = runUsingPartiallyIndexedGlobalIndexSafely(query, predicate, mapContainer, actualPartitions,
+                    migrationStamp);
+            if (result == null) {
+                result = runUsingPartitionScanSafely(query, predicate, actualPartitions, migrationStamp);
+            }
             if (result == null) {
                 // full scan didn't work, returning empty result
                 result = populateEmptyResult(query, actualPartitions);
@@ -297,6 +304,72 @@ public class QueryRunner {
         return null;
     }
 
+    /**
+     * Performs the given query using the global indexes on the partitions
+     * which are already indexed and using a partition scan on the rest, e.g.
+     * while the indexes are being populated in chunks after a migration or
+     * after an index has been added.
+     *
+     * @return the query result or {@code null} if the indexes can't be used
+     * or none or all of the given partitions are indexed.
+     */
+    protected Result runUsingPartiallyIndexedGlobalIndexSafely(Query query, Predicate predicate,
+                                                               MapContainer mapContainer, PartitionIdSet partitions,
+                                                               int migrationStamp) {
+        IndexRegistry indexRegistry = mapContainer.getGlobalIndexRegistry();
+        if (indexRegistry == null || !indexRegistry.isGlobal() || predicate instanceof PagingPredicateImpl) {
+            return null;
+        }
+        if (!validateMigrationStamp(migrationStamp)) {
+            return null;
+        }
+
+        InternalIndex[] indexes = indexRegistry.getIndexes();
+        PartitionIdSet indexedPartitions = new PartitionIdSet(partitionCount);
+        for (int partitionId : partitions) {
+            if (isIndexedByAll(indexes, partitionId)) {
+                indexedPartitions.add(partitionId);
+            }
+        }
+        if (indexedPartitions.isEmpty() || indexedPartitions.size() == partitions.size()) {
+            return null;
+        }
+
+        // the indexed partitions are checked by the caller
+        Iterable<QueryableEntry> entries = indexRegistry.query(predicate, SKIP_PARTITIONS_COUNT_CHECK);
+        if (entries == null) {
+            return null;
+        }
+
+        Result result = createResult(query, partitions);
+        for (QueryableEntry entry : entries) {
+            int partitionId = HashUtil.hashToIndex(entry.getKeyData().getPartitionHash(), partitionCount);
+            if (indexedPartitions.contains(partitionId)) {
+                result.add(entry);
+            }
+        }
+        PartitionIdSet scannedPartitions = partitions.copy();
+        scannedPartitions.removeAll(indexedPartitions);
+        partitionScanExecutor.execute(query.getMapName(), predicate, scannedPartitions, result);
+
+        // the partitions might have been migrated or depopulated in the meantime
+        if (validateMigrationStamp(migrationStamp) && indexedPartitions.stream().allMatch(
+                partitionId -> isIndexedByAll(indexes, partitionId))) {
+            result.completeConstruction(partitions);
+            return result;
+        }
+        return null;
+    }
+
+    private static boolean isIndexedByAll(InternalIndex[] indexes, int partitionId) {
+        for (InternalIndex index : indexes) {
+            if (!index.hasPartitionIndexed(partitionId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Result runUsingPartitionScanSafely(Query query, Predicate predicate,
                                                  PartitionIdSet partitions, int migrationStamp) {
 
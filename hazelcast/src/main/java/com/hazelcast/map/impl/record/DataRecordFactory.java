@@ -29,10 +29,21 @@ public class DataRecordFactory implements RecordFactory<Data> {
 
     private final MapContainer mapContainer;
     private final SerializationService ss;
+    private final int inlineValueMaxBytes;
 
     public DataRecordFactory(MapContainer mapContainer, SerializationService ss) {
+        this(mapContainer, ss, 0);
+    }
+
+    /**
+     * @param inlineValueMaxBytes the maximum size of the serialized value for
+     *                            which an {@link InlineDataRecord} is created
+     *                            instead of a {@link SimpleRecord}
+     */
+    public DataRecordFactory(MapContainer mapContainer, SerializationService ss, int inlineValueMaxBytes) {
         this.ss = ss;
         this.mapContainer = mapContainer;
+        this.inlineValueMaxBytes = inlineValueMaxBytes;
     }
 
     @Override
@@ -99,6 +110,9 @@ public class DataRecordFactory implements RecordFactory<Data> {
             return new DataRecordWithStats(valueData);
         }
 
+        if (valueData != null && valueData.totalSize() <= inlineValueMaxBytes) {
+            return new InlineDataRecord(valueData, inlineValueMaxBytes);
+        }
         return new SimpleRecord<>(valueData);
     }
 }
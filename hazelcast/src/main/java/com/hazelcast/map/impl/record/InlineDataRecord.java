@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.memory.HeapMemoryAccessor.ARRAY_BYTE_BASE_OFFSET;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER;
+
+/**
+ * Used instead of a {@link SimpleRecord} for small values, see {@link
+ * ClusterProperty#MAP_INLINE_RECORD_MAX_VALUE_BYTES}, when {@link
+ * MapConfig#isPerEntryStatsEnabled()} is {@code false}, eviction is not
+ * configured and deserialized values are never cached.
+ * <p>
+ * Keeps the bytes of the value instead of a {@link Data}, which saves an
+ * object header and a reference per entry. The bytes are wrapped into a new
+ * {@link HeapData} on each {@link #getValue()}, the wrapper is not kept, so
+ * the cost of the record doesn't change between the updates. Values larger
+ * than the threshold set by an update are kept as {@link Data}, the same way
+ * as by a {@link SimpleRecord}.
+ * <p>
+ * Written to the wire as a {@link SimpleRecord}, so the replicas of the
+ * record are simple records.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+class InlineDataRecord implements Record<Data> {
+
+    // the offset of the first element of a byte array is the array header size
+    private static final int ARRAY_HEADER_SIZE_IN_BYTES = ARRAY_BYTE_BASE_OFFSET >= 0
+            ? ARRAY_BYTE_BASE_OFFSET : OBJECT_HEADER_SIZE + INT_SIZE_IN_BYTES;
+    private static final int DATA_WRAPPER_COST_IN_BYTES = OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES;
+
+    // the inline bytes of the value or the value as Data, see the class javadoc
+    private volatile Object value;
+    // fits into the padding of the record with compressed oops
+    private final int maxInlineBytes;
+    private int version;
+
+    InlineDataRecord(Data value, int maxInlineBytes) {
+        this.maxInlineBytes = maxInlineBytes;
+        setValue(value);
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    @Override
+    public Data getValue() {
+        Object current = value;
+        return current instanceof byte[] bytes ? new HeapData(bytes) : (Data) current;
+    }
+
+    @Override
+    public void setValue(Data value) {
+        this.value = value != null && value.totalSize() <= maxInlineBytes ? value.toByteArray() : value;
+    }
+
+    @Override
+    public Object getCachedValueUnsafe() {
+        return Record.NOT_CACHED;
+    }
+
+    @Override
+    public boolean casCachedValue(Object expectedValue, Object newValue) {
+        return true;
+    }
+
+    @Override
+    public long getCost() {
+        Object current = value;
+        if (current == null) {
+            return OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES;
+        }
+        int size = current instanceof byte[] bytes ? bytes.length : ((Data) current).totalSize();
+        return OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES + ARRAY_HEADER_SIZE_IN_BYTES + size
+                + (size > maxInlineBytes ? DATA_WRAPPER_COST_IN_BYTES : 0);
+    }
+
+    @Override
+    public void onAccess(long now) {
+        // NOP
+    }
+
+    @Override
+    public void onStore() {
+        // NOP
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return SIMPLE_DATA_RECORD_READER_WRITER;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        InlineDataRecord that = (InlineDataRecord) o;
+
+        if (version != that.version) {
+            return false;
+        }
+        return Arrays.equals(toBytes(value), toBytes(that.value));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(toBytes(value));
+        result = 31 * result + version;
+        return result;
+    }
+
+    private static byte[] toBytes(Object value) {
+        return value instanceof Data data ? data.toByteArray() : (byte[]) value;
+    }
+
+    @Override
+    public String toString() {
+        return "InlineDataRecord{"
+                + "value=" + getValue()
+                + ", version=" + version
+                + '}';
+    }
+}
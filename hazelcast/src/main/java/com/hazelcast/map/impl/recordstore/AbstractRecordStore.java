@@ -23,6 +23,9 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MetadataPolicy;
 import com.hazelcast.internal.locksupport.LockStore;
 import com.hazelcast.internal.locksupport.LockSupportService;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.memory.impl.MemoryManagerBean;
+import com.hazelcast.internal.memory.impl.UnsafeMallocAllocator;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.monitor.impl.LocalRecordStoreStatsImpl;
 import com.hazelcast.internal.serialization.Data;
@@ -47,6 +50,12 @@ import com.hazelcast.wan.impl.CallerProvenance;
 
 import javax.annotation.Nonnull;
 
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_INLINE_RECORD_MAX_VALUE_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_OFF_HEAP_STORAGE_ENABLED;
+
 /**
  * Contains record store common parts.
  */
@@ -89,7 +98,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         MapConfig mapConfig = mapContainer.getMapConfig();
         switch (mapConfig.getInMemoryFormat()) {
             case BINARY:
-                return new DataRecordFactory(mapContainer, serializationService);
+                int inlineValueMaxBytes = mapServiceContext.getNodeEngine().getProperties()
+                        .getInteger(MAP_INLINE_RECORD_MAX_VALUE_BYTES);
+                return new DataRecordFactory(mapContainer, serializationService, inlineValueMaxBytes);
             case OBJECT:
                 return new ObjectRecordFactory(mapContainer, serializationService);
             default:
@@ -175,6 +186,11 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (memoryFormat == BINARY && UNSAFE_AVAILABLE && mapServiceContext.getNodeEngine()
+                .getProperties().getBoolean(MAP_OFF_HEAP_STORAGE_ENABLED)) {
+            MemoryManager memoryManager = new MemoryManagerBean(new UnsafeMallocAllocator(), MEM);
+            return new OffHeapStorage(memoryManager, getExpirySystem(), serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
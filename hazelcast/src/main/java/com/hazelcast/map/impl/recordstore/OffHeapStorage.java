@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.internal.util.hashslot.HashSlotArray8byteKey;
+import com.hazelcast.internal.util.hashslot.SlotAssignmentResult;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray8byteKeyImpl;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * {@link Storage} implementation which keeps the hash table and the
+ * serialized keys of a partition in native memory obtained from the given
+ * {@link MemoryManager}. Only the {@link Record} objects stay on-heap, they
+ * are referenced by an id which is stored next to the key in native memory.
+ * <p>
+ * The hash table is a {@link HashSlotArray8byteKey} keyed by the 64-bit hash
+ * of the key. Each slot points to a singly-linked chain of key blocks, so
+ * colliding hashes are resolved by comparing the serialized key bytes.
+ * Key block layout:
+ * <pre>
+ * | next block address (8) | record id (4) | key size (4) | key bytes (key size) |
+ * </pre>
+ * Keys handed out by this storage (iteration, sampling, fetching) are
+ * on-heap copies, so they stay valid after the entry is removed.
+ * <p>
+ * Not thread-safe, must only be accessed by the partition thread which owns
+ * the record store.
+ *
+ * @param <R> the value type to be put in this storage.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class OffHeapStorage<R extends Record> implements Storage<Data, R> {
+
+    private static final int NEXT_OFFSET = 0;
+    private static final int ID_OFFSET = 8;
+    private static final int KEY_SIZE_OFFSET = 12;
+    private static final int KEY_OFFSET = 16;
+
+    private static final long UNASSIGNED_HASH = 0L;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final MemoryManager memoryManager;
+    private final MemoryAllocator malloc;
+    private final MemoryAccessor mem;
+    private final HashSlotArray8byteKey table;
+    private final ExpirySystem expirySystem;
+    private final SerializationService serializationService;
+
+    private R[] records;
+    private long[] keyBlocks;
+    private int[] freeIds;
+    private int freeIdCount;
+    private int idHighWatermark;
+    private int size;
+    private boolean destroyed;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator = new OffHeapEntryCostEstimator();
+
+    public OffHeapStorage(MemoryManager memoryManager, ExpirySystem expirySystem,
+                          SerializationService serializationService) {
+        this.memoryManager = memoryManager;
+        this.malloc = memoryManager.getAllocator();
+        this.mem = memoryManager.getAccessor();
+        this.table = new HashSlotArray8byteKeyImpl(UNASSIGNED_HASH, memoryManager, LONG_SIZE_IN_BYTES);
+        this.table.gotoNew();
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+        resetIds();
+    }
+
+    @Override
+    public void put(Data key, R record) {
+        long hash = hashOf(key);
+        long block = find(key, hash);
+        if (block != NULL_ADDRESS) {
+            int id = mem.getInt(block + ID_OFFSET);
+            R previousRecord = records[id];
+            records[id] = record;
+            updateCostEstimate(-entryCostEstimator.calculateValueCost(previousRecord));
+            updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+            return;
+        }
+
+        int id = acquireId();
+        block = allocateKeyBlock(key, id);
+        SlotAssignmentResult slot = table.ensure(hash);
+        mem.putLong(block + NEXT_OFFSET, slot.isNew() ? NULL_ADDRESS : mem.getLong(slot.address()));
+        mem.putLong(slot.address(), block);
+
+        records[id] = record;
+        keyBlocks[id] = block;
+        size++;
+        updateCostEstimate(entryCostEstimator.calculateEntryCost(key, record));
+    }
+
+    @Override
+    public R updateRecordValue(Data key, R record, Object value) {
+        updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
+        record.setValue(serializationService.toData(value));
+        updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+        return record;
+    }
+
+    @Override
+    public R get(Data key) {
+        long block = find(key, hashOf(key));
+        return block == NULL_ADDRESS ? null : records[mem.getInt(block + ID_OFFSET)];
+    }
+
+    @Override
+    public R getIfSameKey(Data key) {
+        throw new UnsupportedOperationException("OffHeapStorage#getIfSameKey");
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, @Nonnull R record) {
+        long hash = hashOf(dataKey);
+        long slotAddress = table.get(hash);
+        if (slotAddress == NULL_ADDRESS) {
+            return;
+        }
+
+        long previous = NULL_ADDRESS;
+        long block = mem.getLong(slotAddress);
+        while (block != NULL_ADDRESS) {
+            long next = mem.getLong(block + NEXT_OFFSET);
+            if (keyEquals(block, dataKey)) {
+                if (previous != NULL_ADDRESS) {
+                    mem.putLong(previous + NEXT_OFFSET, next);
+                } else if (next != NULL_ADDRESS) {
+                    mem.putLong(slotAddress, next);
+                } else {
+                    table.remove(hash);
+                }
+                int id = mem.getInt(block + ID_OFFSET);
+                updateCostEstimate(-entryCostEstimator.calculateEntryCost(dataKey, records[id]));
+                records[id] = null;
+                keyBlocks[id] = NULL_ADDRESS;
+                releaseId(id);
+                freeKeyBlock(block);
+                size--;
+                return;
+            }
+            previous = block;
+            block = next;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return find(key, hashOf(key)) != NULL_ADDRESS;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Data, R>> mutationTolerantIterator() {
+        return new RecordIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        if (destroyed) {
+            return;
+        }
+        for (int id = 0; id < idHighWatermark; id++) {
+            if (keyBlocks[id] != NULL_ADDRESS) {
+                freeKeyBlock(keyBlocks[id]);
+            }
+        }
+        table.clear();
+        resetIds();
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        if (destroyed) {
+            return;
+        }
+        clear(isDuringShutdown);
+        table.dispose();
+        memoryManager.dispose();
+        destroyed = true;
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        if (sampleCount == 0 || size == 0) {
+            return Collections.emptyList();
+        }
+
+        List<EntryView> samples = new ArrayList<>(Math.min(sampleCount, size));
+        int startId = ThreadLocalRandomProvider.get().nextInt(idHighWatermark);
+        for (int i = 0; i < idHighWatermark && samples.size() < sampleCount; i++) {
+            int id = (startId + i) % idHighWatermark;
+            R record = records[id];
+            if (record != null) {
+                Data key = readKey(keyBlocks[id]);
+                samples.add(new LazyEvictableEntryView<>(key, record,
+                        expirySystem.getExpiryMetadata(key), serializationService));
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (id, key) -> keys.add(key));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (id, key) -> {
+            Data dataValue = serializationService.toData(records[id].getValue());
+            entries.add(new AbstractMap.SimpleEntry<>(key, dataValue));
+        });
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    /**
+     * Record ids are stable for the lifetime of an entry, so unlike the
+     * on-heap hash table, a single pointer holding the next id to visit is
+     * enough to resume iteration. Ids are visited in descending order and
+     * an index of {@code -1} means the iteration has completed.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size, IdKeyConsumer consumer) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        int nextId;
+        if (lastPointer.getSize() == -1) {
+            nextId = idHighWatermark - 1;
+        } else {
+            nextId = Math.min(lastPointer.getIndex(), idHighWatermark - 1);
+        }
+
+        int counter = 0;
+        while (nextId >= 0 && counter < size) {
+            int id = nextId--;
+            if (records[id] != null) {
+                consumer.accept(id, readKey(keyBlocks[id]));
+                counter++;
+            }
+        }
+        return new IterationPointer[]{new IterationPointer(nextId, idHighWatermark)};
+    }
+
+    private long find(Data key, long hash) {
+        long slotAddress = table.get(hash);
+        if (slotAddress == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        long block = mem.getLong(slotAddress);
+        while (block != NULL_ADDRESS) {
+            if (keyEquals(block, key)) {
+                return block;
+            }
+            block = mem.getLong(block + NEXT_OFFSET);
+        }
+        return NULL_ADDRESS;
+    }
+
+    /**
+     * Same comparison as {@link HeapData#equals(Object)}: the partition hash
+     * is not part of the key identity, only the type and the payload are.
+     */
+    private boolean keyEquals(long block, Data key) {
+        int keySize = mem.getInt(block + KEY_SIZE_OFFSET);
+        if (keySize != key.totalSize()) {
+            return false;
+        }
+        byte[] keyBytes = key.toByteArray();
+        long keyAddress = block + KEY_OFFSET;
+        for (int i = keySize - 1; i >= HeapData.TYPE_OFFSET; i--) {
+            if (mem.getByte(keyAddress + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long allocateKeyBlock(Data key, int id) {
+        int keySize = key.totalSize();
+        long block = malloc.allocate(KEY_OFFSET + keySize);
+        mem.putInt(block + ID_OFFSET, id);
+        mem.putInt(block + KEY_SIZE_OFFSET, keySize);
+        mem.copyFromByteArray(key.toByteArray(), 0, block + KEY_OFFSET, keySize);
+        return block;
+    }
+
+    private void freeKeyBlock(long block) {
+        malloc.free(block, KEY_OFFSET + mem.getInt(block + KEY_SIZE_OFFSET));
+    }
+
+    private Data readKey(long block) {
+        byte[] keyBytes = new byte[mem.getInt(block + KEY_SIZE_OFFSET)];
+        mem.copyToByteArray(block + KEY_OFFSET, keyBytes, 0, keyBytes.length);
+        return new HeapData(keyBytes);
+    }
+
+    private int acquireId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        if (idHighWatermark == records.length) {
+            int newCapacity = records.length << 1;
+            records = Arrays.copyOf(records, newCapacity);
+            keyBlocks = Arrays.copyOf(keyBlocks, newCapacity);
+            freeIds = Arrays.copyOf(freeIds, newCapacity);
+        }
+        return idHighWatermark++;
+    }
+
+    private void releaseId(int id) {
+        freeIds[freeIdCount++] = id;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resetIds() {
+        records = (R[]) new Record[INITIAL_CAPACITY];
+        keyBlocks = new long[INITIAL_CAPACITY];
+        freeIds = new int[INITIAL_CAPACITY];
+        freeIdCount = 0;
+        idHighWatermark = 0;
+        size = 0;
+    }
+
+    private void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    private static long hashOf(Data key) {
+        long hash = key.hash64();
+        // the unassigned sentinel cannot be used as a key of the hash slot array
+        return hash == UNASSIGNED_HASH ? 1L : hash;
+    }
+
+    @FunctionalInterface
+    private interface IdKeyConsumer {
+        void accept(int id, Data key);
+    }
+
+    /**
+     * Iterates over the record ids, it tolerates removals and insertions
+     * done while iterating since the ids of the live entries never move.
+     */
+    private final class RecordIterator implements Iterator<Map.Entry<Data, R>> {
+
+        private int nextId;
+
+        @Override
+        public boolean hasNext() {
+            while (nextId < idHighWatermark && records[nextId] == null) {
+                nextId++;
+            }
+            return nextId < idHighWatermark;
+        }
+
+        @Override
+        public Map.Entry<Data, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int id = nextId++;
+            return new AbstractMap.SimpleImmutableEntry<>(readKey(keyBlocks[id]), records[id]);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Read-only iterator");
+        }
+    }
+
+    /**
+     * Estimates the memory owned by an entry: the native key block, the
+     * on-heap record and the reference slots of the id arrays.
+     */
+    private static final class OffHeapEntryCostEstimator implements EntryCostEstimator<Data, Record> {
+
+        // key block header + records[] and keyBlocks[] slots + hash slot (key and value)
+        private static final int ENTRY_OVERHEAD_IN_BYTES = KEY_OFFSET + REFERENCE_COST_IN_BYTES
+                + LONG_SIZE_IN_BYTES + 2 * LONG_SIZE_IN_BYTES;
+
+        private volatile long estimate;
+
+        @Override
+        public long getEstimate() {
+            return estimate;
+        }
+
+        @Override
+        @SuppressWarnings("NonAtomicOperationOnVolatileField")
+        public void adjustEstimateBy(long adjustment) {
+            // only the partition thread updates the estimate
+            estimate += adjustment;
+        }
+
+        @Override
+        public long calculateValueCost(Record record) {
+            return record.getCost();
+        }
+
+        @Override
+        public long calculateEntryCost(Data key, Record record) {
+            return ENTRY_OVERHEAD_IN_BYTES + key.totalSize() + record.getCost();
+        }
+
+        @Override
+        public void reset() {
+            estimate = 0L;
+        }
+    }
+}
@@ -60,6 +60,7 @@ public abstract class AbstractIndex implements InternalIndex {
     protected final IndexCopyBehavior copyBehavior;
 
     private final String[] components;
+    private final String[] coveredAttributes;
     private final IndexConfig config;
     private final boolean ordered;
     private final PerIndexStats stats;
@@ -78,6 +79,7 @@ public abstract class AbstractIndex implements InternalIndex {
             int partitionId) {
         this.config = config;
         this.components = IndexUtils.getComponents(config);
+        this.coveredAttributes = IndexUtils.getCoveredAttributes(config);
         this.ordered = config.getType() == IndexType.SORTED;
         this.ss = ss;
         this.extractors = extractors;
@@ -133,12 +135,13 @@ public abstract class AbstractIndex implements InternalIndex {
         }
 
         Object newAttributeValue = extractAttributeValue(newEntry);
+        QueryableEntry storedEntry = coveredAttributes == null ? entryToStore : cover(newEntry, entryToStore);
         if (oldEntry == null) {
-            indexStore.insert(newAttributeValue, newEntry, entryToStore, operationStats);
+            indexStore.insert(newAttributeValue, newEntry, storedEntry, operationStats);
             stats.onInsert(timestamp, operationStats, operationSource);
         } else {
             Object oldAttributeValue = extractAttributeValue(oldEntry);
-            indexStore.update(oldAttributeValue, newAttributeValue, newEntry, entryToStore, operationStats);
+            indexStore.update(oldAttributeValue, newAttributeValue, newEntry, storedEntry, operationStats);
             stats.onUpdate(timestamp, operationStats, operationSource);
         }
     }
@@ -360,6 +363,21 @@ public abstract class AbstractIndex implements InternalIndex {
                 + '}';
     }
 
+    /**
+     * Wraps the entry to store into an entry holding the values of all the
+     * covered attributes. The values are extracted from the new entry since
+     * it caches the deserialized value already used to extract the index
+     * value.
+     */
+    @SuppressWarnings("unchecked")
+    private QueryableEntry cover(CachedQueryEntry newEntry, QueryableEntry entryToStore) {
+        Object[] values = new Object[coveredAttributes.length];
+        for (int i = 0; i < coveredAttributes.length; ++i) {
+            values[i] = newEntry.getAttributeValue(coveredAttributes[i]);
+        }
+        return new CoveringQueryEntry(entryToStore, coveredAttributes, values);
+    }
+
     private Object extractAttributeValue(QueryableEntry entry) {
         if (components.length == 1) {
             return entry.getAttributeValue(components[0]);
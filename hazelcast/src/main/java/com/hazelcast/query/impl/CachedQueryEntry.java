@@ -251,6 +251,9 @@ public class CachedQueryEntry<K, V> extends QueryableEntry<K, V> implements Iden
         if (this == o) {
             return true;
         }
+        if (o instanceof CoveringQueryEntry<?, ?> that) {
+            return keyData.equals(that.getKeyData());
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.QueryException;
+
+import java.io.IOException;
+
+/**
+ * Entry stored in an index with included attributes. Wraps the entry the
+ * index would store otherwise and additionally holds the values of all the
+ * attributes covered by the index, extracted when the entry was indexed.
+ * <p>
+ * Requests for covered attributes are served from the held values, so
+ * projections and aggregations over them don't need to deserialize the
+ * map value. Everything else is delegated to the wrapped entry.
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public final class CoveringQueryEntry<K, V> extends QueryableEntry<K, V> implements IdentifiedDataSerializable {
+
+    private QueryableEntry<K, V> delegate;
+    private String[] attributes;
+    private Object[] values;
+
+    public CoveringQueryEntry() {
+    }
+
+    CoveringQueryEntry(QueryableEntry<K, V> delegate, String[] attributes, Object[] values) {
+        assert attributes.length == values.length;
+        this.delegate = delegate;
+        this.attributes = attributes;
+        this.values = values;
+        this.serializationService = delegate.serializationService;
+        this.extractors = delegate.extractors;
+    }
+
+    /**
+     * Returns the value of the covered attribute at the given position in
+     * {@link IndexUtils#getCoveredAttributes}.
+     */
+    public Object getCoveredValue(int position) {
+        return values[position];
+    }
+
+    @Override
+    public Object getAttributeValue(String attributeName) throws QueryException {
+        for (int i = 0; i < attributes.length; i++) {
+            if (attributes[i].equals(attributeName)) {
+                return values[i];
+            }
+        }
+        return delegate.getAttributeValue(attributeName);
+    }
+
+    @Override
+    public Record getRecord() {
+        return delegate.getRecord();
+    }
+
+    @Override
+    public void setRecord(Record record) {
+        delegate.setRecord(record);
+    }
+
+    @Override
+    public JsonMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public void setMetadata(JsonMetadata metadata) {
+        delegate.setMetadata(metadata);
+    }
+
+    @Override
+    public K getKey() {
+        return delegate.getKey();
+    }
+
+    @Override
+    public V getValue() {
+        return delegate.getValue();
+    }
+
+    @Override
+    public V setValue(V value) {
+        V oldValue = delegate.setValue(value);
+        // the covered values were extracted from the previous value
+        for (int i = 0; i < attributes.length; i++) {
+            values[i] = delegate.getAttributeValue(attributes[i]);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public Data getKeyData() {
+        return delegate.getKeyData();
+    }
+
+    @Override
+    public Data getValueData() {
+        return delegate.getValueData();
+    }
+
+    @Override
+    public K getKeyIfPresent() {
+        return delegate.getKeyIfPresent();
+    }
+
+    @Override
+    public Data getKeyDataIfPresent() {
+        return delegate.getKeyDataIfPresent();
+    }
+
+    @Override
+    public V getValueIfPresent() {
+        return delegate.getValueIfPresent();
+    }
+
+    @Override
+    public Data getValueDataIfPresent() {
+        return delegate.getValueDataIfPresent();
+    }
+
+    @Override
+    protected Object getTargetObject(boolean key) {
+        return delegate.getTargetObject(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        // an index result may mix covering and plain entries, e.g. in
+        // OrResultSet, so they are compared by key only
+        if (!(o instanceof QueryableEntry<?, ?> that)) {
+            return false;
+        }
+        return getKeyData().equals(that.getKeyData());
+    }
+
+    @Override
+    public int hashCode() {
+        return getKeyData().hashCode();
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        // serialized the same way as CachedQueryEntry, the covered
+        // values are not transferred
+        out.writeObject(getKey());
+        out.writeObject(getValue());
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        // normally deserialized as LazyMapEntry, see getClassId(); when read
+        // directly, the entry covers no attributes
+        CachedQueryEntry<K, V> entry = new CachedQueryEntry<>();
+        entry.readData(in);
+        delegate = entry;
+        attributes = new String[0];
+        values = new Object[0];
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.LAZY_MAP_ENTRY;
+    }
+}
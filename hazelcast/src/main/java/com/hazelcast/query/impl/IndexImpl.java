@@ -49,7 +49,10 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                // composite values are never numeric, no need to try storing them unboxed
+                return config.getAttributes().size() == 1
+                        ? new PrimitiveOrderedIndexStore(copyBehavior)
+                        : new OrderedIndexStore(copyBehavior);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
             case BITMAP:
@@ -113,6 +113,8 @@ public final class IndexUtils {
             normalizedAttributeNames.add(normalizedAttributeName);
         }
 
+        List<String> normalizedIncludedAttributeNames = normalizeIncludedAttributes(config, normalizedAttributeNames);
+
         // Construct final index.
         String name = config.getName();
 
@@ -122,6 +124,7 @@ public final class IndexUtils {
 
         IndexConfig normalizedConfig =
             buildNormalizedConfig(mapName, config.getType(), name, normalizedAttributeNames, config.getBTreeIndexConfig());
+        normalizedConfig.setIncludedAttributes(normalizedIncludedAttributeNames);
 
         if (config.getType() == IndexType.BITMAP) {
             String uniqueKey = config.getBitmapIndexOptions().getUniqueKey();
@@ -136,6 +139,41 @@ public final class IndexUtils {
         return normalizedConfig;
     }
 
+    private static List<String> normalizeIncludedAttributes(IndexConfig config, List<String> normalizedAttributeNames) {
+        List<String> includedAttributeNames = config.getIncludedAttributes();
+
+        if (includedAttributeNames.isEmpty()) {
+            return includedAttributeNames;
+        }
+
+        if (config.getType() == IndexType.BITMAP) {
+            throw new IllegalArgumentException("Bitmap indexes do not support included attributes: " + config);
+        }
+
+        if (normalizedAttributeNames.size() + includedAttributeNames.size() > MAX_ATTRIBUTES) {
+            throw new IllegalArgumentException("Index cannot have more than " + MAX_ATTRIBUTES
+                + " indexed and included attributes: " + config);
+        }
+
+        List<String> normalizedIncludedAttributeNames = new ArrayList<>(includedAttributeNames.size());
+
+        for (String includedAttributeName : includedAttributeNames) {
+            validateAttribute(config, includedAttributeName);
+
+            String normalizedAttributeName = canonicalizeAttribute(includedAttributeName.trim());
+
+            if (normalizedAttributeNames.contains(normalizedAttributeName)
+                    || normalizedIncludedAttributeNames.contains(normalizedAttributeName)) {
+                throw new IllegalArgumentException("Duplicate included attribute name [attributeName="
+                    + includedAttributeName + ", indexConfig=" + config + ']');
+            }
+
+            normalizedIncludedAttributeNames.add(normalizedAttributeName);
+        }
+
+        return normalizedIncludedAttributeNames;
+    }
+
     private static IndexConfig buildNormalizedConfig(String mapName, IndexType indexType, String indexName,
                                                      List<String> normalizedAttributeNames,
                                                      BTreeIndexConfig btreeIndexConfig) {
@@ -232,6 +270,34 @@ public final class IndexUtils {
         return res;
     }
 
+    /**
+     * Returns the attributes covered by an index with the given config: its
+     * components followed by its included attributes, or {@code null} if the
+     * index has no included attributes and therefore stores no attribute values.
+     */
+    public static String[] getCoveredAttributes(IndexConfig config) {
+        assert config != null;
+
+        List<String> includedAttributes = config.getIncludedAttributes();
+
+        if (includedAttributes.isEmpty()) {
+            return null;
+        }
+
+        List<String> attributes = config.getAttributes();
+
+        String[] res = new String[attributes.size() + includedAttributes.size()];
+
+        for (int i = 0; i < attributes.size(); i++) {
+            res[i] = attributes.get(i);
+        }
+        for (int i = 0; i < includedAttributes.size(); i++) {
+            res[attributes.size() + i] = includedAttributes.get(i);
+        }
+
+        return res;
+    }
+
     /**
      * Create simple index definition with the given attributes
      *
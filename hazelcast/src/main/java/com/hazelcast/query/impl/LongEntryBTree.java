@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.Arrays;
+
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+
+/**
+ * A B+-tree of {@link QueryableEntry} instances ordered by a primitive
+ * {@code long} key and then by the entry key {@link Data}, so a single key
+ * might be associated with many entries.
+ * <p>
+ * Keys are stored unboxed in the node arrays: an indexed entry costs a
+ * {@code long} and an entry reference in a leaf, instead of a boxed key and
+ * two skip-list nodes.
+ * <p>
+ * The tree doesn't rebalance underfilled nodes, a node is only removed once
+ * it gets empty.
+ * <p>
+ * Not thread-safe, the owner is responsible for the synchronization.
+ */
+final class LongEntryBTree {
+
+    /**
+     * Positions the search before all the entries of the searched key.
+     */
+    static final int BEFORE_KEY = -1;
+
+    /**
+     * Positions the search exactly at the searched key and entry key.
+     */
+    static final int AT_ENTRY = 0;
+
+    /**
+     * Positions the search after all the entries of the searched key.
+     */
+    static final int AFTER_KEY = 1;
+
+    private static final int NODE_CAPACITY = 128;
+
+    private Node root = new Leaf();
+    private int size;
+
+    // split results of the last insertion
+    private Node splitNode;
+    private long splitKey;
+    private Data splitKeyData;
+
+    /**
+     * Associates the given entry with the given key.
+     *
+     * @return the entry with the same entry key previously associated with
+     * the given key, or {@code null} if there was none.
+     */
+    QueryableEntry put(long key, QueryableEntry entry) {
+        splitNode = null;
+        QueryableEntry old = insert(root, key, entry.getKeyData(), entry);
+        if (splitNode != null) {
+            Inner newRoot = new Inner();
+            newRoot.children[0] = root;
+            newRoot.children[1] = splitNode;
+            newRoot.keys[1] = splitKey;
+            newRoot.keyData[1] = splitKeyData;
+            newRoot.size = 2;
+            root = newRoot;
+            splitNode = null;
+            splitKeyData = null;
+        }
+        if (old == null) {
+            size++;
+        }
+        return old;
+    }
+
+    /**
+     * Removes the association between the given key and the entry with the
+     * given entry key.
+     *
+     * @return the removed entry or {@code null} if there was none.
+     */
+    QueryableEntry remove(long key, Data keyData) {
+        QueryableEntry removed = delete(root, key, keyData);
+        if (removed != null) {
+            size--;
+            while (root instanceof Inner inner && inner.size <= 1) {
+                root = inner.size == 0 ? new Leaf() : inner.children[0];
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        root = new Leaf();
+        size = 0;
+    }
+
+    /**
+     * Copies the entries following the given search position in ascending
+     * order into the given arrays, as long as their keys are not greater than
+     * {@code toKey}.
+     *
+     * @param fromKey     the search key.
+     * @param fromKeyData the search entry key, used only for {@link #AT_ENTRY}.
+     * @param bias        one of {@link #BEFORE_KEY}, {@link #AT_ENTRY} or
+     *                    {@link #AFTER_KEY}. {@link #AT_ENTRY} excludes the
+     *                    searched entry itself.
+     * @param toKey       the inclusive upper bound of the copied keys.
+     * @return the number of copied entries.
+     */
+    int fetchAscending(long fromKey, Data fromKeyData, int bias, long toKey, long[] keysOut, QueryableEntry[] entriesOut) {
+        Leaf leaf = findLeaf(fromKey, fromKeyData, bias);
+        int index = firstGreater(leaf, fromKey, fromKeyData, bias);
+        int count = 0;
+        while (leaf != null && count < entriesOut.length) {
+            if (index >= leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+                continue;
+            }
+            long key = leaf.keys[index];
+            if (key > toKey) {
+                break;
+            }
+            keysOut[count] = key;
+            entriesOut[count++] = leaf.entries[index++];
+        }
+        return count;
+    }
+
+    /**
+     * Copies the entries preceding the given search position in descending
+     * order into the given arrays, as long as their keys are not less than
+     * {@code toKey}.
+     *
+     * @param fromKey     the search key.
+     * @param fromKeyData the search entry key, used only for {@link #AT_ENTRY}.
+     * @param bias        one of {@link #BEFORE_KEY}, {@link #AT_ENTRY} or
+     *                    {@link #AFTER_KEY}. {@link #AT_ENTRY} excludes the
+     *                    searched entry itself.
+     * @param toKey       the inclusive lower bound of the copied keys.
+     * @return the number of copied entries.
+     */
+    int fetchDescending(long fromKey, Data fromKeyData, int bias, long toKey, long[] keysOut, QueryableEntry[] entriesOut) {
+        Leaf leaf = findLeaf(fromKey, fromKeyData, bias);
+        int index = firstGreaterOrEqual(leaf, fromKey, fromKeyData, bias) - 1;
+        int count = 0;
+        while (leaf != null && count < entriesOut.length) {
+            if (index < 0) {
+                leaf = leaf.prev;
+                index = leaf == null ? -1 : leaf.size - 1;
+                continue;
+            }
+            long key = leaf.keys[index];
+            if (key < toKey) {
+                break;
+            }
+            keysOut[count] = key;
+            entriesOut[count++] = leaf.entries[index--];
+        }
+        return count;
+    }
+
+    private QueryableEntry insert(Node node, long key, Data keyData, QueryableEntry entry) {
+        if (node instanceof Leaf leaf) {
+            return insertIntoLeaf(leaf, key, keyData, entry);
+        }
+
+        Inner inner = (Inner) node;
+        int childIndex = childIndex(inner, key, keyData, AT_ENTRY);
+        QueryableEntry old = insert(inner.children[childIndex], key, keyData, entry);
+        if (splitNode != null) {
+            insertIntoInner(inner, childIndex + 1);
+        }
+        return old;
+    }
+
+    private QueryableEntry insertIntoLeaf(Leaf leaf, long key, Data keyData, QueryableEntry entry) {
+        int index = firstGreaterOrEqual(leaf, key, keyData, AT_ENTRY);
+        if (index < leaf.size && compare(leaf, index, key, keyData, AT_ENTRY) == 0) {
+            QueryableEntry old = leaf.entries[index];
+            leaf.entries[index] = entry;
+            return old;
+        }
+
+        if (leaf.size < NODE_CAPACITY) {
+            insertAt(leaf, index, key, entry);
+            return null;
+        }
+
+        Leaf right = new Leaf();
+        int half = NODE_CAPACITY / 2;
+        System.arraycopy(leaf.keys, half, right.keys, 0, NODE_CAPACITY - half);
+        System.arraycopy(leaf.entries, half, right.entries, 0, NODE_CAPACITY - half);
+        Arrays.fill(leaf.entries, half, NODE_CAPACITY, null);
+        right.size = NODE_CAPACITY - half;
+        leaf.size = half;
+
+        right.next = leaf.next;
+        if (right.next != null) {
+            right.next.prev = right;
+        }
+        right.prev = leaf;
+        leaf.next = right;
+
+        if (index <= half) {
+            insertAt(leaf, index, key, entry);
+        } else {
+            insertAt(right, index - half, key, entry);
+        }
+
+        splitNode = right;
+        splitKey = right.keys[0];
+        splitKeyData = right.entries[0].getKeyData();
+        return null;
+    }
+
+    private void insertIntoInner(Inner inner, int index) {
+        Node child = splitNode;
+        long key = splitKey;
+        Data keyData = splitKeyData;
+        splitNode = null;
+        splitKeyData = null;
+
+        if (inner.size < NODE_CAPACITY) {
+            insertAt(inner, index, child, key, keyData);
+            return;
+        }
+
+        Inner right = new Inner();
+        int half = NODE_CAPACITY / 2;
+        System.arraycopy(inner.children, half, right.children, 0, NODE_CAPACITY - half);
+        System.arraycopy(inner.keys, half, right.keys, 0, NODE_CAPACITY - half);
+        System.arraycopy(inner.keyData, half, right.keyData, 0, NODE_CAPACITY - half);
+        Arrays.fill(inner.children, half, NODE_CAPACITY, null);
+        Arrays.fill(inner.keyData, half, NODE_CAPACITY, null);
+        right.size = NODE_CAPACITY - half;
+        inner.size = half;
+
+        if (index <= half) {
+            insertAt(inner, index, child, key, keyData);
+        } else {
+            insertAt(right, index - half, child, key, keyData);
+        }
+
+        // the separator of the first child is promoted to the parent
+        splitNode = right;
+        splitKey = right.keys[0];
+        splitKeyData = right.keyData[0];
+        right.keyData[0] = null;
+    }
+
+    private QueryableEntry delete(Node node, long key, Data keyData) {
+        if (node instanceof Leaf leaf) {
+            int index = firstGreaterOrEqual(leaf, key, keyData, AT_ENTRY);
+            if (index == leaf.size || compare(leaf, index, key, keyData, AT_ENTRY) != 0) {
+                return null;
+            }
+            QueryableEntry removed = leaf.entries[index];
+            int tail = leaf.size - index - 1;
+            System.arraycopy(leaf.keys, index + 1, leaf.keys, index, tail);
+            System.arraycopy(leaf.entries, index + 1, leaf.entries, index, tail);
+            leaf.entries[--leaf.size] = null;
+            return removed;
+        }
+
+        Inner inner = (Inner) node;
+        int childIndex = childIndex(inner, key, keyData, AT_ENTRY);
+        Node child = inner.children[childIndex];
+        QueryableEntry removed = delete(child, key, keyData);
+        if (removed != null && child.size == 0) {
+            if (child instanceof Leaf leaf) {
+                unlink(leaf);
+            }
+            int tail = inner.size - childIndex - 1;
+            System.arraycopy(inner.children, childIndex + 1, inner.children, childIndex, tail);
+            System.arraycopy(inner.keys, childIndex + 1, inner.keys, childIndex, tail);
+            System.arraycopy(inner.keyData, childIndex + 1, inner.keyData, childIndex, tail);
+            inner.size--;
+            inner.children[inner.size] = null;
+            inner.keyData[inner.size] = null;
+        }
+        return removed;
+    }
+
+    private Leaf findLeaf(long key, Data keyData, int bias) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[childIndex(inner, key, keyData, bias)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns the index of the last child whose separator is not greater than
+     * the searched position, the first child has no separator.
+     */
+    private static int childIndex(Inner inner, long key, Data keyData, int bias) {
+        int low = 1;
+        int high = inner.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = compare(inner.keys[mid], inner.keyData[mid], key, keyData, bias);
+            if (order <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low - 1;
+    }
+
+    private static int firstGreaterOrEqual(Leaf leaf, long key, Data keyData, int bias) {
+        int low = 0;
+        int high = leaf.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(leaf, mid, key, keyData, bias) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int firstGreater(Leaf leaf, long key, Data keyData, int bias) {
+        int low = 0;
+        int high = leaf.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(leaf, mid, key, keyData, bias) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(Leaf leaf, int index, long key, Data keyData, int bias) {
+        return compare(leaf.keys[index], leaf.entries[index].getKeyData(), key, keyData, bias);
+    }
+
+    /**
+     * Compares the stored {@code (key, keyData)} pair with the searched
+     * position.
+     */
+    private static int compare(long key, Data keyData, long searchedKey, Data searchedKeyData, int bias) {
+        int order = Long.compare(key, searchedKey);
+        if (order != 0) {
+            return order;
+        }
+        if (bias != AT_ENTRY) {
+            return -bias;
+        }
+        return DATA_COMPARATOR.compare(keyData, searchedKeyData);
+    }
+
+    private static void insertAt(Leaf leaf, int index, long key, QueryableEntry entry) {
+        int tail = leaf.size - index;
+        System.arraycopy(leaf.keys, index, leaf.keys, index + 1, tail);
+        System.arraycopy(leaf.entries, index, leaf.entries, index + 1, tail);
+        leaf.keys[index] = key;
+        leaf.entries[index] = entry;
+        leaf.size++;
+    }
+
+    private static void insertAt(Inner inner, int index, Node child, long key, Data keyData) {
+        int tail = inner.size - index;
+        System.arraycopy(inner.children, index, inner.children, index + 1, tail);
+        System.arraycopy(inner.keys, index, inner.keys, index + 1, tail);
+        System.arraycopy(inner.keyData, index, inner.keyData, index + 1, tail);
+        inner.children[index] = child;
+        inner.keys[index] = key;
+        inner.keyData[index] = keyData;
+        inner.size++;
+    }
+
+    private static void unlink(Leaf leaf) {
+        if (leaf.prev != null) {
+            leaf.prev.next = leaf.next;
+        }
+        if (leaf.next != null) {
+            leaf.next.prev = leaf.prev;
+        }
+        leaf.prev = null;
+        leaf.next = null;
+    }
+
+    private abstract static class Node {
+        int size;
+    }
+
+    private static final class Leaf extends Node {
+        final long[] keys = new long[NODE_CAPACITY];
+        final QueryableEntry[] entries = new QueryableEntry[NODE_CAPACITY];
+        Leaf prev;
+        Leaf next;
+    }
+
+    /**
+     * {@code keys[i]} and {@code keyData[i]} hold the smallest position
+     * of {@code children[i]}, they are unused for the first child.
+     */
+    private static final class Inner extends Node {
+        final long[] keys = new long[NODE_CAPACITY];
+        final Data[] keyData = new Data[NODE_CAPACITY];
+        final Node[] children = new Node[NODE_CAPACITY];
+    }
+}
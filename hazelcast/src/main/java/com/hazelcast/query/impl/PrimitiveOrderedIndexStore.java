@@ -0,0 +1,800 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.NEGATIVE_INFINITY;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.LongEntryBTree.AFTER_KEY;
+import static com.hazelcast.query.impl.LongEntryBTree.AT_ENTRY;
+import static com.hazelcast.query.impl.LongEntryBTree.BEFORE_KEY;
+import static com.hazelcast.query.impl.Numbers.isDoubleRepresentable;
+import static com.hazelcast.query.impl.Numbers.isLongRepresentable;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+
+/**
+ * Store indexes rankly, keeping the values of numeric attributes unboxed.
+ * <p>
+ * The values are stored as primitive {@code long} keys of {@link
+ * LongEntryBTree}: the {@code long}, {@code int}, {@code short} and {@code
+ * byte} values as is, the {@code double} and {@code float} values in their
+ * order-preserving bit representation. The type of the values is decided by
+ * the first inserted non-null value. Once a value of any other type is
+ * inserted, the store migrates all its entries to an {@link OrderedIndexStore}
+ * and delegates to it from then on.
+ * <p>
+ * The ordering, including the ordering of the mixed-type numeric query
+ * arguments, is the same as the one of {@link OrderedIndexStore}.
+ */
+@SuppressWarnings({"rawtypes", "checkstyle:MethodCount"})
+public class PrimitiveOrderedIndexStore extends BaseSingleValueIndexStore {
+
+    private static final int MIN_BATCH_SIZE = 8;
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private final IndexCopyBehavior copyOn;
+
+    // the fields are guarded by the global lock
+    private LongEntryBTree values = new LongEntryBTree();
+    private LongEntryBTree nulls = new LongEntryBTree();
+    private Class valueClass;
+
+    private volatile OrderedIndexStore fallback;
+
+    public PrimitiveOrderedIndexStore(IndexCopyBehavior copyOn) {
+        super(copyOn, true);
+        assert copyOn != null;
+        this.copyOn = copyOn;
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return insertIntoFallback(fallback, value, record);
+        }
+
+        if (value == NULL) {
+            return nulls.put(0, record);
+        }
+
+        Class clazz = value.getClass();
+        if (valueClass == null && (isLongRepresentable(clazz) || isDoubleRepresentable(clazz))) {
+            valueClass = clazz;
+        }
+        if (clazz != valueClass) {
+            return insertIntoFallback(migrateToFallback(), value, record);
+        }
+        return values.put(toKey(value), record);
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            fallback.takeWriteLock();
+            try {
+                return fallback.removeInternal(value, recordKey);
+            } finally {
+                fallback.releaseWriteLock();
+            }
+        }
+
+        if (value == NULL) {
+            return nulls.remove(0, recordKey);
+        }
+        // values of other types are never stored in the trees
+        return value.getClass() == valueClass ? values.remove(toKey(value), recordKey) : null;
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // Same as for OrderedIndexStore, needed to support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            // the trees might be still referenced by the ongoing iterations,
+            // so they are replaced instead of being cleared
+            values = new LongEntryBTree();
+            nulls = new LongEntryBTree();
+            valueClass = null;
+            fallback = null;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(value, false));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable searchedValue, boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(comparison, searchedValue, descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(
+            Comparable from,
+            boolean fromInclusive,
+            Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive,
+                descending));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.getSqlRecordIteratorBatch(value, descending, lastEntryKeyData);
+        }
+        return getSqlRecordIteratorBatch(value, true, value, true, descending, lastEntryKeyData);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.getSqlRecordIteratorBatch(descending);
+        }
+        return getSqlRecordIteratorBatch(NULL, true, POSITIVE_INFINITY, true, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(comparison, searchedValue, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, true, descending, lastEntryKeyData);
+            case GREATER:
+                return getSqlRecordIteratorBatch(searchedValue, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIteratorBatch(searchedValue, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        OrderedIndexStore fallback = this.fallback;
+        if (fallback != null) {
+            return fallback.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, lastEntryKeyData);
+        }
+
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+            return emptyIterator();
+        }
+
+        takeReadLock();
+        try {
+            Range range = new Range(valueClass, from, fromInclusive, to, toInclusive);
+            // a single value lookup reports the searched value as the index key
+            return new IndexKeyEntriesIterator(values, nulls, valueClass, range, descending, order == 0 ? from : null,
+                    descending ? to : from, lastEntryKeyData);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        return getRecords(value, true, value, true);
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            OrderedIndexStore fallback = this.fallback;
+            if (fallback != null) {
+                return fallback.getRecords(values);
+            }
+
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            for (Comparable value : values) {
+                collect(new Range(valueClass, value, true, value, true), records);
+            }
+            return new SingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, searchedValue, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, searchedValue, true);
+            case GREATER:
+                return getRecords(searchedValue, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(searchedValue, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            OrderedIndexStore fallback = this.fallback;
+            if (fallback != null) {
+                return fallback.getRecords(from, fromInclusive, to, toInclusive);
+            }
+
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collect(new Range(valueClass, from, fromInclusive, to, toInclusive), records);
+            return new SingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    /**
+     * Collects the entries matching the given range into the given map.
+     * Needs to be invoked under the read lock.
+     */
+    private void collect(Range range, Map<Data, QueryableEntry> records) {
+        long[] keys = new long[MAX_BATCH_SIZE];
+        QueryableEntry[] entries = new QueryableEntry[MAX_BATCH_SIZE];
+
+        if (range.includeNulls && range.matches(NULL)) {
+            collect(nulls, 0, 0, range, null, keys, entries, records);
+        }
+        if (range.includeValues) {
+            collect(values, range.from, range.to, range, valueClass, keys, entries, records);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private static void collect(LongEntryBTree tree, long from, long to, Range range, Class valueClass, long[] keys,
+                                QueryableEntry[] entries, Map<Data, QueryableEntry> records) {
+        boolean filter = range.filtered && valueClass != null;
+        int count = tree.fetchAscending(from, null, BEFORE_KEY, to, keys, entries);
+        while (count > 0) {
+            for (int i = 0; i < count; ++i) {
+                if (!filter || range.matches(toValue(keys[i], valueClass))) {
+                    QueryableEntry entry = entries[i];
+                    records.put(entry.getKeyData(), entry);
+                }
+            }
+            if (count < keys.length) {
+                break;
+            }
+            QueryableEntry last = entries[count - 1];
+            count = tree.fetchAscending(keys[count - 1], last.getKeyData(), AT_ENTRY, to, keys, entries);
+        }
+    }
+
+    /**
+     * Migrates all the entries to an {@link OrderedIndexStore}. Needs to be
+     * invoked under the write lock.
+     * <p>
+     * The trees are left intact, so the ongoing iterations may continue
+     * using them.
+     */
+    private OrderedIndexStore migrateToFallback() {
+        OrderedIndexStore store = new OrderedIndexStore(copyOn);
+        long[] keys = new long[MAX_BATCH_SIZE];
+        QueryableEntry[] entries = new QueryableEntry[MAX_BATCH_SIZE];
+        migrate(nulls, null, store, keys, entries);
+        migrate(values, valueClass, store, keys, entries);
+        fallback = store;
+        return store;
+    }
+
+    private static void migrate(LongEntryBTree tree, Class valueClass, OrderedIndexStore store, long[] keys,
+                                QueryableEntry[] entries) {
+        int count = tree.fetchAscending(Long.MIN_VALUE, null, BEFORE_KEY, Long.MAX_VALUE, keys, entries);
+        while (count > 0) {
+            for (int i = 0; i < count; ++i) {
+                // the store is not published yet, no need to take its lock
+                store.insertInternal(valueClass == null ? NULL : toValue(keys[i], valueClass), entries[i]);
+            }
+            QueryableEntry last = entries[count - 1];
+            count = tree.fetchAscending(keys[count - 1], last.getKeyData(), AT_ENTRY, Long.MAX_VALUE, keys, entries);
+        }
+    }
+
+    private static Object insertIntoFallback(OrderedIndexStore fallback, Comparable value, QueryableEntry record) {
+        fallback.takeWriteLock();
+        try {
+            return fallback.insertInternal(value, record);
+        } finally {
+            fallback.releaseWriteLock();
+        }
+    }
+
+    private static long toKey(Comparable value) {
+        Number number = (Number) value;
+        return isDoubleRepresentable(value.getClass()) ? toKey(number.doubleValue()) : number.longValue();
+    }
+
+    /**
+     * Converts the given double to a long having the same ordering as {@link
+     * Double#compare}: the sign bit is kept and the rest of the bits are
+     * flipped for the negative values. The conversion is its own inverse.
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static long toKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static Comparable toValue(long key, Class valueClass) {
+        if (valueClass == Long.class) {
+            return key;
+        } else if (valueClass == Integer.class) {
+            return (int) key;
+        } else if (valueClass == Short.class) {
+            return (short) key;
+        } else if (valueClass == Byte.class) {
+            return (byte) key;
+        }
+
+        double value = Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+        if (valueClass == Float.class) {
+            return (float) value;
+        }
+        return value;
+    }
+
+    /**
+     * The searched range mapped to the keys of the trees.
+     * <p>
+     * Numeric bounds are mapped exactly to the inclusive {@code [from, to]}
+     * range of the keys. Bounds of any other type can't be mapped, the
+     * matching keys are found by filtering their boxed values using the
+     * original bounds instead, as {@link OrderedIndexStore} would do.
+     */
+    private static final class Range {
+
+        final Comparable fromValue;
+        final boolean fromInclusive;
+        final Comparable toValue;
+        final boolean toInclusive;
+
+        boolean includeNulls;
+        boolean includeValues;
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        boolean filtered;
+
+        // the order of the last located bound relative to the located key
+        private int order;
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        Range(Class valueClass, Comparable fromValue, boolean fromInclusive, Comparable toValue, boolean toInclusive) {
+            this.fromValue = fromValue;
+            this.fromInclusive = fromInclusive;
+            this.toValue = toValue;
+            this.toInclusive = toInclusive;
+
+            includeValues = valueClass != null;
+            if (fromValue == NULL) {
+                includeNulls = fromInclusive;
+            } else if (fromValue == NEGATIVE_INFINITY) {
+                includeNulls = true;
+            } else if (fromValue == POSITIVE_INFINITY) {
+                includeValues = false;
+            } else if (isNumeric(fromValue)) {
+                if (includeValues) {
+                    long key = locate(valueClass, (Number) fromValue);
+                    if (order > 0 || order == 0 && !fromInclusive) {
+                        includeValues = key != Long.MAX_VALUE;
+                        ++key;
+                    }
+                    from = key;
+                }
+            } else {
+                includeNulls = true;
+                filtered = true;
+            }
+
+            if (toValue == NULL) {
+                includeValues = false;
+                includeNulls &= toInclusive;
+            } else if (toValue == NEGATIVE_INFINITY) {
+                includeValues = false;
+                includeNulls = false;
+            } else if (toValue == POSITIVE_INFINITY) {
+                // all the values are less than the positive infinity
+                to = Long.MAX_VALUE;
+            } else if (isNumeric(toValue)) {
+                if (includeValues) {
+                    long key = locate(valueClass, (Number) toValue);
+                    if (order < 0 || order == 0 && !toInclusive) {
+                        includeValues &= key != Long.MIN_VALUE;
+                        --key;
+                    }
+                    to = key;
+                }
+            } else {
+                filtered = true;
+            }
+
+            includeValues &= from <= to;
+        }
+
+        boolean matches(Comparable value) {
+            if (!filtered) {
+                return true;
+            }
+            int fromOrder = SPECIAL_AWARE_COMPARATOR.compare(value, fromValue);
+            if (fromOrder < 0 || fromOrder == 0 && !fromInclusive) {
+                return false;
+            }
+            int toOrder = SPECIAL_AWARE_COMPARATOR.compare(value, toValue);
+            return toOrder < 0 || toOrder == 0 && toInclusive;
+        }
+
+        /**
+         * Returns the key nearest to the given bound and remembers the order
+         * of the bound relative to it: zero if the bound is equal to the key,
+         * negative if it's between the previous key and the key, positive if
+         * it's between the key and the next key.
+         */
+        @SuppressWarnings({"checkstyle:magicnumber", "checkstyle:NPathComplexity"})
+        private long locate(Class valueClass, Number bound) {
+            boolean doubleBound = isDoubleRepresentable(bound.getClass());
+            if (isDoubleRepresentable(valueClass)) {
+                if (doubleBound) {
+                    order = 0;
+                    return toKey(bound.doubleValue());
+                }
+
+                // mirrors Numbers.compareLongWithDouble
+                long value = bound.longValue();
+                double nearest = (double) value;
+                if (nearest > -0x1p53 && nearest < +0x1p53) {
+                    order = 0;
+                } else if (nearest <= -0x1p63) {
+                    order = +1;
+                } else if (nearest >= +0x1p63) {
+                    order = -1;
+                } else {
+                    order = Long.compare(value, (long) nearest);
+                }
+                return toKey(nearest);
+            }
+
+            if (!doubleBound) {
+                order = 0;
+                return bound.longValue();
+            }
+
+            double value = bound.doubleValue();
+            if (Double.isNaN(value) || value >= +0x1p63) {
+                order = +1;
+                return Long.MAX_VALUE;
+            } else if (value <= -0x1p63) {
+                order = -1;
+                return Long.MIN_VALUE;
+            } else if (Double.doubleToRawLongBits(value) == Double.doubleToRawLongBits(-0.0)) {
+                // -0.0 is less than zero, see Numbers.compareLongWithDouble
+                order = -1;
+                return 0;
+            }
+            long key = (long) Math.ceil(value);
+            order = (double) key == value ? 0 : -1;
+            return key;
+        }
+
+        private static boolean isNumeric(Comparable value) {
+            Class clazz = value.getClass();
+            return isLongRepresentable(clazz) || isDoubleRepresentable(clazz);
+        }
+    }
+
+    /**
+     * Lazily iterates over the distinct keys of the given range, the nulls go
+     * first in the ascending order and last in the descending one. The
+     * entries of every key are fetched in batches under the read lock.
+     */
+    private final class IndexKeyEntriesIterator implements Iterator<IndexKeyEntries> {
+
+        private final LongEntryBTree values;
+        private final LongEntryBTree nulls;
+        private final Class valueClass;
+        private final Range range;
+        private final boolean descending;
+        private final Comparable indexKey;
+        private final Comparable cursorKey;
+        private final Data cursor;
+
+        private final long[] keyOut = new long[1];
+        private final QueryableEntry[] entryOut = new QueryableEntry[1];
+
+        private boolean nullsPending;
+        private boolean valuesPending;
+        private boolean valuesStarted;
+        private long lastKey;
+        private boolean first = true;
+        private IndexKeyEntries next;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        IndexKeyEntriesIterator(LongEntryBTree values, LongEntryBTree nulls, Class valueClass, Range range,
+                                boolean descending, Comparable indexKey, Comparable cursorKey, Data cursor) {
+            this.values = values;
+            this.nulls = nulls;
+            this.valueClass = valueClass;
+            this.range = range;
+            this.descending = descending;
+            this.indexKey = indexKey;
+            this.cursorKey = cursorKey;
+            this.cursor = cursor;
+            this.nullsPending = range.includeNulls && range.matches(NULL);
+            this.valuesPending = range.includeValues;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IndexKeyEntries result = next;
+            next = null;
+            return result;
+        }
+
+        private IndexKeyEntries advance() {
+            if (!descending && nullsPending) {
+                nullsPending = false;
+                IndexKeyEntries entries = nullEntries();
+                if (entries != null) {
+                    return entries;
+                }
+            }
+
+            while (valuesPending) {
+                if (!fetchNextKey()) {
+                    valuesPending = false;
+                    break;
+                }
+                Comparable value = toValue(lastKey, valueClass);
+                if (range.matches(value)) {
+                    return new IndexKeyEntries(indexKey == null ? value : indexKey,
+                            new EntryIterator(values, lastKey, descending, cursorFor(value)));
+                }
+            }
+
+            if (nullsPending) {
+                nullsPending = false;
+                return nullEntries();
+            }
+            return null;
+        }
+
+        private IndexKeyEntries nullEntries() {
+            takeReadLock();
+            try {
+                if (nulls.size() == 0) {
+                    return null;
+                }
+            } finally {
+                releaseReadLock();
+            }
+            return new IndexKeyEntries(NULL, new EntryIterator(nulls, 0, descending, cursorFor(NULL)));
+        }
+
+        private boolean fetchNextKey() {
+            int count;
+            takeReadLock();
+            try {
+                if (descending) {
+                    count = valuesStarted
+                            ? values.fetchDescending(lastKey, null, BEFORE_KEY, range.from, keyOut, entryOut)
+                            : values.fetchDescending(range.to, null, AFTER_KEY, range.from, keyOut, entryOut);
+                } else {
+                    count = valuesStarted
+                            ? values.fetchAscending(lastKey, null, AFTER_KEY, range.to, keyOut, entryOut)
+                            : values.fetchAscending(range.from, null, BEFORE_KEY, range.to, keyOut, entryOut);
+                }
+            } finally {
+                releaseReadLock();
+            }
+            entryOut[0] = null;
+            valuesStarted = true;
+            lastKey = keyOut[0];
+            return count != 0;
+        }
+
+        /**
+         * The cursor applies only to the key equal to the starting bound,
+         * that might be only the first returned key.
+         */
+        private Data cursorFor(Comparable value) {
+            boolean applies = first && cursor != null && SPECIAL_AWARE_COMPARATOR.compare(cursorKey, value) == 0;
+            first = false;
+            return applies ? cursor : null;
+        }
+    }
+
+    /**
+     * Iterates over the entries of a single key, fetching them in batches of
+     * increasing size under the read lock.
+     */
+    private final class EntryIterator implements Iterator<QueryableEntry> {
+
+        private final LongEntryBTree tree;
+        private final long key;
+        private final boolean descending;
+
+        private Data last;
+        private long[] keys = new long[MIN_BATCH_SIZE];
+        private QueryableEntry[] entries = new QueryableEntry[MIN_BATCH_SIZE];
+        private int count;
+        private int index;
+        private boolean exhausted;
+
+        EntryIterator(LongEntryBTree tree, long key, boolean descending, Data last) {
+            this.tree = tree;
+            this.key = key;
+            this.descending = descending;
+            this.last = last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (index == count && !exhausted) {
+                fetch();
+            }
+            return index < count;
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            QueryableEntry entry = entries[index];
+            entries[index++] = null;
+            return entry;
+        }
+
+        private void fetch() {
+            if (count == entries.length && entries.length < MAX_BATCH_SIZE) {
+                keys = new long[entries.length * 2];
+                entries = new QueryableEntry[entries.length * 2];
+            }
+
+            int bias = last == null ? (descending ? AFTER_KEY : BEFORE_KEY) : AT_ENTRY;
+            takeReadLock();
+            try {
+                count = descending
+                        ? tree.fetchDescending(key, last, bias, key, keys, entries)
+                        : tree.fetchAscending(key, last, bias, key, keys, entries);
+            } finally {
+                releaseReadLock();
+            }
+            index = 0;
+            exhausted = count < entries.length;
+            if (count > 0) {
+                last = entries[count - 1].getKeyData();
+            }
+        }
+    }
+}
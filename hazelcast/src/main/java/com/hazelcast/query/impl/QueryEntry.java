@@ -132,6 +132,9 @@ public class QueryEntry extends QueryableEntry {
         if (this == o) {
             return true;
         }
+        if (o instanceof CoveringQueryEntry<?, ?> that) {
+            return key.equals(that.getKeyData());
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
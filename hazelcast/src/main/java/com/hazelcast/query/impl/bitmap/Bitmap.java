@@ -35,7 +35,7 @@ import java.util.Map;
  * of type {@code E}. Each indexed entry is uniquely identified by its unique
  * {@code long} key provided externally.
  * <p>
- * Internally, each bitmap manages a set of sparse bit sets, one for each
+ * Internally, each bitmap manages a set of Roaring bit sets, one for each
  * possible attribute value, and a sparse array to map from unique {@code long}
  * entry keys back to entries.
  *
@@ -44,7 +44,7 @@ import java.util.Map;
 @SuppressWarnings("rawtypes")
 public final class Bitmap<E> {
 
-    private final Map<Object, SparseBitSet> bitSets = new HashMap<>();
+    private final Map<Object, RoaringBitSet> bitSets = new HashMap<>();
 
     private final SparseArray<E> entries = new SparseArray<>();
 
@@ -66,7 +66,7 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            RoaringBitSet bitSet = bitSets.computeIfAbsent(value, x -> new RoaringBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
         }
@@ -88,7 +88,7 @@ public final class Bitmap<E> {
             Object value = oldValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
+            RoaringBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
                 bitSet.remove(key);
             }
@@ -99,7 +99,7 @@ public final class Bitmap<E> {
             Object value = newValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            RoaringBitSet bitSet = bitSets.computeIfAbsent(value, x -> new RoaringBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
         }
@@ -119,7 +119,7 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
+            RoaringBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
                 if (bitSet.remove(key)) {
                     bitSets.remove(value);
@@ -158,6 +158,10 @@ public final class Bitmap<E> {
 
     @SuppressWarnings("checkstyle:npathcomplexity")
     private AscendingLongIterator predicateIterator(Predicate predicate, TypeConverter converter) {
+        if (evaluatesToBitSet(predicate)) {
+            return predicateBitSet(predicate, converter).iterator();
+        }
+
         if (predicate instanceof AndPredicate andPredicate) {
             Predicate[] predicates = andPredicate.getPredicates();
             assert predicates.length > 0;
@@ -188,19 +192,78 @@ public final class Bitmap<E> {
             return BitmapAlgorithms.not(valueIterator(value, converter), entries);
         }
 
+        throw new IllegalArgumentException("unexpected predicate: " + predicate);
+    }
+
+    /**
+     * Checks whether the given predicate can be evaluated by combining the
+     * bit sets directly, that's the case if it doesn't involve negations.
+     */
+    private static boolean evaluatesToBitSet(Predicate predicate) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            return evaluateToBitSets(andPredicate.getPredicates());
+        }
+        if (predicate instanceof OrPredicate orPredicate) {
+            return evaluateToBitSets(orPredicate.getPredicates());
+        }
+        return predicate instanceof EqualPredicate || predicate instanceof InPredicate;
+    }
+
+    private static boolean evaluateToBitSets(Predicate[] predicates) {
+        for (Predicate predicate : predicates) {
+            if (!evaluatesToBitSet(predicate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private RoaringBitSet predicateBitSet(Predicate predicate, TypeConverter converter) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            Predicate[] predicates = andPredicate.getPredicates();
+            assert predicates.length > 0;
+            return predicates.length == 1
+                    ? predicateBitSet(predicates[0], converter)
+                    : RoaringBitSet.and(predicateBitSets(predicates, converter));
+        }
+
+        if (predicate instanceof OrPredicate orPredicate) {
+            Predicate[] predicates = orPredicate.getPredicates();
+            assert predicates.length > 0;
+            return predicates.length == 1
+                    ? predicateBitSet(predicates[0], converter)
+                    : RoaringBitSet.or(predicateBitSets(predicates, converter));
+        }
+
         if (predicate instanceof EqualPredicate equalPredicate) {
-            Comparable value = equalPredicate.getFrom();
-            return valueIterator(value, converter);
+            return valueBitSet(equalPredicate.getFrom(), converter);
         }
 
         if (predicate instanceof InPredicate inPredicate) {
             Comparable[] values = inPredicate.getValues();
-            return BitmapAlgorithms.or(valueIterators(values, converter));
+            RoaringBitSet[] valueBitSets = new RoaringBitSet[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                valueBitSets[i] = valueBitSet(values[i], converter);
+            }
+            return RoaringBitSet.or(valueBitSets);
         }
 
         throw new IllegalArgumentException("unexpected predicate: " + predicate);
     }
 
+    private RoaringBitSet[] predicateBitSets(Predicate[] predicates, TypeConverter converter) {
+        RoaringBitSet[] result = new RoaringBitSet[predicates.length];
+        for (int i = 0; i < predicates.length; ++i) {
+            result[i] = predicateBitSet(predicates[i], converter);
+        }
+        return result;
+    }
+
+    private RoaringBitSet valueBitSet(Comparable value, TypeConverter converter) {
+        RoaringBitSet bitSet = bitSets.get(converter.convert(value));
+        return bitSet == null ? new RoaringBitSet() : bitSet;
+    }
+
     private AscendingLongIterator[] predicateIterators(Predicate[] predicates, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[predicates.length];
         for (int i = 0; i < predicates.length; ++i) {
@@ -210,18 +273,10 @@ public final class Bitmap<E> {
     }
 
     private AscendingLongIterator valueIterator(Comparable value, TypeConverter converter) {
-        SparseBitSet bitSet = bitSets.get(converter.convert(value));
+        RoaringBitSet bitSet = bitSets.get(converter.convert(value));
         return bitSet == null ? AscendingLongIterator.EMPTY : bitSet.iterator();
     }
 
-    private AscendingLongIterator[] valueIterators(Comparable[] values, TypeConverter converter) {
-        AscendingLongIterator[] iterators = new AscendingLongIterator[values.length];
-        for (int i = 0; i < values.length; ++i) {
-            iterators[i] = valueIterator(values[i], converter);
-        }
-        return iterators;
-    }
-
     /**
      * Maps unique entry keys back to entries.
      */
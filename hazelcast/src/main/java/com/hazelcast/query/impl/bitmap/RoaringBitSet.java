@@ -0,0 +1,1023 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import java.util.Arrays;
+
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.capacityDeltaInt;
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.capacityDeltaShort;
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.toUnsignedInt;
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.unsignedBinarySearch;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+
+/**
+ * Stores a set of bits indexable by non-negative {@code long} indexes in the
+ * Roaring Bitmap format.
+ * <p>
+ * The indexes are split into 48-bit prefixes and 16-bit postfixes. The
+ * prefixes are stored in a sorted array and used to lookup a container
+ * holding the postfixes of the corresponding 65536-index chunk.
+ * <p>
+ * Containers go in three flavors:
+ * <ul>
+ * <li>{@link ArrayContainer ArrayContainer} which manages sorted short array
+ * of postfixes, it's used for sparse chunks.
+ * <li>{@link BitmapContainer BitmapContainer} which manages directly
+ * indexable long array of bits, it's used for dense chunks.
+ * <li>{@link RunContainer RunContainer} which manages sorted short array of
+ * runs of consecutive postfixes, it's used for chunks consisting of long
+ * ranges of set bits.
+ * </ul>
+ * <p>
+ * A container is converted to another flavor once the other flavor becomes
+ * more compact for the members stored.
+ * <p>
+ * Unlike {@link SparseBitSet}, the bit sets may be intersected and united
+ * directly using {@link #and} and {@link #or} without merging iterators
+ * member by member: the containers of the same chunk are combined into an
+ * array of 1024 words in tight loops which are easy for the JIT to unroll
+ * and vectorize.
+ * <p>
+ * Empty containers are never stored by the implementation.
+ */
+final class RoaringBitSet {
+
+    /**
+     * The size at which ArrayContainer is converted to another flavor. At
+     * this size the memory cost of having sorted short array is equal to the
+     * cost of having directly indexable long array of bits.
+     */
+    static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+    /**
+     * The number of runs at which RunContainer is converted to another flavor.
+     * At this number of runs the memory cost of having the runs is equal to the
+     * cost of having directly indexable long array of bits.
+     */
+    static final int RUN_CONTAINER_MAX_RUNS = 2048;
+
+    private static final int POSTFIX_MASK = 0xFFFF;
+    private static final int WORD_COUNT = 1024;
+    private static final int CHUNK_SIZE = 65536;
+    private static final int MIN_CAPACITY = 2;
+
+    private long[] prefixes = new long[MIN_CAPACITY];
+    private Container[] containers = new Container[MIN_CAPACITY];
+    private int size;
+
+    // used for caching of the last resolved container index
+    private int lastIndex = -1;
+
+    /**
+     * Adds the given member to this bit set.
+     *
+     * @param member the member to add.
+     */
+    public void add(long member) {
+        assert member >= 0;
+        long prefix = member >>> Short.SIZE;
+
+        int index = indexOf(prefix);
+        if (index >= 0) {
+            containers[index] = containers[index].add((short) member);
+        } else {
+            insert(-(index + 1), prefix, new ArrayContainer((short) member));
+        }
+    }
+
+    /**
+     * Removes the given member from this bit set.
+     *
+     * @param member the member to remove.
+     * @return {@code true} if this bit set became empty as a result of the
+     * member removal, {@code false} otherwise.
+     */
+    public boolean remove(long member) {
+        assert member >= 0;
+        long prefix = member >>> Short.SIZE;
+
+        int index = indexOf(prefix);
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index].remove((short) member);
+        if (container != null) {
+            containers[index] = container;
+            return false;
+        }
+        arraycopy(prefixes, index + 1, prefixes, index, size - index - 1);
+        arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+        lastIndex = -1;
+        return size == 0;
+    }
+
+    /**
+     * @return {@code true} if the given member is present in this bit set,
+     * {@code false} otherwise.
+     */
+    public boolean contains(long member) {
+        assert member >= 0;
+        int index = indexOf(member >>> Short.SIZE);
+        return index >= 0 && containers[index].contains((short) member);
+    }
+
+    /**
+     * @return the number of members in this bit set.
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; ++i) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return the iterator over the members of this bit set.
+     */
+    public AscendingLongIterator iterator() {
+        return new IteratorImpl();
+    }
+
+    /**
+     * Intersects the given bit sets.
+     *
+     * @param bitSets the bit sets to intersect, not modified.
+     * @return a new bit set containing the members present in all the given
+     * bit sets.
+     */
+    public static RoaringBitSet and(RoaringBitSet[] bitSets) {
+        assert bitSets.length > 0;
+        // start from the bit set having the smallest number of chunks
+        RoaringBitSet[] sorted = bitSets.clone();
+        Arrays.sort(sorted, (left, right) -> Integer.compare(left.size, right.size));
+
+        RoaringBitSet first = sorted[0];
+        RoaringBitSet result = new RoaringBitSet();
+        Container[] group = new Container[sorted.length];
+        chunks:
+        for (int i = 0; i < first.size; ++i) {
+            long prefix = first.prefixes[i];
+            group[0] = first.containers[i];
+            for (int j = 1; j < sorted.length; ++j) {
+                RoaringBitSet other = sorted[j];
+                int index = Arrays.binarySearch(other.prefixes, 0, other.size, prefix);
+                if (index < 0) {
+                    continue chunks;
+                }
+                group[j] = other.containers[index];
+            }
+            Container container = and(group);
+            if (container != null) {
+                result.append(prefix, container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unites the given bit sets.
+     *
+     * @param bitSets the bit sets to unite, not modified.
+     * @return a new bit set containing the members present in any of the
+     * given bit sets.
+     */
+    public static RoaringBitSet or(RoaringBitSet[] bitSets) {
+        RoaringBitSet result = new RoaringBitSet();
+        int[] positions = new int[bitSets.length];
+        Container[] group = new Container[bitSets.length];
+        while (true) {
+            long prefix = Long.MAX_VALUE;
+            boolean found = false;
+            for (int j = 0; j < bitSets.length; ++j) {
+                if (positions[j] < bitSets[j].size) {
+                    prefix = Math.min(prefix, bitSets[j].prefixes[positions[j]]);
+                    found = true;
+                }
+            }
+            if (!found) {
+                return result;
+            }
+
+            int count = 0;
+            for (int j = 0; j < bitSets.length; ++j) {
+                RoaringBitSet bitSet = bitSets[j];
+                if (positions[j] < bitSet.size && bitSet.prefixes[positions[j]] == prefix) {
+                    group[count++] = bitSet.containers[positions[j]++];
+                }
+            }
+            result.append(prefix, or(group, count));
+        }
+    }
+
+    private static Container and(Container[] group) {
+        Container smallest = group[0];
+        for (int i = 1; i < group.length; ++i) {
+            if (group[i].cardinality() < smallest.cardinality()) {
+                smallest = group[i];
+            }
+        }
+
+        if (smallest instanceof ArrayContainer array) {
+            // probe the few members of the array in the other containers
+            short[] members = new short[array.size];
+            int size = 0;
+            members:
+            for (int i = 0; i < array.size; ++i) {
+                short member = array.members[i];
+                for (Container container : group) {
+                    if (container != smallest && !container.contains(member)) {
+                        continue members;
+                    }
+                }
+                members[size++] = member;
+            }
+            return size == 0 ? null : new ArrayContainer(members, size);
+        }
+
+        long[] words = smallest.toWords();
+        for (Container container : group) {
+            if (container != smallest) {
+                container.andInto(words);
+            }
+        }
+        int cardinality = cardinality(words);
+        return cardinality == 0 ? null : bestContainer(words, cardinality);
+    }
+
+    private static Container or(Container[] group, int count) {
+        if (count == 1) {
+            return group[0].copy();
+        }
+        long[] words = new long[WORD_COUNT];
+        for (int i = 0; i < count; ++i) {
+            group[i].orInto(words);
+        }
+        return bestContainer(words, cardinality(words));
+    }
+
+    /**
+     * Chooses the most compact container flavor for the given bits.
+     */
+    private static Container bestContainer(long[] words, int cardinality) {
+        assert cardinality > 0;
+        int runs = numberOfRuns(words);
+        // the sizes are in shorts
+        int runSize = runs * 2;
+        int arraySize = cardinality <= ARRAY_CONTAINER_MAX_SIZE ? cardinality : Integer.MAX_VALUE;
+        if (runSize < Math.min(arraySize, ARRAY_CONTAINER_MAX_SIZE)) {
+            return new RunContainer(words, runs, cardinality);
+        }
+        if (arraySize <= ARRAY_CONTAINER_MAX_SIZE) {
+            return new ArrayContainer(words, cardinality);
+        }
+        return new BitmapContainer(words, cardinality);
+    }
+
+    private static int cardinality(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    private static int numberOfRuns(long[] words) {
+        int runs = 0;
+        long previous = 0;
+        for (long word : words) {
+            // count the set bits having an unset bit before them
+            runs += Long.bitCount(word & ~((word << 1) | (previous >>> (Long.SIZE - 1))));
+            previous = word;
+        }
+        return runs;
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; ++i) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    private static void clearRange(long[] words, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] &= ~(firstMask & lastMask);
+            return;
+        }
+        words[firstWord] &= ~firstMask;
+        for (int i = firstWord + 1; i < lastWord; ++i) {
+            words[i] = 0;
+        }
+        words[lastWord] &= ~lastMask;
+    }
+
+    private static int nextSetBit(long[] words, int from) {
+        if (from >= CHUNK_SIZE) {
+            return -1;
+        }
+        int wordIndex = from >>> 6;
+        long word = words[wordIndex] & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex == WORD_COUNT) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int nextClearBit(long[] words, int from) {
+        if (from >= CHUNK_SIZE) {
+            return CHUNK_SIZE;
+        }
+        int wordIndex = from >>> 6;
+        long word = ~words[wordIndex] & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex == WORD_COUNT) {
+                return CHUNK_SIZE;
+            }
+            word = ~words[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private int indexOf(long prefix) {
+        if (lastIndex >= 0 && lastIndex < size && prefixes[lastIndex] == prefix) {
+            return lastIndex;
+        }
+        int index = size > 0 && prefixes[size - 1] == prefix ? size - 1 : Arrays.binarySearch(prefixes, 0, size, prefix);
+        if (index >= 0) {
+            lastIndex = index;
+        }
+        return index;
+    }
+
+    private void insert(int index, long prefix, Container container) {
+        if (size == prefixes.length) {
+            int newCapacity = size + capacityDeltaInt(size);
+            prefixes = copyOf(prefixes, newCapacity);
+            containers = copyOf(containers, newCapacity);
+        }
+        arraycopy(prefixes, index, prefixes, index + 1, size - index);
+        arraycopy(containers, index, containers, index + 1, size - index);
+        prefixes[index] = prefix;
+        containers[index] = container;
+        ++size;
+        lastIndex = index;
+    }
+
+    private void append(long prefix, Container container) {
+        assert size == 0 || prefixes[size - 1] < prefix;
+        insert(size, prefix, container);
+    }
+
+    /**
+     * Stores the members of a single 65536-index chunk.
+     */
+    private interface Container {
+
+        /**
+         * Adds the given member to this container.
+         *
+         * @param member the member to add.
+         * @return a new container instance if this container was converted to
+         * another flavor; this container otherwise.
+         */
+        Container add(short member);
+
+        /**
+         * Removes the given member from this container.
+         *
+         * @param member the member to remove.
+         * @return {@code null} if this container became empty as a result of
+         * the member removal; a new container instance if this container was
+         * converted to another flavor; this container otherwise.
+         */
+        Container remove(short member);
+
+        boolean contains(short member);
+
+        int cardinality();
+
+        /**
+         * Sets the bits of the members of this container in the given words.
+         */
+        void orInto(long[] words);
+
+        /**
+         * Clears the bits of the given words which are not members of this
+         * container.
+         */
+        void andInto(long[] words);
+
+        /**
+         * @return a new directly indexable long array of bits of the members.
+         */
+        default long[] toWords() {
+            long[] words = new long[WORD_COUNT];
+            orInto(words);
+            return words;
+        }
+
+        Container copy();
+
+        Cursor cursor();
+
+    }
+
+    /**
+     * Iterates over the members of a container.
+     */
+    private interface Cursor {
+
+        /**
+         * Advances this cursor to the given member; or, if the member is not
+         * present in the container, to a member immediately following it.
+         *
+         * @param member the unsigned member to advance at least to, must be
+         *               greater than the member returned by the previous
+         *               invocation.
+         * @return the unsigned member this cursor was advanced to or {@code -1}
+         * if no such member exists in the container.
+         */
+        int advanceAtLeastTo(int member);
+
+    }
+
+    /**
+     * Manages sorted short array of postfixes.
+     */
+    private static final class ArrayContainer implements Container {
+
+        private static final int MIN_CAPACITY = 4;
+
+        private short[] members;
+        private int size;
+
+        ArrayContainer(short member) {
+            this.members = new short[MIN_CAPACITY];
+            this.members[0] = member;
+            this.size = 1;
+        }
+
+        ArrayContainer(short[] members, int size) {
+            this.members = members;
+            this.size = size;
+        }
+
+        ArrayContainer(long[] words, int cardinality) {
+            this.members = new short[cardinality];
+            for (int member = nextSetBit(words, 0); member >= 0; member = nextSetBit(words, member + 1)) {
+                members[size++] = (short) member;
+            }
+            assert size == cardinality;
+        }
+
+        @Override
+        public Container add(short member) {
+            int index = unsignedBinarySearch(members, size, toUnsignedInt(member));
+            if (index >= 0) {
+                return this;
+            }
+
+            if (size == ARRAY_CONTAINER_MAX_SIZE) {
+                long[] words = toWords();
+                words[toUnsignedInt(member) >>> 6] |= 1L << member;
+                return bestContainer(words, size + 1);
+            }
+
+            if (size == members.length) {
+                // check whether the runs became more compact before growing
+                int runs = numberOfRuns();
+                if (runs * 2 < size) {
+                    return new RunContainer(this, runs).add(member);
+                }
+                members = copyOf(members, size + capacityDeltaShort(size));
+            }
+
+            index = -(index + 1);
+            arraycopy(members, index, members, index + 1, size - index);
+            members[index] = member;
+            ++size;
+            return this;
+        }
+
+        @Override
+        public Container remove(short member) {
+            int index = unsignedBinarySearch(members, size, toUnsignedInt(member));
+            if (index < 0) {
+                return this;
+            }
+            if (size == 1) {
+                return null;
+            }
+
+            arraycopy(members, index + 1, members, index, size - index - 1);
+            --size;
+
+            int capacity = members.length;
+            if (capacity - size >= 2 * capacityDeltaShort(capacity)) {
+                members = copyOf(members, Math.max(MIN_CAPACITY, size + capacityDeltaShort(size)));
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(short member) {
+            return unsignedBinarySearch(members, size, toUnsignedInt(member)) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public void orInto(long[] words) {
+            for (int i = 0; i < size; ++i) {
+                short member = members[i];
+                words[toUnsignedInt(member) >>> 6] |= 1L << member;
+            }
+        }
+
+        @Override
+        public void andInto(long[] words) {
+            long[] own = toWords();
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] &= own[i];
+            }
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(copyOf(members, size), size);
+        }
+
+        @Override
+        public Cursor cursor() {
+            return new Cursor() {
+                private int position;
+
+                @Override
+                public int advanceAtLeastTo(int member) {
+                    if (position == size) {
+                        return -1;
+                    }
+                    int index = unsignedBinarySearch(members, position, size, member);
+                    if (index < 0) {
+                        index = -(index + 1);
+                        if (index == size) {
+                            position = size;
+                            return -1;
+                        }
+                    }
+                    position = index;
+                    return toUnsignedInt(members[index]);
+                }
+            };
+        }
+
+        private int numberOfRuns() {
+            int runs = 1;
+            for (int i = 1; i < size; ++i) {
+                if (toUnsignedInt(members[i]) != toUnsignedInt(members[i - 1]) + 1) {
+                    ++runs;
+                }
+            }
+            return runs;
+        }
+
+    }
+
+    /**
+     * Manages directly indexable long array of bits.
+     */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(short member) {
+            int wordIndex = toUnsignedInt(member) >>> 6;
+            long word = words[wordIndex];
+            long newWord = word | 1L << member;
+            if (newWord == word) {
+                return this;
+            }
+            words[wordIndex] = newWord;
+            ++cardinality;
+
+            if (cardinality % ARRAY_CONTAINER_MAX_SIZE == 0) {
+                // periodically check whether the runs became more compact
+                int runs = numberOfRuns(words);
+                if (runs < RUN_CONTAINER_MAX_RUNS) {
+                    return new RunContainer(words, runs, cardinality);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(short member) {
+            int wordIndex = toUnsignedInt(member) >>> 6;
+            long word = words[wordIndex];
+            long newWord = word & ~(1L << member);
+            if (newWord == word) {
+                return this;
+            }
+            words[wordIndex] = newWord;
+            --cardinality;
+
+            // convert with a hysteresis to avoid flipping between the flavors
+            return cardinality <= ARRAY_CONTAINER_MAX_SIZE / 2 ? bestContainer(words, cardinality) : this;
+        }
+
+        @Override
+        public boolean contains(short member) {
+            return (words[toUnsignedInt(member) >>> 6] & 1L << member) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void orInto(long[] words) {
+            long[] own = this.words;
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] |= own[i];
+            }
+        }
+
+        @Override
+        public void andInto(long[] words) {
+            long[] own = this.words;
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] &= own[i];
+            }
+        }
+
+        @Override
+        public long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        public Cursor cursor() {
+            return member -> nextSetBit(words, member);
+        }
+
+    }
+
+    /**
+     * Manages sorted short array of runs. Each run is stored as a pair of
+     * shorts: the first postfix of the run followed by the run length minus
+     * one.
+     */
+    private static final class RunContainer implements Container {
+
+        private static final int MIN_CAPACITY = 2;
+
+        private short[] runs;
+        private int runCount;
+        private int cardinality;
+
+        RunContainer(long[] words, int runCount, int cardinality) {
+            this.runs = new short[runCount * 2];
+            this.cardinality = cardinality;
+            for (int start = nextSetBit(words, 0); start >= 0; ) {
+                int end = nextClearBit(words, start);
+                runs[this.runCount * 2] = (short) start;
+                runs[this.runCount * 2 + 1] = (short) (end - start - 1);
+                ++this.runCount;
+                start = nextSetBit(words, end);
+            }
+            assert this.runCount == runCount;
+        }
+
+        RunContainer(ArrayContainer array, int runCount) {
+            this.runs = new short[Math.max(MIN_CAPACITY, runCount) * 2];
+            this.cardinality = array.size;
+            int i = 0;
+            while (i < array.size) {
+                int start = toUnsignedInt(array.members[i]);
+                int end = start;
+                while (++i < array.size && toUnsignedInt(array.members[i]) == end + 1) {
+                    ++end;
+                }
+                runs[this.runCount * 2] = (short) start;
+                runs[this.runCount * 2 + 1] = (short) (end - start);
+                ++this.runCount;
+            }
+            assert this.runCount == runCount;
+        }
+
+        private RunContainer(short[] runs, int runCount, int cardinality) {
+            this.runs = runs;
+            this.runCount = runCount;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(short member) {
+            int value = toUnsignedInt(member);
+            int index = floorRun(value);
+            if (index >= 0 && value <= end(index)) {
+                return this;
+            }
+            ++cardinality;
+
+            boolean extendsPrevious = index >= 0 && value == end(index) + 1;
+            boolean extendsNext = index + 1 < runCount && value + 1 == start(index + 1);
+            if (extendsPrevious && extendsNext) {
+                // the member joins two runs
+                setRun(index, start(index), end(index + 1));
+                removeRun(index + 1);
+            } else if (extendsPrevious) {
+                setRun(index, start(index), value);
+            } else if (extendsNext) {
+                setRun(index + 1, value, end(index + 1));
+            } else {
+                insertRun(index + 1, value);
+                return normalize();
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(short member) {
+            int value = toUnsignedInt(member);
+            int index = floorRun(value);
+            if (index < 0 || value > end(index)) {
+                return this;
+            }
+            if (--cardinality == 0) {
+                return null;
+            }
+
+            int start = start(index);
+            int end = end(index);
+            if (start == end) {
+                removeRun(index);
+            } else if (value == start) {
+                setRun(index, start + 1, end);
+            } else if (value == end) {
+                setRun(index, start, end - 1);
+            } else {
+                // the member splits the run
+                setRun(index, start, value - 1);
+                insertRun(index + 1, value + 1);
+                setRun(index + 1, value + 1, end);
+            }
+            return normalize();
+        }
+
+        @Override
+        public boolean contains(short member) {
+            int value = toUnsignedInt(member);
+            int index = floorRun(value);
+            return index >= 0 && value <= end(index);
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void orInto(long[] words) {
+            for (int i = 0; i < runCount; ++i) {
+                setRange(words, start(i), end(i) + 1);
+            }
+        }
+
+        @Override
+        public void andInto(long[] words) {
+            int previousEnd = 0;
+            for (int i = 0; i < runCount; ++i) {
+                clearRange(words, previousEnd, start(i));
+                previousEnd = end(i) + 1;
+            }
+            clearRange(words, previousEnd, CHUNK_SIZE);
+        }
+
+        @Override
+        public Container copy() {
+            return new RunContainer(copyOf(runs, runCount * 2), runCount, cardinality);
+        }
+
+        @Override
+        public Cursor cursor() {
+            return new Cursor() {
+                private int index;
+
+                @Override
+                public int advanceAtLeastTo(int member) {
+                    while (index < runCount) {
+                        if (member <= end(index)) {
+                            return Math.max(member, start(index));
+                        }
+                        ++index;
+                    }
+                    return -1;
+                }
+            };
+        }
+
+        /**
+         * Converts this container to another flavor if it's more compact.
+         */
+        private Container normalize() {
+            if (runCount >= RUN_CONTAINER_MAX_RUNS) {
+                long[] words = toWords();
+                return bestContainer(words, cardinality);
+            }
+            if (runCount * 2 > cardinality) {
+                short[] members = new short[cardinality];
+                int size = 0;
+                for (int i = 0; i < runCount; ++i) {
+                    for (int value = start(i); value <= end(i); ++value) {
+                        members[size++] = (short) value;
+                    }
+                }
+                return new ArrayContainer(members, size);
+            }
+            return this;
+        }
+
+        private int start(int index) {
+            return toUnsignedInt(runs[index * 2]);
+        }
+
+        private int end(int index) {
+            return toUnsignedInt(runs[index * 2]) + toUnsignedInt(runs[index * 2 + 1]);
+        }
+
+        private void setRun(int index, int start, int end) {
+            runs[index * 2] = (short) start;
+            runs[index * 2 + 1] = (short) (end - start);
+        }
+
+        /**
+         * @return the index of the last run starting at or before the given
+         * value or {@code -1} if there is no such run.
+         */
+        private int floorRun(int value) {
+            int left = 0;
+            int right = runCount - 1;
+            while (left <= right) {
+                int middle = (left + right) >>> 1;
+                if (start(middle) <= value) {
+                    left = middle + 1;
+                } else {
+                    right = middle - 1;
+                }
+            }
+            return right;
+        }
+
+        private void insertRun(int index, int value) {
+            if (runCount * 2 == runs.length) {
+                runs = copyOf(runs, (runCount + capacityDeltaShort(runCount)) * 2);
+            }
+            arraycopy(runs, index * 2, runs, index * 2 + 2, (runCount - index) * 2);
+            setRun(index, value, value);
+            ++runCount;
+        }
+
+        private void removeRun(int index) {
+            arraycopy(runs, index * 2 + 2, runs, index * 2, (runCount - index - 1) * 2);
+            --runCount;
+        }
+
+    }
+
+    /**
+     * Iterates over the members of the bit set in ascending order.
+     */
+    private final class IteratorImpl implements AscendingLongIterator {
+
+        private int index;
+        private Cursor cursor;
+        private long current;
+
+        IteratorImpl() {
+            iterateAtLeastFrom(0, 0);
+        }
+
+        @Override
+        public long getIndex() {
+            return current;
+        }
+
+        @Override
+        public long advance() {
+            long previous = current;
+            if (previous == END) {
+                return END;
+            }
+
+            int postfix = (int) previous & POSTFIX_MASK;
+            int member = postfix == POSTFIX_MASK ? -1 : cursor.advanceAtLeastTo(postfix + 1);
+            if (member >= 0) {
+                current = prefixes[index] << Short.SIZE | member;
+            } else {
+                iterateAtLeastFrom(index + 1, 0);
+            }
+            return previous;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (current == END) {
+                return END;
+            }
+            if (current >= member) {
+                return current;
+            }
+
+            long prefix = member >>> Short.SIZE;
+            int postfix = (int) member & POSTFIX_MASK;
+            if (prefix == prefixes[index]) {
+                int advanced = cursor.advanceAtLeastTo(postfix);
+                if (advanced >= 0) {
+                    current = prefix << Short.SIZE | advanced;
+                } else {
+                    iterateAtLeastFrom(index + 1, 0);
+                }
+            } else {
+                int found = Arrays.binarySearch(prefixes, index + 1, size, prefix);
+                if (found >= 0) {
+                    iterateAtLeastFrom(found, postfix);
+                } else {
+                    iterateAtLeastFrom(-(found + 1), 0);
+                }
+            }
+            return current;
+        }
+
+        private void iterateAtLeastFrom(int fromIndex, int postfix) {
+            for (int i = fromIndex; i < size; ++i) {
+                Cursor candidate = containers[i].cursor();
+                int member = candidate.advanceAtLeastTo(i == fromIndex ? postfix : 0);
+                if (member >= 0) {
+                    index = i;
+                    cursor = candidate;
+                    current = prefixes[i] << Short.SIZE | member;
+                    return;
+                }
+            }
+            current = END;
+        }
+
+    }
+
+}
@@ -21,6 +21,7 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactPrimitiveField;
 
 public class CompactGetter extends Getter {
     private final InternalSerializationService serializationService;
@@ -35,7 +36,13 @@ public class CompactGetter extends Getter {
         if (target instanceof CompactGenericRecord genericRecord) {
             record = genericRecord;
         } else {
-            record = serializationService.readAsInternalGenericRecord((Data) target);
+            Data data = (Data) target;
+            // top level primitive fields are read in place, without creating a record
+            CompactPrimitiveField field = serializationService.getCompactPrimitiveField(data, fieldPath);
+            if (field != null) {
+                return field.read(data);
+            }
+            record = serializationService.readAsInternalGenericRecord(data);
         }
         GenericRecordQueryReader reader = new GenericRecordQueryReader(record, useLazyDeserialization);
         return reader.read(fieldPath);
@@ -42,6 +42,7 @@ import com.hazelcast.internal.metrics.metricsets.RuntimeMetricSet;
 import com.hazelcast.internal.metrics.metricsets.ThreadMetricSet;
 import com.hazelcast.internal.namespace.UserCodeNamespaceService;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketPayloadPool;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.MigrationInfo;
 import com.hazelcast.internal.serialization.Data;
@@ -101,11 +102,14 @@ import java.util.function.Consumer;
 
 import static com.hazelcast.internal.config.MergePolicyValidator.checkMapMergePolicy;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MEMORY_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_PACKET_POOL;
 import static com.hazelcast.internal.metrics.impl.MetricsConfigHelper.memberMetricsLevel;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.CONCURRENT_WINDOW_MS;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_PACKET_POOL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_PACKET_POOL_MAX_PAYLOAD_BYTES;
 import static java.lang.System.currentTimeMillis;
 
 /**
@@ -137,6 +141,7 @@ public class NodeEngineImpl implements NodeEngine {
     private final TransactionManagerServiceImpl transactionManagerService;
     private final WanReplicationService wanReplicationService;
     private final Consumer<Packet> packetDispatcher;
+    private final PacketPayloadPool packetPayloadPool;
     private final SplitBrainProtectionServiceImpl splitBrainProtectionService;
     private final InternalSqlService sqlService;
     private final Diagnostics diagnostics;
@@ -183,6 +188,7 @@ public class NodeEngineImpl implements NodeEngine {
                     eventService,
                     getJetPacketConsumer()
             );
+            this.packetPayloadPool = newPacketPayloadPool();
             this.splitBrainProtectionService = new SplitBrainProtectionServiceImpl(this);
             this.diagnostics = newDiagnostics();
             this.splitBrainMergePolicyProvider = getConfig().getNamespacesConfig().isEnabled()
@@ -263,6 +269,13 @@ public class NodeEngineImpl implements NodeEngine {
         }
     }
 
+    private PacketPayloadPool newPacketPayloadPool() {
+        HazelcastProperties properties = node.getProperties();
+        return properties.getBoolean(NETWORK_PACKET_POOL_ENABLED)
+                ? new PacketPayloadPool(properties.getInteger(NETWORK_PACKET_POOL_MAX_PAYLOAD_BYTES))
+                : null;
+    }
+
     private MetricsRegistryImpl newMetricRegistry(Node node) {
         return new MetricsRegistryImpl(getHazelcastInstance().getName(), node.getLogger(MetricsRegistry.class),
                 memberMetricsLevel(node.getProperties(), getLogger(MetricsConfigHelper.class)));
@@ -300,6 +313,9 @@ public class NodeEngineImpl implements NodeEngine {
         FileMetricSet.register(metricsRegistry);
 
         metricsRegistry.registerStaticMetrics(node.getNodeExtension().getMemoryStats(), MEMORY_PREFIX);
+        if (packetPayloadPool != null) {
+            metricsRegistry.registerStaticMetrics(packetPayloadPool, TCP_PREFIX_PACKET_POOL);
+        }
         metricsRegistry.provideMetrics(operationService, proxyService, eventService, operationParker);
 
         serviceManager.start();
@@ -320,6 +336,16 @@ public class NodeEngineImpl implements NodeEngine {
         return packetDispatcher;
     }
 
+    /**
+     * Returns the pool of the payloads of the operations received from other
+     * members or {@code null} if disabled.
+     *
+     * @see ClusterProperty#NETWORK_PACKET_POOL_ENABLED
+     */
+    public PacketPayloadPool getPacketPayloadPool() {
+        return packetPayloadPool;
+    }
+
     public Diagnostics getDiagnostics() {
         return diagnostics;
     }
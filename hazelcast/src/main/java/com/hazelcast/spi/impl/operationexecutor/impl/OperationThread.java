@@ -29,6 +29,7 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.PartitionTaskFactory;
 
 import java.util.concurrent.TimeUnit;
 
@@ -85,6 +86,7 @@ public abstract class OperationThread extends HazelcastManagedThread implements
     private final NodeExtension nodeExtension;
     private final ILogger logger;
     private volatile boolean shutdown;
+    private Listener listener;
 
     public OperationThread(String name,
                            int threadId,
@@ -108,6 +110,16 @@ public abstract class OperationThread extends HazelcastManagedThread implements
 
     public abstract OperationRunner operationRunner(int partitionId);
 
+    /**
+     * Sets the listener notified by this thread about the processing of its
+     * tasks. Must be called before the thread is started and only for a
+     * thread which doesn't take only priority tasks.
+     */
+    public void setListener(Listener listener) {
+        assert !priority;
+        this.listener = listener;
+    }
+
     @Override
     public final void executeRun() {
         nodeExtension.onThreadStart(this);
@@ -126,13 +138,25 @@ public abstract class OperationThread extends HazelcastManagedThread implements
         while (!shutdown) {
             Object task;
             try {
-                task = queue.take(priority);
+                task = listener == null ? queue.take(priority) : pollOrIdle();
             } catch (InterruptedException e) {
                 continue;
             }
 
             process(task);
+            if (listener != null) {
+                listener.afterTask();
+            }
+        }
+    }
+
+    private Object pollOrIdle() throws InterruptedException {
+        Object task = queue.poll();
+        if (task == null) {
+            listener.onIdle();
+            task = queue.take(false);
         }
+        return task;
     }
 
     void process(Object task) {
@@ -199,6 +223,11 @@ public abstract class OperationThread extends HazelcastManagedThread implements
     }
 
     private void process(TaskBatch batch) {
+        if (batch.taskFactory().runsAsBatch()) {
+            processAtOnce(batch);
+            return;
+        }
+
         Object task = batch.next();
         if (task == null) {
             completedOperationBatchCount.inc();
@@ -218,6 +247,34 @@ public abstract class OperationThread extends HazelcastManagedThread implements
         }
     }
 
+    private void processAtOnce(TaskBatch batch) {
+        PartitionTaskFactory taskFactory = batch.taskFactory();
+        taskFactory.beforeBatch();
+        try {
+            for (Object task; (task = batch.next()) != null; ) {
+                try {
+                    if (task instanceof Operation operation) {
+                        process(operation);
+                    } else if (task instanceof Runnable runnable) {
+                        process(runnable);
+                    } else {
+                        throw new IllegalStateException("Unhandled task: " + task + " from " + taskFactory);
+                    }
+                } catch (Throwable t) {
+                    // don't let a failed task stop the remaining ones, same as when run one at a time
+                    errorCount.inc();
+                    inspectOutOfMemoryError(t);
+                    logger.severe("Failed to process: " + task + " on: " + getName(), t);
+                } finally {
+                    currentRunner = null;
+                }
+            }
+        } finally {
+            taskFactory.afterBatch();
+        }
+        completedOperationBatchCount.inc();
+    }
+
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         MetricDescriptor descriptor = registry
@@ -240,4 +297,22 @@ public abstract class OperationThread extends HazelcastManagedThread implements
         join(unit.toMillis(timeout));
     }
 
+
+    /**
+     * Listens to the processing of the tasks of an {@link OperationThread}.
+     * The methods are called by the thread itself.
+     */
+    public interface Listener {
+
+        /**
+         * Called after the thread has processed a task.
+         */
+        void afterTask();
+
+        /**
+         * Called when the thread has no queued tasks, right before it blocks
+         * waiting for them.
+         */
+        void onIdle();
+    }
 }
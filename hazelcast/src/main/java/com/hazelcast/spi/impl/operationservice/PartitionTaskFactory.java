@@ -37,4 +37,30 @@ public interface PartitionTaskFactory<T> {
      * @return the created task. The returned task should not be null.
      */
     T create(int partitionId);
+
+    /**
+     * Whether a partition thread runs all the tasks of its partitions in a
+     * single go. Otherwise it runs one task at a time, interleaved with the
+     * other tasks queued on the thread.
+     *
+     * @return {@code true} to run the tasks in a single go
+     */
+    default boolean runsAsBatch() {
+        return false;
+    }
+
+    /**
+     * Called on a partition thread before it runs the tasks of its partitions,
+     * only if {@link #runsAsBatch()} returns {@code true}.
+     */
+    default void beforeBatch() {
+    }
+
+    /**
+     * Called on a partition thread after it has run the tasks of its
+     * partitions, only if {@link #runsAsBatch()} returns {@code true}. Called
+     * also if a task has failed.
+     */
+    default void afterBatch() {
+    }
 }
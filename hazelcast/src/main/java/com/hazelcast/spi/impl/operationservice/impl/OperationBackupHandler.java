@@ -16,32 +16,71 @@
 
 package com.hazelcast.spi.impl.operationservice.impl;
 
+import com.hazelcast.cluster.Address;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.StaticMetricsProvider;
+import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.PartitionReplica;
 import com.hazelcast.internal.partition.PartitionReplicaVersionManager;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.internal.partition.FragmentedMigrationAwareService;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.services.ServiceNamespaceAware;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationexecutor.impl.OperationThread;
+import com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread;
 import com.hazelcast.spi.impl.operationservice.TargetAware;
 import com.hazelcast.spi.impl.operationservice.impl.operations.Backup;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.internal.cluster.Versions.V6_0;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKUP_HANDLER_BATCHED_BACKUP_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKUP_HANDLER_BATCHED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKUP_HANDLER_BATCH_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKUP_HANDLER_SIZE_FLUSH_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_BACKUP_HANDLER_WINDOW_FLUSH_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.partition.InternalPartition.MAX_BACKUP_COUNT;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.hasActiveInvocation;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallId;
+import static com.hazelcast.spi.properties.ClusterProperty.CHANNEL_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_COALESCING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_COALESCING_MAX_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_COALESCING_WINDOW_MICROSECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_BATCH_ENABLED;
 import static java.lang.Math.min;
+import static java.util.Collections.singletonList;
 
 /**
  * Responsible for creating a backups of an operation.
+ * <p>
+ * The backups can be sent in batches: the backups for the same member and
+ * connection plane collected by a thread are sent as a single {@link
+ * com.hazelcast.internal.nio.PacketBatch batch packet}. A thread collects its
+ * backups either explicitly, between {@link #startBatch()} and {@link
+ * #flushBatch()}, or, if {@link
+ * com.hazelcast.spi.properties.ClusterProperty#OPERATION_BACKUP_COALESCING_ENABLED
+ * coalescing} is enabled, all the time if it is a partition thread. The backups
+ * of a partition always go over the same plane, so the replica receives them
+ * in the order in which they were sent. Each backup is still a separate
+ * operation on the replica and the sync backups are acked one by one.
  */
-public final class OperationBackupHandler {
+public final class OperationBackupHandler implements StaticMetricsProvider {
 
     private static final boolean ASSERTION_ENABLED = OperationBackupHandler.class.desiredAssertionStatus();
 
@@ -51,12 +90,92 @@ public final class OperationBackupHandler {
     private final OutboundOperationHandler outboundOperationHandler;
     private final ILogger logger;
 
+    @Probe(name = OPERATION_METRIC_BACKUP_HANDLER_BATCH_COUNT)
+    final MwCounter batchCount = newMwCounter();
+    @Probe(name = OPERATION_METRIC_BACKUP_HANDLER_BATCHED_BACKUP_COUNT)
+    final MwCounter batchedBackupCount = newMwCounter();
+    @Probe(name = OPERATION_METRIC_BACKUP_HANDLER_BATCHED_BYTES, unit = BYTES)
+    final MwCounter batchedBytes = newMwCounter();
+    @Probe(name = OPERATION_METRIC_BACKUP_HANDLER_SIZE_FLUSH_COUNT)
+    final MwCounter sizeFlushCount = newMwCounter();
+    @Probe(name = OPERATION_METRIC_BACKUP_HANDLER_WINDOW_FLUSH_COUNT)
+    final MwCounter windowFlushCount = newMwCounter();
+
+    private final int planeCount;
+    private final int batchMaxBytes;
+    private final long coalescingWindowNanos;
+    private final boolean batchingEnabled;
+    private final ThreadLocal<BackupBatch> batch = new ThreadLocal<>();
+    // the coalescing batches indexed by the partition thread ID, null if coalescing is disabled
+    private BackupBatch[] coalescingBatches;
+
     OperationBackupHandler(OperationServiceImpl operationService, OutboundOperationHandler outboundOperationHandler) {
         this.outboundOperationHandler = outboundOperationHandler;
         this.node = operationService.node;
         this.nodeEngine = operationService.nodeEngine;
         this.backpressureRegulator = operationService.backpressureRegulator;
         this.logger = node.getLogger(getClass());
+        this.planeCount = node.getProperties().getInteger(CHANNEL_COUNT);
+        this.batchMaxBytes = node.getProperties().getInteger(OPERATION_BACKUP_COALESCING_MAX_BYTES);
+        this.coalescingWindowNanos = node.getProperties().getNanos(OPERATION_BACKUP_COALESCING_WINDOW_MICROSECONDS);
+        this.batchingEnabled = node.getProperties().getBoolean(PARTITION_OPERATION_BATCH_ENABLED)
+                || node.getProperties().getBoolean(OPERATION_BACKUP_COALESCING_ENABLED);
+    }
+
+    /**
+     * Makes the given partition threads coalesce their backups if enabled by
+     * {@link com.hazelcast.spi.properties.ClusterProperty#OPERATION_BACKUP_COALESCING_ENABLED}.
+     * Must be called before the threads are started.
+     */
+    void initCoalescing(PartitionOperationThread[] threads) {
+        if (!node.getProperties().getBoolean(OPERATION_BACKUP_COALESCING_ENABLED)) {
+            return;
+        }
+        BackupBatch[] batches = new BackupBatch[threads.length];
+        for (PartitionOperationThread thread : threads) {
+            BackupBatch coalescingBatch = new BackupBatch();
+            batches[thread.getThreadId()] = coalescingBatch;
+            thread.setListener(coalescingBatch);
+        }
+        coalescingBatches = batches;
+    }
+
+    @Override
+    public void provideStaticMetrics(MetricsRegistry registry) {
+        registry.registerStaticMetrics(this, OPERATION_PREFIX);
+    }
+
+    /**
+     * Starts collecting the backups sent by the calling thread instead of
+     * sending them one by one. The collected backups are sent by {@link
+     * #flushBatch()}, the backups for the same member and connection plane
+     * in a single packet.
+     * <p>
+     * Has an effect only if the batches are enabled by {@link
+     * com.hazelcast.spi.properties.ClusterProperty#PARTITION_OPERATION_BATCH_ENABLED}
+     * or {@link com.hazelcast.spi.properties.ClusterProperty#OPERATION_BACKUP_COALESCING_ENABLED}.
+     */
+    public void startBatch() {
+        if (batch.get() == null) {
+            // keep the order of the backups of a partition coalesced before
+            BackupBatch coalescingBatch = coalescingBatch();
+            if (coalescingBatch != null) {
+                coalescingBatch.flush();
+            }
+            batch.set(new BackupBatch());
+        }
+    }
+
+    /**
+     * Sends the backups collected since {@link #startBatch()} was called by
+     * the calling thread and stops collecting them.
+     */
+    public void flushBatch() {
+        BackupBatch current = batch.get();
+        if (current != null) {
+            batch.remove();
+            current.flush();
+        }
     }
 
     /**
@@ -225,7 +344,7 @@ public final class OperationBackupHandler {
                 boolean isSyncBackup = replicaIndex <= syncBackups;
 
                 Backup backup = newBackup(backupAwareOp, backupOpData, replicaVersions, replicaIndex, isSyncBackup);
-                outboundOperationHandler.send(backup, target.address());
+                send(backup, target.address());
 
                 if (isSyncBackup) {
                     sendSyncBackups++;
@@ -265,7 +384,7 @@ public final class OperationBackupHandler {
             boolean isSyncBackup = syncBackups == 1;
 
             Backup backup = newBackup(backupAwareOp, backupOp, replicaVersions, 1, isSyncBackup);
-            outboundOperationHandler.send(backup, target.address());
+            send(backup, target.address());
 
             if (isSyncBackup) {
                 return 1;
@@ -340,6 +459,30 @@ public final class OperationBackupHandler {
         return backup;
     }
 
+    private void send(Backup backup, Address target) {
+        BackupBatch current = null;
+        if (batchingEnabled) {
+            current = batch.get();
+            if (current == null) {
+                current = coalescingBatch();
+            }
+        }
+
+        if (current == null) {
+            outboundOperationHandler.send(backup, target);
+        } else {
+            current.add(backup, target);
+        }
+    }
+
+    private BackupBatch coalescingBatch() {
+        BackupBatch[] batches = coalescingBatches;
+        if (batches != null && Thread.currentThread() instanceof PartitionOperationThread thread) {
+            return batches[thread.getThreadId()];
+        }
+        return null;
+    }
+
     private boolean skipSendingBackupToTarget(InternalPartition partition, PartitionReplica target) {
         ClusterServiceImpl clusterService = node.getClusterService();
 
@@ -361,4 +504,78 @@ public final class OperationBackupHandler {
         }
         return false;
     }
+
+    /**
+     * The backups collected by a thread, grouped by the target member and the
+     * connection plane over which they would be sent alone. The backups are
+     * serialized when added so that the size of the batch is known.
+     * <p>
+     * When used for coalescing, the batch listens to its partition thread: it
+     * is sent when the thread runs out of tasks or after a task if the oldest
+     * backup has waited for longer than the coalescing window.
+     */
+    private final class BackupBatch implements OperationThread.Listener {
+
+        private final Map<BatchKey, List<Packet>> packets = new LinkedHashMap<>();
+        private int backupCount;
+        private int bytes;
+        private long startNanos;
+
+        void add(Backup backup, Address target) {
+            Packet packet = outboundOperationHandler.toPacket(backup);
+            if (backupCount == 0) {
+                startNanos = System.nanoTime();
+            }
+            BatchKey key = new BatchKey(target, backup.getPartitionId() % planeCount);
+            packets.computeIfAbsent(key, k -> new ArrayList<>()).add(packet);
+            backupCount++;
+            bytes += packet.getFrameLength();
+            if (bytes >= batchMaxBytes) {
+                sizeFlushCount.inc();
+                flush();
+            }
+        }
+
+        void flush() {
+            if (backupCount == 0) {
+                return;
+            }
+
+            // only the members of version 6.0 or newer can unpack a batch
+            boolean packable = nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V6_0);
+            for (Map.Entry<BatchKey, List<Packet>> entry : packets.entrySet()) {
+                Address target = entry.getKey().target();
+                if (packable) {
+                    outboundOperationHandler.send(entry.getValue(), target);
+                    batchCount.inc();
+                } else {
+                    for (Packet packet : entry.getValue()) {
+                        outboundOperationHandler.send(singletonList(packet), target);
+                    }
+                }
+            }
+            batchedBackupCount.inc(backupCount);
+            batchedBytes.inc(bytes);
+
+            packets.clear();
+            backupCount = 0;
+            bytes = 0;
+        }
+
+        @Override
+        public void afterTask() {
+            if (backupCount > 0 && System.nanoTime() - startNanos >= coalescingWindowNanos) {
+                windowFlushCount.inc();
+                flush();
+            }
+        }
+
+        @Override
+        public void onIdle() {
+            flush();
+        }
+    }
+
+    private record BatchKey(Address target, int plane) {
+    }
 }
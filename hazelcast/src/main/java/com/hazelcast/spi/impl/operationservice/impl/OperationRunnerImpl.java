@@ -33,6 +33,7 @@ import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketPayloadPool;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.PartitionReplica;
 import com.hazelcast.internal.serialization.Data;
@@ -485,6 +486,7 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         try {
             Object object = nodeEngine.toObject(packet);
             op = (Operation) object;
+            releasePayload(packet, op);
             op.setNodeEngine(nodeEngine);
             setCallerAddress(op, caller);
             setConnection(op, connection);
@@ -500,13 +502,16 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
             }
             run(op, startNanos);
         } catch (Throwable throwable) {
-            // If exception happens we need to extract the callId from the bytes directly!
-            long callId = extractOperationCallId(packet);
+            // If exception happens we need to extract the callId from the bytes directly,
+            // unless the operation is deserialized, its payload may be released already
+            long callId = op != null ? op.getCallId() : extractOperationCallId(packet);
             outboundResponseHandler.send(connection.getConnectionManager(), caller,
                     new ErrorResponse(throwable, callId, packet.isUrgent()));
             logOperationDeserializationException(throwable, callId);
             throw ExceptionUtil.rethrow(throwable);
         } finally {
+            // the payload is no longer needed if the deserialization failed
+            packet.releasePayload();
             if (op != null) {
                 op.clearThreadContext();
             }
@@ -516,6 +521,18 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         }
     }
 
+    /**
+     * Releases the pooled payload of the packet right after deserialization,
+     * or detaches it from the pool if the operation may still reference it.
+     */
+    private static void releasePayload(Packet packet, Object op) {
+        if (PacketPayloadPool.isReleasedAfterDeserialization(op)) {
+            packet.releasePayload();
+        } else {
+            packet.detachPayload();
+        }
+    }
+
     /**
      * This method has a direct dependency on how objects are serialized.
      * If the stream format is changed, this extraction method must be changed as well.
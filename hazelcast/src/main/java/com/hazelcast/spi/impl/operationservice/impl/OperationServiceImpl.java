@@ -188,9 +188,14 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.inboundResponseHandlerSupplier = new InboundResponseHandlerSupplier(
                 configClassLoader, invocationRegistry, hzName, nodeEngine);
 
-        this.operationExecutor = new OperationExecutorImpl(
+        OperationExecutorImpl executor = new OperationExecutorImpl(
                 properties, node.loggingService, thisAddress, new OperationRunnerFactoryImpl(this),
                 nodeEngine, node.getNodeExtension(), hzName, configClassLoader, nodeEngine.getTpcServerBootstrap());
+        if (!nodeEngine.getTpcServerBootstrap().isEnabled()) {
+            // the thread-per-core partition threads don't block on their queues, they would never send the backups
+            backupHandler.initCoalescing(executor.getPartitionThreads());
+        }
+        this.operationExecutor = executor;
 
         this.slowOperationDetector = new SlowOperationDetector(node.loggingService,
                 operationExecutor.getGenericOperationRunners(), operationExecutor.getPartitionOperationRunners(),
@@ -230,6 +235,10 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         return inboundResponseHandlerSupplier.backupHandler();
     }
 
+    public OperationBackupHandler getOperationBackupHandler() {
+        return backupHandler;
+    }
+
     @Override
     public int getPartitionThreadCount() {
         return operationExecutor.getPartitionThreadCount();
@@ -542,7 +551,8 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX);
-        registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier, operationExecutor);
+        registry.provideMetrics(invocationRegistry, invocationMonitor, inboundResponseHandlerSupplier, operationExecutor,
+                backupHandler);
     }
 
     public void start() {
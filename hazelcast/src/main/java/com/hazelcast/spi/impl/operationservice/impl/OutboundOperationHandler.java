@@ -19,11 +19,14 @@ package com.hazelcast.spi.impl.operationservice.impl;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketBatch;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerConnectionManager;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
+import java.util.List;
+
 import static com.hazelcast.instance.EndpointQualifier.MEMBER;
 import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
@@ -60,12 +63,31 @@ public class OutboundOperationHandler {
         return cm.transmit(toPacket(op), target, streamId);
     }
 
+    /**
+     * Sends the given operation packets to the target, in a single {@link
+     * PacketBatch batch packet} if there are more of them. The target must be
+     * a member of version 6.0 or newer.
+     *
+     * @param packets the packets to send, must not be empty
+     * @param target  the target member
+     * @return {@code true} if the packet was transmitted
+     */
+    public boolean send(List<Packet> packets, Address target) {
+        checkNotNull(target, "Target is required!");
+        if (thisAddress.equals(target)) {
+            return false;
+        }
+
+        Packet packet = packets.size() == 1 ? packets.get(0) : PacketBatch.pack(packets);
+        return node.getServer().getConnectionManager(MEMBER).transmit(packet, target, packet.getPartitionId());
+    }
+
     public boolean send(Operation op, ServerConnection connection) {
         Packet packet = toPacket(op);
         return connection.write(packet);
     }
 
-    private Packet toPacket(Operation op) {
+    Packet toPacket(Operation op) {
         byte[] bytes = serializationService.toBytes(op);
         int partitionId = op.getPartitionId();
         Packet packet = new Packet(bytes, partitionId).setPacketType(Packet.Type.OPERATION);
@@ -29,6 +29,7 @@ import com.hazelcast.spi.impl.operationservice.OperationFactory;
 import com.hazelcast.spi.impl.operationservice.OperationResponseHandler;
 import com.hazelcast.spi.impl.SpiDataSerializerHook;
 import com.hazelcast.spi.impl.operationservice.PartitionTaskFactory;
+import com.hazelcast.spi.impl.operationservice.impl.OperationBackupHandler;
 import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
@@ -41,7 +42,9 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.spi.impl.operationservice.impl.operations.PartitionAwareFactoryAccessor.extractPartitionAware;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_BATCH_ENABLED;
 
 /**
  * Executes Operations on one or more partitions.
@@ -131,6 +134,41 @@ public final class PartitionIteratingOperation extends Operation implements Iden
         sb.append(", operationFactory=").append(operationFactory);
     }
 
+    /**
+     * Runs the operations of all the partitions of a partition thread in a
+     * single go and sends their backups in batches.
+     */
+    private static final class BatchingTaskFactory implements PartitionTaskFactory<Operation> {
+
+        private final PartitionTaskFactory<Operation> delegate;
+        private final OperationBackupHandler backupHandler;
+
+        BatchingTaskFactory(PartitionTaskFactory<Operation> delegate, OperationBackupHandler backupHandler) {
+            this.delegate = delegate;
+            this.backupHandler = backupHandler;
+        }
+
+        @Override
+        public Operation create(int partitionId) {
+            return delegate.create(partitionId);
+        }
+
+        @Override
+        public boolean runsAsBatch() {
+            return true;
+        }
+
+        @Override
+        public void beforeBatch() {
+            backupHandler.startBatch();
+        }
+
+        @Override
+        public void afterBatch() {
+            backupHandler.flushBatch();
+        }
+    }
+
     private final class OffloadImpl extends Offload {
         private OffloadImpl() {
             super(PartitionIteratingOperation.this);
@@ -154,7 +192,7 @@ public final class PartitionIteratingOperation extends Operation implements Iden
         }
 
         private void executeOperations() {
-            PartitionTaskFactory f = new PartitionTaskFactory() {
+            PartitionTaskFactory<Operation> f = new PartitionTaskFactory<>() {
                 private final NodeEngine nodeEngine = getNodeEngine();
                 private final OperationResponseHandler responseHandler = new OperationResponseHandlerImpl(partitions);
                 private final Object service = getServiceName() == null ? null : getService();
@@ -175,7 +213,7 @@ public final class PartitionIteratingOperation extends Operation implements Iden
                 }
             };
 
-            getOperationService().executeOnPartitions(f, toPartitionBitSet());
+            getOperationService().executeOnPartitions(batchingIfEnabled(f), toPartitionBitSet());
         }
 
         private void executeOperations(PartitionAwareOperationFactory givenFactory) {
@@ -184,7 +222,7 @@ public final class PartitionIteratingOperation extends Operation implements Iden
             final OperationResponseHandler responseHandler = new OperationResponseHandlerImpl(partitions);
             final Object service = getServiceName() == null ? null : getService();
 
-            PartitionTaskFactory f = partitionId -> {
+            PartitionTaskFactory<Operation> f = partitionId -> {
                 Operation op = factory.createPartitionOperation(partitionId)
                         .setNodeEngine(nodeEngine)
                         .setPartitionId(partitionId)
@@ -198,7 +236,16 @@ public final class PartitionIteratingOperation extends Operation implements Iden
                 return op;
             };
 
-            getOperationService().executeOnPartitions(f, toPartitionBitSet());
+            getOperationService().executeOnPartitions(batchingIfEnabled(f), toPartitionBitSet());
+        }
+
+        private PartitionTaskFactory<Operation> batchingIfEnabled(PartitionTaskFactory<Operation> f) {
+            NodeEngine nodeEngine = getNodeEngine();
+            if (!nodeEngine.getProperties().getBoolean(PARTITION_OPERATION_BATCH_ENABLED)
+                    || !nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V6_0)) {
+                return f;
+            }
+            return new BatchingTaskFactory(f, getOperationService().getOperationBackupHandler());
         }
 
         private BitSet toPartitionBitSet() {
@@ -151,6 +151,52 @@ public final class ClusterProperty {
     public static final HazelcastProperty SOCKET_BUFFER_DIRECT
             = new HazelcastProperty("hazelcast.socket.buffer.direct", false);
 
+    /**
+     * Enables the compression of the packets sent between members. The packets
+     * are compressed on a connection only if both members enable it.
+     * <p>
+     * Compression trades CPU time for bandwidth and is worth enabling on
+     * bandwidth-bound links, e.g. between availability zones.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty NETWORK_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.network.compression.enabled", false);
+
+    /**
+     * The minimum payload size in bytes of a packet to be compressed when
+     * {@link #NETWORK_COMPRESSION_ENABLED} is set. Smaller packets are sent
+     * uncompressed.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty NETWORK_COMPRESSION_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.network.compression.threshold.bytes", 1024);
+
+    /**
+     * Enables the pooling of the payloads of the operations received from
+     * other members. The payload of an operation is returned to the pool right
+     * after the operation is deserialized, which reduces the allocation rate
+     * of members under a high operation throughput. Only the payloads of the
+     * operations of Hazelcast's own serialization factories, which copy their
+     * data out of the payload, are reused.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty NETWORK_PACKET_POOL_ENABLED
+            = new HazelcastProperty("hazelcast.network.packet.pool.enabled", false);
+
+    /**
+     * The maximum payload size in bytes of a pooled packet when
+     * {@link #NETWORK_PACKET_POOL_ENABLED} is set. The payloads of larger
+     * packets are not pooled. The value must be positive and must not be
+     * greater than 65536.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty NETWORK_PACKET_POOL_MAX_PAYLOAD_BYTES
+            = new HazelcastProperty("hazelcast.network.packet.pool.max.payload.bytes", 4096);
+
     /**
      * Overrides receive buffer size for connections opened by clients.
      * <p>
@@ -1170,6 +1216,21 @@ public final class ClusterProperty {
     public static final HazelcastProperty INDEX_COPY_BEHAVIOR
             = new HazelcastProperty("hazelcast.index.copy.behavior", IndexCopyBehavior.COPY_ON_READ.toString());
 
+    /**
+     * The maximum number of entries of a partition indexed in a single run on
+     * the partition thread when an index is added or when the global indexes
+     * are populated for a migrated partition. The remaining entries are
+     * indexed in subsequent runs, so other operations on the partition are not
+     * blocked until the whole partition is indexed. Until then, queries scan
+     * the partition instead of using the index.
+     * <p>
+     * A zero or negative value indexes the whole partition in a single run.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty INDEX_POPULATION_CHUNK_SIZE
+            = new HazelcastProperty("hazelcast.index.population.chunk.size", 10_000);
+
     /**
      * The number of threads that the client engine has available for processing
      * requests that are related to the query engine.
@@ -1248,6 +1309,20 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_LOAD_CHUNK_SIZE
             = new HazelcastProperty("hazelcast.map.load.chunk.size", 1000);
 
+    /**
+     * When enabled, partitions of maps with {@link com.hazelcast.config.InMemoryFormat#BINARY BINARY}
+     * in-memory format keep their hash table and serialized keys in native
+     * memory instead of the Java heap. Only the record objects stay on-heap.
+     * <p>
+     * The native memory is allocated directly from the operating system and is
+     * not limited by the native memory configuration. Has no effect if
+     * {@code sun.misc.Unsafe} is not available.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_OFF_HEAP_STORAGE_ENABLED
+            = new HazelcastProperty("hazelcast.map.off.heap.storage.enabled", false);
+
     /**
      * Scheduler delay for map tasks those are executed on backup members.
      */
@@ -1281,6 +1356,21 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_EVICTION_BATCH_SIZE
             = new HazelcastProperty("hazelcast.map.eviction.batch.size", 1);
 
+    /**
+     * The maximum size of the serialized value, in bytes, for which the entries
+     * of a map with {@link com.hazelcast.config.InMemoryFormat#BINARY} in-memory
+     * format keep the value bytes inline in the record. This saves an object per
+     * entry, at the cost of wrapping the bytes on every read of the value. The
+     * inline records are used only if per-entry statistics are disabled,
+     * eviction is not configured and deserialized values are never cached.
+     * <p>
+     * Default: 0, inline records are not used
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_INLINE_RECORD_MAX_VALUE_BYTES
+            = new HazelcastProperty("hazelcast.map.inline.record.max.value.bytes", 0);
+
     /**
      * Defines Near Cache invalidation event batch sending is enabled or not.
      */
@@ -1336,6 +1426,50 @@ public final class ClusterProperty {
     public static final HazelcastProperty OPERATION_BACKUP_TIMEOUT_MILLIS
             = new HazelcastProperty("hazelcast.operation.backup.timeout.millis", 5000, MILLISECONDS);
 
+    /**
+     * Whether the backups sent by a partition thread are coalesced: the
+     * backups for the same member and connection plane are collected and sent
+     * as a single packet once the thread has no more queued operations, the
+     * {@link #OPERATION_BACKUP_COALESCING_WINDOW_MICROSECONDS window} has
+     * elapsed or the {@link #OPERATION_BACKUP_COALESCING_MAX_BYTES size budget}
+     * is exhausted. The replica applies the backups one by one in the order in
+     * which they were sent and acknowledges each sync backup separately. The
+     * backups are coalesced only once the cluster version is 6.0 or newer and
+     * not when thread-per-core is enabled.
+     * <p>
+     * Default: false
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty OPERATION_BACKUP_COALESCING_ENABLED
+            = new HazelcastProperty("hazelcast.operation.backup.coalescing.enabled", false);
+
+    /**
+     * The maximum time, in microseconds, for which a partition thread busy
+     * with other operations holds back a coalesced backup, see {@link
+     * #OPERATION_BACKUP_COALESCING_ENABLED}. The window delays the acks of the
+     * sync backups, so it should stay well below the operation latency.
+     * <p>
+     * Default: 100
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty OPERATION_BACKUP_COALESCING_WINDOW_MICROSECONDS
+            = new HazelcastProperty("hazelcast.operation.backup.coalescing.window.microseconds", 100, MICROSECONDS);
+
+    /**
+     * The maximum number of bytes of the backups a partition thread collects
+     * before it sends them, see {@link #OPERATION_BACKUP_COALESCING_ENABLED}.
+     * Also limits the batches of backups of the multi-partition operations,
+     * see {@link #PARTITION_OPERATION_BATCH_ENABLED}.
+     * <p>
+     * Default: 65536
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty OPERATION_BACKUP_COALESCING_MAX_BYTES
+            = new HazelcastProperty("hazelcast.operation.backup.coalescing.max.bytes", 64 * 1024);
+
     /**
      * When this configuration is enabled, if an operation has sync backups and
      * acks are not received from backup replicas in time, or the member which
@@ -1459,6 +1593,23 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.operation.thread.count",
             (Function<HazelcastProperties, Integer>) properties -> max(2, RuntimeAvailableProcessors.get()));
 
+    /**
+     * Whether a partition thread runs the operations of a multi-partition
+     * operation, such as {@code getAll}, {@code putAll} or {@code setAll},
+     * for all its partitions in a single go instead of interleaving them with
+     * the other queued tasks. The backups of these operations are then sent to
+     * each replica member as a single packet per connection plane. This reduces
+     * the per-operation overhead of large bulk operations at the cost of
+     * delaying the other operations queued on the partition thread. The
+     * backups are batched only once the cluster version is 6.0 or newer.
+     * <p>
+     * Default: false
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_BATCH_ENABLED
+            = new HazelcastProperty("hazelcast.operation.partition.batch.enabled", false);
+
     /**
      * The number of generic operation handler threads per member.
      * <p>
@@ -1865,6 +2016,52 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * When enabled, the cooperative worker threads balance their load by
+     * moving tasklets between themselves. At the end of each {@link
+     * #JET_WORK_STEALING_INTERVAL_MILLIS interval}, a worker which was
+     * significantly less utilized than another one asks it for a tasklet. The
+     * busier worker hands over the tasklet whose busy time in the last
+     * interval best evens out their utilization. A tasklet is handed over only
+     * between its calls, so it's never called by two threads at once.
+     * <p>
+     * When disabled, the tasklets stay on the worker they were assigned to
+     * when the job started.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_WORK_STEALING_ENABLED
+            = new HazelcastProperty("hazelcast.jet.work.stealing.enabled", false);
+
+    /**
+     * The interval over which the cooperative worker threads measure their
+     * utilization, which is also the minimum interval between two tasklets
+     * being stolen by the same worker, see {@link #JET_WORK_STEALING_ENABLED}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_WORK_STEALING_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.jet.work.stealing.interval.millis", 100, MILLISECONDS);
+
+    /**
+     * The maximum number of items the processors publish to the queue of a
+     * local edge at once. When greater than 1, a processor buffers the items
+     * it emits to each downstream processor and publishes them as a single
+     * queue element when the buffer is full, before a watermark or a snapshot
+     * barrier, and at the end of each call of the processor. This reduces
+     * the per-item queue overhead of high-rate pipelines made of cheap stages.
+     * <p>
+     * The {@link com.hazelcast.jet.config.EdgeConfig#setQueueSize queue size}
+     * of the edge then limits the number of batches, not items. The items of
+     * ordered edges and of the edges to remote members aren't batched.
+     * <p>
+     * The default is 1, which disables the batching.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_LOCAL_EDGE_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.jet.local.edge.batch.size", 1);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -1875,6 +2072,108 @@ public final class ClusterProperty {
     public static final HazelcastProperty PROCESSOR_CUSTOM_LIB_DIR
             = new HazelcastProperty("hazelcast.jet.custom.lib.dir", "custom-lib");
 
+    /**
+     * When enabled, the sorting processors used by the {@code sort()} pipeline
+     * stage and by the SQL {@code ORDER BY} clause sort their input using an
+     * external merge sort: sorted runs of at most {@link
+     * #JET_SORT_SPILL_RUN_SIZE} items are spilled to files in the {@link
+     * #JET_SORT_SPILL_DIRECTORY} and merged when the input is complete. The
+     * {@link com.hazelcast.jet.config.JetConfig#setMaxProcessorAccumulatedRecords
+     * maxProcessorAccumulatedRecords} limit then applies to a single run only.
+     * <p>
+     * Spilling processors are not cooperative.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_ENABLED
+            = new HazelcastProperty("hazelcast.jet.sort.spill.enabled", false);
+
+    /**
+     * The directory to which the sorting processors spill their sorted runs,
+     * see {@link #JET_SORT_SPILL_ENABLED}. The default is the directory given
+     * by the {@code java.io.tmpdir} system property.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.sort.spill.directory");
+
+    /**
+     * The maximum number of items a sorting processor keeps in memory before
+     * spilling them as a sorted run, see {@link #JET_SORT_SPILL_ENABLED}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_RUN_SIZE
+            = new HazelcastProperty("hazelcast.jet.sort.spill.run.size", 1_000_000);
+
+    /**
+     * When enabled, the automatic snapshots of a job are taken incrementally:
+     * a snapshot following a successful snapshot in the same execution writes
+     * only the keys whose values changed since then, and tombstones for the
+     * removed keys. After {@link #JET_SNAPSHOT_DELTA_MAX_COUNT} such delta
+     * snapshots a full snapshot is taken again. Restoring from a delta
+     * snapshot replays the full snapshot and all the deltas after it.
+     * <p>
+     * The members remember each key written to the previous snapshot with a
+     * 128-bit hash of its serialized value, and write the key again when the
+     * hash differs. The whole state is still serialized for every snapshot,
+     * a delta saves the writes of the unchanged entries. Broadcast state is
+     * always written in full. Exported snapshots are never deltas. The
+     * property must have the same value on all members.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_DELTA_ENABLED
+            = new HazelcastProperty("hazelcast.jet.snapshot.delta.enabled", false);
+
+    /**
+     * The maximum number of delta snapshots taken after a full snapshot, see
+     * {@link #JET_SNAPSHOT_DELTA_ENABLED}. The snapshot following them is a
+     * full one, which compacts the data and makes the older snapshot data
+     * eligible for removal.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_DELTA_MAX_COUNT
+            = new HazelcastProperty("hazelcast.jet.snapshot.delta.max.count", 10);
+
+    /**
+     * When enabled, the keyed state of the grouping and stateful mapping
+     * processors used by the pipeline API and by SQL aggregations is kept in
+     * a log-structured store on local disk: the keys and the {@link
+     * #JET_KEYED_STATE_SPILL_MAX_IN_MEMORY_ENTRIES} most recently used values
+     * stay on the heap, the other values are serialized and appended to a
+     * file in the {@link #JET_KEYED_STATE_SPILL_DIRECTORY}. The state objects
+     * must then be serializable.
+     * <p>
+     * Processors keeping their state on disk are not cooperative. Snapshots
+     * are still saved to {@code IMap}s.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_KEYED_STATE_SPILL_ENABLED
+            = new HazelcastProperty("hazelcast.jet.keyed.state.spill.enabled", false);
+
+    /**
+     * The directory in which the processors create their keyed state files,
+     * see {@link #JET_KEYED_STATE_SPILL_ENABLED}. The default is the directory
+     * given by the {@code java.io.tmpdir} system property.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_KEYED_STATE_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.keyed.state.spill.directory");
+
+    /**
+     * The maximum number of state objects a processor keeps deserialized on
+     * the heap, see {@link #JET_KEYED_STATE_SPILL_ENABLED}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_KEYED_STATE_SPILL_MAX_IN_MEMORY_ENTRIES
+            = new HazelcastProperty("hazelcast.jet.keyed.state.spill.max.in.memory.entries", 100_000);
+
     /**
      * Controls whether cluster emojis can be used in log messages. This is just a hint for components calling the logging.
      *
@@ -1911,6 +2210,56 @@ public final class ClusterProperty {
     public static final HazelcastProperty SQL_TSTORE_ENABLED = new HazelcastProperty(
             "hazelcast.sql.tstore.enabled", false);
 
+    /**
+     * When enabled, the SQL planner chooses a grace hash join for equi-joins
+     * whose estimated build (right) side exceeds {@link
+     * #SQL_HASH_JOIN_MAX_ROWS_IN_MEMORY} rows. Such a join hashes both sides into
+     * buckets, spills the buckets that don't fit into that row limit to
+     * files in the {@link #SQL_HASH_JOIN_SPILL_DIRECTORY} and joins them
+     * bucket by bucket after both inputs are complete.
+     * <p>
+     * Spilling join processors are not cooperative.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SQL_HASH_JOIN_SPILL_ENABLED = new HazelcastProperty(
+            "hazelcast.sql.hash.join.spill.enabled", false);
+
+    /**
+     * The maximum number of build side rows a hash join processor keeps in
+     * memory when spilling is enabled, see {@link #SQL_HASH_JOIN_SPILL_ENABLED}.
+     * It's a row count, not a size in bytes, so the memory it allows depends on
+     * the width of the rows.
+     * The {@link com.hazelcast.jet.config.JetConfig#setMaxProcessorAccumulatedRecords
+     * maxProcessorAccumulatedRecords} limit still applies if it is lower.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SQL_HASH_JOIN_MAX_ROWS_IN_MEMORY = new HazelcastProperty(
+            "hazelcast.sql.hash.join.max.rows.in.memory", 1_000_000);
+
+    /**
+     * The directory to which the hash join processors spill their buckets,
+     * see {@link #SQL_HASH_JOIN_SPILL_ENABLED}. The default is the directory
+     * given by the {@code java.io.tmpdir} system property.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SQL_HASH_JOIN_SPILL_DIRECTORY = new HazelcastProperty(
+            "hazelcast.sql.hash.join.spill.directory");
+
+    /**
+     * When enabled, the full scans of IMaps evaluate their filters and
+     * projections over a whole inbox chunk of entries at once, as a batch of
+     * columns, instead of one entry at a time. It applies only if none of the
+     * columns the query reads is of the OBJECT type.
+     * <p>
+     * Disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SQL_BATCH_EVALUATION_ENABLED = new HazelcastProperty(
+            "hazelcast.sql.batch.evaluation.enabled", false);
 
     /**
      * When {@code true}, enables monitoring of the runtime environment to detect the intent of shutdown
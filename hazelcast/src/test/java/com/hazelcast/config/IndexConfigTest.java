@@ -67,6 +67,10 @@ public class IndexConfigTest {
 
         checkIndexQuality(new IndexConfig().setName("name"), new IndexConfig().setName("name"), true);
         checkIndexQuality(new IndexConfig().setName("name"), new IndexConfig().setName("name2"), false);
+
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("a"), new IndexConfig().addIncludedAttribute("a"), true);
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("a"), new IndexConfig().addIncludedAttribute("b"), false);
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("a"), new IndexConfig(), false);
     }
 
     private void checkIndexQuality(IndexConfig config1, IndexConfig config2, boolean expected) {
@@ -125,4 +129,22 @@ public class IndexConfigTest {
         new IndexConfig().addAttribute("");
     }
 
+    @Test(expected = NullPointerException.class)
+    public void testIncludedAttributesNull() {
+        new IndexConfig().setIncludedAttributes(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncludedAttributeEmptyAdd() {
+        new IndexConfig().addIncludedAttribute("");
+    }
+
+    @Test
+    public void testCopyIncludedAttributes() {
+        IndexConfig config = new IndexConfig(IndexType.HASH, "a").addIncludedAttribute("b");
+
+        assertEquals(config, new IndexConfig(config));
+        assertEquals(Collections.singletonList("b"), new IndexConfig(config).getIncludedAttributes());
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_BATCH;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketBatchTest extends HazelcastTestSupport {
+
+    @Test
+    public void testPack() {
+        Packet packet1 = operationPacket(7, 20);
+        Packet packet2 = operationPacket(11, 10);
+
+        Packet batch = PacketBatch.pack(asList(packet1, packet2));
+
+        assertTrue(batch.isFlagRaised(FLAG_BATCH));
+        assertEquals(7, batch.getPartitionId());
+        assertEquals(packet1.getFrameLength() + packet2.getFrameLength(), batch.totalSize());
+    }
+
+    @Test
+    public void testUnpack() {
+        Packet packet1 = operationPacket(7, 20);
+        Packet packet2 = operationPacket(11, 10)
+                .raiseFlags(FLAG_URGENT);
+        Packet packet3 = operationPacket(7, 0);
+
+        List<Packet> packets = PacketBatch.unpack(PacketBatch.pack(asList(packet1, packet2, packet3)));
+
+        assertEquals(asList(packet1, packet2, packet3), packets);
+        assertArrayEquals(packet1.toByteArray(), packets.get(0).toByteArray());
+        assertTrue(packets.get(1).isFlagRaised(FLAG_URGENT));
+        assertFalse(packets.get(2).isFlagRaised(FLAG_BATCH));
+    }
+
+    @Test
+    public void testUnpack_whenSinglePacket() {
+        Packet packet = operationPacket(7, 20);
+
+        List<Packet> packets = PacketBatch.unpack(PacketBatch.pack(singletonList(packet)));
+
+        assertEquals(singletonList(packet), packets);
+    }
+
+    @Test
+    public void testUnpack_whenTruncated_thenThrows() {
+        Packet packet = operationPacket(7, 20);
+        byte[] payload = PacketBatch.pack(singletonList(packet)).toByteArray();
+        Packet truncated = new Packet(Arrays.copyOf(payload, payload.length - 1), 7).raiseFlags(FLAG_BATCH);
+
+        assertThrows(IllegalArgumentException.class, () -> PacketBatch.unpack(truncated));
+    }
+
+    private static Packet operationPacket(int partitionId, int payloadSize) {
+        byte[] payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) partitionId);
+        return new Packet(payload, partitionId).setPacketType(Packet.Type.OPERATION);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nio;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.operation.PutOperation;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketPayloadPoolTest extends HazelcastTestSupport {
+
+    private static final int MAX_PAYLOAD_SIZE = 1024;
+
+    private final PacketPayloadPool pool = new PacketPayloadPool(MAX_PAYLOAD_SIZE, false);
+    private final PacketIOHelper packetReader = new PacketIOHelper(pool);
+
+    @Test
+    public void whenOperationPacketReleased_thenPayloadReused() {
+        Packet packet = roundTrip(new Packet(new byte[100]).setPacketType(Packet.Type.OPERATION));
+        byte[] payload = packet.toByteArray();
+
+        packet.releasePayload();
+
+        assertNull(packet.toByteArray());
+        assertEquals(100, pool.pooledBytes());
+        Packet next = roundTrip(new Packet(new byte[100]).setPacketType(Packet.Type.OPERATION));
+        assertSame(payload, next.toByteArray());
+        assertEquals(0, pool.pooledBytes());
+    }
+
+    @Test
+    public void whenPayloadReused_thenContentOverwritten() {
+        byte[] content = new byte[100];
+        content[99] = 1;
+        roundTrip(new Packet(content).setPacketType(Packet.Type.OPERATION)).releasePayload();
+
+        Packet packet = roundTrip(new Packet(new byte[100]).setPacketType(Packet.Type.OPERATION));
+
+        assertArrayEquals(new byte[100], packet.toByteArray());
+    }
+
+    @Test
+    public void whenReleasedTwice_thenNoop() {
+        Packet packet = roundTrip(new Packet(new byte[100]).setPacketType(Packet.Type.OPERATION));
+
+        packet.releasePayload();
+        packet.releasePayload();
+
+        assertEquals(100, pool.pooledBytes());
+    }
+
+    @Test
+    public void whenResponsePacket_thenNotPooled() {
+        Packet packet = roundTrip(new Packet(new byte[100])
+                .setPacketType(Packet.Type.OPERATION)
+                .raiseFlags(FLAG_OP_RESPONSE));
+
+        packet.releasePayload();
+
+        assertNotNull(packet.toByteArray());
+        assertEquals(0, pool.pooledBytes());
+    }
+
+    @Test
+    public void whenEventPacket_thenNotPooled() {
+        Packet packet = roundTrip(new Packet(new byte[100]).setPacketType(Packet.Type.EVENT));
+
+        packet.releasePayload();
+
+        assertNotNull(packet.toByteArray());
+    }
+
+    @Test
+    public void whenPayloadLargerThanMax_thenNotPooled() {
+        Packet packet = roundTrip(new Packet(new byte[MAX_PAYLOAD_SIZE + 1]).setPacketType(Packet.Type.OPERATION));
+
+        packet.releasePayload();
+
+        assertNotNull(packet.toByteArray());
+        assertEquals(0, pool.pooledBytes());
+    }
+
+    @Test
+    public void whenAllocatingNotPooledSize_thenThrows() {
+        assertThrows(IllegalArgumentException.class, () -> pool.allocate(MAX_PAYLOAD_SIZE + 1));
+    }
+
+    @Test
+    public void whenMaxPayloadSizeAboveLimit_thenThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PacketPayloadPool(PacketPayloadPool.MAX_PAYLOAD_SIZE_LIMIT + 1, false));
+    }
+
+    @Test
+    public void whenOperationDeserialized_thenNoReferenceToReleasedPayload() {
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        Data key = serializationService.toData("key");
+        Data value = serializationService.toData("value");
+        Data operationData = serializationService.toData(new PutOperation("map", key, value));
+        Packet packet = roundTrip(new Packet(operationData.toByteArray()).setPacketType(Packet.Type.OPERATION));
+        byte[] payload = packet.toByteArray();
+
+        PutOperation operation = serializationService.toObject(packet);
+        assertTrue(PacketPayloadPool.isReleasedAfterDeserialization(operation));
+        packet.releasePayload();
+        // the next packet of the same size overwrites the released payload
+        Arrays.fill(payload, (byte) -1);
+
+        assertEquals(key, operation.getKey());
+        assertEquals(value, operation.getValue());
+        assertEquals("map", operation.getName());
+    }
+
+    @Test
+    public void whenOperationNotOfInternalFactory_thenNotReleasedAfterDeserialization() {
+        assertFalse(PacketPayloadPool.isReleasedAfterDeserialization(new Operation() { }));
+    }
+
+    @Test
+    public void whenPayloadDetached_thenNotReused() {
+        Packet packet = roundTrip(new Packet(new byte[100]).setPacketType(Packet.Type.OPERATION));
+
+        packet.detachPayload();
+        packet.releasePayload();
+
+        assertNotNull(packet.toByteArray());
+        assertEquals(0, pool.pooledBytes());
+    }
+
+    @Test
+    public void whenPacketNotReleased_thenLeakDetected() {
+        PacketPayloadPool leakDetectingPool = new PacketPayloadPool(MAX_PAYLOAD_SIZE, true);
+        readAndDrop(new PacketIOHelper(leakDetectingPool));
+
+        assertTrueEventually(() -> {
+            System.gc();
+            assertEquals(1, leakDetectingPool.leaked());
+        });
+    }
+
+    private static void readAndDrop(PacketIOHelper reader) {
+        ByteBuffer buffer = write(new Packet(new byte[100]).setPacketType(Packet.Type.OPERATION));
+        assertNotNull(reader.readFrom(buffer));
+    }
+
+    private Packet roundTrip(Packet packet) {
+        Packet read = packetReader.readFrom(write(packet));
+        assertNotNull(read);
+        return read;
+    }
+
+    private static ByteBuffer write(Packet packet) {
+        ByteBuffer buffer = ByteBuffer.allocate(packet.getFrameLength());
+        new PacketIOHelper().writeTo(packet, buffer);
+        buffer.flip();
+        return buffer;
+    }
+}
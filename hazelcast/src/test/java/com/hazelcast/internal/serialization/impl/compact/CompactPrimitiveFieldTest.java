@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.serialization.FieldKind;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder.compact;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactPrimitiveFieldTest {
+
+    @Parameter
+    public ByteOrder byteOrder;
+
+    private InternalSerializationService serializationService;
+
+    @Parameters(name = "byteOrder:{0}")
+    public static Collection<Object> parameters() {
+        return Arrays.asList(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Before
+    public void setUp() {
+        serializationService = CompactTestUtil.createSerializationService(new SerializationConfig().setByteOrder(byteOrder));
+    }
+
+    @Test
+    public void testFixedSizeFields() {
+        GenericRecord record = compact("fixed")
+                .setBoolean("bool1", true)
+                .setBoolean("bool2", false)
+                .setBoolean("bool3", true)
+                .setInt8("int8", (byte) -8)
+                .setInt16("int16", (short) -16)
+                .setInt32("int32", -32)
+                .setInt64("int64", -64L)
+                .setFloat32("float32", 32.5f)
+                .setFloat64("float64", 64.5d)
+                .build();
+
+        assertFields(serializationService.toData(record));
+    }
+
+    @Test
+    public void testFixedSizeFields_withVariableSizeFields() {
+        GenericRecord record = compact("mixed")
+                .setString("string", "value")
+                .setBoolean("bool1", true)
+                .setBoolean("bool2", false)
+                .setBoolean("bool3", true)
+                .setInt8("int8", (byte) -8)
+                .setInt16("int16", (short) -16)
+                .setInt32("int32", -32)
+                .setNullableInt32("nullableInt32", 42)
+                .setInt64("int64", -64L)
+                .setFloat32("float32", 32.5f)
+                .setFloat64("float64", 64.5d)
+                .build();
+        Data data = serializationService.toData(record);
+
+        assertFields(data);
+        assertNull(serializationService.getCompactPrimitiveField(data, "string"));
+        assertNull(serializationService.getCompactPrimitiveField(data, "nullableInt32"));
+        assertNull(serializationService.getCompactPrimitiveField(data, "unknown"));
+    }
+
+    private void assertFields(Data data) {
+        assertTrue(field(data, "bool1").readBoolean(data));
+        assertFalse(field(data, "bool2").readBoolean(data));
+        assertTrue(field(data, "bool3").readBoolean(data));
+        assertEquals((byte) -8, field(data, "int8").readInt8(data));
+        assertEquals((short) -16, field(data, "int16").readInt16(data));
+        assertEquals(-32, field(data, "int32").readInt32(data));
+        assertEquals(-64L, field(data, "int64").readInt64(data));
+        assertEquals(32.5f, field(data, "float32").readFloat32(data), 0);
+        assertEquals(64.5d, field(data, "float64").readFloat64(data), 0);
+
+        assertEquals(FieldKind.INT32, field(data, "int32").getKind());
+        assertEquals(-32, field(data, "int32").read(data));
+        assertEquals(64.5d, field(data, "float64").read(data));
+    }
+
+    private CompactPrimitiveField field(Data data, String fieldName) {
+        return serializationService.getCompactPrimitiveField(data, fieldName);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FieldAccessorTest {
+
+    @Test
+    public void testPrimitiveFields() throws Exception {
+        Fields fields = new Fields();
+
+        accessor("b").setBoolean(fields, true);
+        accessor("i8").setByte(fields, (byte) 1);
+        accessor("c").setChar(fields, 'c');
+        accessor("i16").setShort(fields, (short) 2);
+        accessor("i32").setInt(fields, 3);
+        accessor("i64").setLong(fields, 4L);
+        accessor("f32").setFloat(fields, 5.5f);
+        accessor("f64").setDouble(fields, 6.5d);
+
+        assertEquals(true, accessor("b").getBoolean(fields));
+        assertEquals((byte) 1, accessor("i8").getByte(fields));
+        assertEquals('c', accessor("c").getChar(fields));
+        assertEquals((short) 2, accessor("i16").getShort(fields));
+        assertEquals(3, accessor("i32").getInt(fields));
+        assertEquals(4L, accessor("i64").getLong(fields));
+        assertEquals(5.5f, accessor("f32").getFloat(fields), 0);
+        assertEquals(6.5d, accessor("f64").getDouble(fields), 0);
+    }
+
+    @Test
+    public void testObjectField() throws Exception {
+        Fields fields = new Fields();
+        FieldAccessor accessor = accessor("s");
+        assertEquals(MEM_AVAILABLE, accessor.isDirect());
+
+        accessor.set(fields, "value");
+        assertEquals("value", fields.s);
+        assertEquals("value", accessor.get(fields));
+
+        accessor.set(fields, null);
+        assertNull(accessor.get(fields));
+    }
+
+    @Test
+    public void testObjectField_withWrongType() throws Exception {
+        FieldAccessor accessor = accessor("s");
+
+        // must not store a value of a wrong type at the offset
+        assertThrows(IllegalArgumentException.class, () -> accessor.set(new Fields(), 42));
+    }
+
+    @Test
+    public void testVolatileField() throws Exception {
+        Fields fields = new Fields();
+        FieldAccessor accessor = accessor("v");
+        assertFalse(accessor.isDirect());
+
+        accessor.setLong(fields, 42L);
+        assertEquals(42L, fields.v);
+        assertEquals(42L, accessor.getLong(fields));
+    }
+
+    @Test
+    public void testRecordField() throws Exception {
+        FieldAccessor accessor = FieldAccessor.of(Point.class.getDeclaredField("x"));
+        assertFalse(accessor.isDirect());
+
+        assertEquals(1, accessor.getInt(new Point(1, 2)));
+    }
+
+    private static FieldAccessor accessor(String name) throws NoSuchFieldException {
+        return FieldAccessor.of(Fields.class.getDeclaredField(name));
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fields {
+        boolean b;
+        byte i8;
+        char c;
+        short i16;
+        int i32;
+        long i64;
+        float f32;
+        double f64;
+        String s;
+        volatile long v;
+    }
+
+    private record Point(int x, int y) {
+    }
+}
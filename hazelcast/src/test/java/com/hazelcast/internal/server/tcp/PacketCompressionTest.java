@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketCompressionTest {
+
+    private static final int THRESHOLD = 100;
+
+    private PacketCompression sender;
+    private PacketCompression receiver;
+
+    @Before
+    public void setup() {
+        sender = new PacketCompression(THRESHOLD);
+        receiver = new PacketCompression(THRESHOLD);
+    }
+
+    @Test
+    public void whenOutboundNotEnabled_thenPacketSentRaw() {
+        Packet packet = operationPacket(1000);
+
+        assertSame(packet, sender.compress(packet));
+    }
+
+    @Test
+    public void whenPayloadBelowThreshold_thenPacketSentRaw() {
+        sender.enableOutbound();
+        Packet packet = operationPacket(THRESHOLD - 1);
+
+        assertSame(packet, sender.compress(packet));
+    }
+
+    @Test
+    public void whenServerControlPacket_thenPacketSentRaw() {
+        sender.enableOutbound();
+        Packet packet = new Packet(payload(1000)).setPacketType(Packet.Type.SERVER_CONTROL);
+
+        assertSame(packet, sender.compress(packet));
+    }
+
+    @Test
+    public void whenCompressed_thenDecompressedToOriginal() throws DataFormatException {
+        sender.enableOutbound();
+
+        for (int i = 0; i < 100; i++) {
+            Packet packet = operationPacket(THRESHOLD + i * 100).raiseFlags(FLAG_URGENT | FLAG_OP_RESPONSE);
+
+            Packet compressed = sender.compress(packet);
+            assertTrue(compressed.isFlagRaised(FLAG_COMPRESSED));
+            assertEquals(packet.getPartitionId(), compressed.getPartitionId());
+            assertFalse(packet.isFlagRaised(FLAG_COMPRESSED));
+
+            Packet decompressed = receiver.decompress(compressed);
+            assertEquals(packet, decompressed);
+            assertEquals(packet.getPartitionId(), decompressed.getPartitionId());
+            assertArrayEquals(packet.toByteArray(), decompressed.toByteArray());
+        }
+    }
+
+    @Test
+    public void whenRepeatedPayloads_thenCompressedAgainstPreviousPackets() throws DataFormatException {
+        sender.enableOutbound();
+        // random bytes are incompressible unless repeated
+        byte[] payload = new byte[4000];
+        new Random(42).nextBytes(payload);
+
+        Packet first = sender.compress(new Packet(payload, 1));
+        Packet second = sender.compress(new Packet(payload, 1));
+
+        assertTrue(second.totalSize() < first.totalSize() / 10);
+        assertArrayEquals(payload, receiver.decompress(first).toByteArray());
+        assertArrayEquals(payload, receiver.decompress(second).toByteArray());
+        assertTrue(sender.compressionRatio() < 1);
+    }
+
+    @Test(expected = DataFormatException.class)
+    public void whenPayloadTruncated_thenFails() throws DataFormatException {
+        sender.enableOutbound();
+        Packet compressed = sender.compress(operationPacket(1000));
+        byte[] payload = compressed.toByteArray();
+
+        receiver.decompress(new Packet(Arrays.copyOf(payload, payload.length / 2), 1).raiseFlags(FLAG_COMPRESSED));
+    }
+
+    @Test
+    public void whenClosed_thenStreamsEnded() throws DataFormatException {
+        sender.enableOutbound();
+        Packet compressed = sender.compress(operationPacket(1000));
+        receiver.decompress(compressed);
+
+        sender.close();
+        receiver.close();
+        new PacketCompression(THRESHOLD).close();
+
+        // an ended deflate stream rejects any further use
+        assertThrows(NullPointerException.class, () -> sender.compress(operationPacket(1000)));
+        assertThrows(NullPointerException.class, () -> receiver.decompress(compressed));
+    }
+
+    private static Packet operationPacket(int payloadSize) {
+        return new Packet(payload(payloadSize), 1).setPacketType(Packet.Type.OPERATION);
+    }
+
+    private static byte[] payload(int size) {
+        byte[] payload = new byte[size];
+        byte[] header = "com.hazelcast.map.impl.operation.PutOperation".getBytes();
+        for (int i = 0; i < size; i++) {
+            payload[i] = header[i % header.length];
+        }
+        return payload;
+    }
+}
@@ -38,6 +38,8 @@ import java.util.function.Supplier;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -90,6 +92,39 @@ public class PacketEncoderTest extends HazelcastTestSupport {
         assertEquals(DIRTY, result);
     }
 
+    @Test
+    public void whenGatheringEnabled_thenLargePayloadHandedOver() {
+        Packet large = new Packet(serializationService.toBytes(new byte[2000]));
+        Packet small = new Packet(serializationService.toBytes("foobar"));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(large);
+        src.queue.add(small);
+
+        encoder.dst(dst);
+        encoder.src(src);
+        encoder.setGatheringEnabled(true);
+
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer payload = encoder.payload();
+        assertSame(large.toByteArray(), payload.array());
+        assertEquals(large.totalSize(), payload.remaining());
+
+        // nothing is written after the header until the payload is written
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer written = ByteBuffer.allocate(dst.remaining() + payload.remaining());
+        written.put(dst).put(payload).flip();
+        encoder.payloadWritten();
+
+        assertEquals(CLEAN, encoder.onWrite());
+        assertNull(encoder.payload());
+        PacketIOHelper reader = new PacketIOHelper();
+        assertEquals(large, reader.readFrom(written));
+        assertEquals(small, reader.readFrom(dst));
+    }
+
     static class PacketSupplier implements Supplier<Packet> {
         Queue<Packet> queue = new LinkedBlockingQueue<>();
 
@@ -28,9 +28,12 @@ import org.junit.runner.RunWith;
 import java.nio.ByteBuffer;
 import java.util.Random;
 
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_x64_128;
 import static com.hazelcast.internal.util.HashUtil.MurmurHash3_x64_64;
 import static com.hazelcast.internal.util.HashUtil.MurmurHash3_x86_32;
 import static com.hazelcast.internal.util.HashUtil.hashToIndex;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -93,6 +96,21 @@ public class HashUtilTest extends HazelcastTestSupport {
         assertEquals(hash1, hash2);
     }
 
+    @Test
+    public void testMurmurHash3_x64_128() {
+        // reference values of the standard implementation with seed 0
+        assertArrayEquals(new long[] {0, 0}, MurmurHash3_x64_128(new byte[0], 0, 0));
+        assertArrayEquals(new long[] {0xcbd8a7b341bd9b02L, 0x5b1e906a48ae1d19L},
+                MurmurHash3_x64_128("hello".getBytes(US_ASCII), 0, 5));
+        byte[] fox = "The quick brown fox jumps over the lazy dog".getBytes(US_ASCII);
+        assertArrayEquals(new long[] {0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L},
+                MurmurHash3_x64_128(fox, 0, fox.length));
+
+        byte[] padded = new byte[fox.length + 2];
+        System.arraycopy(fox, 0, padded, 1, fox.length);
+        assertArrayEquals(MurmurHash3_x64_128(fox, 0, fox.length), MurmurHash3_x64_128(padded, 1, fox.length));
+    }
+
     @Test(expected = AssertionError.class)
     @RequireAssertEnabled
     public void testMurmurHash3_x86_32_withIntOverflow() {
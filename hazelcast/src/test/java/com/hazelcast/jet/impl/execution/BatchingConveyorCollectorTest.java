@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
+import com.hazelcast.internal.util.concurrent.OneToOneConcurrentArrayQueue;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.jet.core.JetTestSupport.wm;
+import static com.hazelcast.jet.impl.util.ProgressState.DONE;
+import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchingConveyorCollectorTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    private OneToOneConcurrentArrayQueue<Object> queue;
+    private BatchingConveyorCollector collector;
+
+    @Before
+    public void setUp() {
+        queue = new OneToOneConcurrentArrayQueue<>(2);
+        ConcurrentConveyor<Object> conveyor = ConcurrentConveyor.concurrentConveyor(new Object(), queue);
+        collector = new BatchingConveyorCollector(conveyor, 0, null, BATCH_SIZE);
+    }
+
+    @Test
+    public void when_batchFull_then_published() {
+        assertEquals(DONE, collector.offer(1));
+        assertEquals(DONE, collector.offer(2));
+        assertEquals(emptyList(), drain());
+
+        assertEquals(DONE, collector.offer(3));
+
+        assertEquals(1, queue.size());
+        assertEquals(asList(1, 2, 3), drain());
+    }
+
+    @Test
+    public void when_flushed_then_partialBatchPublished() {
+        collector.offer(1);
+        assertTrue(collector.flush());
+        collector.offer(2);
+        collector.offer(3);
+        assertTrue(collector.flush());
+
+        assertEquals(2, queue.size());
+        assertEquals(asList(1, 2, 3), drain());
+        assertTrue(collector.flush());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void when_broadcastItemOffered_then_bufferedItemsPublishedBeforeIt() {
+        collector.offer(1);
+        collector.offer(2);
+
+        assertEquals(DONE, collector.offerBroadcast(wm(1)));
+
+        assertEquals(asList(1, 2, wm(1)), drain());
+    }
+
+    @Test
+    public void when_queueFull_then_itemsRejectedUntilDrained() {
+        for (int i = 0; i < 2 * BATCH_SIZE; i++) {
+            assertEquals(DONE, collector.offer(i));
+        }
+        // the queue holds 2 batches, the third one stays buffered
+        for (int i = 2 * BATCH_SIZE; i < 3 * BATCH_SIZE; i++) {
+            assertEquals(DONE, collector.offer(i));
+        }
+        assertEquals(NO_PROGRESS, collector.offer(100));
+        assertFalse(collector.flush());
+        assertEquals(NO_PROGRESS, collector.offerBroadcast(wm(1)));
+
+        List<Object> items = drain();
+        assertEquals(2 * BATCH_SIZE, items.size());
+        assertEquals(DONE, collector.offer(100));
+        assertTrue(collector.flush());
+
+        items.addAll(drain());
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 3 * BATCH_SIZE; i++) {
+            expected.add(i);
+        }
+        expected.add(100);
+        assertEquals(expected, items);
+    }
+
+    private List<Object> drain() {
+        List<Object> items = new ArrayList<>();
+        queue.drain(o -> {
+            if (o instanceof ItemBatch batch) {
+                batch.forEach(items::add);
+            } else {
+                items.add(o);
+            }
+            return true;
+        });
+        return items;
+    }
+}
@@ -263,6 +263,14 @@ public class ConcurrentInboundEdgeStreamTest {
         drainAndAssert(MADE_PROGRESS, 1);
     }
 
+    @Test
+    public void when_itemBatchesReceived_then_unpacked() {
+        add(q1, new ItemBatch(new Object[] {1, 2, 3}, 2), wm(1));
+        add(q2, 4, new ItemBatch(new Object[] {5, 6}, 2), wm(1));
+        drainAndAssert(MADE_PROGRESS, 1, 2, 4, 5, 6);
+        drainAndAssert(MADE_PROGRESS, wm(1));
+    }
+
     private void drainAndAssert(ProgressState expectedState, Object... expectedItems) {
         List<Object> list = new ArrayList<>();
         assertEquals("progressState", expectedState, stream.drainTo(list::add));
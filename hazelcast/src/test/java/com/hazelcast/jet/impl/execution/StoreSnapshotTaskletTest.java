@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.impl.execution;
 
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.core.JetTestSupport;
@@ -44,6 +45,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -57,6 +59,10 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
     private MockAsyncSnapshotWriter mockSsWriter;
 
     private void init(List<Object> inputData) {
+        init(inputData, null);
+    }
+
+    private void init(List<Object> inputData, SnapshotDeltaTracker deltaTracker) {
         ssContext = new SnapshotContext(Logger.getLogger(SnapshotContext.class), "test job", 1,
                 ProcessingGuarantee.EXACTLY_ONCE);
         ssContext.initTaskletCount(1, 1, 0);
@@ -70,8 +76,8 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
         }
         input = new MockInboundStream(0, inputData, 128);
         mockSsWriter = new MockAsyncSnapshotWriter();
-        sst = new StoreSnapshotTasklet(ssContext, input, mockSsWriter, Logger.getLogger(mockSsWriter.getClass()),
-                "myVertex", false);
+        sst = new StoreSnapshotTasklet(ssContext, input, mockSsWriter, deltaTracker,
+                Logger.getLogger(mockSsWriter.getClass()), "myVertex", false);
     }
 
     @Test
@@ -193,6 +199,65 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
         assertEquals(3, sst.pendingSnapshotId);
     }
 
+    @Test
+    public void when_deltaSnapshot_then_onlyChangesAndTombstonesOffered() {
+        // When
+        HeapData tombstone = serialize("tombstone");
+        init(asList(entry("k1", "v1"), entry("k2", "v2"), entry("k3", "v3"), new SnapshotBarrier(2, false)),
+                new SnapshotDeltaTracker(tombstone));
+        ssContext.startNewSnapshotPhase1(2, "map", 0);
+        completeSnapshot(2);
+        assertEquals(asList(
+                entry(serialize("k1"), serialize("v1")),
+                entry(serialize("k2"), serialize("v2")),
+                entry(serialize("k3"), serialize("v3"))), pollAll());
+        ssContext.startNewSnapshotPhase2(2, true);
+        ssContext.phase2DoneForTasklet();
+
+        input.push(entry(serialize("k1"), serialize("v1")), entry(serialize("k2"), serialize("v2x")),
+                new SnapshotBarrier(3, false));
+        ssContext.startNewSnapshotPhase1(3, "map", SnapshotFlags.create(false, false, true));
+        completeSnapshot(3);
+
+        // Then
+        assertEquals(asList(
+                entry(serialize("k2"), serialize("v2x")),
+                entry(serialize("k3"), tombstone)), pollAll());
+    }
+
+    @Test
+    public void when_taskletWithDeltaStateDone_then_nextDeltaSnapshotFails() throws Exception {
+        // When
+        init(asList(entry("k", "v"), new SnapshotBarrier(2, false)), new SnapshotDeltaTracker(serialize("tombstone")));
+        ssContext.startNewSnapshotPhase1(2, "map", 0);
+        completeSnapshot(2);
+        ssContext.startNewSnapshotPhase2(2, true);
+        ssContext.phase2DoneForTasklet();
+        input.push(DONE_ITEM);
+        assertEquals(DONE, sst.call());
+
+        // Then
+        CompletableFuture<SnapshotPhase1Result> future =
+                ssContext.startNewSnapshotPhase1(3, "map", SnapshotFlags.create(false, false, true));
+        assertTrue(future.isDone());
+        assertNotNull(future.get().getError());
+    }
+
+    private void completeSnapshot(long snapshotId) {
+        while (sst.pendingSnapshotId == snapshotId) {
+            sst.call();
+            mockSsWriter.hasPendingFlushes = false;
+        }
+    }
+
+    private List<Entry<? extends Data, ? extends Data>> pollAll() {
+        List<Entry<? extends Data, ? extends Data>> result = new ArrayList<>();
+        for (Entry<? extends Data, ? extends Data> en; (en = mockSsWriter.poll()) != null; ) {
+            result.add(en);
+        }
+        return result;
+    }
+
     private HeapData serialize(String o) {
         // "abcd" is here to create 8 bytes for HeapData header (we use UTF-16)
         return new HeapData(("abcd" + o).getBytes(StandardCharsets.UTF_16));
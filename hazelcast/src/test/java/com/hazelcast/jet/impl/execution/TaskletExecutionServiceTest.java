@@ -40,12 +40,15 @@ import org.junit.runner.RunWith;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
@@ -55,6 +58,8 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WORK_STEALING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WORK_STEALING_INTERVAL_MILLIS;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -80,12 +85,13 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
 
     private TaskletExecutionService tes;
     private ExecutorService executor;
+    private NodeEngine neMock;
     private final ClassLoader classLoader = getClass().getClassLoader();
 
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -101,11 +107,14 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         when(loggingService.getLogger(TaskletExecutionService.class))
                .thenReturn(Logger.getLogger(TaskletExecutionService.class));
 
+        tes = newTaskletExecutionService(new Properties());
+    }
+
+    private TaskletExecutionService newTaskletExecutionService(Properties properties) {
         MetricsRegistryImpl metricsRegistry = new MetricsRegistryImpl(mock(ILogger.class), ProbeLevel.INFO);
         when(neMock.getMetricsRegistry()).thenReturn(metricsRegistry);
 
-        HazelcastProperties properties = new HazelcastProperties(new Properties());
-        tes = new TaskletExecutionService(neMock, THREAD_COUNT, properties);
+        return new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(properties));
     }
 
     @After
@@ -241,6 +250,28 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         tasklets.forEach(MockTasklet::assertDone);
     }
 
+    @Test
+    public void when_workStealingEnabledAndLoadSkewed_then_busyTaskletMoved() {
+        // Given
+        tes.shutdown();
+        Properties properties = new Properties();
+        properties.setProperty(JET_WORK_STEALING_ENABLED.getName(), "true");
+        properties.setProperty(JET_WORK_STEALING_INTERVAL_MILLIS.getName(), "10");
+        tes = newTaskletExecutionService(properties);
+        // the tasklets are assigned round-robin, the busy ones start on the same worker
+        List<SkewedTasklet> tasklets = Stream.of(true, false, false, false, true)
+                .map(SkewedTasklet::new)
+                .collect(toList());
+
+        // When
+        CompletableFuture<Void> future = tes.beginExecute(tasklets, cancellationFuture, classLoader);
+
+        // Then
+        assertTrueEventually(() -> assertTrue(tasklets.get(0).threads.size() > 1 || tasklets.get(4).threads.size() > 1));
+        tasklets.forEach(t -> t.done = true);
+        future.join();
+    }
+
     @Test
     public void when_nonBlockingTaskletIsCancelled_then_completesEarly() {
         // Given
@@ -491,6 +522,38 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         }
     }
 
+    private static class SkewedTasklet implements Tasklet {
+
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        volatile boolean done;
+
+        private final boolean busy;
+        private final AtomicBoolean inCall = new AtomicBoolean();
+
+        SkewedTasklet(boolean busy) {
+            this.busy = busy;
+        }
+
+        @Nonnull
+        @Override
+        public ProgressState call() {
+            assertTrue("the tasklet was called concurrently", inCall.compareAndSet(false, true));
+            try {
+                threads.add(Thread.currentThread());
+                if (done) {
+                    return DONE;
+                }
+                if (!busy) {
+                    return NO_PROGRESS;
+                }
+                LockSupport.parkNanos(MILLISECONDS.toNanos(1));
+                return MADE_PROGRESS;
+            } finally {
+                inCall.set(false);
+            }
+        }
+    }
+
     private static class TaskletAssertingThreadLocal implements Tasklet {
 
         private static final ThreadLocal<Integer> threadLocal = ThreadLocal.withInitial(() -> 0);
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SpillingStateMapTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private InternalSerializationService serializationService;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+    }
+
+    @After
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Test
+    public void when_moreEntriesThanLimit_then_valuesSpilledAndReadBack() {
+        try (SpillingStateMap<Integer, String> map = newMap(10, false)) {
+            for (int i = 0; i < 1_000; i++) {
+                assertNull(map.put(i, "value-" + i));
+            }
+
+            assertEquals(1_000, map.size());
+            assertTrue(map.inMemorySize() <= 10);
+            assertTrue(map.spilledBytes() > 0);
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals("value-" + i, map.get(i));
+            }
+            assertEquals("value-0", map.put(0, "updated"));
+            assertEquals("updated", map.get(0));
+            assertEquals("value-1", map.remove(1));
+            assertFalse(map.containsKey(1));
+            assertEquals(999, map.size());
+        }
+    }
+
+    @Test
+    public void when_setAndDeleteSpilledKeys_then_updated() {
+        try (SpillingStateMap<Integer, String> map = newMap(10, false)) {
+            for (int i = 0; i < 100; i++) {
+                map.set(i, "value-" + i);
+            }
+            assertTrue(map.spilledBytes() > 0);
+
+            // keys 0 and 1 were spilled first
+            map.set(0, "updated");
+            map.delete(1);
+            map.delete(1_000);
+
+            assertEquals(99, map.size());
+            assertFalse(map.containsKey(1));
+            assertEquals("updated", map.get(0));
+            for (int i = 2; i < 100; i++) {
+                assertEquals("value-" + i, map.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void when_valueMutatedAfterGet_then_mutationSpilled() {
+        try (SpillingStateMap<Integer, long[]> map = newMap(1, false)) {
+            map.put(0, new long[1]);
+            map.get(0)[0] = 42;
+            // pushes the value of key 0 to the file
+            map.put(1, new long[1]);
+
+            assertEquals(1, map.inMemorySize());
+            assertArrayEquals(new long[] {42}, map.get(0));
+        }
+    }
+
+    @Test
+    public void when_iterating_then_spilledValuesStayOnDisk() {
+        try (SpillingStateMap<Integer, String> map = newMap(10, false)) {
+            Map<Integer, String> expected = new HashMap<>();
+            for (int i = 0; i < 100; i++) {
+                map.put(i, "value-" + i);
+                expected.put(i, "value-" + i);
+            }
+            int inMemorySize = map.inMemorySize();
+
+            assertEquals(expected, new HashMap<>(map));
+            assertEquals(inMemorySize, map.inMemorySize());
+        }
+    }
+
+    @Test
+    public void when_removedUsingIterator_then_removed() {
+        try (SpillingStateMap<Integer, String> map = newMap(10, false)) {
+            for (int i = 0; i < 100; i++) {
+                map.put(i, "value-" + i);
+            }
+            for (Iterator<Entry<Integer, String>> it = map.entrySet().iterator(); it.hasNext(); ) {
+                if (it.next().getKey() % 2 == 0) {
+                    it.remove();
+                }
+            }
+
+            assertEquals(50, map.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i % 2 == 0 ? null : "value-" + i, map.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void when_accessOrder_then_iteratesLeastRecentlyUsedFirst() {
+        try (SpillingStateMap<Integer, String> map = newMap(10, true)) {
+            for (int i = 0; i < 100; i++) {
+                map.put(i, "value-" + i);
+            }
+            map.get(0);
+
+            Iterator<Integer> it = map.keySet().iterator();
+            assertEquals(1, (int) it.next());
+            Integer last = null;
+            while (it.hasNext()) {
+                last = it.next();
+            }
+            assertEquals(0, (int) last);
+        }
+    }
+
+    @Test
+    public void when_valuesRepeatedlyUpdated_then_fileCompacted() {
+        int keyCount = 10;
+        try (SpillingStateMap<Integer, byte[]> map = newMap(1, false)) {
+            for (int round = 0; round < 100; round++) {
+                for (int key = 0; key < keyCount; key++) {
+                    byte[] value = new byte[1 << 16];
+                    value[0] = (byte) round;
+                    map.put(key, value);
+                }
+            }
+
+            assertTrue(map.compactions() > 0);
+            for (int key = 0; key < keyCount; key++) {
+                assertEquals(99, map.get(key)[0]);
+            }
+        }
+    }
+
+    @Test
+    public void when_closed_then_fileDeleted() {
+        SpillingStateMap<Integer, String> map = newMap(1, false);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value-" + i);
+        }
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+
+        map.close();
+
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+        assertTrue(map.isEmpty());
+    }
+
+    private <V> SpillingStateMap<Integer, V> newMap(int maxInMemoryEntries, boolean accessOrder) {
+        return new SpillingStateMap<>(temporaryFolder.getRoot().toPath(), maxInMemoryEntries, accessOrder,
+                serializationService);
+    }
+}
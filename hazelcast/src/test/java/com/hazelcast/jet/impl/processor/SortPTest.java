@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortPTest extends SimpleTestInClusterSupport {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void when_spillingEnabled_then_notCooperative() {
+        assertTrue(new SortP<Integer>(null).isCooperative());
+        assertFalse(new SortP<Integer>(null, temporaryFolder.getRoot().toPath(), 10).isCooperative());
+    }
+
+    @Test
+    public void when_inputFitsInSingleRun_then_sorted() {
+        testSpilling(100, 1_000, null);
+    }
+
+    @Test
+    public void when_inputSpilled_then_sorted() {
+        testSpilling(1_000, 7, null);
+    }
+
+    @Test
+    public void when_inputSpilledWithComparator_then_sorted() {
+        testSpilling(1_000, 7, Comparator.reverseOrder());
+    }
+
+    @Test
+    public void when_moreRunsThanMergeWidth_then_sorted() {
+        // forces intermediate merge passes
+        testSpilling(SortP.MAX_MERGE_WIDTH * 5 * 3, 3, null);
+    }
+
+    private void testSpilling(int itemCount, long runSize, Comparator<Integer> comparator) {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        List<Integer> input = IntStream.range(0, itemCount).boxed().collect(toList());
+        Collections.shuffle(input, new Random(42));
+        List<Integer> expected = new ArrayList<>(input);
+        expected.sort(comparator);
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<>(comparator, spillDirectory, runSize))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .input(input)
+                .expectOutput(expected);
+
+        // all the spill files and directories are deleted on close
+        File[] remaining = spillDirectory.toFile().listFiles();
+        assertArrayEquals(new File[0], remaining);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.impl.JetEvent;
+import com.hazelcast.jet.impl.memory.SpillingStateMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.core.JetTestSupport.wm;
+import static com.hazelcast.jet.impl.JetEvent.jetEvent;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SpillableKeyedStateTest extends SimpleTestInClusterSupport {
+
+    private static final int MAX_IN_MEMORY_ENTRIES = 4;
+    private static final int KEY_COUNT = 100;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void groupP_when_stateSpilled_then_allGroupsAggregated() {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        List<GroupP<Integer, LongAccumulator, Long, Entry<Integer, Long>>> processors = new ArrayList<>();
+        SupplierEx<Processor> supplier = () -> {
+            GroupP<Integer, LongAccumulator, Long, Entry<Integer, Long>> processor =
+                    new GroupP<>((Integer item) -> item % KEY_COUNT, counting(), Util::entry);
+            processor.spillKeyedState(spillDirectory, MAX_IN_MEMORY_ENTRIES);
+            processors.add(processor);
+            return processor;
+        };
+        List<Object> input = new ArrayList<>();
+        for (int i = 0; i < 10 * KEY_COUNT; i++) {
+            input.add(i);
+        }
+        List<Object> expected = new ArrayList<>();
+        for (int key = 0; key < KEY_COUNT; key++) {
+            expected.add(entry(key, 10L));
+        }
+
+        TestSupport.verifyProcessor(supplier)
+                   .hazelcastInstance(instance())
+                   .disableSnapshots()
+                   .disableLogging()
+                   .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                   .input(input)
+                   .expectOutput(expected);
+
+        assertFalse(processors.isEmpty());
+        for (GroupP<Integer, LongAccumulator, Long, Entry<Integer, Long>> processor : processors) {
+            assertFalse(processor.isCooperative());
+            assertTrue(((SpillingStateMap<?, ?>) processor.keyToAcc).spilledBytes() > 0);
+        }
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void transformStatefulP_when_spilledStateExpires_then_evicted() {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        SupplierEx<Processor> mapStatefulSupplier = Processors.mapStatefulP(
+                2,
+                (JetEvent<Entry<String, Long>> jetEvent) -> jetEvent.payload().getKey(),
+                JetEvent::timestamp,
+                () -> new long[1],
+                (long[] s, String k, JetEvent<Entry<String, Long>> e) -> {
+                    s[0] += e.payload().getValue();
+                    return jetEvent(e.timestamp(), entry(k, s[0]));
+                },
+                (s, k, wm) -> jetEvent(wm, entry(k, -s[0]))
+        );
+        SupplierEx<Processor> supplier = () -> {
+            Processor processor = mapStatefulSupplier.get();
+            ((TransformStatefulP<?, ?, ?, ?>) processor).spillKeyedState(spillDirectory, MAX_IN_MEMORY_ENTRIES);
+            return processor;
+        };
+
+        // all the keys expire at wm(3), most of them while spilled
+        List<Object> input = new ArrayList<>();
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            input.add(jetEvent(0, entry("k" + i, 1L)));
+            expected.add(jetEvent(0, entry("k" + i, 1L)));
+            expected.add(jetEvent(3, entry("k" + i, -1L)));
+        }
+        input.add(wm(3));
+        expected.add(wm(3));
+        for (int i = 0; i < KEY_COUNT; i++) {
+            input.add(jetEvent(3, entry("k" + i, 3L)));
+            expected.add(jetEvent(3, entry("k" + i, 3L)));
+            expected.add(jetEvent(Long.MAX_VALUE, entry("k" + i, -3L)));
+        }
+
+        TestSupport.verifyProcessor(supplier)
+                   .hazelcastInstance(instance())
+                   .disableLogging()
+                   .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                   .input(input)
+                   .expectOutput(expected);
+
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+}
@@ -285,6 +285,49 @@ public class StreamStageTest extends PipelineStreamTestSupport {
         );
     }
 
+    @Test
+    public void fusing_mapUsingService() {
+        test_fusing(
+                stage -> stage
+                        .filter(item -> item % 2 == 0)
+                        .mapUsingService(sharedService(pctx -> "-x"), (suffix, item) -> item + suffix)
+                        .flatMap(item -> Traversers.traverseItems(item + "1", item + "2")),
+                item -> item % 2 == 0 ? Stream.of(item + "-x1", item + "-x2") : Stream.empty()
+        );
+    }
+
+    @Test
+    public void fusing_filterUsingService_trailingMap() {
+        test_fusing(
+                stage -> stage
+                        .flatMap(item -> Traversers.traverseItems(item, item + 1))
+                        .filterUsingService(sharedService(pctx -> 2), (divisor, item) -> item % divisor == 0)
+                        .map(item -> item + "-x"),
+                item -> Stream.of(item, item + 1).filter(i -> i % 2 == 0).map(i -> i + "-x")
+        );
+    }
+
+    @Test
+    public void fusing_when_nonCooperativeService_then_notFused() {
+        // Given
+        List<Integer> input = sequence(itemCount);
+
+        // When
+        streamStageFromList(input)
+                .map(item -> item + "-a")
+                .mapUsingService(sharedService(pctx -> "b").toNonCooperative(), (suffix, item) -> item + suffix)
+                .writeTo(sink);
+
+        // Then
+        DAG dag = p.toDag();
+        assertContainsFused(dag, false);
+        assertVertexCount(dag, 5);
+        execute();
+        assertEquals(
+                streamToString(input.stream().map(t -> t + "-ab"), identity()),
+                streamToString(sinkList.stream(), Object::toString));
+    }
+
     private void test_fusing(Function<GeneralStage<Integer>, GeneralStage<String>> addToPipelineFn,
                              Function<Integer, Stream<String>> plainFlatMapFn) {
         // Given
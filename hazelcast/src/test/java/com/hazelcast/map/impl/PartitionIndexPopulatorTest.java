@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionIndexPopulatorTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 3;
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance instance;
+    private String mapName;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), String.valueOf(PARTITION_COUNT))
+                .setProperty(ClusterProperty.INDEX_POPULATION_CHUNK_SIZE.getName(), "10");
+        instance = createHazelcastInstance(config);
+        mapName = randomMapName();
+        map = instance.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            map.put(i, i);
+        }
+    }
+
+    @Test
+    public void addIndex_populatesAllPartitionsInChunks() {
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setName("idx"));
+
+        InternalIndex index = globalIndex("idx");
+        for (int partitionId = 0; partitionId < PARTITION_COUNT; ++partitionId) {
+            assertThat(index.hasPartitionIndexed(partitionId)).isTrue();
+        }
+        assertThat(index.allPartitionsIndexed(PARTITION_COUNT)).isTrue();
+        assertThat(map.values(Predicates.greaterEqual("this", 990))).hasSize(10);
+        assertThat(map.keySet(Predicates.equal("this", 500))).containsExactly(500);
+    }
+
+    @Test
+    public void query_whenPartitionNotIndexed_thenScansIt() {
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setName("idx"));
+        InternalIndex index = globalIndex("idx");
+        index.beginPartitionUpdate();
+        index.markPartitionAsUnindexed(0);
+
+        Collection<Integer> values = map.values(Predicates.greaterEqual("this", 900));
+
+        assertThat(values).hasSize(100);
+        assertThat(map.aggregate(Aggregators.count(), Predicates.lessThan("this", 100)))
+                .isEqualTo(100L);
+    }
+
+    @Test
+    public void populateChunk_whenEntriesRemovedBetweenChunks_thenNotIndexed() throws Exception {
+        int partitionId = 0;
+        NodeEngineImpl nodeEngine = getNodeEngineImpl(instance);
+        MapContainer mapContainer = nodeEngine.<MapService>getService(MapService.SERVICE_NAME).getMapServiceContext()
+                .getMapContainer(mapName);
+        InternalIndex index = mapContainer.getGlobalIndexRegistry()
+                .addOrGetIndex(new IndexConfig(IndexType.HASH, "this").setName("idx"));
+        RecordStore<Record> recordStore = mapContainer.getMapServiceContext().getPartitionContainer(partitionId)
+                .getExistingRecordStore(mapName);
+        PartitionIndexPopulator populator = new PartitionIndexPopulator(recordStore, partitionId,
+                new InternalIndex[]{index}, Index.OperationSource.USER);
+
+        runOnPartitionThread(partitionId, () -> assertThat(populator.populateChunk()).isFalse());
+        List<Integer> removedKeys = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            if (nodeEngine.getPartitionService().getPartitionId(i) == partitionId) {
+                map.remove(i);
+                removedKeys.add(i);
+            }
+        }
+        runOnPartitionThread(partitionId, () -> {
+            while (!populator.populateChunk()) {
+                // populate the rest
+            }
+        });
+
+        assertThat(removedKeys).isNotEmpty();
+        for (int key : removedKeys) {
+            assertThat(index.getRecords(key)).isEmpty();
+        }
+        assertThat(index.hasPartitionIndexed(partitionId)).isTrue();
+    }
+
+    private void runOnPartitionThread(int partitionId, Runnable task) throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        getNodeEngineImpl(instance).getOperationService().execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        });
+        future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS);
+    }
+
+    private InternalIndex globalIndex(String name) {
+        MapService service = getNode(instance).getNodeEngine().getService(MapService.SERVICE_NAME);
+        return service.getMapServiceContext().getMapContainer(mapName).getGlobalIndexRegistry().getIndex(name);
+    }
+}
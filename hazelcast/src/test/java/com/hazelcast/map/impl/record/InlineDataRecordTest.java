@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.eviction.Evictor;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class InlineDataRecordTest {
+
+    private static final int MAX_INLINE_BYTES = 64;
+
+    private SerializationService serializationService;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+    }
+
+    @Test
+    public void testValue() {
+        Data value = serializationService.toData("value");
+        InlineDataRecord record = new InlineDataRecord(value, MAX_INLINE_BYTES);
+        assertEquals(value, record.getValue());
+
+        Data newValue = serializationService.toData("newValue");
+        record.setValue(newValue);
+        assertEquals(newValue, record.getValue());
+
+        record.setValue(null);
+        assertNull(record.getValue());
+    }
+
+    @Test
+    public void testGetValue_wrapperNotKept() {
+        InlineDataRecord record = new InlineDataRecord(serializationService.toData("value"), MAX_INLINE_BYTES);
+
+        Data value = record.getValue();
+        assertNotSame(value, record.getValue());
+        assertEquals(value, record.getValue());
+    }
+
+    @Test
+    public void testSetValue_largeValueKeptAsData() {
+        InlineDataRecord record = new InlineDataRecord(serializationService.toData("value"), MAX_INLINE_BYTES);
+        Data largeValue = serializationService.toData(new byte[128]);
+
+        record.setValue(largeValue);
+
+        assertSame(largeValue, record.getValue());
+        assertEquals(new SimpleRecord<>(largeValue).getCost(), record.getCost());
+    }
+
+    @Test
+    public void testCost_notChangedByRead() {
+        InlineDataRecord record = new InlineDataRecord(serializationService.toData("value"), MAX_INLINE_BYTES);
+        long cost = record.getCost();
+
+        record.getValue();
+
+        assertEquals(cost, record.getCost());
+    }
+
+    @Test
+    public void testCost_isLessThanSimpleRecord() {
+        Data value = serializationService.toData("value");
+
+        long savedCost = new SimpleRecord<>(value).getCost() - new InlineDataRecord(value, MAX_INLINE_BYTES).getCost();
+        assertEquals(OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES, savedCost);
+    }
+
+    @Test
+    public void testFactory_createsInlineRecord_forSmallValues() {
+        RecordFactory<Data> factory = newRecordFactory(MAX_INLINE_BYTES);
+
+        assertTrue(factory.newRecord(serializationService.toData("key"), "value") instanceof InlineDataRecord);
+        assertTrue(factory.newRecord(serializationService.toData("key"), new byte[128]) instanceof SimpleRecord);
+    }
+
+    @Test
+    public void testFactory_doesNotCreateInlineRecord_whenDisabled() {
+        RecordFactory<Data> factory = newRecordFactory(0);
+
+        assertTrue(factory.newRecord(serializationService.toData("key"), "value") instanceof SimpleRecord);
+    }
+
+    @Test
+    public void testEquals() {
+        Data value = serializationService.toData("value");
+        InlineDataRecord record = new InlineDataRecord(value, MAX_INLINE_BYTES);
+        InlineDataRecord other = new InlineDataRecord(serializationService.toData("value"), MAX_INLINE_BYTES);
+        assertEquals(record, other);
+        assertEquals(record.hashCode(), other.hashCode());
+    }
+
+    private RecordFactory<Data> newRecordFactory(int inlineValueMaxBytes) {
+        MapContainer mapContainer = mock(MapContainer.class);
+        when(mapContainer.getMapConfig()).thenReturn(new MapConfig().setCacheDeserializedValues(CacheDeserializedValues.NEVER));
+        when(mapContainer.getEvictor()).thenReturn(Evictor.NULL_EVICTOR);
+        return new DataRecordFactory(mapContainer, serializationService, inlineValueMaxBytes);
+    }
+}
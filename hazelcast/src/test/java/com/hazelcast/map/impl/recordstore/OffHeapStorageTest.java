@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.impl.HeapMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.SimpleRecord;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageTest {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private HeapMemoryManager memoryManager;
+    private SerializationService ss;
+    private OffHeapStorage<Record> storage;
+
+    @Before
+    public void setUp() {
+        memoryManager = new HeapMemoryManager(32 << 20);
+        ss = new DefaultSerializationServiceBuilder().build();
+        storage = new OffHeapStorage<>(memoryManager, ExpirySystem.NULL, ss);
+    }
+
+    @After
+    public void tearDown() {
+        storage.destroy(false);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        Data key = ss.toData("key");
+        Record record = newRecord("value");
+
+        storage.put(key, record);
+
+        assertSame(record, storage.get(ss.toData("key")));
+        assertTrue(storage.containsKey(key));
+        assertEquals(1, storage.size());
+    }
+
+    @Test
+    public void testPut_replacesRecordOfExistingKey() {
+        Data key = ss.toData("key");
+        storage.put(key, newRecord("value1"));
+        Record record = newRecord("value2");
+
+        storage.put(key, record);
+
+        assertSame(record, storage.get(key));
+        assertEquals(1, storage.size());
+    }
+
+    @Test
+    public void testRemoveRecord() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            storage.put(ss.toData(i), newRecord(i));
+        }
+
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            Data key = ss.toData(i);
+            storage.removeRecord(key, storage.get(key));
+        }
+
+        assertEquals(ENTRY_COUNT / 2, storage.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i % 2 != 0, storage.containsKey(ss.toData(i)));
+        }
+    }
+
+    @Test
+    public void testRemoveRecord_reusesIds() {
+        Data key = ss.toData("key");
+        storage.put(key, newRecord("value"));
+        storage.removeRecord(key, storage.get(key));
+
+        storage.put(key, newRecord("value"));
+
+        assertEquals(1, storage.size());
+        assertEquals(1, countEntries(storage.mutationTolerantIterator()));
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            storage.put(ss.toData(i), newRecord(i));
+        }
+
+        storage.clear(false);
+
+        assertTrue(storage.isEmpty());
+        assertNull(storage.get(ss.toData(1)));
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void testDestroy_releasesNativeMemory() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            storage.put(ss.toData(i), newRecord(i));
+        }
+
+        storage.destroy(false);
+
+        assertEquals(0, memoryManager.getUsedMemory());
+    }
+
+    @Test
+    public void testMutationTolerantIterator_toleratesRemoval() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            storage.put(ss.toData(i), newRecord(i));
+        }
+
+        Set<Object> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            seen.add(ss.toObject(entry.getKey()));
+            storage.removeRecord(entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(ENTRY_COUNT, seen.size());
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testFetchKeys_visitsAllKeys() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            storage.put(ss.toData(i), newRecord(i));
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        do {
+            MapKeysWithCursor batch = storage.fetchKeys(pointers, 100);
+            batch.getBatch().forEach(key -> keys.add(ss.toObject(key)));
+            pointers = batch.getIterationPointers();
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    @Test
+    public void testFetchEntries_returnsValues() {
+        storage.put(ss.toData("key"), newRecord("value"));
+
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        MapEntriesWithCursor batch = storage.fetchEntries(pointers, 10);
+
+        assertEquals(1, batch.getBatch().size());
+        Map.Entry<Data, Data> entry = batch.getBatch().get(0);
+        assertEquals("key", ss.toObject(entry.getKey()));
+        assertEquals("value", ss.toObject(entry.getValue()));
+    }
+
+    @Test
+    public void testGetRandomSamples() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            storage.put(ss.toData(i), newRecord(i));
+        }
+
+        int sampleCount = 0;
+        for (EntryView sample : storage.getRandomSamples(15)) {
+            Data key = storage.extractDataKeyFromLazy(sample);
+            assertSame(storage.get(key), ((LazyEvictableEntryView) sample).getRecord());
+            sampleCount++;
+        }
+
+        assertEquals(15, sampleCount);
+    }
+
+    @Test
+    public void testGetRandomSamples_whenEmpty() {
+        assertFalse(storage.getRandomSamples(15).iterator().hasNext());
+    }
+
+    private Record newRecord(Object value) {
+        return new SimpleRecord<>(ss.toData(value));
+    }
+
+    private static int countEntries(Iterator<?> iterator) {
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+}
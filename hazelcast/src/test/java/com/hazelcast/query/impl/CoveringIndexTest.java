@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CoveringIndexTest extends HazelcastTestSupport {
+
+    @Test
+    public void indexStoresCoveredValues() {
+        HazelcastInstance instance = createHazelcastInstance();
+        String mapName = randomMapName();
+        IMap<Integer, Person> map = instance.getMap(mapName);
+        map.addIndex(new IndexConfig(IndexType.SORTED, "age").setName("age").addIncludedAttribute("name"));
+
+        map.put(1, new Person("Alice", 30));
+        map.put(2, new Person("Bob", 40));
+        map.put(2, new Person("Bobby", 40));
+
+        MapService service = getNode(instance).getNodeEngine().getService(MapService.SERVICE_NAME);
+        MapContainer mapContainer = service.getMapServiceContext().getMapContainer(mapName);
+        InternalIndex index = mapContainer.getGlobalIndexRegistry().getIndex("age");
+        assertThat(index.getConfig().getIncludedAttributes()).containsExactly("name");
+
+        Set<QueryableEntry> records = index.getRecords(40);
+        assertThat(records).hasSize(1);
+        QueryableEntry entry = records.iterator().next();
+        assertThat(entry).isInstanceOf(CoveringQueryEntry.class);
+        assertThat(((CoveringQueryEntry<?, ?>) entry).getCoveredValue(0)).isEqualTo(40);
+        assertThat(((CoveringQueryEntry<?, ?>) entry).getCoveredValue(1)).isEqualTo("Bobby");
+        assertThat(entry.getAttributeValue("name")).isEqualTo("Bobby");
+    }
+
+    @Test
+    public void projectionOverCoveredAttributes() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMap<Integer, Person> map = instance.getMap(randomMapName());
+        map.addIndex(new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"));
+        for (int i = 0; i < 10; ++i) {
+            map.put(i, new Person("name" + i, i));
+        }
+
+        Collection<String> names = map.project(Projections.singleAttribute("name"), Predicates.greaterEqual("age", 7));
+
+        assertThat(names).containsExactlyInAnyOrder("name7", "name8", "name9");
+    }
+
+    @Test
+    public void orOverCoveringAndPlainIndex_noDuplicates() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMap<Integer, Person> map = instance.getMap(randomMapName());
+        map.addIndex(new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"));
+        map.addIndex(new IndexConfig(IndexType.HASH, "name"));
+        for (int i = 0; i < 10; ++i) {
+            map.put(i, new Person("name" + i, i));
+        }
+
+        Collection<String> names = map.project(Projections.singleAttribute("name"),
+                Predicates.or(Predicates.greaterEqual("age", 8), Predicates.equal("name", "name9"),
+                        Predicates.equal("name", "name1")));
+
+        assertThat(names).containsExactlyInAnyOrder("name1", "name8", "name9");
+    }
+
+    @Test
+    public void coveringEntryEqualsPlainEntryWithSameKey() {
+        InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+        CachedQueryEntry<Integer, Person> plain = new CachedQueryEntry<>(ss, ss.toData(1), new Person("Alice", 30),
+                Extractors.newBuilder(ss).build());
+        CoveringQueryEntry<Integer, Person> covering = new CoveringQueryEntry<>(plain, new String[]{"name"},
+                new Object[]{"Alice"});
+
+        assertThat(covering).isEqualTo(plain).hasSameHashCodeAs(plain);
+        assertThat(plain).isEqualTo(covering);
+        assertThat(new OrResultSet(List.of(Set.of(plain), Set.of(covering)))).hasSize(1);
+        assertThat(new OrResultSet(List.of(Set.of(covering), Set.of(plain)))).hasSize(1);
+    }
+
+    @Test
+    public void bitmapIndexWithIncludedAttributes_rejected() {
+        IndexConfig config = new IndexConfig(IndexType.BITMAP, "age").addIncludedAttribute("name");
+
+        assertThatThrownBy(() -> IndexUtils.validateAndNormalize("map", config))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Bitmap indexes do not support included attributes");
+    }
+
+    @Test
+    public void duplicateIncludedAttribute_rejected() {
+        IndexConfig indexed = new IndexConfig(IndexType.HASH, "age").addIncludedAttribute("this.age");
+        IndexConfig included = new IndexConfig(IndexType.HASH, "age").addIncludedAttribute("name")
+                .addIncludedAttribute("name");
+
+        assertThatThrownBy(() -> IndexUtils.validateAndNormalize("map", indexed))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate included attribute name");
+        assertThatThrownBy(() -> IndexUtils.validateAndNormalize("map", included))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate included attribute name");
+    }
+
+    @Test
+    public void includedAttributesCanonicalized() {
+        IndexConfig config = new IndexConfig(IndexType.HASH, "age").addIncludedAttribute("this.name");
+
+        assertThat(IndexUtils.validateAndNormalize("map", config).getIncludedAttributes()).containsExactly("name");
+    }
+
+    public static class Person implements Serializable {
+
+        private final String name;
+        private final int age;
+
+        Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PrimitiveOrderedIndexStoreTest {
+
+    private static final Comparable[] BOUNDS = {
+            NULL, POSITIVE_INFINITY, -1L, 0L, 1L, 7L, 49L, 50L, 1000L, Long.MIN_VALUE, Long.MAX_VALUE,
+            (1L << 53) + 1, -0.5, 0.5, 7.5, -0.0, 0.0, 49.0, Double.NaN, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, 0x1p63, -0x1p63, 1e300
+    };
+
+    private final PrimitiveOrderedIndexStore store = new PrimitiveOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+    private final OrderedIndexStore expected = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+
+    @Test
+    public void testLongValues() {
+        populate(1000, i -> i % 7 == 0 ? NULL : (long) (i % 50 - 10));
+        assertSameResults();
+    }
+
+    @Test
+    public void testIntegerValues() {
+        populate(1000, i -> i % 13 == 0 ? NULL : i % 100 - 50);
+        assertSameResults();
+    }
+
+    @Test
+    public void testDoubleValues() {
+        Random random = new Random(42);
+        populate(1000, i -> i % 11 == 0 ? NULL : (double) random.nextInt(40) / 4 - 5);
+        insert(1000, -0.0);
+        insert(1001, 0.0);
+        insert(1002, Double.NaN);
+        insert(1003, Double.NEGATIVE_INFINITY);
+        insert(1004, 0x1p53);
+        assertSameResults();
+    }
+
+    @Test
+    public void testUniqueValues() {
+        // enough values to split the root of the tree at least once
+        populate(50_000, i -> (long) (i * 31 % 50_000));
+        assertSameResults(NULL, POSITIVE_INFINITY, 0L, 20_000L, 24_999.5, 49_999L);
+    }
+
+    @Test
+    public void testRemove() {
+        populate(3000, i -> (long) (i % 100));
+        for (int i = 0; i < 3000; i += 3) {
+            remove(i, (long) (i % 100));
+        }
+        // removing an absent entry is a no-op
+        assertNull(store.removeInternal(5L, keyData(1_000_000)));
+        assertSameResults();
+
+        for (int i = 0; i < 3000; ++i) {
+            if (i % 3 != 0) {
+                remove(i, (long) (i % 100));
+            }
+        }
+        assertEquals(0, store.getRecords(NULL, true, POSITIVE_INFINITY, true).size());
+        assertSameResults();
+    }
+
+    @Test
+    public void testReplace() {
+        populate(100, i -> (long) (i % 10));
+        QueryableEntry old = (QueryableEntry) store.insertInternal(3L, new DummyEntry(3));
+        assertEquals(3, old.getKey());
+        assertEquals(10, store.getRecords(3L).size());
+    }
+
+    @Test
+    public void testMigrationToFallback() {
+        populate(1000, i -> i % 7 == 0 ? NULL : (long) (i % 50));
+        Iterator<IndexKeyEntries> iterator = store.getSqlRecordIteratorBatch(false);
+        // a value of another type triggers the migration
+        insert(1000, 5);
+        assertSameResults();
+
+        // the iterations started before the migration still work
+        int count = 0;
+        while (iterator.hasNext()) {
+            Iterator<QueryableEntry> entries = iterator.next().getEntries();
+            while (entries.hasNext()) {
+                entries.next();
+                ++count;
+            }
+        }
+        assertEquals(1000, count);
+    }
+
+    @Test
+    public void testClear() {
+        populate(1000, i -> (long) i);
+        insert(1000, 5);
+        store.clear();
+        expected.clear();
+        populate(100, i -> (double) i);
+        assertSameResults();
+    }
+
+    @Test
+    public void testCursor() {
+        populate(100, i -> (long) (i % 10));
+        for (boolean descending : new boolean[]{false, true}) {
+            for (Object key : keys(store.getSqlRecordIteratorBatch(3L, true, 6L, true, descending))) {
+                if (!(key instanceof Integer)) {
+                    continue;
+                }
+                Data cursor = keyData((Integer) key);
+                assertEquals(keys(expected.getSqlRecordIteratorBatch(3L, true, 6L, true, descending, cursor)),
+                        keys(store.getSqlRecordIteratorBatch(3L, true, 6L, true, descending, cursor)));
+                assertEquals(keys(expected.getSqlRecordIteratorBatch(5L, descending, cursor)),
+                        keys(store.getSqlRecordIteratorBatch(5L, descending, cursor)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorWithExclusiveBound() {
+        store.getSqlRecordIteratorBatch(0L, false, 1L, false, false, keyData(0));
+    }
+
+    private void populate(int count, IntFunction<Comparable> value) {
+        for (int i = 0; i < count; ++i) {
+            insert(i, value.apply(i));
+        }
+    }
+
+    private void insert(int key, Comparable value) {
+        assertEquals(expected.insertInternal(value, new DummyEntry(key)) == null,
+                store.insertInternal(value, new DummyEntry(key)) == null);
+    }
+
+    private void remove(int key, Comparable value) {
+        assertEquals(expected.removeInternal(value, keyData(key)) == null, store.removeInternal(value, keyData(key)) == null);
+    }
+
+    private void assertSameResults() {
+        assertSameResults(BOUNDS);
+    }
+
+    private void assertSameResults(Comparable... bounds) {
+        assertEquals(keys(expected.getSqlRecordIteratorBatch(false)), keys(store.getSqlRecordIteratorBatch(false)));
+        assertEquals(keys(expected.getSqlRecordIteratorBatch(true)), keys(store.getSqlRecordIteratorBatch(true)));
+
+        for (Comparable from : bounds) {
+            assertEquals(keySet(expected.getRecords(from)), keySet(store.getRecords(from)));
+            for (Comparable to : bounds) {
+                for (int flags = 0; flags < 8; ++flags) {
+                    boolean fromInclusive = (flags & 1) != 0;
+                    boolean toInclusive = (flags & 2) != 0;
+                    boolean descending = (flags & 4) != 0;
+                    String message = from + (fromInclusive ? " incl " : " excl ") + to + (toInclusive ? " incl" : " excl");
+                    assertEquals(message, keys(expected.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive,
+                            descending)), keys(store.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending)));
+                    assertEquals(message, keySet(expected.getRecords(from, fromInclusive, to, toInclusive)),
+                            keySet(store.getRecords(from, fromInclusive, to, toInclusive)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the entries interleaved with the index keys, so
+     * both the grouping and the ordering are verified.
+     */
+    private static List<Object> keys(Iterator<IndexKeyEntries> iterator) {
+        List<Object> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            IndexKeyEntries entries = iterator.next();
+            keys.add("key=" + entries.getIndexKey());
+            Iterator<QueryableEntry> entryIterator = entries.getEntries();
+            while (entryIterator.hasNext()) {
+                keys.add(entryIterator.next().getKey());
+            }
+        }
+        return keys;
+    }
+
+    private static Set<Object> keySet(Set<QueryableEntry> entries) {
+        Set<Object> keys = new HashSet<>();
+        for (QueryableEntry entry : entries) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    private static Data keyData(int key) {
+        return new HeapData(ByteBuffer.allocate(12).putInt(8, key).array());
+    }
+
+    private static class DummyEntry extends QueryEntry {
+
+        private final int key;
+        private final Data keyData;
+
+        DummyEntry(int key) {
+            this.key = key;
+            this.keyData = keyData(key);
+        }
+
+        @Override
+        public Data getKeyData() {
+            return keyData;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static com.hazelcast.query.impl.bitmap.RoaringBitSet.ARRAY_CONTAINER_MAX_SIZE;
+import static com.hazelcast.query.impl.bitmap.RoaringBitSet.RUN_CONTAINER_MAX_RUNS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RoaringBitSetTest {
+
+    private static final long CHUNK = 1 << 16;
+
+    private final NavigableSet<Long> expected = new TreeSet<>();
+    private final RoaringBitSet actual = new RoaringBitSet();
+
+    @Test
+    public void testAdd() {
+        // try empty set
+        verify();
+
+        // at the beginning
+        for (long i = 0; i < 100; ++i) {
+            set(i);
+            verify();
+            set(i);
+            verify();
+        }
+
+        // try gaps
+        for (long i = 0; i < 1000; ++i) {
+            set(i * i);
+            verify();
+            set(i * i);
+            verify();
+        }
+
+        // try some edge cases
+        for (long i = CHUNK - 2; i <= CHUNK + 2; ++i) {
+            set(i);
+            verify();
+        }
+        for (long i = Integer.MAX_VALUE - 2; i <= (long) Integer.MAX_VALUE + 2; ++i) {
+            set(i);
+            verify();
+        }
+        for (long i = Long.MAX_VALUE; i >= Long.MAX_VALUE - 2; --i) {
+            set(i);
+            verify();
+        }
+    }
+
+    @Test
+    public void testAddWithArrayToBitmapConversion() {
+        // every third member, too many runs for the run container
+        for (long i = 0; i < 3 * (ARRAY_CONTAINER_MAX_SIZE + 10); i += 3) {
+            set(i);
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+    }
+
+    @Test
+    public void testAddWithConversionToRuns() {
+        for (long i = 0; i < 3 * CHUNK; ++i) {
+            set(CHUNK / 2 + i);
+            if (i % 1000 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // join adjacent runs
+        for (long i = 10; i < 1000; i += 2) {
+            set(5 * CHUNK + i);
+        }
+        verify();
+        for (long i = 11; i < 1000; i += 2) {
+            set(5 * CHUNK + i);
+        }
+        verify();
+    }
+
+    @Test
+    public void testAddWithRunToBitmapConversion() {
+        // a few runs first
+        for (long i = 0; i < 10000; ++i) {
+            set(i);
+        }
+        // then break the runs into many
+        for (long i = 20000; i < 20000 + 3 * (RUN_CONTAINER_MAX_RUNS + 10); i += 3) {
+            set(i);
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+    }
+
+    @Test
+    public void testRemove() {
+        // try to clear empty set
+        for (long i = 0; i < 100; ++i) {
+            assertFalse(actual.remove(i));
+            verify();
+        }
+
+        for (long i = 0; i < 2 * CHUNK; ++i) {
+            set(i);
+        }
+        // split the runs
+        for (long i = 1; i < 2 * CHUNK; i += 2) {
+            clear(i);
+            if (i % 1001 == 0) {
+                verify();
+            }
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        // try nonexistent
+        for (long i = 1; i < 1000; i += 2) {
+            clear(i);
+        }
+        verify();
+
+        // shrink back to arrays and clear everything
+        for (long i = 0; i < 2 * CHUNK; i += 2) {
+            clear(i);
+            if (i % 1000 == 0) {
+                verify();
+            }
+        }
+        verify();
+    }
+
+    @Test
+    public void testRemoveReportsEmptiness() {
+        actual.add(1);
+        actual.add(CHUNK + 1);
+        assertFalse(actual.remove(2));
+        assertFalse(actual.remove(1));
+        assertTrue(actual.remove(CHUNK + 1));
+    }
+
+    @Test
+    public void testIteratorAdvanceAtLeastTo() {
+        // try empty set
+        verifyAdvanceAtLeastTo();
+
+        for (long i = 0; i < 1000; ++i) {
+            set(i * i);
+            verifyAdvanceAtLeastTo();
+        }
+        for (long i = 0; i < 2 * ARRAY_CONTAINER_MAX_SIZE; ++i) {
+            set(10 * CHUNK + i * 5);
+        }
+        verifyAdvanceAtLeastTo();
+        for (long i = 0; i < CHUNK; ++i) {
+            set(20 * CHUNK + i);
+        }
+        verifyAdvanceAtLeastTo();
+        set(Long.MAX_VALUE);
+        verifyAdvanceAtLeastTo();
+    }
+
+    @Test
+    public void testCardinalityAndContains() {
+        for (long i = 0; i < 3 * CHUNK; i += 7) {
+            set(i);
+        }
+        assertEquals(expected.size(), actual.cardinality());
+        for (long i = 0; i < 3 * CHUNK; ++i) {
+            assertEquals(expected.contains(i), actual.contains(i));
+        }
+    }
+
+    @Test
+    public void testAndOr() {
+        Random random = new Random(42);
+        NavigableSet<Long>[] expectedSets = new NavigableSet[]{
+                new TreeSet<>(), new TreeSet<>(), new TreeSet<>(), new TreeSet<>()
+        };
+        RoaringBitSet[] bitSets = new RoaringBitSet[expectedSets.length];
+        for (int i = 0; i < bitSets.length; ++i) {
+            bitSets[i] = new RoaringBitSet();
+        }
+
+        // dense ranges
+        addAll(expectedSets[0], bitSets[0], 0, 4 * CHUNK, 1);
+        // bitmaps
+        addAll(expectedSets[1], bitSets[1], CHUNK / 2, 3 * CHUNK, 3);
+        // sparse
+        for (int i = 0; i < 10000; ++i) {
+            long member = (long) random.nextInt(6 * (int) CHUNK);
+            expectedSets[2].add(member);
+            bitSets[2].add(member);
+        }
+        // mixed
+        addAll(expectedSets[3], bitSets[3], 0, CHUNK, 2);
+        addAll(expectedSets[3], bitSets[3], 2 * CHUNK + 100, 2 * CHUNK + 50000, 1);
+        addAll(expectedSets[3], bitSets[3], 3 * CHUNK, 3 * CHUNK + 100, 5);
+
+        for (int i = 0; i < bitSets.length; ++i) {
+            for (int j = 0; j < bitSets.length; ++j) {
+                RoaringBitSet[] pair = {bitSets[i], bitSets[j]};
+
+                NavigableSet<Long> intersection = new TreeSet<>(expectedSets[i]);
+                intersection.retainAll(expectedSets[j]);
+                verify(RoaringBitSet.and(pair).iterator(), intersection);
+
+                NavigableSet<Long> union = new TreeSet<>(expectedSets[i]);
+                union.addAll(expectedSets[j]);
+                verify(RoaringBitSet.or(pair).iterator(), union);
+            }
+        }
+
+        NavigableSet<Long> intersection = new TreeSet<>(expectedSets[0]);
+        NavigableSet<Long> union = new TreeSet<>();
+        for (NavigableSet<Long> set : expectedSets) {
+            intersection.retainAll(set);
+            union.addAll(set);
+        }
+        verify(RoaringBitSet.and(bitSets).iterator(), intersection);
+        verify(RoaringBitSet.or(bitSets).iterator(), union);
+
+        // the inputs are not modified
+        for (int i = 0; i < bitSets.length; ++i) {
+            verify(bitSets[i].iterator(), expectedSets[i]);
+        }
+    }
+
+    private static void addAll(NavigableSet<Long> expected, RoaringBitSet actual, long from, long to, long step) {
+        for (long i = from; i < to; i += step) {
+            expected.add(i);
+            actual.add(i);
+        }
+    }
+
+    private void verify() {
+        AscendingLongIterator iterator = actual.iterator();
+        verify(iterator, expected);
+    }
+
+    private void verify(AscendingLongIterator actual, SortedSet<Long> expected) {
+        long currentIndex = actual.getIndex();
+        long current = actual.advance();
+        for (Long expectedIndex : expected) {
+            assertEquals(current, currentIndex);
+            assertEquals((long) expectedIndex, current);
+            currentIndex = actual.getIndex();
+            current = actual.advance();
+        }
+        assertEquals(current, currentIndex);
+        assertEquals(AscendingLongIterator.END, current);
+    }
+
+    private void verifyAdvanceAtLeastTo() {
+        verifyAdvanceAtLeastTo(actual.iterator(), 1);
+        verifyAdvanceAtLeastTo(actual.iterator(), 2);
+        verifyAdvanceAtLeastTo(actual.iterator(), 5);
+        verifyAdvanceAtLeastTo(actual.iterator(), 1000);
+        verifyAdvanceAtLeastTo(actual.iterator(), CHUNK);
+        verifyAdvanceAtLeastTo(actual.iterator(), Integer.MAX_VALUE);
+        verifyAdvanceAtLeastTo(actual.iterator(), Long.MAX_VALUE / 2);
+        verifyAdvanceAtLeastTo(actual.iterator(), Long.MAX_VALUE);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private void verifyAdvanceAtLeastTo(AscendingLongIterator actual, long step) {
+        long previous = AscendingLongIterator.END;
+        long current = actual.advanceAtLeastTo(step);
+        long currentIndex = actual.getIndex();
+
+        while (current != AscendingLongIterator.END) {
+            long expectedIndex;
+            if (previous == AscendingLongIterator.END) {
+                expectedIndex = expected.ceiling(step);
+            } else {
+                expectedIndex = expected.ceiling(previous + step);
+            }
+            assertEquals(current, currentIndex);
+            assertEquals(expectedIndex, currentIndex);
+
+            previous = current;
+            if (current <= Long.MAX_VALUE - step) {
+                current = actual.advanceAtLeastTo(current + step);
+                currentIndex = actual.getIndex();
+            } else {
+                break;
+            }
+        }
+
+        assertEquals(current, currentIndex);
+        if (previous == AscendingLongIterator.END) {
+            assertNull(expected.ceiling(step));
+        } else if (current == AscendingLongIterator.END) {
+            assertNull(expected.ceiling(previous + step));
+        } else {
+            verify(actual, expected.tailSet(current));
+        }
+    }
+
+    private void set(long index) {
+        expected.add(index);
+        actual.add(index);
+    }
+
+    private void clear(long index) {
+        expected.remove(index);
+        actual.remove(index);
+    }
+
+}
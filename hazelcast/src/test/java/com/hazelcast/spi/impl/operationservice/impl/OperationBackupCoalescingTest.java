@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.test.backup.BackupAccessor;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_COALESCING_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_COALESCING_MAX_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_BATCH_ENABLED;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.backup.TestBackupUtils.assertBackupEntryEqualsEventually;
+import static com.hazelcast.test.backup.TestBackupUtils.newMapAccessor;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OperationBackupCoalescingTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance[] cluster;
+
+    @Test
+    public void whenCoalescingEnabled_thenBackupsApplied() {
+        setup(new Config().setProperty(OPERATION_BACKUP_COALESCING_ENABLED.getName(), "true"));
+
+        IMap<Integer, Integer> map = cluster[0].getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        assertBackups(map);
+        assertTrueEventually(() -> assertTrue(totalBatchedBackupCount() >= ENTRY_COUNT));
+    }
+
+    @Test
+    public void whenCoalescingEnabled_andSizeBudgetExhausted_thenBackupsApplied() {
+        setup(new Config()
+                .setProperty(OPERATION_BACKUP_COALESCING_ENABLED.getName(), "true")
+                .setProperty(OPERATION_BACKUP_COALESCING_MAX_BYTES.getName(), "1"));
+
+        IMap<Integer, Integer> map = cluster[0].getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        assertBackups(map);
+        long sizeFlushCount = 0;
+        for (HazelcastInstance instance : cluster) {
+            sizeFlushCount += backupHandler(instance).sizeFlushCount.get();
+        }
+        assertTrue("sizeFlushCount=" + sizeFlushCount, sizeFlushCount >= ENTRY_COUNT);
+    }
+
+    @Test
+    public void whenPartitionOperationBatchEnabled_thenPutAllBackupsBatched() {
+        setup(new Config().setProperty(PARTITION_OPERATION_BATCH_ENABLED.getName(), "true"));
+
+        IMap<Integer, Integer> map = cluster[0].getMap(randomMapName());
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.put(i, i);
+        }
+        map.putAll(entries);
+
+        assertBackups(map);
+        // a single backup per partition, packed in a batch per partition thread
+        assertTrueEventually(() -> {
+            long batchedBackupCount = totalBatchedBackupCount();
+            long batchCount = 0;
+            for (HazelcastInstance instance : cluster) {
+                batchCount += backupHandler(instance).batchCount.get();
+            }
+            assertTrue("batchedBackupCount=" + batchedBackupCount, batchedBackupCount > 0);
+            assertTrue("batchCount=" + batchCount, batchCount < batchedBackupCount);
+        });
+    }
+
+    private void setup(Config config) {
+        cluster = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(cluster);
+    }
+
+    private void assertBackups(IMap<Integer, Integer> map) {
+        BackupAccessor<Integer, Integer> accessor = newMapAccessor(cluster, map.getName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertBackupEntryEqualsEventually(i, i, accessor);
+        }
+    }
+
+    private long totalBatchedBackupCount() {
+        long count = 0;
+        for (HazelcastInstance instance : cluster) {
+            count += backupHandler(instance).batchedBackupCount.get();
+        }
+        return count;
+    }
+
+    private static OperationBackupHandler backupHandler(HazelcastInstance instance) {
+        return ((OperationServiceImpl) getOperationService(instance)).backupHandler;
+    }
+}
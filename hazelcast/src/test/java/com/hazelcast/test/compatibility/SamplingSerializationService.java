@@ -27,6 +27,7 @@ import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.SerializerAdapter;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactPrimitiveField;
 import com.hazelcast.internal.serialization.impl.compact.CompactStreamSerializer;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
@@ -217,6 +218,11 @@ public class SamplingSerializationService implements InternalSerializationServic
         return delegate.extractSchemaFromData(data);
     }
 
+    @Override
+    public CompactPrimitiveField getCompactPrimitiveField(@Nonnull Data data, @Nonnull String fieldName) {
+        return delegate.getCompactPrimitiveField(data, fieldName);
+    }
+
     @Override
     public Schema extractSchemaFromObject(@Nonnull Object object) {
         return delegate.extractSchemaFromObject(object);